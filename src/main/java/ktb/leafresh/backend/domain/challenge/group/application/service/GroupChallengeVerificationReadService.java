@@ -4,16 +4,16 @@ import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.*;
 import ktb.leafresh.backend.domain.challenge.group.presentation.dto.response.*;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationViewCounter;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.global.exception.ChallengeErrorCode;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
 import ktb.leafresh.backend.global.lock.annotation.DistributedLock;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationHelper;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,7 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,8 +33,8 @@ public class GroupChallengeVerificationReadService {
   private final GroupChallengeVerificationRepository groupChallengeVerificationRepository;
   private final GroupChallengeVerificationQueryRepository groupChallengeVerificationQueryRepository;
   private final VerificationStatCacheService verificationStatCacheService;
-  private final LikeRepository likeRepository;
-  private final VerificationStatRedisLuaService verificationStatRedisLuaService;
+  private final VerificationLikeCacheService verificationLikeCacheService;
+  private final VerificationViewCounter verificationViewCounter;
 
   public CursorPaginationResult<GroupChallengeVerificationSummaryDto> getVerifications(
       Long challengeId, Long cursorId, String cursorTimestamp, int size, Long loginMemberId) {
@@ -51,12 +50,11 @@ public class GroupChallengeVerificationReadService {
         verifications.stream().map(GroupChallengeVerification::getId).toList();
 
     Map<Long, Map<Object, Object>> redisStats =
-        verificationIds.stream()
-            .collect(Collectors.toMap(id -> id, id -> verificationStatCacheService.getStats(id)));
+        verificationStatCacheService.getStatsBulk(verificationIds);
 
     Set<Long> likedIds =
         loginMemberId != null
-            ? likeRepository.findLikedVerificationIdsByMemberId(loginMemberId, verificationIds)
+            ? verificationLikeCacheService.findLikedIds(loginMemberId, verificationIds)
             : Set.of();
 
     return CursorPaginationHelper.paginateWithTimestamp(
@@ -91,7 +89,7 @@ public class GroupChallengeVerificationReadService {
   }
 
   public GroupChallengeVerificationDetailResponseDto getVerificationDetail(
-      Long challengeId, Long verificationId, Long loginMemberId) {
+      Long challengeId, Long verificationId, Long loginMemberId, String clientKey) {
     GroupChallengeVerification verification =
         groupChallengeVerificationQueryRepository
             .findByChallengeIdAndId(challengeId, verificationId)
@@ -106,14 +104,13 @@ public class GroupChallengeVerificationReadService {
       stats = verificationStatCacheService.getStats(verificationId);
     }
 
-    // 조회수 증가 (비회원 포함)
-    verificationStatRedisLuaService.increaseVerificationViewCount(verificationId);
+    // 조회수 증가 (비회원 포함, 고유 조회자 모드에서는 처음 보는 조회자만)
+    verificationViewCounter.recordView(verificationId, loginMemberId, clientKey);
 
     // 좋아요 여부 조회
     Set<Long> likedIds =
         loginMemberId != null
-            ? likeRepository.findLikedVerificationIdsByMemberId(
-                loginMemberId, List.of(verificationId))
+            ? verificationLikeCacheService.findLikedIds(loginMemberId, List.of(verificationId))
             : Set.of();
 
     boolean isLiked = likedIds.contains(verificationId);
@@ -3,6 +3,7 @@ package ktb.leafresh.backend.domain.challenge.group.application.service.updater;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeCategoryRepository;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.global.exception.ChallengeErrorCode;
 import ktb.leafresh.backend.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class GroupChallengeCategoryUpdater {
 
   private final GroupChallengeCategoryRepository repository;
+  private final GroupChallengeVerificationRepository verificationRepository;
 
   public void updateCategory(GroupChallenge challenge, String categoryName) {
     GroupChallengeCategory newCategory =
@@ -20,6 +22,10 @@ public class GroupChallengeCategoryUpdater {
             .findByName(categoryName)
             .orElseThrow(
                 () -> new CustomException(ChallengeErrorCode.CHALLENGE_CATEGORY_NOT_FOUND));
+    if (challenge.getCategory() == newCategory) return;
+
     challenge.changeCategory(newCategory);
+    // 피드 카테고리 필터는 인증에 복제된 카테고리를 사용
+    verificationRepository.updateCategoryByChallengeId(challenge.getId(), newCategory);
   }
 }
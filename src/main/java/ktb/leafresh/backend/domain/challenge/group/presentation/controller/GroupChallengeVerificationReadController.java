@@ -3,6 +3,7 @@ package ktb.leafresh.backend.domain.challenge.group.presentation.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import ktb.leafresh.backend.domain.challenge.group.application.service.*;
@@ -63,12 +64,21 @@ public class GroupChallengeVerificationReadController {
       getVerificationDetail(
           @Parameter(description = "챌린지 ID") @PathVariable Long challengeId,
           @Parameter(description = "인증 ID") @PathVariable Long verificationId,
-          @CurrentMemberId Long memberId) {
+          @CurrentMemberId Long memberId,
+          HttpServletRequest request) {
 
     GroupChallengeVerificationDetailResponseDto response =
         groupChallengeVerificationReadService.getVerificationDetail(
-            challengeId, verificationId, memberId);
+            challengeId, verificationId, memberId, clientKeyOf(request));
 
     return ResponseEntity.ok(ApiResponse.success("특정 단체 챌린지 인증 상세 정보를 조회했습니다.", response));
   }
+
+  /**
+   * 비회원 조회자 구분용 키 (클라이언트 IP + User-Agent). forward-headers-strategy=framework 의
+   * ForwardedHeaderFilter 가 X-Forwarded-For 를 remoteAddr 로 반영하므로 헤더를 직접 읽지 않는다.
+   */
+  private String clientKeyOf(HttpServletRequest request) {
+    return request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+  }
 }
@@ -14,6 +14,10 @@ public interface PersonalChallengeRepository extends JpaRepository<PersonalChall
 
   List<PersonalChallenge> findAllByDayOfWeek(DayOfWeek dayOfWeek);
 
+  /** 서로 다른 개인 챌린지 제목 수 ("모든 개인 챌린지" 뱃지 기준) */
+  @Query("SELECT COUNT(DISTINCT pc.title) FROM PersonalChallenge pc WHERE pc.deletedAt IS NULL")
+  long countDistinctTitles();
+
   @Query(
       """
     SELECT CASE WHEN COUNT(pc) > 0 THEN true ELSE false END
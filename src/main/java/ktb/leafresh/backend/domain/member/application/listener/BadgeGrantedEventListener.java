@@ -0,0 +1,37 @@
+package ktb.leafresh.backend.domain.member.application.listener;
+
+import ktb.leafresh.backend.domain.member.domain.event.BadgeGrantedEvent;
+import ktb.leafresh.backend.domain.member.infrastructure.cache.MemberBadgeBitsetCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeGrantedEventListener {
+
+  private final MemberBadgeBitsetCache memberBadgeBitsetCache;
+
+  /** 커밋된 지급만 비트맵에 반영 (롤백된 지급이 보유로 남지 않도록) */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(BadgeGrantedEvent event) {
+    try {
+      memberBadgeBitsetCache.add(event.memberId(), event.badgeId());
+    } catch (Exception e) {
+      log.warn(
+          "[보유 뱃지 비트맵 반영 실패] memberId={}, badgeId={}, error={}",
+          event.memberId(),
+          event.badgeId(),
+          e.getMessage());
+      // 비트가 빠진 비트맵이 남지 않도록 지워 다음 조회에서 DB 로 다시 채운다
+      try {
+        memberBadgeBitsetCache.evict(event.memberId());
+      } catch (Exception ignored) {
+        // TTL 이 지나면 다시 채워진다
+      }
+    }
+  }
+}
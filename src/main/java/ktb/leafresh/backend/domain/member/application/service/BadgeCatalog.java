@@ -0,0 +1,64 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Badge;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.BadgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스 메모리에 올려 둔 뱃지 목록.
+ *
+ * <p>뱃지는 기동 시 시드로만 추가되므로 처음 조회할 때 한 번 읽고, 시드가 끝나면 {@link #refresh()} 로 다시 읽는다. 목록과 이름 색인을 한
+ * 스냅샷으로 교체하므로 조회 중에 반쯤 바뀐 상태를 보지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeCatalog {
+
+  private final BadgeRepository badgeRepository;
+
+  private volatile Snapshot snapshot;
+
+  /** 전체 뱃지 (ID 순) */
+  public List<Badge> all() {
+    return snapshot().badges();
+  }
+
+  public Optional<Badge> findByName(String name) {
+    return Optional.ofNullable(snapshot().byName().get(name));
+  }
+
+  public synchronized void refresh() {
+    List<Badge> badges =
+        badgeRepository.findAll().stream().sorted(Comparator.comparing(Badge::getId)).toList();
+    Map<String, Badge> byName =
+        badges.stream()
+            .collect(
+                Collectors.toUnmodifiableMap(Badge::getName, Function.identity(), (a, b) -> a));
+    snapshot = new Snapshot(badges, byName);
+    log.info("[BadgeCatalog] 뱃지 {}개 로드", badges.size());
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    // 비어 있으면 시드 전에 읽은 것이므로 다시 읽는다
+    if (current == null || current.badges().isEmpty()) {
+      synchronized (this) {
+        if (snapshot == null || snapshot.badges().isEmpty()) refresh();
+        current = snapshot;
+      }
+    }
+    return current;
+  }
+
+  private record Snapshot(List<Badge> badges, Map<String, Badge> byName) {}
+}
@@ -3,43 +3,95 @@ package ktb.leafresh.backend.domain.member.application.service;
 import ktb.leafresh.backend.domain.member.domain.entity.Badge;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.domain.entity.MemberBadge;
-import ktb.leafresh.backend.domain.member.domain.service.policy.BadgeGrantPolicy;
+import ktb.leafresh.backend.domain.member.domain.event.BadgeGrantedEvent;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeRule;
+import ktb.leafresh.backend.domain.member.domain.service.badge.CounterChange;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberBadgeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.BitSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+/**
+ * 활동 카운터 기반 뱃지 지급.
+ *
+ * <p>활동을 카운터에 반영한 뒤 값이 바뀐 카운터의 규칙 중 이번에 임계치를 넘은 것만 지급한다. 평가에 COUNT 쿼리를 쓰지 않으며, 뱃지는 인메모리
+ * 목록에서 찾고 보유 여부는 회원 비트맵 한 번으로 확인한다.
+ *
+ * <p>비트맵은 커밋 후에 갱신되므로 임계치를 넘은 드문 경우에만 DB 로 한 번 더 확인한다. 그래도 동시에 지급되면 (member_id, badge_id) 유니크
+ * 제약이 트랜잭션을 롤백시키고, 아웃박스 재시도에서 이미 보유한 뱃지로 건너뛴다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadgeGrantManager {
 
-  private final List<BadgeGrantPolicy> policies;
+  private final MemberActivityCounterService memberActivityCounterService;
+  private final BadgeRuleCatalog badgeRuleCatalog;
+  private final BadgeCatalog badgeCatalog;
+  private final MemberOwnedBadgeService memberOwnedBadgeService;
   private final MemberBadgeRepository memberBadgeRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional
-  public void evaluateAllAndGrant(Member member) {
-    for (BadgeGrantPolicy policy : policies) {
-      List<Badge> newBadges = policy.evaluateAndGetNewBadges(member);
-      boolean grantedAny = false;
-      for (Badge badge : newBadges) {
-        if (!memberBadgeRepository.existsByMemberAndBadge(member, badge)) {
-          memberBadgeRepository.save(MemberBadge.of(member, badge));
-          log.info(
-              "[뱃지 지급] memberId={}, badgeName={}, policy={}",
-              member.getId(),
-              badge.getName(),
-              policy.getClass().getSimpleName());
-          grantedAny = true;
+  public void recordAndGrant(Member member, BadgeActivity activity) {
+    recordAndGrant(member, List.of(activity));
+  }
+
+  /**
+   * 같은 회원의 활동 여러 건을 순서대로 반영하고 뱃지는 한 번에 평가한다.
+   *
+   * <p>임계치 통과는 활동마다 확인한다 (연속 일수처럼 중간에 넘었다가 다시 줄어드는 카운터도 놓치지 않는다).
+   */
+  @Transactional
+  public void recordAndGrant(Member member, List<BadgeActivity> activities) {
+    Set<BadgeRule> crossed = new LinkedHashSet<>();
+    for (BadgeActivity activity : activities) {
+      for (CounterChange change : memberActivityCounterService.record(member.getId(), activity)) {
+        for (BadgeRule rule : badgeRuleCatalog.rulesFor(change.counterKey())) {
+          if (rule.isCrossedBy(change)) crossed.add(rule);
         }
       }
-      if (!grantedAny) {
+    }
+    if (crossed.isEmpty()) return;
+
+    BitSet owned = memberOwnedBadgeService.ownedBadgeIds(member.getId());
+    for (BadgeRule rule : crossed) {
+      Optional<Badge> badge = badgeCatalog.findByName(rule.badgeName());
+      if (badge.isEmpty()) {
+        log.warn("[뱃지 지급 스킵] 등록되지 않은 뱃지: {}", rule.badgeName());
+        continue;
+      }
+      if (owned.get(badge.get().getId().intValue())) continue;
+      if (memberBadgeRepository.existsByMemberIdAndBadgeId(member.getId(), badge.get().getId())) {
         log.debug(
-            "[뱃지 없음] memberId={}, policy={}", member.getId(), policy.getClass().getSimpleName());
+            "[뱃지 지급 스킵] 비트맵 반영 전 보유 뱃지 - memberId={}, badgeId={}",
+            member.getId(),
+            badge.get().getId());
+        owned.set(badge.get().getId().intValue());
+        continue;
       }
+
+      grant(member, badge.get(), rule);
+      owned.set(badge.get().getId().intValue());
     }
   }
+
+  private void grant(Member member, Badge badge, BadgeRule rule) {
+    memberBadgeRepository.save(MemberBadge.of(member, badge));
+    eventPublisher.publishEvent(new BadgeGrantedEvent(member.getId(), badge.getId()));
+    log.info(
+        "[뱃지 지급] memberId={}, badgeName={}, counter={}",
+        member.getId(),
+        badge.getName(),
+        rule.counterKey());
+  }
 }
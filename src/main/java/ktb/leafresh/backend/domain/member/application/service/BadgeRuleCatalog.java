@@ -0,0 +1,135 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.enums.GroupChallengeCategoryName;
+import ktb.leafresh.backend.domain.challenge.personal.infrastructure.repository.PersonalChallengeRepository;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeRule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 뱃지 규칙 선언 (카운터 키 × 임계치 → 뱃지명).
+ *
+ * <p>규칙은 카운터 키로 묶어 두고, 평가 시에는 이번에 바뀐 카운터의 규칙만 확인한다. "모든 개인 챌린지" 기준만 개인 챌린지 제목 수에 따라 달라지므로 처음
+ * 조회할 때 한 번 읽어 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeRuleCatalog {
+
+  static final int CATEGORY_CHALLENGE_THRESHOLD = 3;
+  static final int CATEGORY_MASTER_THRESHOLD = 10;
+  static final int EVENT_THRESHOLD = 3;
+
+  private static final Map<GroupChallengeCategoryName, String> CATEGORY_BADGES =
+      Map.of(
+          GroupChallengeCategoryName.ZERO_WASTE, "제로 히어로",
+          GroupChallengeCategoryName.PLOGGING, "플로깅 파이터",
+          GroupChallengeCategoryName.CARBON_FOOTPRINT, "발자국 줄이기 고수",
+          GroupChallengeCategoryName.ENERGY_SAVING, "절전 마스터",
+          GroupChallengeCategoryName.UPCYCLING, "새활용 장인",
+          GroupChallengeCategoryName.MEDIA, "녹색 지식인",
+          GroupChallengeCategoryName.DIGITAL_CARBON, "디지털 디톡서",
+          GroupChallengeCategoryName.VEGAN, "비건 챌린저");
+
+  private static final Map<Integer, String> TOTAL_BADGES =
+      Map.of(10, "첫 발자국", 30, "실천 중급자", 50, "지속가능 파이터", 100, "그린 마스터");
+
+  private static final Map<Integer, String> STREAK_BADGES =
+      Map.of(3, "새싹 실천러", 7, "일주일의 습관", 14, "반달 에코러", 30, "한 달 챌린지 완주자");
+
+  // 이벤트 챌린지 제목 → 뱃지명
+  private static final Map<String, String> EVENT_BADGES =
+      Map.ofEntries(
+          Map.entry("세계 습지의 날", "습지 전도사"),
+          Map.entry("고래의 날", "바다 지킴이"),
+          Map.entry("세계 물의 날", "물수호대"),
+          Map.entry("식목일", "나무 한 그루의 기적"),
+          Map.entry("지구의 날", "지구에게 쓴 편지"),
+          Map.entry("세계 퇴비 주간", "퇴비 마스터"),
+          Map.entry("공정무역의 날", "착한 소비러"),
+          Map.entry("바다의 날", "파도 위 발자국"),
+          Map.entry("환경의 날", "환경 루틴러"),
+          Map.entry("사막화와 가뭄 방지의 날", "양치컵 히어로"),
+          Map.entry("세계 호랑이의 날", "호랑이 친구"),
+          Map.entry("에너지의 날", "OFF 마스터"),
+          Map.entry("자원순환의 날", "자원순환 챔피언"),
+          Map.entry("세계 차 없는 날", "무탄소 여행자"),
+          Map.entry("세계 자연재해 감소의 날", "기후 기록자"),
+          Map.entry("세계 식량의 날", "비건 한 끼 도전자"),
+          Map.entry("농민의 날", "도시 농부"));
+
+  private final PersonalChallengeRepository personalChallengeRepository;
+
+  private volatile Map<String, List<BadgeRule>> rulesByCounter;
+
+  /** 카운터에 걸린 규칙 (없으면 빈 목록) */
+  public List<BadgeRule> rulesFor(String counterKey) {
+    return rules().getOrDefault(counterKey, List.of());
+  }
+
+  private Map<String, List<BadgeRule>> rules() {
+    Map<String, List<BadgeRule>> rules = rulesByCounter;
+    if (rules == null) {
+      synchronized (this) {
+        if (rulesByCounter == null) {
+          rulesByCounter =
+              declare().stream().collect(Collectors.groupingBy(BadgeRule::counterKey));
+        }
+        rules = rulesByCounter;
+      }
+    }
+    return rules;
+  }
+
+  List<BadgeRule> declare() {
+    List<BadgeRule> rules = new ArrayList<>();
+
+    TOTAL_BADGES.forEach(
+        (threshold, badge) ->
+            rules.add(new BadgeRule(ActivityCounterKeys.totalSuccess(), threshold, badge)));
+
+    STREAK_BADGES.forEach(
+        (threshold, badge) ->
+            rules.add(new BadgeRule(ActivityCounterKeys.personalStreak(), threshold, badge)));
+    rules.add(new BadgeRule(ActivityCounterKeys.personalStreak(), 30, "에코 슈퍼루키"));
+
+    CATEGORY_BADGES.forEach(
+        (category, badge) -> {
+          rules.add(
+              new BadgeRule(
+                  ActivityCounterKeys.categoryChallenges(category.name()),
+                  CATEGORY_CHALLENGE_THRESHOLD,
+                  badge));
+          rules.add(
+              new BadgeRule(
+                  ActivityCounterKeys.categorySuccess(category.name()),
+                  CATEGORY_MASTER_THRESHOLD,
+                  "마스터"));
+        });
+    rules.add(
+        new BadgeRule(
+            ActivityCounterKeys.categoriesCleared(), CATEGORY_BADGES.size(), "지속가능 전도사"));
+
+    EVENT_BADGES.forEach(
+        (title, badge) ->
+            rules.add(
+                new BadgeRule(ActivityCounterKeys.eventSuccess(title), EVENT_THRESHOLD, badge)));
+
+    long personalTitles = personalChallengeRepository.countDistinctTitles();
+    if (personalTitles > 0) {
+      rules.add(
+          new BadgeRule(ActivityCounterKeys.personalTitlesCleared(), personalTitles, "도전 전부러"));
+    }
+
+    log.info("[BadgeRuleCatalog] 뱃지 규칙 {}개 로드 (개인 챌린지 제목 {}개)", rules.size(), personalTitles);
+    return rules;
+  }
+}
@@ -0,0 +1,110 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityCounter;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.domain.service.badge.CounterChange;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityCounterRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 하나를 회원 활동 카운터에 반영.
+ *
+ * <p>활동이 바꿀 수 있는 카운터를 한 번에 잠그고 읽은 뒤 메모리에서 증가시킨다. "서로 다른 챌린지/제목/카테고리 수" 는 챌린지별·제목별 카운터가 0 에서 1
+ * 이 되는 순간에만 센다. 집계 쿼리는 사용하지 않는다.
+ *
+ * <p>카운터를 잠그기 전에 회원 행을 먼저 잠근다. 아직 없는 카운터 행은 잠글 수 없어, 같은 회원의 첫 결과 두 건이 갭 락을 나눠 잡은 뒤 함께
+ * INSERT 하면 데드락으로 인증 트랜잭션이 롤백되기 때문이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberActivityCounterService {
+
+  private final MemberActivityCounterRepository counterRepository;
+  private final MemberRepository memberRepository;
+
+  /** @return 값이 바뀐 카운터 */
+  @Transactional
+  public List<CounterChange> record(Long memberId, BadgeActivity activity) {
+    memberRepository.findByIdForUpdate(memberId);
+
+    Map<String, MemberActivityCounter> counters = new HashMap<>();
+    for (MemberActivityCounter counter :
+        counterRepository.findAllForUpdate(memberId, activity.counterKeys())) {
+      counters.put(counter.getCounterKey(), counter);
+    }
+
+    Update update = new Update(memberId, counters);
+    update.increase(ActivityCounterKeys.totalSuccess());
+
+    if (activity.isGroup()) {
+      String category = activity.category();
+      if (update.increase(ActivityCounterKeys.categorySuccess(category)) == 1
+          && activity.countsTowardAllCategories()) {
+        update.increase(ActivityCounterKeys.categoriesCleared());
+      }
+      if (update.increase(ActivityCounterKeys.challengeSuccess(activity.challengeId())) == 1) {
+        update.increase(ActivityCounterKeys.categoryChallenges(category));
+      }
+      if (activity.isEvent()) {
+        update.increase(ActivityCounterKeys.eventSuccess(activity.eventTitle()));
+      }
+    } else {
+      update.extendStreak(activity.date());
+      if (update.increase(ActivityCounterKeys.personalTitleSuccess(activity.personalTitle()))
+          == 1) {
+        update.increase(ActivityCounterKeys.personalTitlesCleared());
+      }
+    }
+
+    if (!update.created.isEmpty()) counterRepository.saveAll(update.created);
+    return update.changes;
+  }
+
+  private static class Update {
+    private final Long memberId;
+    private final Map<String, MemberActivityCounter> counters;
+    private final List<MemberActivityCounter> created = new ArrayList<>();
+    private final List<CounterChange> changes = new ArrayList<>();
+
+    Update(Long memberId, Map<String, MemberActivityCounter> counters) {
+      this.memberId = memberId;
+      this.counters = counters;
+    }
+
+    long increase(String key) {
+      MemberActivityCounter counter = counter(key);
+      long before = counter.getValue();
+      long after = counter.increase();
+      changes.add(new CounterChange(key, before, after));
+      return after;
+    }
+
+    void extendStreak(LocalDate date) {
+      String key = ActivityCounterKeys.personalStreak();
+      MemberActivityCounter counter = counter(key);
+      long before = counter.getValue();
+      long after = counter.extendStreak(date);
+      if (after != before) changes.add(new CounterChange(key, before, after));
+    }
+
+    private MemberActivityCounter counter(String key) {
+      return counters.computeIfAbsent(
+          key,
+          k -> {
+            MemberActivityCounter counter = MemberActivityCounter.of(memberId, k);
+            created.add(counter);
+            return counter;
+          });
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.MemberErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 한 회원의 아웃박스 행을 모아 한 번에 평가.
+ *
+ * <p>나뭇잎은 합산해 한 번 지급하고(트리 레벨 확인도 한 번), 뱃지 활동은 순서대로 카운터에 반영한 뒤 보유 비트맵을 한 번 읽어 지급한다. 회원마다 별도
+ * 트랜잭션이므로 한 회원의 실패가 다른 회원 처리에 영향을 주지 않는다. 회원 행은 처음 읽을 때부터 잠가 같은 시점의 구매 포인트 차감을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberActivityEvaluator {
+
+  private final MemberActivityOutboxRepository outboxRepository;
+  private final MemberRepository memberRepository;
+  private final RewardGrantService rewardGrantService;
+  private final BadgeGrantManager badgeGrantManager;
+
+  @Value("${member.activity-outbox.max-attempts:10}")
+  private int maxAttempts;
+
+  /** @return 처리한 행 수 (다른 처리자가 먼저 끝냈으면 0) */
+  @Transactional
+  public int evaluate(Long memberId, Collection<Long> outboxIds) {
+    List<MemberActivityOutbox> rows =
+        outboxRepository.findAllForUpdate(outboxIds, MemberActivityOutboxStatus.PENDING);
+    if (rows.isEmpty()) return 0;
+
+    // 포인트는 엔티티의 절대값으로 flush 되므로, 구매 차감과 겹치지 않게 읽기 전에 회원 행을 잠근다
+    Member member =
+        memberRepository
+            .findByIdForUpdate(memberId)
+            .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+
+    int leafPoints = rows.stream().mapToInt(MemberActivityOutbox::getLeafPoints).sum();
+    if (leafPoints > 0) rewardGrantService.grantLeafPoints(member, leafPoints);
+
+    List<BadgeActivity> activities =
+        rows.stream().map(MemberActivityOutbox::toActivity).filter(Objects::nonNull).toList();
+    if (!activities.isEmpty()) badgeGrantManager.recordAndGrant(member, activities);
+
+    rows.forEach(MemberActivityOutbox::markDone);
+    log.debug(
+        "[활동 평가 완료] memberId={}, events={}, leafPoints={}, activities={}",
+        memberId,
+        rows.size(),
+        leafPoints,
+        activities.size());
+    return rows.size();
+  }
+
+  /** 평가 트랜잭션이 롤백된 뒤 실패 횟수와 다음 시도 시각을 따로 기록한다 */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void markFailed(Collection<Long> outboxIds, String error) {
+    LocalDateTime now = LocalDateTime.now();
+    for (MemberActivityOutbox row :
+        outboxRepository.findAllForUpdate(outboxIds, MemberActivityOutboxStatus.PENDING)) {
+      row.markFailed(error, maxAttempts, now);
+      if (row.getStatus() == MemberActivityOutboxStatus.FAILED) {
+        log.error(
+            "[활동 평가 포기] outboxId={}, memberId={}, attempts={}, error={}",
+            row.getId(),
+            row.getMemberId(),
+            row.getAttempts(),
+            error);
+      }
+    }
+  }
+}
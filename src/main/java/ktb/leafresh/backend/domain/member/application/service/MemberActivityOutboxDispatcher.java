@@ -0,0 +1,90 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 대기 행을 회원별로 묶어 평가.
+ *
+ * <p>한 배치 안에서 같은 회원의 행은 한 번의 평가로 합쳐진다. 평가가 실패하면 그 회원의 행만 백오프 후 다시 시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberActivityOutboxDispatcher {
+
+  private final MemberActivityOutboxRepository outboxRepository;
+  private final MemberActivityEvaluator memberActivityEvaluator;
+
+  @Value("${member.activity-outbox.batch-size:500}")
+  private int batchSize;
+
+  @Value("${member.activity-outbox.retention-days:7}")
+  private int retentionDays;
+
+  /** @return 처리한 행 수 */
+  public int dispatch() {
+    List<MemberActivityOutbox> ready =
+        outboxRepository.findReady(
+            MemberActivityOutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+    if (ready.isEmpty()) return 0;
+
+    Map<Long, List<Long>> idsByMember = new LinkedHashMap<>();
+    for (MemberActivityOutbox row : ready) {
+      idsByMember.computeIfAbsent(row.getMemberId(), id -> new ArrayList<>()).add(row.getId());
+    }
+
+    int processed = 0;
+    for (Map.Entry<Long, List<Long>> entry : idsByMember.entrySet()) {
+      try {
+        processed += memberActivityEvaluator.evaluate(entry.getKey(), entry.getValue());
+      } catch (Exception e) {
+        log.warn(
+            "[활동 평가 실패] memberId={}, events={}, error={}",
+            entry.getKey(),
+            entry.getValue().size(),
+            e.getMessage());
+        memberActivityEvaluator.markFailed(entry.getValue(), e.getMessage());
+      }
+    }
+
+    log.info(
+        "[활동 아웃박스 처리] events={}, members={}, processed={}",
+        ready.size(),
+        idsByMember.size(),
+        processed);
+    return processed;
+  }
+
+  /** 재시도를 포기한 행을 다시 대기 상태로 돌린다 (원인을 해결한 뒤 관리자가 실행) @return 되돌린 행 수 */
+  @Transactional
+  public int requeueFailed() {
+    int requeued =
+        outboxRepository.requeue(
+            MemberActivityOutboxStatus.FAILED,
+            MemberActivityOutboxStatus.PENDING,
+            LocalDateTime.now());
+    log.info("[활동 아웃박스 재처리 등록] requeued={}", requeued);
+    return requeued;
+  }
+
+  /** 보관 기간이 지난 완료 행 삭제 (FAILED 는 확인용으로 남긴다) */
+  @Transactional
+  public int purgeDone() {
+    return outboxRepository.deleteByStatusBefore(
+        MemberActivityOutboxStatus.DONE, LocalDateTime.now().minusDays(retentionDays));
+  }
+}
@@ -0,0 +1,50 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인증 결과로 생긴 나뭇잎 지급과 뱃지 활동을 아웃박스에 기록.
+ *
+ * <p>호출한 트랜잭션 안에서 행 하나만 저장하므로 인증 상태 변경의 트랜잭션이 지급 처리로 길어지지 않는다. 아웃박스를 끄면 기존처럼 같은 트랜잭션에서 바로
+ * 지급한다 (부하 비교용).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberActivityOutboxService {
+
+  private final MemberActivityOutboxRepository outboxRepository;
+  private final RewardGrantService rewardGrantService;
+  private final BadgeGrantManager badgeGrantManager;
+
+  @Value("${member.activity-outbox.enabled:true}")
+  private boolean enabled;
+
+  /**
+   * @param leafPoints 지급할 나뭇잎 (없으면 0)
+   * @param activity 뱃지 카운터에 반영할 활동 (없으면 null)
+   */
+  public void enqueue(Member member, int leafPoints, BadgeActivity activity) {
+    if (leafPoints <= 0 && activity == null) return;
+
+    if (!enabled) {
+      if (leafPoints > 0) rewardGrantService.grantLeafPoints(member, leafPoints);
+      if (activity != null) badgeGrantManager.recordAndGrant(member, activity);
+      return;
+    }
+
+    outboxRepository.save(MemberActivityOutbox.of(member.getId(), leafPoints, activity));
+    log.debug(
+        "[활동 아웃박스 기록] memberId={}, leafPoints={}, activity={}",
+        member.getId(),
+        leafPoints,
+        activity);
+  }
+}
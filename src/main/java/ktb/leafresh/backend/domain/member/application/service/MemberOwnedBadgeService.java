@@ -0,0 +1,46 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.infrastructure.cache.MemberBadgeBitsetCache;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberBadgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 보유 뱃지 조회 (비트맵 한 번).
+ *
+ * <p>비트맵이 없거나 Redis 를 읽지 못하면 보유 뱃지 ID 만 DB 에서 한 번 읽어 다시 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberOwnedBadgeService {
+
+  private final MemberBadgeBitsetCache memberBadgeBitsetCache;
+  private final MemberBadgeRepository memberBadgeRepository;
+
+  /** @return 보유한 뱃지 ID 를 비트 번호로 켠 BitSet */
+  public BitSet ownedBadgeIds(Long memberId) {
+    try {
+      Optional<BitSet> cached = memberBadgeBitsetCache.get(memberId);
+      if (cached.isPresent()) return cached.get();
+    } catch (Exception e) {
+      log.warn("[보유 뱃지 비트맵 조회 실패] memberId={}, error={}", memberId, e.getMessage());
+    }
+
+    List<Long> badgeIds = memberBadgeRepository.findBadgeIdsByMemberId(memberId);
+    try {
+      memberBadgeBitsetCache.load(memberId, badgeIds);
+    } catch (Exception e) {
+      log.warn("[보유 뱃지 비트맵 적재 실패] memberId={}, error={}", memberId, e.getMessage());
+    }
+
+    BitSet bits = new BitSet();
+    badgeIds.forEach(id -> bits.set(id.intValue()));
+    return bits;
+  }
+}
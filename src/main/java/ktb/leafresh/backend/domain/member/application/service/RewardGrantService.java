@@ -33,10 +33,18 @@ public class RewardGrantService {
   }
 
   public void grantParticipationBonus(Member member, GroupChallengeParticipantRecord record) {
-    int days = record.getGroupChallenge().getDurationInDays();
-    int bonus = calculateBonus(days);
+    int bonus = participationBonusOf(record);
     grantLeafPoints(member, bonus);
-    log.info("[전체 인증 성공 보너스 지급] memberId={}, days={}, bonus={}", member.getId(), days, bonus);
+    log.info(
+        "[전체 인증 성공 보너스 지급] memberId={}, days={}, bonus={}",
+        member.getId(),
+        record.getGroupChallenge().getDurationInDays(),
+        bonus);
+  }
+
+  /** 챌린지 기간에 따른 전체 인증 성공 보너스 */
+  public int participationBonusOf(GroupChallengeParticipantRecord record) {
+    return calculateBonus(record.getGroupChallenge().getDurationInDays());
   }
 
   public void grantSignupReward(Member member) {
@@ -0,0 +1,75 @@
+package ktb.leafresh.backend.domain.member.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 뱃지 조건 평가용 회원 활동 카운터 (회원 × 카운터 키 한 행).
+ *
+ * <p>인증 결과가 들어올 때마다 해당 활동이 바꾸는 카운터만 증가시키고, 뱃지 규칙은 이 값의 임계치로 평가한다. 연속 일수 카운터는 마지막 활동일을 함께
+ * 기록한다.
+ */
+@Entity
+@Table(
+    name = "member_activity_counters",
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "uk_member_activity_counter",
+            columnNames = {"member_id", "counter_key"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberActivityCounter {
+
+  /** 제목이 들어가는 키 ("personal:title:" + 제목 최대 100자 + ":success" = 123자) 까지 담는 길이 */
+  public static final int COUNTER_KEY_LENGTH = 150;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "member_id", nullable = false)
+  private Long memberId;
+
+  @Column(name = "counter_key", nullable = false, length = COUNTER_KEY_LENGTH)
+  private String counterKey;
+
+  @Column(name = "counter_value", nullable = false)
+  private long value;
+
+  @Column(name = "last_activity_date")
+  private LocalDate lastActivityDate;
+
+  private MemberActivityCounter(
+      Long memberId, String counterKey, long value, LocalDate lastActivityDate) {
+    this.memberId = memberId;
+    this.counterKey = counterKey;
+    this.value = value;
+    this.lastActivityDate = lastActivityDate;
+  }
+
+  public static MemberActivityCounter of(Long memberId, String counterKey) {
+    return new MemberActivityCounter(memberId, counterKey, 0, null);
+  }
+
+  public static MemberActivityCounter of(
+      Long memberId, String counterKey, long value, LocalDate lastActivityDate) {
+    return new MemberActivityCounter(memberId, counterKey, value, lastActivityDate);
+  }
+
+  public long increase() {
+    return ++value;
+  }
+
+  /** 연속 일수 갱신: 같은 날이면 유지, 다음 날이면 +1, 끊겼으면 1 부터 (이전 날짜의 늦은 결과는 무시) */
+  public long extendStreak(LocalDate date) {
+    if (lastActivityDate != null && !date.isAfter(lastActivityDate)) return value;
+
+    value = lastActivityDate != null && date.equals(lastActivityDate.plusDays(1)) ? value + 1 : 1;
+    lastActivityDate = date;
+    return value;
+  }
+}
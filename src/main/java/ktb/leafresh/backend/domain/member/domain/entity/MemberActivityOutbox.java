@@ -0,0 +1,113 @@
+package ktb.leafresh.backend.domain.member.domain.entity;
+
+import jakarta.persistence.*;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.global.common.entity.BaseEntity;
+import ktb.leafresh.backend.global.common.entity.enums.ChallengeType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 활동 변경 아웃박스 (인증 결과 하나 = 한 행).
+ *
+ * <p>인증 상태 변경과 같은 트랜잭션에 지급할 나뭇잎과 뱃지 활동만 기록하고, 실제 지급은 커밋 후 디스패처가 회원별로 모아 한 번에 처리한다. 실패하면
+ * 지수 백오프로 다시 시도하고 최대 횟수를 넘기면 FAILED 로 남긴다. 인증의 지급 여부 플래그는 이미 커밋되어 있으므로 FAILED 행은 관리자
+ * 재처리(requeue)로만 지급된다.
+ */
+@Entity
+@Table(
+    name = "member_activity_outbox",
+    indexes = {
+      @Index(name = "idx_mao_pending", columnList = "status, next_attempt_at, id"),
+      @Index(name = "idx_mao_member", columnList = "member_id, status, id")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberActivityOutbox extends BaseEntity {
+
+  private static final long MAX_BACKOFF_SECONDS = 300;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "member_id", nullable = false)
+  private Long memberId;
+
+  @Column(name = "leaf_points", nullable = false)
+  private int leafPoints;
+
+  // 뱃지 활동 (처음 성공한 인증일 때만 채워진다)
+  @Enumerated(EnumType.STRING)
+  @Column(name = "activity_type", length = 20)
+  private ChallengeType activityType;
+
+  private LocalDate activityDate;
+
+  @Column(length = 50)
+  private String category;
+
+  private Long challengeId;
+
+  private String eventTitle;
+
+  private String personalTitle;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private MemberActivityOutboxStatus status;
+
+  @Column(nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(length = 500)
+  private String lastError;
+
+  public static MemberActivityOutbox of(Long memberId, int leafPoints, BadgeActivity activity) {
+    MemberActivityOutbox outbox = new MemberActivityOutbox();
+    outbox.memberId = memberId;
+    outbox.leafPoints = leafPoints;
+    if (activity != null) {
+      outbox.activityType = activity.type();
+      outbox.activityDate = activity.date();
+      outbox.category = activity.category();
+      outbox.challengeId = activity.challengeId();
+      outbox.eventTitle = activity.eventTitle();
+      outbox.personalTitle = activity.personalTitle();
+    }
+    outbox.status = MemberActivityOutboxStatus.PENDING;
+    outbox.nextAttemptAt = LocalDateTime.now();
+    return outbox;
+  }
+
+  /** @return 뱃지 활동 (없으면 null) */
+  public BadgeActivity toActivity() {
+    if (activityType == null) return null;
+    return new BadgeActivity(
+        activityType, activityDate, category, challengeId, eventTitle, personalTitle);
+  }
+
+  public void markDone() {
+    this.status = MemberActivityOutboxStatus.DONE;
+  }
+
+  /** 실패 기록: 2^시도 횟수 초(최대 5분) 뒤에 다시 시도하고, maxAttempts 에 도달하면 FAILED */
+  public void markFailed(String error, int maxAttempts, LocalDateTime now) {
+    this.attempts++;
+    this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    if (attempts >= maxAttempts) {
+      this.status = MemberActivityOutboxStatus.FAILED;
+      return;
+    }
+    long backoff = Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+    this.nextAttemptAt = now.plusSeconds(backoff);
+  }
+}
@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "member_badges")
+@Table(
+    name = "member_badges",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_member_badge", columnNames = {"member_id", "badge_id"}))
 @Getter
 @Builder
 @AllArgsConstructor
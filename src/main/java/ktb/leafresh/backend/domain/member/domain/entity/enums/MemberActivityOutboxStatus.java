@@ -0,0 +1,7 @@
+package ktb.leafresh.backend.domain.member.domain.entity.enums;
+
+public enum MemberActivityOutboxStatus {
+  PENDING,
+  DONE,
+  FAILED;
+}
@@ -0,0 +1,3 @@
+package ktb.leafresh.backend.domain.member.domain.event;
+
+public record BadgeGrantedEvent(Long memberId, Long badgeId) {}
@@ -0,0 +1,50 @@
+package ktb.leafresh.backend.domain.member.domain.service.badge;
+
+/** 회원 활동 카운터 키 */
+public class ActivityCounterKeys {
+
+  /** 단체 + 개인 성공 인증 수 */
+  public static String totalSuccess() {
+    return "total:success";
+  }
+
+  /** 카테고리별 단체 성공 인증 수 */
+  public static String categorySuccess(String category) {
+    return "group:category:" + category + ":success";
+  }
+
+  /** 카테고리별 성공 인증이 있는 서로 다른 단체 챌린지 수 */
+  public static String categoryChallenges(String category) {
+    return "group:category:" + category + ":challenges";
+  }
+
+  /** 성공 인증이 있는 필수 카테고리 수 */
+  public static String categoriesCleared() {
+    return "group:categories-cleared";
+  }
+
+  /** 단체 챌린지별 성공 인증 수 (0 → 1 전이로 categoryChallenges 를 센다) */
+  public static String challengeSuccess(Long challengeId) {
+    return "group:challenge:" + challengeId + ":success";
+  }
+
+  /** 이벤트 챌린지 제목별 성공 인증 수 */
+  public static String eventSuccess(String eventTitle) {
+    return "event:" + eventTitle + ":success";
+  }
+
+  /** 개인 챌린지 연속 성공 일수 */
+  public static String personalStreak() {
+    return "personal:streak";
+  }
+
+  /** 개인 챌린지 제목별 성공 인증 수 (0 → 1 전이로 personalTitlesCleared 를 센다) */
+  public static String personalTitleSuccess(String title) {
+    return "personal:title:" + title + ":success";
+  }
+
+  /** 성공 인증이 있는 서로 다른 개인 챌린지 제목 수 */
+  public static String personalTitlesCleared() {
+    return "personal:titles-cleared";
+  }
+}
@@ -0,0 +1,67 @@
+package ktb.leafresh.backend.domain.member.domain.service.badge;
+
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.enums.GroupChallengeCategoryName;
+import ktb.leafresh.backend.global.common.entity.enums.ChallengeType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/** 뱃지 카운터를 바꾸는 활동 (처음 성공으로 판정된 인증 하나) */
+public record BadgeActivity(
+    ChallengeType type,
+    LocalDate date,
+    String category,
+    Long challengeId,
+    String eventTitle,
+    String personalTitle) {
+
+  /** "모든 카테고리" 조건에서 제외하는 카테고리 */
+  private static final Set<String> NON_REQUIRED_CATEGORIES =
+      Set.of(GroupChallengeCategoryName.ALL.name(), GroupChallengeCategoryName.ETC.name());
+
+  public static BadgeActivity group(
+      String category, Long challengeId, String eventTitle, LocalDate date) {
+    return new BadgeActivity(ChallengeType.GROUP, date, category, challengeId, eventTitle, null);
+  }
+
+  public static BadgeActivity personal(String title, LocalDate date) {
+    return new BadgeActivity(ChallengeType.PERSONAL, date, null, null, null, title);
+  }
+
+  public boolean isGroup() {
+    return type == ChallengeType.GROUP;
+  }
+
+  public boolean isEvent() {
+    return eventTitle != null;
+  }
+
+  public boolean countsTowardAllCategories() {
+    return isRequiredCategory(category);
+  }
+
+  /** "모든 카테고리" 조건에 포함되는 카테고리인지 */
+  public static boolean isRequiredCategory(String category) {
+    return category != null && !NON_REQUIRED_CATEGORIES.contains(category);
+  }
+
+  /** 이 활동이 바꿀 수 있는 카운터 키 (한 번에 잠그고 읽는다) */
+  public List<String> counterKeys() {
+    List<String> keys = new ArrayList<>();
+    keys.add(ActivityCounterKeys.totalSuccess());
+    if (isGroup()) {
+      keys.add(ActivityCounterKeys.categorySuccess(category));
+      keys.add(ActivityCounterKeys.categoryChallenges(category));
+      keys.add(ActivityCounterKeys.categoriesCleared());
+      keys.add(ActivityCounterKeys.challengeSuccess(challengeId));
+      if (isEvent()) keys.add(ActivityCounterKeys.eventSuccess(eventTitle));
+    } else {
+      keys.add(ActivityCounterKeys.personalStreak());
+      keys.add(ActivityCounterKeys.personalTitleSuccess(personalTitle));
+      keys.add(ActivityCounterKeys.personalTitlesCleared());
+    }
+    return keys;
+  }
+}
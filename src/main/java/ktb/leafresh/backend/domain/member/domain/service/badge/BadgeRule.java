@@ -0,0 +1,10 @@
+package ktb.leafresh.backend.domain.member.domain.service.badge;
+
+/** 카운터가 임계치에 도달하면 지급하는 뱃지 */
+public record BadgeRule(String counterKey, long threshold, String badgeName) {
+
+  /** 이번 변경으로 임계치를 넘었는지 (이미 넘어 있던 규칙은 다시 평가하지 않는다) */
+  public boolean isCrossedBy(CounterChange change) {
+    return change.before() < threshold && change.after() >= threshold;
+  }
+}
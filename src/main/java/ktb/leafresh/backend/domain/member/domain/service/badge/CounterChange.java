@@ -0,0 +1,3 @@
+package ktb.leafresh.backend.domain.member.domain.service.badge;
+
+public record CounterChange(String counterKey, long before, long after) {}
@@ -0,0 +1,86 @@
+package ktb.leafresh.backend.domain.member.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 회원별 보유 뱃지 비트맵.
+ *
+ * <p>뱃지 ID 를 비트 번호로 쓰는 Redis 비트맵 하나로 보유 여부를 표현한다. 0 번 비트는 DB 에서 적재가 끝났다는 표시이므로, 지급 시 SETBIT 만
+ * 먼저 반영된 키는 적재 전으로 보고 다시 채운다. SETBIT 은 기존 비트를 지우지 않아 적재와 지급이 겹쳐도 비트를 잃지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberBadgeBitsetCache {
+
+  private static final long LOADED_BIT = 0;
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${member.badge-bitset.ttl-days:7}")
+  private long ttlDays;
+
+  /** @return 적재된 비트맵 (없거나 적재 전이면 empty) */
+  public Optional<BitSet> get(Long memberId) {
+    byte[] key = MemberCacheKeys.ownedBadges(memberId).getBytes(StandardCharsets.UTF_8);
+    byte[] raw =
+        stringRedisTemplate.execute((RedisCallback<byte[]>) conn -> conn.stringCommands().get(key));
+    if (raw == null) return Optional.empty();
+
+    BitSet bits = fromRedisBitmap(raw);
+    if (!bits.get((int) LOADED_BIT)) return Optional.empty();
+    bits.clear((int) LOADED_BIT);
+    return Optional.of(bits);
+  }
+
+  /** DB 에서 읽은 보유 뱃지를 적재하고 적재 완료 표시 (파이프라인 한 번) */
+  public void load(Long memberId, Collection<Long> badgeIds) {
+    String key = MemberCacheKeys.ownedBadges(memberId);
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              for (Long badgeId : badgeIds) conn.setBit(key, badgeId, true);
+              conn.setBit(key, LOADED_BIT, true);
+              conn.expire(key, ttlDays * 24 * 60 * 60);
+              return null;
+            });
+  }
+
+  /** 지급한 뱃지 비트를 켠다 */
+  public void add(Long memberId, Long badgeId) {
+    String key = MemberCacheKeys.ownedBadges(memberId);
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              conn.setBit(key, badgeId, true);
+              conn.expire(key, ttlDays * 24 * 60 * 60);
+              return null;
+            });
+  }
+
+  public void evict(Long memberId) {
+    stringRedisTemplate.delete(MemberCacheKeys.ownedBadges(memberId));
+  }
+
+  // Redis 비트맵은 바이트마다 상위 비트부터 번호를 매긴다 (BitSet.valueOf 와 반대)
+  static BitSet fromRedisBitmap(byte[] raw) {
+    BitSet bits = new BitSet(raw.length * 8);
+    for (int i = 0; i < raw.length; i++) {
+      for (int b = 0; b < 8; b++) {
+        if ((raw[i] & (0x80 >>> b)) != 0) bits.set(i * 8 + b);
+      }
+    }
+    return bits;
+  }
+}
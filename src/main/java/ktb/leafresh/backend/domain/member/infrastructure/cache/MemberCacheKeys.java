@@ -0,0 +1,9 @@
+package ktb.leafresh.backend.domain.member.infrastructure.cache;
+
+public class MemberCacheKeys {
+
+  /** 회원이 보유한 뱃지 비트맵 (비트 번호 = 뱃지 ID, 0 번 비트는 적재 완료 표시) */
+  public static String ownedBadges(Long memberId) {
+    return "member:badges:owned:" + memberId;
+  }
+}
@@ -0,0 +1,25 @@
+package ktb.leafresh.backend.domain.member.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberActivityCounterRepository
+    extends JpaRepository<MemberActivityCounter, Long> {
+
+  /** 한 활동이 바꿀 카운터를 한 번에 잠그고 조회 (같은 회원의 결과가 동시에 들어와도 증가분을 잃지 않는다) */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      """
+    SELECT c FROM MemberActivityCounter c
+    WHERE c.memberId = :memberId AND c.counterKey IN :keys
+    """)
+  List<MemberActivityCounter> findAllForUpdate(
+      @Param("memberId") Long memberId, @Param("keys") Collection<String> keys);
+}
@@ -0,0 +1,68 @@
+package ktb.leafresh.backend.domain.member.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberActivityOutboxRepository extends JpaRepository<MemberActivityOutbox, Long> {
+
+  /**
+   * 처리할 차례가 된 대기 행 (id 순, 같은 회원의 활동 순서를 지킨다). 같은 회원의 더 오래된 행이 백오프 중이면 그 뒤의 행도 기다린다. 연속 일수는
+   * 날짜가 앞으로만 진행되므로 새 행을 먼저 반영하면 오래된 날짜가 무시된다.
+   */
+  @Query(
+      """
+    SELECT o FROM MemberActivityOutbox o
+    WHERE o.status = :status AND o.nextAttemptAt <= :now
+      AND NOT EXISTS (
+        SELECT 1 FROM MemberActivityOutbox b
+        WHERE b.memberId = o.memberId AND b.status = :status
+          AND b.nextAttemptAt > :now AND b.id < o.id)
+    ORDER BY o.id ASC
+    """)
+  List<MemberActivityOutbox> findReady(
+      @Param("status") MemberActivityOutboxStatus status,
+      @Param("now") LocalDateTime now,
+      Pageable pageable);
+
+  /** 처리 직전에 잠그고 다시 읽는다 (이미 처리된 행은 제외) */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      """
+    SELECT o FROM MemberActivityOutbox o
+    WHERE o.id IN :ids AND o.status = :status
+    ORDER BY o.id ASC
+    """)
+  List<MemberActivityOutbox> findAllForUpdate(
+      @Param("ids") Collection<Long> ids, @Param("status") MemberActivityOutboxStatus status);
+
+  long countByStatus(MemberActivityOutboxStatus status);
+
+  /** 재시도를 포기한 행을 다시 대기 상태로 (시도 횟수 초기화) */
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+    UPDATE MemberActivityOutbox o
+    SET o.status = :pending, o.attempts = 0, o.nextAttemptAt = :now
+    WHERE o.status = :failed
+    """)
+  int requeue(
+      @Param("failed") MemberActivityOutboxStatus failed,
+      @Param("pending") MemberActivityOutboxStatus pending,
+      @Param("now") LocalDateTime now);
+
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM MemberActivityOutbox o WHERE o.status = :status AND o.updatedAt < :before")
+  int deleteByStatusBefore(
+      @Param("status") MemberActivityOutboxStatus status, @Param("before") LocalDateTime before);
+}
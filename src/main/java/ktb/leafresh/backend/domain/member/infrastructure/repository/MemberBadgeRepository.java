@@ -1,13 +1,19 @@
 package ktb.leafresh.backend.domain.member.infrastructure.repository;
 
-import ktb.leafresh.backend.domain.member.domain.entity.Badge;
-import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.domain.entity.MemberBadge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MemberBadgeRepository
     extends JpaRepository<MemberBadge, Long>, MemberBadgeQueryRepository {
   // QueryDSL용 custom interface 분리
 
-  boolean existsByMemberAndBadge(Member member, Badge badge);
+  /** 보유 뱃지 비트맵 적재용 (뱃지 엔티티는 읽지 않는다) */
+  @Query("SELECT mb.badge.id FROM MemberBadge mb WHERE mb.member.id = :memberId")
+  List<Long> findBadgeIdsByMemberId(@Param("memberId") Long memberId);
+
+  boolean existsByMemberIdAndBadgeId(Long memberId, Long badgeId);
 }
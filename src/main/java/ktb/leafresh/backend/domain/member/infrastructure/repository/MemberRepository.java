@@ -1,7 +1,11 @@
 package ktb.leafresh.backend.domain.member.infrastructure.repository;
 
+import jakarta.persistence.LockModeType;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -14,4 +18,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   boolean existsByNicknameAndIdNot(String nickname, Long id);
 
   Optional<Member> findByIdAndDeletedAtIsNull(Long id);
+
+  /** 회원 단위 직렬화용 행 잠금 (아직 없는 하위 행은 잠글 수 없어 회원 행을 대신 잠근다) */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT m FROM Member m WHERE m.id = :id")
+  Optional<Member> findByIdForUpdate(@Param("id") Long id);
 }
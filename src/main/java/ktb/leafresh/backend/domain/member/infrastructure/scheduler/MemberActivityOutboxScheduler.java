@@ -0,0 +1,41 @@
+package ktb.leafresh.backend.domain.member.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberActivityOutboxScheduler {
+
+  private final MemberActivityOutboxDispatcher memberActivityOutboxDispatcher;
+
+  /** 커밋된 활동을 회원별로 모아 나뭇잎/뱃지 지급 (주기마다 한 배치만 처리해 다른 스케줄 작업을 막지 않는다) */
+  @Scheduled(fixedDelayString = "${member.activity-outbox.poll-interval-millis:1000}")
+  @SchedulerLock(
+      name = "MemberActivityOutboxScheduler",
+      lockAtLeastFor = "200ms",
+      lockAtMostFor = "5m")
+  public void dispatch() {
+    try {
+      memberActivityOutboxDispatcher.dispatch();
+    } catch (Exception e) {
+      log.error("[MemberActivityOutboxScheduler] 처리 실패 - message={}", e.getMessage(), e);
+    }
+  }
+
+  @Scheduled(cron = "${member.activity-outbox.purge-cron:0 30 4 * * *}")
+  @SchedulerLock(name = "MemberActivityOutboxPurgeScheduler", lockAtMostFor = "10m")
+  public void purge() {
+    try {
+      int deleted = memberActivityOutboxDispatcher.purgeDone();
+      if (deleted > 0) log.info("[MemberActivityOutboxScheduler] 완료 행 정리 - {}건", deleted);
+    } catch (Exception e) {
+      log.error("[MemberActivityOutboxScheduler] 정리 실패 - message={}", e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package ktb.leafresh.backend.domain.member.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxDispatcher;
+import ktb.leafresh.backend.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Member Activity Outbox Admin", description = "회원 활동 지급 아웃박스 관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/member-activity-outbox")
+public class MemberActivityOutboxAdminController {
+
+  private final MemberActivityOutboxDispatcher memberActivityOutboxDispatcher;
+
+  @PostMapping("/requeue")
+  @Operation(summary = "실패한 지급 재처리", description = "재시도를 포기한 나뭇잎/뱃지 지급을 다시 대기시킵니다. (관리자 권한 필요)")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ApiResponse<Integer>> requeue() {
+    int requeued = memberActivityOutboxDispatcher.requeueFailed();
+    return ResponseEntity.ok(ApiResponse.success("실패한 지급을 다시 대기 상태로 돌렸습니다.", requeued));
+  }
+}
@@ -0,0 +1,8 @@
+package ktb.leafresh.backend.domain.store.order.application.event;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+
+import java.util.List;
+
+/** DB 에 확정된 구매 명령 (커밋 이후 선점 추적에서 제거) */
+public record PurchasesFinalizedEvent(List<PurchaseCommand> commands) {}
@@ -0,0 +1,90 @@
+package ktb.leafresh.backend.domain.store.order.application.facade;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import ktb.leafresh.backend.domain.store.order.application.service.OrderReservationService;
+import ktb.leafresh.backend.domain.store.order.application.service.ProductOrderCreateService;
+import ktb.leafresh.backend.domain.store.order.application.service.TimedealAdmissionService;
+import ktb.leafresh.backend.domain.store.order.application.service.TimedealOrderCreateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 생성 경로 선택 Facade.
+ *
+ * <p>{@code store.order.reservation-script.enabled} 가 true 이면 Lua 단일 스크립트 경로, 아니면 기존 분산 락 경로를 사용한다. 두
+ * 경로 모두 {@code store.order.create} 타이머에 path 태그로 기록되므로 동일 부하에서 지연 시간을 비교할 수 있다.
+ *
+ * <p>타임딜 대기열이 켜져 있으면 입장하지 않은 회원의 타임딜 주문은 두 경로 모두에 들어가기 전에 거절된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCreateFacade {
+
+  private static final String METRIC_NAME = "store.order.create";
+
+  private final ProductOrderCreateService productOrderCreateService;
+  private final TimedealOrderCreateService timedealOrderCreateService;
+  private final OrderReservationService orderReservationService;
+  private final TimedealAdmissionService timedealAdmissionService;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${store.order.reservation-script.enabled:false}")
+  private boolean reservationScriptEnabled;
+
+  public void createProductOrder(
+      Long memberId, Long productId, int quantity, String idempotencyKey) {
+    record(
+        "product",
+        () -> {
+          if (reservationScriptEnabled) {
+            orderReservationService.reserveProductOrder(
+                memberId, productId, quantity, idempotencyKey);
+          } else {
+            productOrderCreateService.create(memberId, productId, quantity, idempotencyKey);
+          }
+        });
+  }
+
+  public void createTimedealOrder(Long memberId, Long dealId, int quantity, String idempotencyKey) {
+    boolean admissionRequired = timedealAdmissionService.isEnabled();
+    if (admissionRequired) {
+      timedealAdmissionService.checkAdmitted(memberId, dealId);
+    }
+
+    record(
+        "timedeal",
+        () -> {
+          if (reservationScriptEnabled) {
+            orderReservationService.reserveTimedealOrder(
+                memberId, dealId, quantity, idempotencyKey);
+          } else {
+            timedealOrderCreateService.create(memberId, dealId, quantity, idempotencyKey);
+          }
+        });
+
+    if (admissionRequired) {
+      timedealAdmissionService.consume(memberId, dealId);
+    }
+  }
+
+  private void record(String type, Runnable action) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      action.run();
+    } catch (RuntimeException e) {
+      outcome = "failure";
+      throw e;
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_NAME)
+              .tag("path", reservationScriptEnabled ? "script" : "lock")
+              .tag("type", type)
+              .tag("outcome", outcome)
+              .publishPercentiles(0.5, 0.99)
+              .register(meterRegistry));
+    }
+  }
+}
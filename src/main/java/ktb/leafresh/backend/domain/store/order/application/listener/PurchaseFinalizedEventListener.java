@@ -0,0 +1,26 @@
+package ktb.leafresh.backend.domain.store.order.application.listener;
+
+import ktb.leafresh.backend.domain.store.order.application.event.PurchasesFinalizedEvent;
+import ktb.leafresh.backend.domain.store.order.application.service.TimedealAdmissionService;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseFinalizedEventListener {
+
+  private final StockReservationTracker stockReservationTracker;
+  private final TimedealAdmissionService timedealAdmissionService;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handlePurchasesFinalized(PurchasesFinalizedEvent event) {
+    stockReservationTracker.complete(event.commands());
+    timedealAdmissionService.recordFinalized(event.commands().size());
+    log.debug("[PurchaseFinalizedEventListener] 선점 기록 제거 - size={}", event.commands().size());
+  }
+}
@@ -0,0 +1,271 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.OrderCacheKeys;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
+import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.global.exception.*;
+import ktb.leafresh.backend.global.util.redis.StockReservationRedisLuaService;
+import ktb.leafresh.backend.global.util.redis.StockReservationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 분산 락 없이 Lua 스크립트 한 번으로 재고를 선점하는 주문 생성 서비스.
+ *
+ * <p>멱등성 키 확인, 타임딜 판매 시간 확인, 재고 차감을 Redis 안에서 원자적으로 처리하고, 포인트 부족이나 발행 실패 시에는 선점한 재고를 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderReservationService {
+
+  private final ProductRepository productRepository;
+  private final TimedealPolicyRepository timedealPolicyRepository;
+  private final StockReservationRedisLuaService stockReservationRedisLuaService;
+  private final ProductCacheService productCacheService;
+  private final TimedealStockShardService timedealStockShardService;
+  private final PurchaseMessagePublisher purchaseMessagePublisher;
+  private final PointService pointService;
+  private final PurchaseIdempotencyService purchaseIdempotencyService;
+  private final StockReservationTracker stockReservationTracker;
+
+  public StockReservationResult reserveProductOrder(
+      Long memberId, Long productId, int quantity, String idempotencyKey) {
+    // 1. 상품 조회 (단가 확인용, 락 없음)
+    Product product =
+        productRepository
+            .findById(productId)
+            .orElseThrow(() -> new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND));
+
+    // 2. 보유 포인트 검증 (단가를 이미 알고 있으므로 선점 전에 확인)
+    int totalPrice = product.getPrice() * quantity;
+    if (!pointService.hasEnoughPoints(memberId, totalPrice)) {
+      log.warn("[포인트 부족] memberId={}, 보유포인트<{}", memberId, totalPrice);
+      throw new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS);
+    }
+
+    // 3. 멱등성 + 재고 선점 (단일 Lua)
+    String idemKey = OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey);
+    String stockKey = ProductCacheKeys.productStock(productId);
+    Duration ttl = purchaseIdempotencyService.ttl();
+
+    StockReservationResult result =
+        stockReservationRedisLuaService.reserve(idemKey, stockKey, null, quantity, ttl);
+
+    if (result.status() == StockReservationResult.Status.STOCK_NOT_CACHED) {
+      productCacheService.cacheProductStockIfAbsent(productId, product.getStock());
+      result = stockReservationRedisLuaService.reserve(idemKey, stockKey, null, quantity, ttl);
+    }
+    if (isReplay(result, memberId, idempotencyKey)) return result;
+    throwIfNotReserved(result);
+
+    // 4. 메시지 큐 발행
+    publishOrRelease(
+        new PurchaseCommand(
+            memberId, productId, null, quantity, idempotencyKey, LocalDateTime.now()),
+        idemKey,
+        stockKey);
+    purchaseIdempotencyService.markAccepted(memberId, idempotencyKey);
+
+    log.info(
+        "[주문 큐 발행 완료 - 스크립트] memberId={}, productId={}, quantity={}, remaining={}",
+        memberId,
+        productId,
+        quantity,
+        result.remainingStock());
+    return result;
+  }
+
+  public StockReservationResult reserveTimedealOrder(
+      Long memberId, Long dealId, int quantity, String idempotencyKey) {
+    if (timedealStockShardService.isEnabled()) {
+      return reserveShardedTimedealOrder(memberId, dealId, quantity, idempotencyKey);
+    }
+
+    String idemKey = OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey);
+    String stockKey = ProductCacheKeys.timedealStock(dealId);
+    String windowKey = ProductCacheKeys.timedealWindow(dealId);
+    Duration ttl = purchaseIdempotencyService.ttl();
+
+    // 1. 멱등성 + 판매 시간 + 재고 선점 (단일 Lua)
+    StockReservationResult result =
+        stockReservationRedisLuaService.reserve(idemKey, stockKey, windowKey, quantity, ttl);
+
+    // 2. 캐시 누락 시 DB 기준으로 한 번만 복구 후 재시도
+    if (result.status() == StockReservationResult.Status.STOCK_NOT_CACHED) {
+      warmTimedealCache(dealId);
+      result =
+          stockReservationRedisLuaService.reserve(idemKey, stockKey, windowKey, quantity, ttl);
+    }
+    if (isReplay(result, memberId, idempotencyKey)) return result;
+    throwIfNotReserved(result);
+    if (result.unitPrice() == null) {
+      stockReservationRedisLuaService.release(idemKey, stockKey, quantity);
+      throw priceNotCached(dealId);
+    }
+
+    // 3. 보유 포인트 검증 (단가는 스크립트 결과 사용, 부족하면 선점 반환)
+    int totalPrice = result.unitPrice() * quantity;
+    if (!pointService.hasEnoughPoints(memberId, totalPrice)) {
+      stockReservationRedisLuaService.release(idemKey, stockKey, quantity);
+      log.warn("[타임딜 포인트 부족] memberId={}, totalPrice={}", memberId, totalPrice);
+      throw new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS);
+    }
+
+    // 4. MQ 발행
+    publishOrRelease(
+        new PurchaseCommand(
+            memberId, result.productId(), dealId, quantity, idempotencyKey, LocalDateTime.now()),
+        idemKey,
+        stockKey);
+    purchaseIdempotencyService.markAccepted(memberId, idempotencyKey);
+
+    log.info(
+        "[타임딜 주문 큐 발행 완료 - 스크립트] memberId={}, policyId={}, productId={}, quantity={}, remaining={}",
+        memberId,
+        dealId,
+        result.productId(),
+        quantity,
+        result.remainingStock());
+    return result;
+  }
+
+  /**
+   * 재고 샤딩 모드의 타임딜 주문. 샤드가 여러 키에 흩어져 있으므로 멱등성/판매 시간 선점(claim)과 샤드 차감을 나누어 실행하고, 이후 단계에서 실패하면
+   * 둘 다 되돌린다.
+   */
+  private StockReservationResult reserveShardedTimedealOrder(
+      Long memberId, Long dealId, int quantity, String idempotencyKey) {
+    String idemKey = OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey);
+    String windowKey = ProductCacheKeys.timedealWindow(dealId);
+    Duration ttl = purchaseIdempotencyService.ttl();
+
+    // 1. 멱등성 + 판매 시간 선점
+    StockReservationResult claim =
+        stockReservationRedisLuaService.claim(idemKey, windowKey, quantity, ttl);
+    if (claim.status() == StockReservationResult.Status.STOCK_NOT_CACHED) {
+      warmTimedealCache(dealId);
+      claim = stockReservationRedisLuaService.claim(idemKey, windowKey, quantity, ttl);
+    }
+    if (isReplay(claim, memberId, idempotencyKey)) return claim;
+    throwIfNotReserved(claim);
+    if (claim.unitPrice() == null) {
+      stockReservationRedisLuaService.releaseClaim(idemKey);
+      throw priceNotCached(dealId);
+    }
+
+    // 2. 샤드 재고 차감 (캐시 누락 시 한 번만 복구 후 재시도)
+    Long remaining = timedealStockShardService.decreaseStock(dealId, quantity);
+    if (remaining == -1) {
+      warmTimedealCache(dealId);
+      remaining = timedealStockShardService.decreaseStock(dealId, quantity);
+    }
+    if (remaining < 0) {
+      stockReservationRedisLuaService.releaseClaim(idemKey);
+      throw new CustomException(
+          remaining == -2 ? ProductErrorCode.OUT_OF_STOCK : ProductErrorCode.PRODUCT_NOT_FOUND);
+    }
+
+    // 3. 보유 포인트 검증
+    int totalPrice = claim.unitPrice() * quantity;
+    if (!pointService.hasEnoughPoints(memberId, totalPrice)) {
+      releaseShardedReservation(idemKey, dealId, quantity);
+      log.warn("[타임딜 포인트 부족] memberId={}, totalPrice={}", memberId, totalPrice);
+      throw new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS);
+    }
+
+    // 4. MQ 발행
+    PurchaseCommand command =
+        new PurchaseCommand(
+            memberId, claim.productId(), dealId, quantity, idempotencyKey, LocalDateTime.now());
+    try {
+      stockReservationTracker.track(command);
+      purchaseMessagePublisher.publish(command);
+    } catch (RuntimeException e) {
+      stockReservationTracker.untrack(command);
+      releaseShardedReservation(idemKey, dealId, quantity);
+      throw e;
+    }
+    purchaseIdempotencyService.markAccepted(memberId, idempotencyKey);
+
+    log.info(
+        "[타임딜 주문 큐 발행 완료 - 샤드] memberId={}, policyId={}, productId={}, quantity={}",
+        memberId,
+        dealId,
+        claim.productId(),
+        quantity);
+    return new StockReservationResult(
+        StockReservationResult.Status.RESERVED, remaining, claim.productId(), claim.unitPrice());
+  }
+
+  private void releaseShardedReservation(String idemKey, Long dealId, int quantity) {
+    if (stockReservationRedisLuaService.releaseClaim(idemKey)) {
+      timedealStockShardService.increaseStock(dealId, quantity);
+    }
+  }
+
+  /** 타임딜 재고/판매 시간 캐시를 DB 기준으로 복구 (이미 있는 재고는 덮어쓰지 않음) */
+  private void warmTimedealCache(Long dealId) {
+    TimedealPolicy policy =
+        timedealPolicyRepository
+            .findById(dealId)
+            .orElseThrow(() -> new CustomException(TimedealErrorCode.PRODUCT_NOT_FOUND));
+    productCacheService.cacheTimedealStockIfAbsent(
+        policy.getId(), policy.getStock(), policy.getEndTime());
+    productCacheService.cacheTimedealWindow(policy);
+  }
+
+  /**
+   * 판매 시간 해시에 가격이 없을 때 (해시 일부 유실 등). 호출 전에 선점은 되돌려 두고, 해시를 DB 기준으로 다시 채운 뒤 재시도를 안내한다.
+   */
+  private CustomException priceNotCached(Long dealId) {
+    log.warn("[타임딜 가격 캐시 누락] policyId={}, 판매 시간 캐시 재등록", dealId);
+    try {
+      timedealPolicyRepository.findById(dealId).ifPresent(productCacheService::cacheTimedealWindow);
+    } catch (Exception e) {
+      log.warn("[타임딜 가격 캐시 재등록 실패] policyId={}, error={}", dealId, e.getMessage());
+    }
+    return new CustomException(TimedealErrorCode.TIMEDEAL_LOAD_FAIL);
+  }
+
+  private void publishOrRelease(PurchaseCommand command, String idemKey, String stockKey) {
+    try {
+      stockReservationTracker.track(command);
+      purchaseMessagePublisher.publish(command);
+    } catch (RuntimeException e) {
+      stockReservationTracker.untrack(command);
+      stockReservationRedisLuaService.release(idemKey, stockKey, command.quantity());
+      throw e;
+    }
+  }
+
+  /** 이미 완료된 요청의 재시도면 true (처리 중인 요청이면 중복 요청 예외) */
+  private boolean isReplay(StockReservationResult result, Long memberId, String idempotencyKey) {
+    if (result.status() != StockReservationResult.Status.DUPLICATE_REQUEST) return false;
+    purchaseIdempotencyService.replayOrThrow(memberId, idempotencyKey);
+    return true;
+  }
+
+  private void throwIfNotReserved(StockReservationResult result) {
+    switch (result.status()) {
+      case RESERVED -> {}
+      case DUPLICATE_REQUEST ->
+          throw new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST);
+      case OUT_OF_STOCK -> throw new CustomException(ProductErrorCode.OUT_OF_STOCK);
+      case OUTSIDE_DEAL_WINDOW -> throw new CustomException(TimedealErrorCode.INVALID_STATUS);
+      case STOCK_NOT_CACHED -> throw new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND);
+    }
+  }
+}
@@ -1,11 +1,9 @@
 package ktb.leafresh.backend.domain.store.order.application.service;
 
-import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
-import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseIdempotencyKey;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
-import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
 import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
@@ -15,7 +13,6 @@ import ktb.leafresh.backend.global.util.redis.StockRedisLuaService;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,28 +25,37 @@ public class ProductOrderCreateService {
 
   private final MemberRepository memberRepository;
   private final ProductRepository productRepository;
-  private final PurchaseIdempotencyKeyRepository idempotencyRepository;
+  private final PurchaseIdempotencyService purchaseIdempotencyService;
   private final StockRedisLuaService stockRedisLuaService;
   private final PurchaseMessagePublisher purchaseMessagePublisher;
   private final ProductCacheLockFacade productCacheLockFacade;
   private final PointService pointService;
+  private final StockReservationTracker stockReservationTracker;
 
   @DistributedLock(key = "'product:stock:' + #productId", waitTime = 3, leaseTime = 3)
   @Transactional
   public void create(Long memberId, Long productId, int quantity, String idempotencyKey) {
     // 1. 사용자 조회
-    Member member =
-        memberRepository
-            .findById(memberId)
-            .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+    memberRepository
+        .findById(memberId)
+        .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+
+    // 2. Idempotency 키 선점 (Redis, 이미 완료된 요청이면 원래 응답 재생)
+    if (!purchaseIdempotencyService.tryAcquire(memberId, idempotencyKey)) {
+      purchaseIdempotencyService.replayOrThrow(memberId, idempotencyKey);
+      return;
+    }
 
-    // 2. Idempotency 키 저장
     try {
-      idempotencyRepository.save(new PurchaseIdempotencyKey(member, idempotencyKey));
-    } catch (DataIntegrityViolationException e) {
-      throw new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST);
+      placeOrder(memberId, productId, quantity, idempotencyKey);
+    } catch (RuntimeException e) {
+      purchaseIdempotencyService.release(memberId, idempotencyKey);
+      throw e;
     }
+    purchaseIdempotencyService.markAccepted(memberId, idempotencyKey);
+  }
 
+  private void placeOrder(Long memberId, Long productId, int quantity, String idempotencyKey) {
     // 3. 상품 존재 여부 확인 (재고 키 조회용)
     Product product =
         productRepository
@@ -79,7 +85,13 @@ public class ProductOrderCreateService {
     PurchaseCommand command =
         new PurchaseCommand(
             memberId, productId, null, quantity, idempotencyKey, LocalDateTime.now());
-    purchaseMessagePublisher.publish(command);
+    stockReservationTracker.track(command);
+    try {
+      purchaseMessagePublisher.publish(command);
+    } catch (RuntimeException e) {
+      stockReservationTracker.untrack(command);
+      throw e;
+    }
 
     log.info("[주문 큐 발행 완료] memberId={}, productId={}, quantity={}", memberId, productId, quantity);
   }
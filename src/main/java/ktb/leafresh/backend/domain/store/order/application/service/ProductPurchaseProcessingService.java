@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.event.PurchasesFinalizedEvent;
 import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseProcessContext;
 import ktb.leafresh.backend.domain.store.order.domain.entity.*;
 import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseType;
@@ -16,10 +17,12 @@ import ktb.leafresh.backend.domain.store.product.infrastructure.repository.Timed
 import ktb.leafresh.backend.global.exception.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -31,6 +34,7 @@ public class ProductPurchaseProcessingService {
   private final TimedealPolicyRepository timedealPolicyRepository;
   private final PurchaseFailureLogRepository failureLogRepository;
   private final PurchaseProcessor purchaseProcessor;
+  private final ApplicationEventPublisher eventPublisher;
 
   private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -76,6 +80,7 @@ public class ProductPurchaseProcessingService {
           new PurchaseProcessContext(member, product, cmd.quantity(), unitPrice, purchaseType);
 
       purchaseProcessor.process(context);
+      eventPublisher.publishEvent(new PurchasesFinalizedEvent(List.of(cmd)));
 
     } catch (Exception e) {
       saveFailureLog(cmd, e);
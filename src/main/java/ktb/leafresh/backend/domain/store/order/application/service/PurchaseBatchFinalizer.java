@@ -0,0 +1,198 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.event.PurchasesFinalizedEvent;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseProcessingStatus;
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseType;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseBatchJdbcRepository;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseBatchJdbcRepository.FailureRow;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseBatchJdbcRepository.PurchaseRow;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.global.exception.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 구매 명령을 하나의 트랜잭션으로 확정한다.
+ *
+ * <p>회원/상품/타임딜은 배치 단위로 한 번씩 조회하고, 검증은 메모리에서 누적 차감량을 반영해 순서대로 수행한다. 통과한 명령의 재고/포인트 차감은 대상별로
+ * 합산해 조건부 UPDATE 로, 구매/로그 행은 JDBC 배치 INSERT 로 반영한다. 조건부 UPDATE 가 하나라도 반영되지 않으면(동시 변경) 배치 전체를
+ * 롤백한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseBatchFinalizer {
+
+  private final MemberRepository memberRepository;
+  private final ProductRepository productRepository;
+  private final TimedealPolicyRepository timedealPolicyRepository;
+  private final PurchaseBatchJdbcRepository batchJdbcRepository;
+  private final PurchaseProcessor purchaseProcessor;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public PurchaseBatchResult finalizeBatch(List<PurchaseCommand> commands) {
+    LocalDateTime now = LocalDateTime.now();
+
+    // 1. 배치 단위 일괄 조회
+    Map<Long, Member> members =
+        toMap(memberRepository.findAllById(ids(commands, PurchaseCommand::memberId)), Member::getId);
+    Map<Long, Product> products =
+        toMap(
+            productRepository.findAllById(ids(commands, PurchaseCommand::productId)),
+            Product::getId);
+    Map<Long, TimedealPolicy> policies =
+        toMap(
+            timedealPolicyRepository.findAllById(ids(commands, PurchaseCommand::timedealPolicyId)),
+            TimedealPolicy::getId);
+
+    // 2. 누적 차감량을 반영하며 순서대로 검증
+    Map<Long, Integer> productDeltas = new LinkedHashMap<>();
+    Map<Long, Integer> timedealDeltas = new LinkedHashMap<>();
+    Map<Long, Integer> pointDeltas = new LinkedHashMap<>();
+    List<PurchaseRow> purchaseRows = new ArrayList<>();
+    List<PurchaseCommand> finalizedCommands = new ArrayList<>();
+    List<Long> purchasedProductIds = new ArrayList<>();
+    List<FailureRow> failureRows = new ArrayList<>();
+    Set<Integer> failedIndexes = new HashSet<>();
+
+    for (int i = 0; i < commands.size(); i++) {
+      PurchaseCommand cmd = commands.get(i);
+      try {
+        Member member = members.get(cmd.memberId());
+        if (member == null) throw new CustomException(MemberErrorCode.MEMBER_NOT_FOUND);
+
+        Product product = products.get(cmd.productId());
+        if (product == null) throw new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND);
+
+        TimedealPolicy policy = null;
+        if (cmd.timedealPolicyId() != null) {
+          policy = resolvePolicy(policies.get(cmd.timedealPolicyId()), product, now);
+        }
+
+        int quantity = cmd.quantity();
+        int unitPrice = (policy != null) ? policy.getDiscountedPrice() : product.getPrice();
+        int totalPrice = unitPrice * quantity;
+
+        int availableStock =
+            (policy != null)
+                ? policy.getStock() - timedealDeltas.getOrDefault(policy.getId(), 0)
+                : product.getStock() - productDeltas.getOrDefault(product.getId(), 0);
+        if (availableStock < quantity) throw new CustomException(ProductErrorCode.OUT_OF_STOCK);
+
+        int availablePoints =
+            member.getCurrentLeafPoints() - pointDeltas.getOrDefault(member.getId(), 0);
+        if (availablePoints < totalPrice) {
+          throw new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS);
+        }
+
+        if (policy != null) {
+          timedealDeltas.merge(policy.getId(), quantity, Integer::sum);
+        } else {
+          productDeltas.merge(product.getId(), quantity, Integer::sum);
+        }
+        pointDeltas.merge(member.getId(), totalPrice, Integer::sum);
+
+        purchaseRows.add(
+            new PurchaseRow(
+                member.getId(),
+                product.getId(),
+                policy != null ? PurchaseType.TIMEDEAL : PurchaseType.NORMAL,
+                unitPrice,
+                quantity,
+                now));
+        purchasedProductIds.add(product.getId());
+        finalizedCommands.add(cmd);
+      } catch (CustomException e) {
+        failedIndexes.add(i);
+        failureRows.add(
+            new FailureRow(cmd.memberId(), cmd.productId(), e.getMessage(), toJson(cmd), now));
+        log.warn(
+            "[배치 구매 검증 실패] memberId={}, productId={}, reason={}",
+            cmd.memberId(),
+            cmd.productId(),
+            e.getMessage());
+      }
+    }
+
+    // 3. 합산 차감 (조건부 UPDATE, 반영 안 된 대상이 있으면 전체 롤백)
+    List<Long> notApplied = new ArrayList<>();
+    notApplied.addAll(batchJdbcRepository.decreaseProductStocks(productDeltas, now));
+    notApplied.addAll(batchJdbcRepository.decreaseTimedealStocks(timedealDeltas, now));
+    notApplied.addAll(batchJdbcRepository.decreaseMemberPoints(pointDeltas, now));
+    if (!notApplied.isEmpty()) {
+      throw new IllegalStateException("배치 차감 중 동시 변경 감지 - ids=" + notApplied);
+    }
+
+    // 4. 구매/로그 행 배치 INSERT
+    batchJdbcRepository.insertPurchases(purchaseRows);
+    batchJdbcRepository.insertProcessingLogs(
+        purchasedProductIds, PurchaseProcessingStatus.SUCCESS, "구매 성공", now);
+    batchJdbcRepository.insertFailureLogs(failureRows);
+
+    // 5. 타임딜 단건 캐시 갱신 (타임딜별 1회)
+    timedealDeltas.forEach(
+        (policyId, delta) -> {
+          TimedealPolicy policy = policies.get(policyId);
+          purchaseProcessor.updateTimedealCache(
+              policy.getProduct(), policy, policy.getStock() - delta);
+        });
+    eventPublisher.publishEvent(new PurchasesFinalizedEvent(finalizedCommands));
+
+    log.info(
+        "[배치 구매 확정 완료] 요청={}건, 성공={}건, 실패={}건",
+        commands.size(),
+        purchaseRows.size(),
+        failedIndexes.size());
+    return new PurchaseBatchResult(commands.size(), failedIndexes);
+  }
+
+  private TimedealPolicy resolvePolicy(
+      TimedealPolicy policy, Product product, LocalDateTime now) {
+    if (policy == null || policy.getDeletedAt() != null) {
+      throw new CustomException(TimedealErrorCode.TIMEDEAL_POLICY_NOT_FOUND);
+    }
+    if (!policy.getProduct().getId().equals(product.getId())) {
+      throw new CustomException(TimedealErrorCode.INVALID_PRODUCT_FOR_TIMEDEAL);
+    }
+    if (!policy.getStartTime().isBefore(now) || !policy.getEndTime().isAfter(now)) {
+      throw new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND);
+    }
+    return policy;
+  }
+
+  private String toJson(PurchaseCommand cmd) {
+    try {
+      return objectMapper.writeValueAsString(cmd);
+    } catch (JsonProcessingException e) {
+      return String.format("{\"fallback\": \"%s\"}", cmd.toString().replace("\"", "\\\""));
+    }
+  }
+
+  private static Set<Long> ids(
+      List<PurchaseCommand> commands, Function<PurchaseCommand, Long> extractor) {
+    return commands.stream().map(extractor).filter(Objects::nonNull).collect(Collectors.toSet());
+  }
+
+  private static <T> Map<Long, T> toMap(List<T> entities, Function<T, Long> idExtractor) {
+    return entities.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+  }
+}
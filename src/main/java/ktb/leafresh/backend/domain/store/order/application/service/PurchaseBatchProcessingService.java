@@ -0,0 +1,54 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배치 구매 확정 진입점. 배치 트랜잭션이 실패하면(동시 변경, DB 오류 등) 같은 명령을 기존 단건 경로로 순서대로 다시 처리한다. 단건 처리 중 실패한
+ * 회원의 뒤 명령은 처리하지 않고 실패로 돌려 재수신 시 순서대로 다시 처리되게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseBatchProcessingService {
+
+  private final PurchaseBatchFinalizer purchaseBatchFinalizer;
+  private final ProductPurchaseProcessingService productPurchaseProcessingService;
+
+  public PurchaseBatchResult processBatch(List<PurchaseCommand> commands) {
+    try {
+      return purchaseBatchFinalizer.finalizeBatch(commands);
+    } catch (Exception e) {
+      log.warn(
+          "[배치 구매 확정 실패 → 단건 처리] size={}, message={}", commands.size(), e.getMessage(), e);
+    }
+
+    Set<Integer> failedIndexes = new HashSet<>();
+    Set<Long> failedMembers = new HashSet<>();
+    for (int i = 0; i < commands.size(); i++) {
+      if (failedMembers.contains(commands.get(i).memberId())) {
+        failedIndexes.add(i);
+        continue;
+      }
+      try {
+        productPurchaseProcessingService.process(commands.get(i));
+      } catch (Exception e) {
+        failedIndexes.add(i);
+        failedMembers.add(commands.get(i).memberId());
+        log.error(
+            "[단건 처리 실패] memberId={}, productId={}, {}",
+            commands.get(i).memberId(),
+            commands.get(i).productId(),
+            e.getMessage());
+      }
+    }
+    return new PurchaseBatchResult(commands.size(), failedIndexes);
+  }
+}
@@ -0,0 +1,79 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseIdempotencyStatus;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.OrderCacheKeys;
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PurchaseIdempotencyAudit;
+import ktb.leafresh.backend.domain.store.order.infrastructure.scheduler.PurchaseIdempotencyAuditScheduler;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 멱등성 키 저장소.
+ *
+ * <p>Redis SET NX + TTL 로 키를 선점하고, 처리가 끝나면 결과(ACCEPTED)를 같은 키에 남겨 재시도 요청에 원래 응답을 돌려준다. 실패한 요청은 키를
+ * 지워 재시도를 허용한다. TTL 은 클라이언트 재시도 구간에 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseIdempotencyService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final PurchaseIdempotencyAuditScheduler auditScheduler;
+
+  @Value("${store.order.idempotency.ttl-seconds:86400}")
+  private long ttlSeconds;
+
+  public Duration ttl() {
+    return Duration.ofSeconds(ttlSeconds);
+  }
+
+  /** 키 선점, 이미 존재하면 false */
+  public boolean tryAcquire(Long memberId, String idempotencyKey) {
+    return Boolean.TRUE.equals(
+        stringRedisTemplate
+            .opsForValue()
+            .setIfAbsent(
+                OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey),
+                PurchaseIdempotencyStatus.PROCESSING.name(),
+                ttl()));
+  }
+
+  /** 처리 완료 결과 저장 + DB 감사 기록 예약 */
+  public void markAccepted(Long memberId, String idempotencyKey) {
+    stringRedisTemplate
+        .opsForValue()
+        .set(
+            OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey),
+            PurchaseIdempotencyStatus.ACCEPTED.name(),
+            ttl());
+    auditScheduler.enqueue(
+        new PurchaseIdempotencyAudit(memberId, idempotencyKey, LocalDateTime.now()));
+  }
+
+  public void release(Long memberId, String idempotencyKey) {
+    stringRedisTemplate.delete(OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey));
+  }
+
+  /** 이미 선점된 키: 완료된 요청이면 그대로 반환(원래 응답 재생), 처리 중이면 중복 요청 예외 */
+  public void replayOrThrow(Long memberId, String idempotencyKey) {
+    String status =
+        stringRedisTemplate
+            .opsForValue()
+            .get(OrderCacheKeys.purchaseIdempotency(memberId, idempotencyKey));
+
+    if (PurchaseIdempotencyStatus.ACCEPTED.name().equals(status)) {
+      log.info("[멱등성 재생] memberId={}, key={}", memberId, idempotencyKey);
+      return;
+    }
+    throw new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST);
+  }
+}
@@ -68,7 +68,7 @@ public class PurchaseProcessor {
     timedealPolicyRepository.save(policy); // dirty checking 우회
 
     finalizePurchase(context, policy);
-    updateTimedealCache(product, policy);
+    updateTimedealCache(product, policy, policy.getStock());
   }
 
   private void processNormalPurchase(PurchaseProcessContext context) {
@@ -119,10 +119,10 @@ public class PurchaseProcessor {
         member.getCurrentLeafPoints());
   }
 
-  private void updateTimedealCache(Product product, TimedealPolicy policy) {
+  void updateTimedealCache(Product product, TimedealPolicy policy, int stock) {
     String itemKey = "store:products:timedeal:item:" + policy.getId();
     try {
-      var cacheDto = TimedealProductSummaryCacheDtoMapper.from(product, policy);
+      var cacheDto = TimedealProductSummaryCacheDtoMapper.from(product, policy, stock);
       String json = objectMapper.writeValueAsString(cacheDto);
       redisTemplate.opsForValue().set(itemKey, json);
       log.debug("[Redis] 단건 캐시 갱신 완료 - key={}, stock={}", itemKey, cacheDto.stock());
@@ -0,0 +1,220 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import ktb.leafresh.backend.domain.store.order.application.service.model.StockReconciliationReport;
+import ktb.leafresh.backend.domain.store.order.application.service.model.StockReconciliationReport.StockDrift;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PendingStockReservation;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.global.config.StockReconciliationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 선점 재고와 DB 확정 재고 대사.
+ *
+ * <p>대상별로 {@code Redis 재고 == DB 재고 - 미확정 선점 수량} 이 성립하는지 확인한다. 선점 직후나 커밋 직후에는 잠깐 어긋날 수 있으므로 차이가
+ * 연속 두 번 같은 값으로 관측될 때만 확정된 drift 로 보고, 설정된 경우 Redis 재고를 보정한다. 차이가 있거나 미확정 선점이 남은 대상은 다음 주기에
+ * 다시 검사하도록 dirty 집합에 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReconciliationService {
+
+  private final StockReservationTracker stockReservationTracker;
+  private final ProductRepository productRepository;
+  private final TimedealPolicyRepository timedealPolicyRepository;
+  private final TimedealStockShardService timedealStockShardService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StockReconciliationProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /** 아직 해소되지 않은 차이 (target → drift), 두 번째 관측에서 확정 */
+  private final Map<String, Long> observedDrifts = new ConcurrentHashMap<>();
+
+  private final AtomicInteger lastStuckCount = new AtomicInteger();
+
+  @PostConstruct
+  void registerMetrics() {
+    meterRegistry.gaugeMapSize("store.stock.reconcile.drifted.targets", List.of(), observedDrifts);
+    meterRegistry.gauge(
+        "store.stock.reconcile.drift.units",
+        observedDrifts,
+        drifts -> drifts.values().stream().mapToLong(Math::abs).sum());
+    meterRegistry.gauge("store.stock.reconcile.stuck", lastStuckCount);
+  }
+
+  public StockReconciliationReport reconcile() {
+    List<String> targets = stockReservationTracker.popDirty(properties.getBatchSize());
+    if (targets.isEmpty()) {
+      return StockReconciliationReport.empty();
+    }
+
+    // 1. Redis 쪽 상태 (미확정 선점 + 현재 재고)를 먼저 읽고 DB 확정 재고를 읽는다
+    Map<String, List<PendingStockReservation>> pending =
+        stockReservationTracker.findPending(targets);
+    Map<String, Long> redisStocks = readRedisStocks(targets);
+    Map<String, Integer> dbStocks = readDbStocks(targets);
+
+    long stuckBefore = System.currentTimeMillis() - properties.getStuckThresholdSeconds() * 1000;
+    List<StockDrift> drifts = new ArrayList<>();
+    List<PendingStockReservation> stuck = new ArrayList<>();
+    Set<String> recheck = new HashSet<>();
+
+    for (String target : targets) {
+      List<PendingStockReservation> reservations = pending.getOrDefault(target, List.of());
+      reservations.stream().filter(r -> r.reservedAtMillis() < stuckBefore).forEach(stuck::add);
+      if (!reservations.isEmpty()) recheck.add(target);
+
+      Long redisStock = redisStocks.get(target);
+      Integer dbStock = dbStocks.get(target);
+      if (redisStock == null || dbStock == null) {
+        // 캐시가 없거나(만료) 대상이 삭제됨 → 비교할 Redis 재고가 없으므로 차이 없음으로 본다
+        observedDrifts.remove(target);
+        continue;
+      }
+
+      long pendingQuantity = reservations.stream().mapToLong(PendingStockReservation::quantity).sum();
+      long drift = redisStock - (dbStock - pendingQuantity);
+      if (drift == 0) {
+        observedDrifts.remove(target);
+        continue;
+      }
+
+      recheck.add(target);
+      Long previous = observedDrifts.put(target, drift);
+      boolean confirmed = previous != null && previous == drift;
+      boolean corrected = confirmed && properties.isAutoCorrectEnabled() && correct(target, drift);
+      if (corrected) observedDrifts.remove(target);
+      if (confirmed) {
+        drifts.add(new StockDrift(target, redisStock, dbStock, pendingQuantity, drift, corrected));
+        meterRegistry
+            .counter("store.stock.reconcile.drift.confirmed", "type", type(target))
+            .increment();
+      }
+    }
+
+    stockReservationTracker.markDirty(recheck);
+    lastStuckCount.set(stuck.size());
+    meterRegistry.counter("store.stock.reconcile.checked").increment(targets.size());
+
+    for (StockDrift drift : drifts) {
+      log.warn(
+          "[재고 대사] 차이 확인 - target={}, redis={}, db={}, pending={}, drift={}, corrected={}",
+          drift.target(),
+          drift.redisStock(),
+          drift.dbStock(),
+          drift.pendingQuantity(),
+          drift.drift(),
+          drift.corrected());
+    }
+    if (!stuck.isEmpty()) {
+      log.warn("[재고 대사] 미확정 선점 {}건 (기준 {}초 초과)", stuck.size(), properties.getStuckThresholdSeconds());
+    }
+    log.debug("[재고 대사] 검사={}건, 차이={}건, stuck={}건", targets.size(), drifts.size(), stuck.size());
+    return new StockReconciliationReport(targets.size(), drifts, stuck);
+  }
+
+  /** 상품/비샤딩 타임딜 재고는 MGET 한 번, 샤딩 타임딜은 샤드 합계 */
+  private Map<String, Long> readRedisStocks(List<String> targets) {
+    Map<String, Long> stocks = new HashMap<>();
+    boolean sharded = timedealStockShardService.isEnabled();
+
+    List<String> plainTargets = new ArrayList<>();
+    List<String> plainKeys = new ArrayList<>();
+    List<Long> shardedPolicyIds = new ArrayList<>();
+    for (String target : targets) {
+      Long id = id(target);
+      if (isTimedeal(target)) {
+        if (sharded) {
+          shardedPolicyIds.add(id);
+          continue;
+        }
+        plainKeys.add(ProductCacheKeys.timedealStock(id));
+      } else {
+        plainKeys.add(ProductCacheKeys.productStock(id));
+      }
+      plainTargets.add(target);
+    }
+
+    if (!plainKeys.isEmpty()) {
+      List<String> values = stringRedisTemplate.opsForValue().multiGet(plainKeys);
+      for (int i = 0; values != null && i < values.size(); i++) {
+        if (values.get(i) != null) {
+          stocks.put(plainTargets.get(i), Long.parseLong(values.get(i)));
+        }
+      }
+    }
+    if (!shardedPolicyIds.isEmpty()) {
+      timedealStockShardService
+          .getRemainingStocks(shardedPolicyIds)
+          .forEach(
+              (policyId, stock) ->
+                  stocks.put(StockReservationTracker.timedealTarget(policyId), stock));
+    }
+    return stocks;
+  }
+
+  private Map<String, Integer> readDbStocks(List<String> targets) {
+    List<Long> productIds = targets.stream().filter(t -> !isTimedeal(t)).map(this::id).toList();
+    List<Long> policyIds = targets.stream().filter(this::isTimedeal).map(this::id).toList();
+
+    Map<String, Integer> stocks = new HashMap<>();
+    if (!productIds.isEmpty()) {
+      for (Product product : productRepository.findAllById(productIds)) {
+        stocks.put(StockReservationTracker.productTarget(product.getId()), product.getStock());
+      }
+    }
+    if (!policyIds.isEmpty()) {
+      for (TimedealPolicy policy : timedealPolicyRepository.findAllById(policyIds)) {
+        if (policy.isDeleted()) continue;
+        stocks.put(StockReservationTracker.timedealTarget(policy.getId()), policy.getStock());
+      }
+    }
+    return stocks;
+  }
+
+  /** Redis 재고를 기대 재고에 맞춘다 (INCRBY 이므로 동시 선점과 충돌하지 않음) */
+  private boolean correct(String target, long drift) {
+    try {
+      Long id = id(target);
+      if (!isTimedeal(target)) {
+        stringRedisTemplate.opsForValue().increment(ProductCacheKeys.productStock(id), -drift);
+      } else if (timedealStockShardService.isEnabled()) {
+        timedealStockShardService.increaseStock(id, (int) -drift);
+      } else {
+        stringRedisTemplate.opsForValue().increment(ProductCacheKeys.timedealStock(id), -drift);
+      }
+      meterRegistry.counter("store.stock.reconcile.corrected", "type", type(target)).increment();
+      return true;
+    } catch (Exception e) {
+      log.error("[재고 대사] 보정 실패 - target={}, drift={}, {}", target, drift, e.getMessage(), e);
+      return false;
+    }
+  }
+
+  private boolean isTimedeal(String target) {
+    return target.startsWith("timedeal:");
+  }
+
+  private String type(String target) {
+    return isTimedeal(target) ? "timedeal" : "product";
+  }
+
+  private Long id(String target) {
+    return Long.valueOf(target.substring(target.indexOf(':') + 1));
+  }
+}
@@ -0,0 +1,221 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.OrderCacheKeys;
+import ktb.leafresh.backend.domain.store.order.presentation.dto.response.TimedealQueueResponseDto;
+import ktb.leafresh.backend.global.config.TimedealWaitingRoomProperties;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import ktb.leafresh.backend.global.util.redis.WaitingRoomRedisLuaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타임딜 주문 대기열(입장 제어).
+ *
+ * <p>오픈 직후 몰린 요청을 분산 락 대기로 받지 않고 Redis 대기열 순번으로 줄 세운 뒤, 주문 Consumer 가 실제로 확정한 처리량만큼만 입장시킨다. 입장한
+ * 회원만 주문 경로에 들어가므로 과부하는 락 타임아웃 대신 대기 시간으로 나타난다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimedealAdmissionService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final WaitingRoomRedisLuaService waitingRoomRedisLuaService;
+  private final TimedealWaitingRoomProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicLong lastAdmitsPerSecond = new AtomicLong();
+
+  @PostConstruct
+  void registerMetrics() {
+    meterRegistry.gauge("store.timedeal.waiting-room.admit-rate", lastAdmitsPerSecond);
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /** 대기열 입장, 이미 대기 중이면 기존 순번과 현재 순서를 돌려준다 */
+  public TimedealQueueResponseDto enter(Long memberId, Long dealId) {
+    List<Long> result =
+        waitingRoomRedisLuaService.enter(
+            OrderCacheKeys.timedealWaiting(dealId),
+            OrderCacheKeys.timedealWaitingSequence(dealId),
+            OrderCacheKeys.timedealAdmitted(dealId),
+            memberId,
+            properties.getQueueTtlSeconds());
+    if (result.get(0) == WaitingRoomRedisLuaService.ADMITTED) {
+      return TimedealQueueResponseDto.admitted();
+    }
+
+    stringRedisTemplate.opsForSet().add(OrderCacheKeys.TIMEDEAL_WAITING_DEALS, dealId.toString());
+    return waiting(
+        result.get(1),
+        result.get(2),
+        stringRedisTemplate.opsForValue().get(OrderCacheKeys.TIMEDEAL_ADMIT_RATE));
+  }
+
+  /** 대기 상태 조회 (입장 여부, 순번, 순서, 입장 속도를 한 번의 파이프라인으로 읽는다) */
+  public TimedealQueueResponseDto getStatus(Long memberId, Long dealId) {
+    String member = memberId.toString();
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection conn = (StringRedisConnection) connection;
+                  conn.zScore(OrderCacheKeys.timedealAdmitted(dealId), member);
+                  conn.zScore(OrderCacheKeys.timedealWaiting(dealId), member);
+                  conn.zRank(OrderCacheKeys.timedealWaiting(dealId), member);
+                  conn.get(OrderCacheKeys.TIMEDEAL_ADMIT_RATE);
+                  return null;
+                });
+
+    if (isValid((Double) results.get(0))) {
+      return TimedealQueueResponseDto.admitted();
+    }
+    Double ticket = (Double) results.get(1);
+    Long rank = (Long) results.get(2);
+    if (ticket == null || rank == null) {
+      return TimedealQueueResponseDto.notInQueue();
+    }
+
+    // 대기열이 비어 입장 대상에서 빠진 직후 들어온 회원도 다시 입장 대상이 되도록 보장
+    stringRedisTemplate.opsForSet().add(OrderCacheKeys.TIMEDEAL_WAITING_DEALS, dealId.toString());
+    return waiting(ticket.longValue(), rank + 1, (String) results.get(3));
+  }
+
+  /** 입장하지 않은 회원의 주문은 락/DB 에 닿기 전에 거절 */
+  public void checkAdmitted(Long memberId, Long dealId) {
+    Double admittedUntil =
+        stringRedisTemplate
+            .opsForZSet()
+            .score(OrderCacheKeys.timedealAdmitted(dealId), memberId.toString());
+    if (!isValid(admittedUntil)) {
+      meterRegistry.counter("store.timedeal.waiting-room.rejected").increment();
+      throw new CustomException(PurchaseErrorCode.WAITING_ROOM_NOT_ADMITTED);
+    }
+  }
+
+  /** 주문 접수 후 입장 자리 반납 (다음 입장 인원 확보) */
+  public void consume(Long memberId, Long dealId) {
+    try {
+      stringRedisTemplate
+          .opsForZSet()
+          .remove(OrderCacheKeys.timedealAdmitted(dealId), memberId.toString());
+    } catch (Exception e) {
+      log.warn("[대기열 입장 반납 실패] memberId={}, dealId={}, {}", memberId, dealId, e.getMessage());
+    }
+  }
+
+  /** 주문 확정 건수를 초 단위 버킷에 기록 (입장 속도 산정용) */
+  public void recordFinalized(int count) {
+    if (!properties.isEnabled() || count <= 0) return;
+    String key = OrderCacheKeys.purchaseThroughput(System.currentTimeMillis() / 1000);
+    stringRedisTemplate.opsForValue().increment(key, count);
+    stringRedisTemplate.expire(
+        key, Duration.ofSeconds(properties.getThroughputWindowSeconds() * 2L + 1));
+  }
+
+  /**
+   * 대기 중인 딜마다 대기 순서대로 입장시킨다. 이번 주기의 입장 인원은 최근 측정 처리량(초당 확정 건수 × 여유 배율)을 딜 수로 나눈 값이며, 딜별 동시 입장
+   * 인원 한도를 넘지 않는다.
+   *
+   * @return 이번 주기에 입장시킨 인원
+   */
+  public int admit() {
+    Set<String> deals =
+        stringRedisTemplate.opsForSet().members(OrderCacheKeys.TIMEDEAL_WAITING_DEALS);
+    if (deals == null || deals.isEmpty()) return 0;
+
+    double perDealRate = measureAdmitsPerSecond() / deals.size();
+    int perTick =
+        Math.max(1, (int) Math.ceil(perDealRate * properties.getAdmitIntervalMillis() / 1000.0));
+    long admittedUntil = System.currentTimeMillis() + properties.getAdmissionTtlSeconds() * 1000;
+    stringRedisTemplate
+        .opsForValue()
+        .set(
+            OrderCacheKeys.TIMEDEAL_ADMIT_RATE,
+            String.valueOf(perDealRate),
+            Duration.ofSeconds(properties.getQueueTtlSeconds()));
+
+    int total = 0;
+    for (String deal : deals) {
+      Long dealId = Long.valueOf(deal);
+      List<Long> result =
+          waitingRoomRedisLuaService.admit(
+              OrderCacheKeys.timedealWaiting(dealId),
+              OrderCacheKeys.timedealAdmitted(dealId),
+              perTick,
+              admittedUntil,
+              properties.getMaxActivePerDeal(),
+              properties.getQueueTtlSeconds());
+      total += result.get(0).intValue();
+      if (result.get(1) == 0 && result.get(2) == 0) {
+        stringRedisTemplate.opsForSet().remove(OrderCacheKeys.TIMEDEAL_WAITING_DEALS, deal);
+      }
+      log.debug(
+          "[대기열 입장] dealId={}, admitted={}, waiting={}, active={}",
+          dealId,
+          result.get(0),
+          result.get(1),
+          result.get(2));
+    }
+
+    if (total > 0) {
+      meterRegistry.counter("store.timedeal.waiting-room.admitted").increment(total);
+    }
+    return total;
+  }
+
+  /** 최근 구간(현재 진행 중인 초 제외)의 초당 확정 건수 × 여유 배율, 최소/최대 범위로 제한 */
+  double measureAdmitsPerSecond() {
+    long nowSecond = System.currentTimeMillis() / 1000;
+    int window = properties.getThroughputWindowSeconds();
+    List<String> keys = new ArrayList<>(window);
+    for (int i = 1; i <= window; i++) {
+      keys.add(OrderCacheKeys.purchaseThroughput(nowSecond - i));
+    }
+
+    long finalized = 0;
+    List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+    if (values != null) {
+      for (String value : values) {
+        if (value != null) finalized += Long.parseLong(value);
+      }
+    }
+
+    double rate = (double) finalized / window * properties.getHeadroom();
+    rate = Math.max(properties.getMinAdmitsPerSecond(), rate);
+    rate = Math.min(properties.getMaxAdmitsPerSecond(), rate);
+    lastAdmitsPerSecond.set(Math.round(rate));
+    return rate;
+  }
+
+  private TimedealQueueResponseDto waiting(long ticket, long position, String perDealRate) {
+    double rate =
+        perDealRate != null ? Double.parseDouble(perDealRate) : properties.getMinAdmitsPerSecond();
+    return TimedealQueueResponseDto.builder()
+        .status(TimedealQueueResponseDto.QueueStatus.WAITING)
+        .ticket(ticket)
+        .position(position)
+        .estimatedWaitSeconds((long) Math.ceil(position / Math.max(rate, 1.0)))
+        .build();
+  }
+
+  private boolean isValid(Double admittedUntil) {
+    return admittedUntil != null && admittedUntil > System.currentTimeMillis();
+  }
+}
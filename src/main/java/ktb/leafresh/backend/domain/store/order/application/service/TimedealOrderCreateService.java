@@ -1,21 +1,19 @@
 package ktb.leafresh.backend.domain.store.order.application.service;
 
-import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
-import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseIdempotencyKey;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
-import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
 import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
 import ktb.leafresh.backend.global.exception.*;
 import ktb.leafresh.backend.global.lock.annotation.DistributedLock;
 import ktb.leafresh.backend.global.util.redis.StockRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,28 +26,38 @@ public class TimedealOrderCreateService {
 
   private final MemberRepository memberRepository;
   private final TimedealPolicyRepository timedealPolicyRepository;
-  private final PurchaseIdempotencyKeyRepository idempotencyRepository;
+  private final PurchaseIdempotencyService purchaseIdempotencyService;
   private final StockRedisLuaService stockRedisLuaService;
+  private final TimedealStockShardService timedealStockShardService;
   private final PurchaseMessagePublisher purchaseMessagePublisher;
   private final ProductCacheLockFacade productCacheLockFacade;
   private final PointService pointService;
+  private final StockReservationTracker stockReservationTracker;
 
   @DistributedLock(key = "'timedeal:stock:' + #dealId", waitTime = 3, leaseTime = 3)
   @Transactional
   public void create(Long memberId, Long dealId, int quantity, String idempotencyKey) {
     // 1. 사용자 조회
-    Member member =
-        memberRepository
-            .findById(memberId)
-            .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+    memberRepository
+        .findById(memberId)
+        .orElseThrow(() -> new CustomException(MemberErrorCode.MEMBER_NOT_FOUND));
+
+    // 2. Idempotency 키 선점 (Redis, 이미 완료된 요청이면 원래 응답 재생)
+    if (!purchaseIdempotencyService.tryAcquire(memberId, idempotencyKey)) {
+      purchaseIdempotencyService.replayOrThrow(memberId, idempotencyKey);
+      return;
+    }
 
-    // 2. Idempotency 키 저장
     try {
-      idempotencyRepository.save(new PurchaseIdempotencyKey(member, idempotencyKey));
-    } catch (DataIntegrityViolationException e) {
-      throw new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST);
+      placeOrder(memberId, dealId, quantity, idempotencyKey);
+    } catch (RuntimeException e) {
+      purchaseIdempotencyService.release(memberId, idempotencyKey);
+      throw e;
     }
+    purchaseIdempotencyService.markAccepted(memberId, idempotencyKey);
+  }
 
+  private void placeOrder(Long memberId, Long dealId, int quantity, String idempotencyKey) {
     // 3. 타임딜 정책 조회
     TimedealPolicy policy =
         timedealPolicyRepository
@@ -69,9 +77,14 @@ public class TimedealOrderCreateService {
       throw new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS);
     }
 
-    // 6. 재고 선점 (Redis Lua)
-    String redisKey = ProductCacheKeys.timedealStock(dealId);
-    Long result = stockRedisLuaService.decreaseStock(redisKey, quantity);
+    // 6. 재고 선점 (Redis Lua, 샤딩 모드면 샤드 카운터)
+    Long result;
+    if (timedealStockShardService.isEnabled()) {
+      result = timedealStockShardService.decreaseStock(dealId, quantity);
+    } else {
+      String redisKey = ProductCacheKeys.timedealStock(dealId);
+      result = stockRedisLuaService.decreaseStock(redisKey, quantity);
+    }
 
     if (result == -1) throw new CustomException(ProductErrorCode.PRODUCT_NOT_FOUND);
     if (result == -2) throw new CustomException(ProductErrorCode.OUT_OF_STOCK);
@@ -79,14 +92,21 @@ public class TimedealOrderCreateService {
     productCacheLockFacade.updateSingleTimedealCache(policy);
 
     // 6. MQ 발행
-    purchaseMessagePublisher.publish(
+    PurchaseCommand command =
         new PurchaseCommand(
             memberId,
             policy.getProduct().getId(), // 실제 상품 ID
             policy.getId(),
             quantity,
             idempotencyKey,
-            now));
+            now);
+    stockReservationTracker.track(command);
+    try {
+      purchaseMessagePublisher.publish(command);
+    } catch (RuntimeException e) {
+      stockReservationTracker.untrack(command);
+      throw e;
+    }
 
     log.info(
         "[타임딜 주문 큐 발행 완료] memberId={}, policyId={}, productId={}, quantity={}",
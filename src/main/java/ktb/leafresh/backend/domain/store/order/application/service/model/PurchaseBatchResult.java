@@ -0,0 +1,15 @@
+package ktb.leafresh.backend.domain.store.order.application.service.model;
+
+import java.util.Set;
+
+/** 배치 처리 결과. 실패한 명령의 (입력 목록 기준) 인덱스만 보관한다 */
+public record PurchaseBatchResult(int size, Set<Integer> failedIndexes) {
+
+  public boolean isSucceeded(int index) {
+    return !failedIndexes.contains(index);
+  }
+
+  public int succeededCount() {
+    return size - failedIndexes.size();
+  }
+}
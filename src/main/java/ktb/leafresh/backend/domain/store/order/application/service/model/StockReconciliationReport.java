@@ -0,0 +1,26 @@
+package ktb.leafresh.backend.domain.store.order.application.service.model;
+
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PendingStockReservation;
+
+import java.util.List;
+
+/** 한 번의 대사 결과 */
+public record StockReconciliationReport(
+    int checked, List<StockDrift> drifts, List<PendingStockReservation> stuckReservations) {
+
+  public static StockReconciliationReport empty() {
+    return new StockReconciliationReport(0, List.of(), List.of());
+  }
+
+  /**
+   * 기대 재고(DB 확정 재고 - 미확정 선점 수량)와 Redis 재고의 차이. drift 가 양수면 Redis 가 더 많이 팔 수 있는 상태(초과 판매 위험), 음수면
+   * 팔 수 있는 재고가 묶여 있는 상태.
+   */
+  public record StockDrift(
+      String target,
+      long redisStock,
+      long dbStock,
+      long pendingQuantity,
+      long drift,
+      boolean corrected) {}
+}
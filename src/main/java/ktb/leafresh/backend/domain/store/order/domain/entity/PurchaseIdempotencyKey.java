@@ -12,7 +12,10 @@ import lombok.*;
         @UniqueConstraint(
             name = "uk_member_id_key",
             columnNames = {"member_id", "idempotency_key"}),
-    indexes = @Index(name = "idx_purchase_idempotency_key_deleted", columnList = "deleted_at"))
+    indexes = {
+      @Index(name = "idx_purchase_idempotency_key_deleted", columnList = "deleted_at"),
+      @Index(name = "idx_purchase_idempotency_key_created", columnList = "created_at")
+    })
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
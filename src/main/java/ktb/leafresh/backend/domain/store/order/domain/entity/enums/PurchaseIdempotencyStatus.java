@@ -0,0 +1,6 @@
+package ktb.leafresh.backend.domain.store.order.domain.entity.enums;
+
+public enum PurchaseIdempotencyStatus {
+  PROCESSING,
+  ACCEPTED
+}
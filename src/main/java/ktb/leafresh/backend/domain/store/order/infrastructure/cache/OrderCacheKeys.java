@@ -0,0 +1,36 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.cache;
+
+public class OrderCacheKeys {
+
+  public static final String STOCK_RECONCILE_DIRTY = "stock:reconcile:dirty";
+  public static final String TIMEDEAL_WAITING_DEALS = "timedeal:waiting:deals";
+  public static final String TIMEDEAL_ADMIT_RATE = "timedeal:waiting:rate";
+
+  public static String purchaseIdempotency(Long memberId, String idempotencyKey) {
+    return "purchase:idempotency:" + memberId + ":" + idempotencyKey;
+  }
+
+  /** 대사 대상별 미확정 선점 ZSET (target = product:{id} | timedeal:{policyId}) */
+  public static String pendingReservations(String target) {
+    return "stock:reservation:pending:" + target;
+  }
+
+  /** 타임딜 대기 ZSET (딜별 키는 같은 해시 슬롯에 묶는다) */
+  public static String timedealWaiting(Long dealId) {
+    return "timedeal:waiting:{" + dealId + "}";
+  }
+
+  public static String timedealWaitingSequence(Long dealId) {
+    return "timedeal:waiting:{" + dealId + "}:seq";
+  }
+
+  /** 입장 허용 ZSET (score = 입장 만료 시각) */
+  public static String timedealAdmitted(Long dealId) {
+    return "timedeal:admitted:{" + dealId + "}";
+  }
+
+  /** 초 단위 주문 확정 건수 버킷 */
+  public static String purchaseThroughput(long epochSecond) {
+    return "purchase:throughput:" + epochSecond;
+  }
+}
@@ -0,0 +1,138 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PendingStockReservation;
+import ktb.leafresh.backend.global.config.StockReconciliationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 재고 선점 추적.
+ *
+ * <p>큐에 발행한 선점은 대상별 ZSET(점수 = 선점 시각)에 기록하고, DB 확정 또는 DLQ 이동 시 제거한다. 선점/확정/취소가 일어난 대상은 dirty 집합에
+ * 넣어 두고, 대사 작업은 전체 상품이 아니라 이 집합에서 꺼낸 대상만 검사한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationTracker {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StockReconciliationProperties properties;
+
+  public static String productTarget(Long productId) {
+    return "product:" + productId;
+  }
+
+  public static String timedealTarget(Long policyId) {
+    return "timedeal:" + policyId;
+  }
+
+  public static String target(PurchaseCommand cmd) {
+    return cmd.timedealPolicyId() != null
+        ? timedealTarget(cmd.timedealPolicyId())
+        : productTarget(cmd.productId());
+  }
+
+  /** 발행 직전 선점 기록. 실패하면 예외를 그대로 던져 주문이 선점을 되돌리게 한다 */
+  public void track(PurchaseCommand cmd) {
+    String target = target(cmd);
+    String key = OrderCacheKeys.pendingReservations(target);
+    Duration ttl = Duration.ofSeconds(properties.getPendingTtlSeconds());
+    pipelined(
+        ops -> {
+          ops.opsForZSet().add(key, member(cmd), System.currentTimeMillis());
+          ops.expire(key, ttl);
+          ops.opsForSet().add(OrderCacheKeys.STOCK_RECONCILE_DIRTY, target);
+        });
+  }
+
+  /** 발행 실패, DLQ 이동 등으로 확정되지 않을 선점 제거 */
+  public void untrack(PurchaseCommand cmd) {
+    complete(List.of(cmd));
+  }
+
+  /** DB 확정이 끝난 선점 제거 (실패해도 대사에서 stuck 으로 드러나므로 로그만 남긴다) */
+  public void complete(List<PurchaseCommand> commands) {
+    if (commands.isEmpty()) return;
+    try {
+      pipelined(
+          ops -> {
+            for (PurchaseCommand cmd : commands) {
+              String target = target(cmd);
+              ops.opsForZSet().remove(OrderCacheKeys.pendingReservations(target), member(cmd));
+              ops.opsForSet().add(OrderCacheKeys.STOCK_RECONCILE_DIRTY, target);
+            }
+          });
+    } catch (Exception e) {
+      log.warn("[StockReservationTracker] 선점 기록 제거 실패 - size={}, {}", commands.size(), e.getMessage());
+    }
+  }
+
+  public void markDirty(Collection<String> targets) {
+    if (targets.isEmpty()) return;
+    stringRedisTemplate
+        .opsForSet()
+        .add(OrderCacheKeys.STOCK_RECONCILE_DIRTY, targets.toArray(String[]::new));
+  }
+
+  public List<String> popDirty(int count) {
+    List<String> targets =
+        stringRedisTemplate.opsForSet().pop(OrderCacheKeys.STOCK_RECONCILE_DIRTY, count);
+    return targets != null ? targets : List.of();
+  }
+
+  /** 대상별 미확정 선점 (파이프라인 한 번) */
+  @SuppressWarnings("unchecked")
+  public Map<String, List<PendingStockReservation>> findPending(List<String> targets) {
+    List<Object> results =
+        pipelined(
+            ops ->
+                targets.forEach(
+                    target ->
+                        ops.opsForZSet()
+                            .rangeWithScores(OrderCacheKeys.pendingReservations(target), 0, -1)));
+
+    Map<String, List<PendingStockReservation>> pending = new HashMap<>();
+    for (int i = 0; i < targets.size(); i++) {
+      String target = targets.get(i);
+      Object result = i < results.size() ? results.get(i) : null;
+      List<PendingStockReservation> reservations = new ArrayList<>();
+      if (result instanceof Set<?> tuples) {
+        for (TypedTuple<String> tuple : (Set<TypedTuple<String>>) tuples) {
+          reservations.add(
+              PendingStockReservation.parse(target, tuple.getValue(), tuple.getScore()));
+        }
+      }
+      pending.put(target, reservations);
+    }
+    return pending;
+  }
+
+  private static String member(PurchaseCommand cmd) {
+    return PendingStockReservation.member(cmd.memberId(), cmd.quantity(), cmd.idempotencyKey());
+  }
+
+  private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+    return stringRedisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations)
+              throws DataAccessException {
+            commands.accept((RedisOperations<String, String>) operations);
+            return null;
+          }
+        });
+  }
+}
@@ -0,0 +1,17 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.dto;
+
+/** 큐에 발행됐지만 아직 DB 에 확정되지 않은 재고 선점 */
+public record PendingStockReservation(
+    String target, Long memberId, String idempotencyKey, int quantity, long reservedAtMillis) {
+
+  /** ZSET 멤버 형식: {memberId}:{quantity}:{idempotencyKey} */
+  public static String member(Long memberId, int quantity, String idempotencyKey) {
+    return memberId + ":" + quantity + ":" + idempotencyKey;
+  }
+
+  public static PendingStockReservation parse(String target, String member, double score) {
+    String[] parts = member.split(":", 3);
+    return new PendingStockReservation(
+        target, Long.valueOf(parts[0]), parts[2], Integer.parseInt(parts[1]), (long) score);
+  }
+}
@@ -0,0 +1,6 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.dto;
+
+import java.time.LocalDateTime;
+
+public record PurchaseIdempotencyAudit(
+    Long memberId, String idempotencyKey, LocalDateTime createdAt) {}
@@ -30,11 +30,12 @@ public class AwsPurchaseMessagePublisher implements PurchaseMessagePublisher {
   public void publish(PurchaseCommand command) {
     try {
       String message = objectMapper.writeValueAsString(command);
+      // 회원 단위 메시지 그룹: 같은 회원은 순서 보장, 다른 회원은 병렬 수신
       SendMessageRequest request =
           new SendMessageRequest()
               .withQueueUrl(queueUrl)
               .withMessageBody(message)
-              .withMessageGroupId("purchase")
+              .withMessageGroupId("member-" + command.memberId())
               .withMessageDeduplicationId(generateDeduplicationId(message, command.memberId()));
 
       sqs.sendMessage(request);
@@ -0,0 +1,135 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.repository;
+
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseProcessingStatus;
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구매 확정 배치 쓰기 전용 JDBC 저장소.
+ *
+ * <p>모든 엔티티가 IDENTITY 키를 사용해 Hibernate 가 INSERT 를 배치로 묶지 못하므로, 배치 모드에서는 JDBC batchUpdate 로 직접 쓴다.
+ * 재고/포인트는 대상별로 합산한 차감량을 조건부 UPDATE 한 번으로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurchaseBatchJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public record PurchaseRow(
+      Long memberId,
+      Long productId,
+      PurchaseType type,
+      int price,
+      int quantity,
+      LocalDateTime purchasedAt) {}
+
+  public record FailureRow(
+      Long memberId, Long productId, String reason, String requestBody, LocalDateTime occurredAt) {}
+
+  /** 잔여 재고가 충분한 행만 차감, 반영되지 않은 상품 ID 목록 반환 */
+  public List<Long> decreaseProductStocks(Map<Long, Integer> deltas, LocalDateTime now) {
+    return decrease(
+        "UPDATE products SET stock = stock - ?, updated_at = ? WHERE id = ? AND stock >= ?",
+        deltas,
+        now);
+  }
+
+  public List<Long> decreaseTimedealStocks(Map<Long, Integer> deltas, LocalDateTime now) {
+    return decrease(
+        "UPDATE timedeal_policies SET stock = stock - ?, updated_at = ? WHERE id = ? AND stock >= ?",
+        deltas,
+        now);
+  }
+
+  public List<Long> decreaseMemberPoints(Map<Long, Integer> deltas, LocalDateTime now) {
+    return decrease(
+        "UPDATE members SET current_leaf_points = current_leaf_points - ?, updated_at = ?"
+            + " WHERE id = ? AND current_leaf_points >= ?",
+        deltas,
+        now);
+  }
+
+  public void insertPurchases(List<PurchaseRow> rows) {
+    if (rows.isEmpty()) return;
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO product_purchases (member_id, product_id, type, price, quantity, purchased_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?)",
+        rows,
+        rows.size(),
+        (ps, row) -> {
+          ps.setLong(1, row.memberId());
+          ps.setLong(2, row.productId());
+          ps.setString(3, row.type().name());
+          ps.setInt(4, row.price());
+          ps.setInt(5, row.quantity());
+          ps.setTimestamp(6, Timestamp.valueOf(row.purchasedAt()));
+        });
+  }
+
+  public void insertProcessingLogs(
+      List<Long> productIds, PurchaseProcessingStatus status, String message, LocalDateTime now) {
+    if (productIds.isEmpty()) return;
+    Timestamp timestamp = Timestamp.valueOf(now);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO purchase_processing_logs (product_id, status, message, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?)",
+        productIds,
+        productIds.size(),
+        (ps, productId) -> {
+          ps.setLong(1, productId);
+          ps.setString(2, status.name());
+          ps.setString(3, message);
+          ps.setTimestamp(4, timestamp);
+          ps.setTimestamp(5, timestamp);
+        });
+  }
+
+  public void insertFailureLogs(List<FailureRow> rows) {
+    if (rows.isEmpty()) return;
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO purchase_failure_logs (member_id, product_id, reason, request_body, occurred_at)"
+            + " VALUES (?, ?, ?, ?, ?)",
+        rows,
+        rows.size(),
+        (ps, row) -> {
+          ps.setLong(1, row.memberId());
+          ps.setLong(2, row.productId());
+          ps.setString(3, row.reason());
+          ps.setString(4, row.requestBody());
+          ps.setTimestamp(5, Timestamp.valueOf(row.occurredAt()));
+        });
+  }
+
+  private List<Long> decrease(String sql, Map<Long, Integer> deltas, LocalDateTime now) {
+    if (deltas.isEmpty()) return List.of();
+
+    List<Map.Entry<Long, Integer>> entries = new ArrayList<>(deltas.entrySet());
+    Timestamp timestamp = Timestamp.valueOf(now);
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            sql,
+            entries,
+            entries.size(),
+            (ps, entry) -> {
+              ps.setInt(1, entry.getValue());
+              ps.setTimestamp(2, timestamp);
+              ps.setLong(3, entry.getKey());
+              ps.setInt(4, entry.getValue());
+            });
+
+    List<Long> notApplied = new ArrayList<>();
+    for (int i = 0; i < entries.size(); i++) {
+      if (counts[0][i] == 0) notApplied.add(entries.get(i).getKey());
+    }
+    return notApplied;
+  }
+}
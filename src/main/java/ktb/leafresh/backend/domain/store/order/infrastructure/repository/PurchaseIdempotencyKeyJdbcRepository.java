@@ -0,0 +1,57 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.repository;
+
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PurchaseIdempotencyAudit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/** 멱등성 키 감사 테이블 전용 JDBC 저장소 (IDENTITY 키라 JPA saveAll 로는 배치 INSERT 가 되지 않음) */
+@Repository
+@RequiredArgsConstructor
+public class PurchaseIdempotencyKeyJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 다중 VALUES 한 문장으로 INSERT, 이미 있는 (member_id, idempotency_key)는 무시 */
+  public int insertIgnore(List<PurchaseIdempotencyAudit> audits) {
+    if (audits.isEmpty()) return 0;
+
+    String sql =
+        "INSERT IGNORE INTO purchase_idempotency_keys"
+            + " (member_id, idempotency_key, created_at, updated_at) VALUES "
+            + String.join(",", Collections.nCopies(audits.size(), "(?, ?, ?, ?)"));
+
+    List<Object> params = new ArrayList<>(audits.size() * 4);
+    for (PurchaseIdempotencyAudit audit : audits) {
+      Timestamp createdAt = Timestamp.valueOf(audit.createdAt());
+      params.add(audit.memberId());
+      params.add(audit.idempotencyKey());
+      params.add(createdAt);
+      params.add(createdAt);
+    }
+    return jdbcTemplate.update(sql, params.toArray());
+  }
+
+  public Optional<LocalDateTime> findOldestCreatedAt() {
+    Timestamp oldest =
+        jdbcTemplate.queryForObject(
+            "SELECT MIN(created_at) FROM purchase_idempotency_keys", Timestamp.class);
+    return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+  }
+
+  /** [from, to) 구간을 최대 limit 건 삭제 (created_at 인덱스 범위 삭제) */
+  public int deleteCreatedBetween(LocalDateTime from, LocalDateTime to, int limit) {
+    return jdbcTemplate.update(
+        "DELETE FROM purchase_idempotency_keys WHERE created_at >= ? AND created_at < ? LIMIT ?",
+        Timestamp.valueOf(from),
+        Timestamp.valueOf(to),
+        limit);
+  }
+}
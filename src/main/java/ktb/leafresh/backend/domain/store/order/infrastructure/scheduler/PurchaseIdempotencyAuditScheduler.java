@@ -0,0 +1,97 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PurchaseIdempotencyAudit;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 멱등성 키 감사 기록.
+ *
+ * <p>중복 판단은 Redis 가 담당하므로 DB 기록은 요청 경로에서 분리한다. 처리 완료된 키를 인스턴스 메모리에 모았다가 주기적으로 다중 VALUES INSERT 로
+ * 저장하고, 보관 기간이 지난 행은 하루 단위 구간으로 나누어 조금씩 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseIdempotencyAuditScheduler {
+
+  private static final int INSERT_CHUNK_SIZE = 500;
+  private static final int PURGE_CHUNK_SIZE = 1_000;
+
+  private final PurchaseIdempotencyKeyJdbcRepository jdbcRepository;
+
+  private final ConcurrentLinkedQueue<PurchaseIdempotencyAudit> pending =
+      new ConcurrentLinkedQueue<>();
+
+  @Value("${store.order.idempotency.audit-retention-days:30}")
+  private int retentionDays;
+
+  public void enqueue(PurchaseIdempotencyAudit audit) {
+    pending.add(audit);
+  }
+
+  /** 인스턴스별 버퍼이므로 분산 락 없이 각자 flush */
+  @Scheduled(fixedDelayString = "${store.order.idempotency.audit-flush-interval-millis:1000}")
+  public synchronized void flush() {
+    while (!pending.isEmpty()) {
+      List<PurchaseIdempotencyAudit> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+      PurchaseIdempotencyAudit audit;
+      while (chunk.size() < INSERT_CHUNK_SIZE && (audit = pending.poll()) != null) {
+        chunk.add(audit);
+      }
+
+      try {
+        int inserted = jdbcRepository.insertIgnore(chunk);
+        log.debug("[멱등성 감사 기록] 요청={}건, 저장={}건", chunk.size(), inserted);
+      } catch (Exception e) {
+        // 감사 전용 기록이므로 재시도하지 않고 버린다 (중복 판단은 Redis TTL 기준)
+        log.error("[멱등성 감사 기록 실패] 유실={}건, message={}", chunk.size(), e.getMessage(), e);
+      }
+    }
+  }
+
+  /** 매일 새벽 보관 기간이 지난 감사 기록을 하루 구간씩 삭제 */
+  @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+  @SchedulerLock(
+      name = "PurchaseIdempotencyAuditScheduler_purge",
+      lockAtLeastFor = "1m",
+      lockAtMostFor = "30m")
+  public void purgeExpired() {
+    LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+    LocalDateTime oldest = jdbcRepository.findOldestCreatedAt().orElse(null);
+    if (oldest == null || !oldest.isBefore(cutoff)) {
+      log.debug("[멱등성 감사 기록 정리] 삭제 대상 없음");
+      return;
+    }
+
+    long total = 0;
+    for (LocalDateTime from = oldest.toLocalDate().atStartOfDay();
+        from.isBefore(cutoff);
+        from = from.plusDays(1)) {
+      LocalDateTime to = from.plusDays(1).isAfter(cutoff) ? cutoff : from.plusDays(1);
+      int deleted;
+      do {
+        deleted = jdbcRepository.deleteCreatedBetween(from, to, PURGE_CHUNK_SIZE);
+        total += deleted;
+      } while (deleted == PURGE_CHUNK_SIZE);
+    }
+    log.info("[멱등성 감사 기록 정리] cutoff={}, 삭제={}건", cutoff, total);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -0,0 +1,30 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.store.order.application.service.StockReconciliationService;
+import ktb.leafresh.backend.global.config.StockReconciliationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** dirty 집합에 쌓인 대상만 주기적으로 대사 (인스턴스 하나에서만 실행) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReconciliationScheduler {
+
+  private final StockReconciliationService stockReconciliationService;
+  private final StockReconciliationProperties properties;
+
+  @Scheduled(fixedDelayString = "${store.stock.reconcile.interval-millis:10000}")
+  @SchedulerLock(name = "StockReconciliationScheduler", lockAtLeastFor = "1s", lockAtMostFor = "1m")
+  public void reconcile() {
+    if (!properties.isEnabled()) return;
+    try {
+      stockReconciliationService.reconcile();
+    } catch (Exception e) {
+      log.error("[재고 대사 실패] {}", e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.store.order.application.service.TimedealAdmissionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 타임딜 대기열 입장 처리 (인스턴스 하나에서만 실행해 입장 속도가 인스턴스 수만큼 불어나지 않게 한다) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimedealAdmissionScheduler {
+
+  private final TimedealAdmissionService timedealAdmissionService;
+
+  @Scheduled(fixedDelayString = "${store.timedeal.waiting-room.admit-interval-millis:1000}")
+  @SchedulerLock(
+      name = "TimedealAdmissionScheduler",
+      lockAtLeastFor = "500ms",
+      lockAtMostFor = "30s")
+  public void admit() {
+    if (!timedealAdmissionService.isEnabled()) return;
+    try {
+      timedealAdmissionService.admit();
+    } catch (Exception e) {
+      log.error("[대기열 입장 처리 실패] {}", e.getMessage(), e);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseFailureLog;
 import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseProcessingLog;
 import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseProcessingStatus;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseFailureLogRepository;
 import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseProcessingLogRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
@@ -34,6 +35,7 @@ public class AwsPurchaseDlqMessageSubscriber {
   private final ObjectMapper objectMapper;
   private final PurchaseFailureLogRepository failureLogRepo;
   private final PurchaseProcessingLogRepository processingLogRepo;
+  private final StockReservationTracker stockReservationTracker;
 
   @Value("${aws.sqs.order-dlq-queue-url}")
   private String dlqUrl;
@@ -64,6 +66,9 @@ public class AwsPurchaseDlqMessageSubscriber {
         try {
           PurchaseCommand cmd = objectMapper.readValue(body, PurchaseCommand.class);
 
+          // 더 이상 확정되지 않으므로 선점 추적에서 제외 (남은 차이는 재고 대사에서 처리)
+          stockReservationTracker.untrack(cmd);
+
           failureLogRepo.save(
               PurchaseFailureLog.builder()
                   .member(Member.builder().id(cmd.memberId()).build())
@@ -1,74 +1,319 @@
 package ktb.leafresh.backend.domain.store.order.infrastructure.subscriber;
 
 import com.amazonaws.services.sqs.AmazonSQSAsync;
-import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.Message;
 import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.application.service.ProductPurchaseProcessingService;
-import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.domain.store.order.application.service.PurchaseBatchProcessingService;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import ktb.leafresh.backend.global.config.PurchaseConsumerProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
 
+/**
+ * SQS 주문 메시지 Consumer.
+ *
+ * <p>폴러 스레드는 수신만 담당하고 처리는 {@link PurchaseWorkerPool}(회원 단위 순서 보장)에 위임한다. 처리 중인 메시지는 주기적으로 가시성
+ * 타임아웃을 연장하고, 처리 완료된 메시지는 모아서 DeleteMessageBatch로 삭제한다. 실패한 메시지는 삭제하지 않으므로 가시성 타임아웃 이후 재수신되어
+ * 재시도된다. 한 번에 수신한 메시지 중 같은 회원의 메시지는 앞 메시지가 실패하면 처리하지 않고 함께 재수신을 기다린다 (뒤 주문이 먼저 확정되지 않도록).
+ */
 @Component
 @Profile("eks")
 @RequiredArgsConstructor
 @Slf4j
 public class AwsPurchaseMessageSubscriber {
 
+  private static final int SQS_BATCH_LIMIT = 10;
+
   private final AmazonSQSAsync sqs;
   private final ObjectMapper objectMapper;
   private final ProductPurchaseProcessingService processingService;
+  private final PurchaseBatchProcessingService batchProcessingService;
+  private final PurchaseWorkerPool workerPool;
+  private final PurchaseConsumerProperties properties;
 
   @Value("${aws.sqs.order-request-queue-url}")
   private String queueUrl;
 
-  private static final int WAIT_TIME = 20;
-  private static final int MAX_MESSAGES = 5;
+  private final Map<String, String> inFlightReceipts = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<DeleteMessageBatchRequestEntry> pendingAcks =
+      new ConcurrentLinkedQueue<>();
+
+  private Semaphore inFlightPermits;
+  private ExecutorService pollers;
+  private ScheduledExecutorService maintenanceScheduler;
+  private volatile boolean running;
 
   @PostConstruct
   public void startPolling() {
-    Executors.newSingleThreadScheduledExecutor()
-        .scheduleWithFixedDelay(this::pollMessages, 0, 5, TimeUnit.SECONDS);
-    log.info("[SQS 주문 Subscriber 시작] queueUrl={}", queueUrl);
+    if (properties.getMaxInFlight() < 1) {
+      throw new IllegalStateException("store.order.consumer.max-in-flight 는 1 이상이어야 합니다.");
+    }
+    if (properties.getReceiveBatchSize() > properties.getMaxInFlight()) {
+      log.warn(
+          "[SQS 주문 Subscriber] receiveBatchSize({}) 가 maxInFlight({}) 보다 커서 {}건씩 수신",
+          properties.getReceiveBatchSize(),
+          properties.getMaxInFlight(),
+          receiveBatchSize(properties));
+    }
+    running = true;
+    inFlightPermits = new Semaphore(properties.getMaxInFlight());
+
+    pollers = Executors.newFixedThreadPool(properties.getPollerThreads());
+    for (int i = 0; i < properties.getPollerThreads(); i++) {
+      pollers.submit(this::pollLoop);
+    }
+
+    maintenanceScheduler = Executors.newSingleThreadScheduledExecutor();
+    maintenanceScheduler.scheduleWithFixedDelay(
+        this::extendVisibility,
+        properties.getVisibilityExtendIntervalSeconds(),
+        properties.getVisibilityExtendIntervalSeconds(),
+        TimeUnit.SECONDS);
+    maintenanceScheduler.scheduleWithFixedDelay(
+        this::flushAcks,
+        properties.getAckFlushIntervalMillis(),
+        properties.getAckFlushIntervalMillis(),
+        TimeUnit.MILLISECONDS);
+
+    log.info(
+        "[SQS 주문 Subscriber 시작] queueUrl={}, pollers={}, workers={}, maxInFlight={}",
+        queueUrl,
+        properties.getPollerThreads(),
+        properties.getWorkerThreads(),
+        properties.getMaxInFlight());
+  }
+
+  /** 한 번에 수신할 메시지 수 (동시 처리 한도보다 크면 허가를 끝내 얻지 못하므로 그 안으로 제한) */
+  static int receiveBatchSize(PurchaseConsumerProperties properties) {
+    return Math.min(
+        Math.min(properties.getReceiveBatchSize(), SQS_BATCH_LIMIT), properties.getMaxInFlight());
   }
 
-  private void pollMessages() {
+  private void pollLoop() {
+    int batchSize = receiveBatchSize(properties);
+    while (running) {
+      try {
+        inFlightPermits.acquire(batchSize);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+
+      List<Message> messages = List.of();
+      try {
+        messages = sqs.receiveMessage(
+                new ReceiveMessageRequest(queueUrl)
+                    .withMaxNumberOfMessages(batchSize)
+                    .withWaitTimeSeconds(properties.getWaitTimeSeconds())
+                    .withVisibilityTimeout(properties.getVisibilityTimeoutSeconds()))
+            .getMessages();
+      } catch (Exception e) {
+        log.error("[SQS Polling 실패] {}", e.getMessage(), e);
+      } finally {
+        inFlightPermits.release(batchSize - messages.size());
+      }
+
+      handle(messages);
+    }
+  }
+
+  /** 수신한 메시지를 워커 레인에 배정 (수신 1건당 허가 1개를 이미 잡은 상태) */
+  void handle(List<Message> messages) {
+    if (properties.isBatchFinalizationEnabled() && messages.size() > 1) {
+      dispatchBatch(messages);
+      return;
+    }
+    // 이번 수신에서 처리에 실패한 회원 (같은 레인에서 순서대로 실행되므로 뒤 메시지는 실패를 본 뒤 실행된다)
+    Set<Long> failedMembers = ConcurrentHashMap.newKeySet();
+    for (Message message : messages) {
+      dispatch(message, failedMembers);
+    }
+  }
+
+  private void dispatch(Message message, Set<Long> failedMembers) {
+    String body = message.getBody();
+    log.info("[SQS 주문 수신] messageId={}, body={}", message.getMessageId(), body);
+
+    PurchaseCommand cmd;
     try {
-      ReceiveMessageRequest req =
-          new ReceiveMessageRequest(queueUrl)
-              .withMaxNumberOfMessages(MAX_MESSAGES)
-              .withWaitTimeSeconds(WAIT_TIME);
-
-      List<com.amazonaws.services.sqs.model.Message> messages =
-          sqs.receiveMessage(req).getMessages();
-
-      for (var message : messages) {
-        String body = message.getBody();
-        log.info("[SQS 주문 수신] messageId={}, body={}", message.getMessageId(), body);
-
-        try {
-          PurchaseCommand cmd = objectMapper.readValue(body, PurchaseCommand.class);
-          processingService.process(cmd);
-          sqs.deleteMessage(new DeleteMessageRequest(queueUrl, message.getReceiptHandle()));
-        } catch (CustomException e) {
-          log.error("[처리 실패 - CustomException] {}", e.getMessage(), e);
-          // Retry: 메시지 삭제 없이 재시도
-        } catch (Exception e) {
-          log.error("[처리 실패 - Exception] {}", e.getMessage(), e);
-        }
+      cmd = objectMapper.readValue(body, PurchaseCommand.class);
+    } catch (Exception e) {
+      // 삭제하지 않으므로 재수신 후 maxReceiveCount 초과 시 DLQ로 이동
+      log.error("[처리 실패 - 파싱] messageId={}, {}", message.getMessageId(), e.getMessage(), e);
+      inFlightPermits.release();
+      return;
+    }
+
+    inFlightReceipts.put(message.getMessageId(), message.getReceiptHandle());
+    boolean[] skipped = new boolean[1];
+    workerPool
+        .submit(
+            cmd.memberId(),
+            () -> {
+              if (failedMembers.contains(cmd.memberId())) {
+                skipped[0] = true;
+                return;
+              }
+              try {
+                processingService.process(cmd);
+              } catch (RuntimeException e) {
+                failedMembers.add(cmd.memberId());
+                throw e;
+              }
+            })
+        .whenComplete(
+            (ignored, ex) -> {
+              inFlightReceipts.remove(message.getMessageId());
+              if (ex == null && !skipped[0]) {
+                pendingAcks.add(
+                    new DeleteMessageBatchRequestEntry(
+                        message.getMessageId(), message.getReceiptHandle()));
+              } else if (skipped[0]) {
+                // 앞 메시지와 함께 가시성 타임아웃 이후 재수신된다
+                log.warn(
+                    "[처리 보류] 같은 회원의 앞선 메시지 실패 - messageId={}, memberId={}",
+                    message.getMessageId(),
+                    cmd.memberId());
+              } else {
+                // Retry: 메시지 삭제 없이 가시성 타임아웃 이후 재시도
+                log.error(
+                    "[처리 실패] messageId={}, {}", message.getMessageId(), ex.getMessage(), ex);
+              }
+              inFlightPermits.release();
+            });
+  }
+
+  /**
+   * 수신 배치를 워커 레인별로 나눠 레인마다 하나의 트랜잭션으로 확정. 같은 회원의 메시지는 항상 같은 레인에 모이므로, 단건 경로로 처리 중인 같은 회원의
+   * 메시지와 겹쳐 실행되지 않고 회원 단위 순서가 유지된다.
+   */
+  private void dispatchBatch(List<Message> messages) {
+    Map<Integer, List<Message>> acceptedByLane = new LinkedHashMap<>();
+    Map<Integer, List<PurchaseCommand>> commandsByLane = new LinkedHashMap<>();
+    for (Message message : messages) {
+      PurchaseCommand cmd;
+      try {
+        cmd = objectMapper.readValue(message.getBody(), PurchaseCommand.class);
+      } catch (Exception e) {
+        log.error("[처리 실패 - 파싱] messageId={}, {}", message.getMessageId(), e.getMessage(), e);
+        inFlightPermits.release();
+        continue;
       }
+      int lane = workerPool.laneIndex(cmd.memberId());
+      acceptedByLane.computeIfAbsent(lane, k -> new ArrayList<>()).add(message);
+      commandsByLane.computeIfAbsent(lane, k -> new ArrayList<>()).add(cmd);
+      inFlightReceipts.put(message.getMessageId(), message.getReceiptHandle());
+    }
+    if (commandsByLane.isEmpty()) return;
 
+    log.info("[SQS 주문 배치 수신] size={}, lanes={}", messages.size(), commandsByLane.size());
+    commandsByLane.forEach(
+        (lane, commands) -> dispatchLaneBatch(acceptedByLane.get(lane), commands));
+  }
+
+  private void dispatchLaneBatch(List<Message> accepted, List<PurchaseCommand> commands) {
+    PurchaseBatchResult[] result = new PurchaseBatchResult[1];
+    workerPool
+        .submit(
+            commands.get(0).memberId(),
+            () -> result[0] = batchProcessingService.processBatch(commands))
+        .whenComplete(
+            (ignored, ex) -> {
+              for (int i = 0; i < accepted.size(); i++) {
+                Message message = accepted.get(i);
+                inFlightReceipts.remove(message.getMessageId());
+                if (ex == null && result[0].isSucceeded(i)) {
+                  pendingAcks.add(
+                      new DeleteMessageBatchRequestEntry(
+                          message.getMessageId(), message.getReceiptHandle()));
+                }
+              }
+              if (ex != null) {
+                log.error("[배치 처리 실패] size={}, {}", accepted.size(), ex.getMessage(), ex);
+              }
+              inFlightPermits.release(accepted.size());
+            });
+  }
+
+  /** 처리 중인 메시지의 가시성 타임아웃 연장 (ChangeMessageVisibilityBatch) */
+  private void extendVisibility() {
+    try {
+      List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>();
+      inFlightReceipts.forEach(
+          (messageId, receiptHandle) ->
+              entries.add(
+                  new ChangeMessageVisibilityBatchRequestEntry(messageId, receiptHandle)
+                      .withVisibilityTimeout(properties.getVisibilityTimeoutSeconds())));
+
+      for (int from = 0; from < entries.size(); from += SQS_BATCH_LIMIT) {
+        List<ChangeMessageVisibilityBatchRequestEntry> chunk =
+            entries.subList(from, Math.min(from + SQS_BATCH_LIMIT, entries.size()));
+        sqs.changeMessageVisibilityBatch(new ChangeMessageVisibilityBatchRequest(queueUrl, chunk));
+      }
+
+      if (!entries.isEmpty()) {
+        log.debug("[SQS 가시성 연장] 대상={}건", entries.size());
+      }
     } catch (Exception e) {
-      log.error("[SQS Polling 실패] {}", e.getMessage(), e);
+      log.error("[SQS 가시성 연장 실패] {}", e.getMessage(), e);
     }
   }
+
+  /** 처리 완료 메시지를 최대 10건씩 DeleteMessageBatch로 삭제 */
+  private synchronized void flushAcks() {
+    try {
+      while (!pendingAcks.isEmpty()) {
+        List<DeleteMessageBatchRequestEntry> chunk = new ArrayList<>(SQS_BATCH_LIMIT);
+        DeleteMessageBatchRequestEntry entry;
+        while (chunk.size() < SQS_BATCH_LIMIT && (entry = pendingAcks.poll()) != null) {
+          chunk.add(entry);
+        }
+
+        DeleteMessageBatchResult result =
+            sqs.deleteMessageBatch(new DeleteMessageBatchRequest(queueUrl, chunk));
+
+        for (BatchResultErrorEntry failed : result.getFailed()) {
+          log.warn(
+              "[SQS 배치 삭제 실패] messageId={}, code={}, message={}",
+              failed.getId(),
+              failed.getCode(),
+              failed.getMessage());
+        }
+        log.debug("[SQS 배치 삭제] 성공={}건", result.getSuccessful().size());
+      }
+    } catch (Exception e) {
+      log.error("[SQS 배치 삭제 실패] {}", e.getMessage(), e);
+    }
+  }
+
+  @PreDestroy
+  public void stopPolling() {
+    running = false;
+    pollers.shutdownNow();
+    workerPool.shutdown();
+    maintenanceScheduler.shutdown();
+    flushAcks();
+    log.info("[SQS 주문 Subscriber 종료] queueUrl={}", queueUrl);
+  }
 }
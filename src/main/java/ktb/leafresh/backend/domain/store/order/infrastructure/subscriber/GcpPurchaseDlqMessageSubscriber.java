@@ -10,6 +10,7 @@ import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseFailureLog;
 import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseProcessingLog;
 import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseProcessingStatus;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseFailureLogRepository;
 import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseProcessingLogRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
@@ -31,6 +32,7 @@ public class GcpPurchaseDlqMessageSubscriber {
   private final ObjectMapper objectMapper;
   private final PurchaseFailureLogRepository purchaseFailureLogRepository;
   private final PurchaseProcessingLogRepository purchaseProcessingLogRepository;
+  private final StockReservationTracker stockReservationTracker;
 
   @PostConstruct
   public void subscribe() {
@@ -47,6 +49,9 @@ public class GcpPurchaseDlqMessageSubscriber {
           try {
             PurchaseCommand failedCommand = objectMapper.readValue(rawData, PurchaseCommand.class);
 
+            // 더 이상 확정되지 않으므로 선점 추적에서 제외 (남은 차이는 재고 대사에서 처리)
+            stockReservationTracker.untrack(failedCommand);
+
             purchaseFailureLogRepository.save(
                 PurchaseFailureLog.builder()
                     .member(Member.builder().id(failedCommand.memberId()).build())
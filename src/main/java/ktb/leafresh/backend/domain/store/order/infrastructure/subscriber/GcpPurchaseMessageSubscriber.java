@@ -1,11 +1,13 @@
 package ktb.leafresh.backend.domain.store.order.infrastructure.subscriber;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.gax.batching.FlowControlSettings;
 import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.pubsub.v1.ProjectSubscriptionName;
 import com.google.cloud.pubsub.v1.MessageReceiver;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.application.service.ProductPurchaseProcessingService;
+import ktb.leafresh.backend.global.config.PurchaseConsumerProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -23,6 +25,8 @@ public class GcpPurchaseMessageSubscriber {
   private final Environment environment;
   private final ProductPurchaseProcessingService processingService;
   private final ObjectMapper objectMapper;
+  private final PurchaseWorkerPool workerPool;
+  private final PurchaseConsumerProperties properties;
 
   @PostConstruct
   public void subscribe() {
@@ -51,18 +55,42 @@ public class GcpPurchaseMessageSubscriber {
             return;
           }
 
+          PurchaseCommand command;
           try {
-            PurchaseCommand command = objectMapper.readValue(rawData, PurchaseCommand.class);
-            processingService.process(command);
-            consumer.ack(); // 성공적으로 처리되면 ack
+            command = objectMapper.readValue(rawData, PurchaseCommand.class);
           } catch (Exception e) {
-            log.error("[구매 메시지 처리 실패] {}", e.getMessage(), e);
+            log.error("[구매 메시지 파싱 실패] {}", e.getMessage(), e);
             consumer.nack(); // 실패 시 재시도 (DLQ 조건에 따라)
+            return;
           }
+
+          // 회원 단위 레인에서 처리, 수신 스레드는 바로 반환 (ack 연장은 클라이언트가 자동 처리)
+          workerPool
+              .submit(command.memberId(), () -> processingService.process(command))
+              .whenComplete(
+                  (ignored, ex) -> {
+                    if (ex == null) {
+                      consumer.ack(); // 성공적으로 처리되면 ack
+                    } else {
+                      log.error("[구매 메시지 처리 실패] {}", ex.getMessage(), ex);
+                      consumer.nack(); // 실패 시 재시도 (DLQ 조건에 따라)
+                    }
+                  });
         };
 
-    Subscriber subscriber = Subscriber.newBuilder(subscriptionName, receiver).build();
+    Subscriber subscriber =
+        Subscriber.newBuilder(subscriptionName, receiver)
+            .setParallelPullCount(properties.getPollerThreads())
+            .setFlowControlSettings(
+                FlowControlSettings.newBuilder()
+                    .setMaxOutstandingElementCount((long) properties.getMaxInFlight())
+                    .build())
+            .build();
     subscriber.startAsync().awaitRunning();
-    log.info("[구매 메시지 구독 시작]");
+    log.info(
+        "[구매 메시지 구독 시작] parallelPull={}, workers={}, maxOutstanding={}",
+        properties.getPollerThreads(),
+        properties.getWorkerThreads(),
+        properties.getMaxInFlight());
   }
 }
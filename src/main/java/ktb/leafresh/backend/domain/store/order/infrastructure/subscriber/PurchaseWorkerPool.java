@@ -0,0 +1,66 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.subscriber;
+
+import jakarta.annotation.PreDestroy;
+import ktb.leafresh.backend.global.config.PurchaseConsumerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 메시지 처리용 워커 풀.
+ *
+ * <p>memberId 기준으로 고정된 단일 스레드 레인에 작업을 배정하므로 같은 회원의 주문은 수신 순서대로 처리되고, 서로 다른 회원의 주문은 레인 수만큼
+ * 병렬로 처리된다.
+ */
+@Slf4j
+@Component
+public class PurchaseWorkerPool {
+
+  private final ExecutorService[] lanes;
+
+  public PurchaseWorkerPool(PurchaseConsumerProperties properties) {
+    int laneCount = Math.max(1, properties.getWorkerThreads());
+    this.lanes = new ExecutorService[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      String threadName = "purchase-worker-" + i;
+      lanes[i] =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    log.info("[PurchaseWorkerPool] 워커 레인 {}개 생성", laneCount);
+  }
+
+  public CompletableFuture<Void> submit(Long memberId, Runnable task) {
+    return CompletableFuture.runAsync(task, lanes[laneIndex(memberId)]);
+  }
+
+  int laneIndex(Long memberId) {
+    return memberId == null ? 0 : (int) Math.floorMod(memberId, (long) lanes.length);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    for (ExecutorService lane : lanes) {
+      lane.shutdown();
+    }
+    for (ExecutorService lane : lanes) {
+      try {
+        if (!lane.awaitTermination(30, TimeUnit.SECONDS)) {
+          lane.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        lane.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+    log.info("[PurchaseWorkerPool] 워커 레인 종료");
+  }
+}
@@ -4,9 +4,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import ktb.leafresh.backend.domain.store.order.application.service.ProductOrderCreateService;
-import ktb.leafresh.backend.domain.store.order.application.service.TimedealOrderCreateService;
+import ktb.leafresh.backend.domain.store.order.application.facade.OrderCreateFacade;
+import ktb.leafresh.backend.domain.store.order.application.service.TimedealAdmissionService;
 import ktb.leafresh.backend.domain.store.order.presentation.dto.request.ProductOrderCreateRequestDto;
+import ktb.leafresh.backend.domain.store.order.presentation.dto.response.TimedealQueueResponseDto;
 import ktb.leafresh.backend.global.response.ApiResponse;
 import ktb.leafresh.backend.global.security.CurrentMemberId;
 import lombok.RequiredArgsConstructor;
@@ -21,8 +22,8 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class ProductOrderController {
 
-  private final ProductOrderCreateService productOrderCreateService;
-  private final TimedealOrderCreateService timedealOrderCreateService;
+  private final OrderCreateFacade orderCreateFacade;
+  private final TimedealAdmissionService timedealAdmissionService;
 
   @PostMapping("/products/{productId}")
   @Operation(summary = "일반 상품 주문", description = "일반 상품을 주문합니다.")
@@ -32,7 +33,7 @@ public class ProductOrderController {
       @Valid @RequestBody ProductOrderCreateRequestDto request,
       @Parameter(description = "멱등성 키") @RequestHeader("Idempotency-Key") String idempotencyKey) {
 
-    productOrderCreateService.create(memberId, productId, request.quantity(), idempotencyKey);
+    orderCreateFacade.createProductOrder(memberId, productId, request.quantity(), idempotencyKey);
 
     return ResponseEntity.noContent().build();
   }
@@ -45,7 +46,27 @@ public class ProductOrderController {
       @Valid @RequestBody ProductOrderCreateRequestDto request,
       @Parameter(description = "멱등성 키") @RequestHeader("Idempotency-Key") String idempotencyKey) {
 
-    timedealOrderCreateService.create(memberId, dealId, request.quantity(), idempotencyKey);
+    orderCreateFacade.createTimedealOrder(memberId, dealId, request.quantity(), idempotencyKey);
     return ResponseEntity.noContent().build();
   }
+
+  @PostMapping("/timedeals/{dealId}/queue")
+  @Operation(summary = "타임딜 대기열 입장", description = "타임딜 주문 대기열에 입장하고 대기 순번을 발급받습니다.")
+  public ResponseEntity<ApiResponse<TimedealQueueResponseDto>> enterTimedealQueue(
+      @CurrentMemberId Long memberId,
+      @Parameter(description = "타임딜 ID") @PathVariable Long dealId) {
+
+    TimedealQueueResponseDto response = timedealAdmissionService.enter(memberId, dealId);
+    return ResponseEntity.ok(ApiResponse.success("대기열에 입장했습니다.", response));
+  }
+
+  @GetMapping("/timedeals/{dealId}/queue")
+  @Operation(summary = "타임딜 대기 상태 조회", description = "대기 순서와 입장 여부를 조회합니다.")
+  public ResponseEntity<ApiResponse<TimedealQueueResponseDto>> getTimedealQueueStatus(
+      @CurrentMemberId Long memberId,
+      @Parameter(description = "타임딜 ID") @PathVariable Long dealId) {
+
+    TimedealQueueResponseDto response = timedealAdmissionService.getStatus(memberId, dealId);
+    return ResponseEntity.ok(ApiResponse.success("대기 상태를 조회했습니다.", response));
+  }
 }
@@ -0,0 +1,41 @@
+package ktb.leafresh.backend.domain.store.order.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "타임딜 대기열 상태 응답")
+@Getter
+@Builder
+public class TimedealQueueResponseDto {
+
+  @Schema(description = "대기 상태", example = "WAITING")
+  private final QueueStatus status;
+
+  @Schema(description = "대기 순번 (입장 순서를 나타내는 번호표)", example = "1532")
+  private final Long ticket;
+
+  @Schema(description = "내 앞 대기 인원 포함 현재 순서", example = "120")
+  private final Long position;
+
+  @Schema(description = "예상 대기 시간(초)", example = "12")
+  private final Long estimatedWaitSeconds;
+
+  public enum QueueStatus {
+    WAITING,
+    ADMITTED,
+    NOT_IN_QUEUE
+  }
+
+  public static TimedealQueueResponseDto admitted() {
+    return TimedealQueueResponseDto.builder()
+        .status(QueueStatus.ADMITTED)
+        .position(0L)
+        .estimatedWaitSeconds(0L)
+        .build();
+  }
+
+  public static TimedealQueueResponseDto notInQueue() {
+    return TimedealQueueResponseDto.builder().status(QueueStatus.NOT_IN_QUEUE).build();
+  }
+}
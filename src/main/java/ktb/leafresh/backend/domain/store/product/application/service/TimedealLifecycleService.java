@@ -0,0 +1,95 @@
+package ktb.leafresh.backend.domain.store.product.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.domain.entity.enums.TimedealPhase;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 타임딜 시작/종료 시점 처리.
+ *
+ * <p>시작 전에는 재고 키, 단건 캐시, ZSet, 목록 스냅샷을 미리 채워 두고, 시작/종료 시각에는 단건 캐시의 상태를 바꾸거나 캐시를 제거한 뒤 목록
+ * 스냅샷을 다시 만든다. 각 전환은 Redis SETNX 로 인스턴스 하나에서만 실행되고, 실행 결과는 전환 채널로 발행된다. 전환 작업이 실패하면 마커를
+ * 지워 다음 예약(다른 인스턴스 포함)에서 다시 시도할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimedealLifecycleService {
+
+  private static final Duration TRANSITION_MARKER_TTL = Duration.ofHours(1);
+
+  private final TimedealPolicyRepository timedealPolicyRepository;
+  private final ProductCacheService productCacheService;
+  private final ProductCacheLockFacade productCacheLockFacade;
+  private final TimedealProductReadService timedealProductReadService;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  /** 전환 기준 시각 (WARM_UP/OPEN 은 시작 시각, CLOSE 는 종료 시각) */
+  public static LocalDateTime boundaryOf(TimedealPolicy policy, TimedealPhase phase) {
+    return phase == TimedealPhase.CLOSE ? policy.getEndTime() : policy.getStartTime();
+  }
+
+  /**
+   * 전환 실행. 예약 이후 타임딜이 수정/삭제되어 기준 시각이 달라졌거나 다른 인스턴스가 이미 실행했으면 건너뛴다.
+   *
+   * @return 이 호출에서 전환을 실행했으면 true
+   */
+  @Transactional(readOnly = true)
+  public boolean transition(Long policyId, TimedealPhase phase, LocalDateTime boundary) {
+    TimedealPolicy policy =
+        timedealPolicyRepository.findById(policyId).filter(p -> !p.isDeleted()).orElse(null);
+    if (policy == null || !boundary.equals(boundaryOf(policy, phase))) {
+      log.info("[TimedealLifecycle] 변경된 타임딜 전환 생략 - policyId={}, phase={}", policyId, phase);
+      return false;
+    }
+
+    long epochMillis = boundary.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    String markerKey = ProductCacheKeys.timedealTransition(policyId, phase.name(), epochMillis);
+    Boolean acquired =
+        redisTemplate.opsForValue().setIfAbsent(markerKey, 1, TRANSITION_MARKER_TTL);
+    if (!Boolean.TRUE.equals(acquired)) {
+      log.debug("[TimedealLifecycle] 다른 인스턴스에서 처리됨 - policyId={}, phase={}", policyId, phase);
+      return false;
+    }
+
+    try {
+      apply(policy, phase);
+    } catch (RuntimeException e) {
+      redisTemplate.delete(markerKey);
+      throw e;
+    }
+
+    log.info(
+        "[TimedealLifecycle] 전환 완료 - policyId={}, phase={}, boundary={}", policyId, phase, boundary);
+    return true;
+  }
+
+  private void apply(TimedealPolicy policy, TimedealPhase phase) {
+    switch (phase) {
+      case WARM_UP -> {
+        productCacheService.cacheTimedealStockIfAbsent(
+            policy.getId(), policy.getStock(), policy.getEndTime());
+        productCacheLockFacade.updateSingleTimedealCache(policy);
+      }
+      case OPEN -> productCacheLockFacade.updateSingleTimedealCache(policy);
+      case CLOSE -> productCacheLockFacade.evictTimedealCache(policy);
+    }
+
+    // 목록 스냅샷 재생성 (전환 직후 첫 요청들이 동시에 DB 로 몰리지 않도록)
+    timedealProductReadService.findTimedealProducts();
+    redisTemplate.convertAndSend(
+        ProductCacheKeys.TIMEDEAL_TRANSITION_CHANNEL, policy.getId() + ":" + phase);
+  }
+}
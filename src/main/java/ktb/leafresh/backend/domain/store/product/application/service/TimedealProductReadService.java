@@ -3,17 +3,26 @@ package ktb.leafresh.backend.domain.store.product.application.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import ktb.leafresh.backend.domain.store.product.domain.service.TimedealProductQueryService;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealListNearCache;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
 import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductListResponseDto;
 import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductSummaryResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,8 +32,27 @@ public class TimedealProductReadService {
   private final RedisTemplate<String, Object> redisTemplate;
   private final TimedealProductQueryService timedealProductQueryService;
   private final ObjectMapper objectMapper;
+  private final TimedealStockShardService timedealStockShardService;
+  private final TimedealListNearCache timedealListNearCache;
+
+  // 전환 스케줄러가 시작/종료 시각마다 목록 스냅샷을 다시 만들므로, 켜져 있으면 스냅샷의 상태를 그대로 쓴다
+  @Value("${store.timedeal.transition.enabled:true}")
+  private boolean transitionEnabled;
 
   public TimedealProductListResponseDto findTimedealProducts() {
+    // 0. 로컬 캐시 조회 (Redis 왕복 없음)
+    TimedealProductListResponseDto nearCached = timedealListNearCache.get();
+    if (nearCached != null) {
+      return nearCached;
+    }
+
+    long version = timedealListNearCache.currentVersion();
+    TimedealProductListResponseDto response = overlayShardStock(loadTimedealList());
+    timedealListNearCache.put(version, response, nextStatusChange(response));
+    return response;
+  }
+
+  private TimedealProductListResponseDto loadTimedealList() {
     log.info("[TimedealProductReadService] 타임딜 목록 조회 요청");
 
     // 1. 목록 캐시 조회
@@ -33,7 +61,7 @@ public class TimedealProductReadService {
       log.info("[TimedealProductReadService] 목록 캐시 HIT - key={}", ProductCacheKeys.TIMEDEAL_LIST);
       TimedealProductListResponseDto cachedDto =
           objectMapper.convertValue(cachedList, TimedealProductListResponseDto.class);
-      return refreshTimedealStatus(cachedDto);
+      return transitionEnabled ? cachedDto : withCurrentStatus(cachedDto);
     }
 
     // 2. ZSET 범위 조회
@@ -45,14 +73,19 @@ public class TimedealProductReadService {
         redisTemplate.opsForZSet().rangeByScore(ProductCacheKeys.TIMEDEAL_ZSET, from, to);
 
     if (dealIds != null && !dealIds.isEmpty()) {
-      // 3. 단건 캐시 조회 (ZSET 기반)
+      // 3. 단건 캐시 조회 (ZSET 기반, MGET 한 번)
       List<TimedealProductSummaryResponseDto> result = new ArrayList<>();
       List<Long> missedPolicyIds = new ArrayList<>();
 
-      for (Object policyIdObj : dealIds) {
-        Long policyId = Long.valueOf(policyIdObj.toString());
-        String key = ProductCacheKeys.timedealSingle(policyId);
-        Object cachedDto = redisTemplate.opsForValue().get(key);
+      List<Long> policyIds = dealIds.stream().map(id -> Long.valueOf(id.toString())).toList();
+      List<String> keys = policyIds.stream().map(ProductCacheKeys::timedealSingle).toList();
+      List<Object> cachedDtos = redisTemplate.opsForValue().multiGet(keys);
+
+      for (int i = 0; i < policyIds.size(); i++) {
+        Long policyId = policyIds.get(i);
+        String key = keys.get(i);
+        Object cachedDto =
+            cachedDtos != null && cachedDtos.size() == keys.size() ? cachedDtos.get(i) : null;
 
         if (cachedDto != null) {
           result.add(objectMapper.convertValue(cachedDto, TimedealProductSummaryResponseDto.class));
@@ -70,30 +103,25 @@ public class TimedealProductReadService {
         List<TimedealProductSummaryResponseDto> fallbackList =
             timedealProductQueryService.findAllById(missedPolicyIds);
 
-        fallbackList.parallelStream()
-            .forEach(
-                dto -> {
-                  String key = ProductCacheKeys.timedealSingle(dto.dealId());
-                  long ttl =
-                      Duration.between(OffsetDateTime.now(ZoneOffset.UTC), dto.dealEndTime())
-                              .toSeconds()
-                          + 60;
-                  redisTemplate.opsForValue().set(key, dto, Duration.ofSeconds(ttl));
-                  log.info(
-                      "[TimedealProductReadService] DB fallback 캐시 저장 - key={}, TTL={}초", key, ttl);
-                });
+        pipelined(
+            fallbackList,
+            (ops, dto) ->
+                ops.opsForValue()
+                    .set(ProductCacheKeys.timedealSingle(dto.dealId()), dto, singleCacheTtl(dto)));
+        log.info("[TimedealProductReadService] DB fallback 캐시 저장 - size={}", fallbackList.size());
 
         result.addAll(fallbackList);
       }
 
       // 5. 목록 캐시 저장 후 반환
-      TimedealProductListResponseDto responseDto = new TimedealProductListResponseDto(result);
+      TimedealProductListResponseDto responseDto =
+          withCurrentStatus(new TimedealProductListResponseDto(result));
       redisTemplate
           .opsForValue()
           .set(ProductCacheKeys.TIMEDEAL_LIST, responseDto, Duration.ofSeconds(60));
       log.info("[TimedealProductReadService] 목록 캐시 저장 - TTL=60초");
 
-      return refreshTimedealStatus(responseDto);
+      return responseDto;
     }
 
     // 6. ZSET 비어 있음 → fallback: 열려 있는 타임딜 아예 없는지 확인
@@ -107,52 +135,106 @@ public class TimedealProductReadService {
       return new TimedealProductListResponseDto(List.of());
     }
 
-    // 7. 단건 캐시 + ZSet + 목록 캐시 복구
-    activeDeals.parallelStream()
-        .forEach(
-            dto -> {
-              String singleKey = ProductCacheKeys.timedealSingle(dto.dealId());
-              long ttl =
-                  Duration.between(OffsetDateTime.now(ZoneOffset.UTC), dto.dealEndTime())
-                          .toSeconds()
-                      + 60;
-              redisTemplate.opsForValue().set(singleKey, dto, Duration.ofSeconds(ttl));
-              long score = dto.dealStartTime().toInstant().toEpochMilli();
-              redisTemplate.opsForZSet().add(ProductCacheKeys.TIMEDEAL_ZSET, dto.dealId(), score);
-              log.info("[TimedealProductReadService] 캐시 재등록 - key={}, score={}", singleKey, score);
-            });
-
-    TimedealProductListResponseDto rebuiltDto = new TimedealProductListResponseDto(activeDeals);
+    // 7. 단건 캐시 + ZSet + 목록 캐시 복구 (파이프라인 한 번)
+    pipelined(
+        activeDeals,
+        (ops, dto) -> {
+          ops.opsForValue()
+              .set(ProductCacheKeys.timedealSingle(dto.dealId()), dto, singleCacheTtl(dto));
+          ops.opsForZSet()
+              .add(
+                  ProductCacheKeys.TIMEDEAL_ZSET,
+                  dto.dealId(),
+                  dto.dealStartTime().toInstant().toEpochMilli());
+        });
+    log.info("[TimedealProductReadService] 캐시 재등록 - size={}", activeDeals.size());
+
+    TimedealProductListResponseDto rebuiltDto =
+        withCurrentStatus(new TimedealProductListResponseDto(activeDeals));
     redisTemplate
         .opsForValue()
         .set(ProductCacheKeys.TIMEDEAL_LIST, rebuiltDto, Duration.ofSeconds(60));
     log.info("[TimedealProductReadService] 목록 캐시 재등록 - TTL=60초");
 
-    return refreshTimedealStatus(rebuiltDto);
+    return rebuiltDto;
+  }
+
+  private Duration singleCacheTtl(TimedealProductSummaryResponseDto dto) {
+    long ttl =
+        Duration.between(OffsetDateTime.now(ZoneOffset.UTC), dto.dealEndTime()).toSeconds() + 60;
+    return Duration.ofSeconds(ttl);
+  }
+
+  /** 여러 건의 캐시 쓰기를 한 번의 왕복으로 전송 */
+  private void pipelined(
+      List<TimedealProductSummaryResponseDto> dtos,
+      BiConsumer<RedisOperations<String, Object>, TimedealProductSummaryResponseDto> writer) {
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations)
+              throws DataAccessException {
+            RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+            dtos.forEach(dto -> writer.accept(ops, dto));
+            return null;
+          }
+        });
   }
 
-  private TimedealProductListResponseDto refreshTimedealStatus(TimedealProductListResponseDto dto) {
-    LocalDateTime nowTime = LocalDateTime.now();
-    List<TimedealProductSummaryResponseDto> updated =
+  /** 목록 중 가장 가까운 시작/종료 시각 (이 시각에 UPCOMING/ONGOING 이 바뀌므로 로컬 캐시도 만료) */
+  private OffsetDateTime nextStatusChange(TimedealProductListResponseDto dto) {
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    return dto.timeDeals().stream()
+        .flatMap(d -> Stream.of(d.dealStartTime(), d.dealEndTime()))
+        .filter(time -> time != null && time.isAfter(now))
+        .min(OffsetDateTime::compareTo)
+        .orElse(null);
+  }
+
+  /** 목록 스냅샷을 만들 때 한 번만 상태(UPCOMING/ONGOING)를 계산 */
+  private TimedealProductListResponseDto withCurrentStatus(TimedealProductListResponseDto dto) {
+    return new TimedealProductListResponseDto(
+        dto.timeDeals().stream()
+            .map(
+                d -> copy(d, d.stock(), determineTimeDealStatus(d.dealStartTime(), d.dealEndTime())))
+            .toList());
+  }
+
+  /** 샤딩 모드에서는 캐시된 DTO 재고 대신 샤드 합계(MGET 한 번)를 사용 */
+  private TimedealProductListResponseDto overlayShardStock(TimedealProductListResponseDto dto) {
+    if (!timedealStockShardService.isEnabled() || dto.timeDeals().isEmpty()) {
+      return dto;
+    }
+    Map<Long, Long> shardStocks =
+        timedealStockShardService.getRemainingStocks(
+            dto.timeDeals().stream().map(TimedealProductSummaryResponseDto::dealId).toList());
+    return new TimedealProductListResponseDto(
         dto.timeDeals().stream()
             .map(
                 d ->
-                    new TimedealProductSummaryResponseDto(
-                        d.dealId(),
-                        d.productId(),
-                        d.title(),
-                        d.description(),
-                        d.defaultPrice(),
-                        d.discountedPrice(),
-                        d.discountedPercentage(),
-                        d.stock(),
-                        d.imageUrl(),
-                        d.dealStartTime(),
-                        d.dealEndTime(),
-                        d.productStatus(),
-                        determineTimeDealStatus(d.dealStartTime(), d.dealEndTime())))
-            .toList();
-    return new TimedealProductListResponseDto(updated);
+                    shardStocks.containsKey(d.dealId())
+                        ? copy(d, shardStocks.get(d.dealId()).intValue(), d.timeDealStatus())
+                        : d)
+            .toList());
+  }
+
+  private TimedealProductSummaryResponseDto copy(
+      TimedealProductSummaryResponseDto d, Integer stock, String timeDealStatus) {
+    return new TimedealProductSummaryResponseDto(
+        d.dealId(),
+        d.productId(),
+        d.title(),
+        d.description(),
+        d.defaultPrice(),
+        d.discountedPrice(),
+        d.discountedPercentage(),
+        stock,
+        d.imageUrl(),
+        d.dealStartTime(),
+        d.dealEndTime(),
+        d.productStatus(),
+        timeDealStatus);
   }
 
   private String determineTimeDealStatus(OffsetDateTime start, OffsetDateTime end) {
@@ -0,0 +1,11 @@
+package ktb.leafresh.backend.domain.store.product.domain.entity.enums;
+
+/** 타임딜 상태 전환 시점 */
+public enum TimedealPhase {
+  /** 시작 전 캐시 예열 */
+  WARM_UP,
+  /** 시작 (UPCOMING → ONGOING) */
+  OPEN,
+  /** 종료 (목록에서 제외) */
+  CLOSE
+}
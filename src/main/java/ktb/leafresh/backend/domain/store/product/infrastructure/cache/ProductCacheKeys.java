@@ -6,6 +6,8 @@ public class ProductCacheKeys {
   public static final String TIMEDEAL_ZSET = "store:products:timedeal:zset";
   public static final String TIMEDEAL_ACTIVE = "store:products:timedeal:active";
   public static final String TIMEDEAL_LIST = "store:products:timedeal:list";
+  public static final String TIMEDEAL_INVALIDATION_CHANNEL = "store:products:timedeal:invalidate";
+  public static final String TIMEDEAL_TRANSITION_CHANNEL = "store:products:timedeal:transition";
 
   public static String single(Long productId) {
     return "store:products:single:" + productId;
@@ -19,7 +21,20 @@ public class ProductCacheKeys {
     return "stock:timedeal:" + timedealPolicyId;
   }
 
+  public static String timedealStockShard(Long timedealPolicyId, int shardIndex) {
+    return "stock:timedeal:" + timedealPolicyId + ":shard:" + shardIndex;
+  }
+
+  public static String timedealWindow(Long timedealPolicyId) {
+    return "stock:timedeal:window:" + timedealPolicyId;
+  }
+
   public static String timedealSingle(Long policyId) {
     return "store:products:timedeal:single:" + policyId;
   }
+
+  /** 상태 전환 1회 실행 보장용 (인스턴스 간 중복 실행 방지) */
+  public static String timedealTransition(Long policyId, String phase, long epochMillis) {
+    return "store:products:timedeal:transition:" + policyId + ":" + phase + ":" + epochMillis;
+  }
 }
@@ -12,13 +12,19 @@ import org.springframework.stereotype.Service;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductCacheService {
 
+  private static final Duration ENDED_WINDOW_TTL = Duration.ofMinutes(1);
+
   private final RedisTemplate<String, Object> redisTemplate;
+  private final TimedealStockShardService timedealStockShardService;
+  private final TimedealListNearCache timedealListNearCache;
 
   /** 일반 상품 캐시 등록 */
   public void updateSingleProductCache(Product product) {
@@ -50,9 +56,11 @@ public class ProductCacheService {
     }
 
     updateTimedealZSet(policy);
+    cacheTimedealWindow(policy);
 
     redisTemplate.delete(ProductCacheKeys.TIMEDEAL_LIST);
     log.info("[ProductCacheService] 타임딜 목록 캐시 무효화 - key={}", ProductCacheKeys.TIMEDEAL_LIST);
+    publishTimedealInvalidation(policy.getId());
   }
 
   /** 타임딜 ZSet 등록 */
@@ -62,6 +70,24 @@ public class ProductCacheService {
     log.info("[ProductCacheService] 타임딜 ZSet 등록 - policyId={}, score={}", policy.getId(), score);
   }
 
+  /** 타임딜 판매 시간/가격 해시 등록 (재고 선점 스크립트에서 사용) */
+  public void cacheTimedealWindow(TimedealPolicy policy) {
+    String key = ProductCacheKeys.timedealWindow(policy.getId());
+    ZoneId zone = ZoneId.systemDefault();
+
+    Map<String, Object> window = new HashMap<>();
+    window.put("start", policy.getStartTime().atZone(zone).toInstant().toEpochMilli());
+    window.put("end", policy.getEndTime().atZone(zone).toInstant().toEpochMilli());
+    window.put("productId", policy.getProduct().getId());
+    window.put("price", policy.getDiscountedPrice());
+
+    redisTemplate.opsForHash().putAll(key, window);
+    // 이미 끝난 타임딜도 해시가 남지 않도록 항상 만료를 건다 (판매 시간 검사로 어차피 거절된다)
+    Duration ttl = calculateTtl(policy.getEndTime().plusMinutes(1));
+    redisTemplate.expire(key, ttl != null ? ttl : ENDED_WINDOW_TTL);
+    log.info("[ProductCacheService] 타임딜 판매 시간 캐시 저장 - key={}", key);
+  }
+
   /** 기존 모든 캐시 제거 */
   public void evictCacheByProduct(Product product) {
     redisTemplate.delete(ProductCacheKeys.single(product.getId()));
@@ -79,9 +105,23 @@ public class ProductCacheService {
   /** 타임딜 캐시 제거 (단건 + ZSet) */
   public void evictTimedealCache(TimedealPolicy policy) {
     redisTemplate.delete(ProductCacheKeys.timedealSingle(policy.getId()));
+    redisTemplate.delete(ProductCacheKeys.timedealWindow(policy.getId()));
     redisTemplate.opsForZSet().remove(ProductCacheKeys.TIMEDEAL_ZSET, policy.getId());
+    redisTemplate.delete(ProductCacheKeys.TIMEDEAL_LIST);
 
     log.info("[ProductCacheService] 타임딜 캐시 제거 - policyId={}", policy.getId());
+    publishTimedealInvalidation(policy.getId());
+  }
+
+  /** 로컬 목록 캐시를 비우고 다른 인스턴스에도 무효화 전파 (pub/sub) */
+  private void publishTimedealInvalidation(Long policyId) {
+    timedealListNearCache.invalidate();
+    try {
+      redisTemplate.convertAndSend(ProductCacheKeys.TIMEDEAL_INVALIDATION_CHANNEL, policyId);
+    } catch (Exception e) {
+      // 전파에 실패해도 다른 인스턴스의 로컬 캐시는 TTL 안에 만료된다
+      log.warn("[ProductCacheService] 타임딜 무효화 전파 실패 - policyId={}, {}", policyId, e.getMessage());
+    }
   }
 
   /** TTL 계산 (현재 시점 기준으로 endTime까지 남은 시간) */
@@ -102,12 +142,42 @@ public class ProductCacheService {
         ttl.getSeconds());
   }
 
+  /** 일반 상품 재고 캐시가 없을 때만 저장 (선점된 재고를 덮어쓰지 않음) */
+  public boolean cacheProductStockIfAbsent(Long productId, Integer stock) {
+    String key = ProductCacheKeys.productStock(productId);
+    Boolean stored = redisTemplate.opsForValue().setIfAbsent(key, stock, Duration.ofHours(24));
+    log.info("[ProductCacheService] 일반 상품 재고 캐시 복구 - key={}, stored={}", key, stored);
+    return Boolean.TRUE.equals(stored);
+  }
+
+  /** 타임딜 재고 캐시가 없을 때만 저장 (선점된 재고를 덮어쓰지 않음) */
+  public boolean cacheTimedealStockIfAbsent(Long policyId, Integer stock, LocalDateTime endTime) {
+    String key = ProductCacheKeys.timedealStock(policyId);
+    Duration ttl = calculateTtl(endTime.plusMinutes(1));
+    if (ttl == null) {
+      log.warn("[ProductCacheService] 종료된 타임딜 재고 캐시 복구 생략 - key={}", key);
+      return false;
+    }
+    if (timedealStockShardService.isEnabled()) {
+      return timedealStockShardService.cacheStockIfAbsent(policyId, stock, ttl);
+    }
+    Boolean stored = redisTemplate.opsForValue().setIfAbsent(key, stock, ttl);
+    log.info("[ProductCacheService] 타임딜 재고 캐시 복구 - key={}, stored={}", key, stored);
+    return Boolean.TRUE.equals(stored);
+  }
+
   /** 타임딜 상품 재고 캐시 저장 (TTL 포함) */
   public void cacheTimedealStock(Long policyId, Integer stock, LocalDateTime endTime) {
     String key = ProductCacheKeys.timedealStock(policyId);
     Duration ttl = calculateTtl(endTime.plusMinutes(1));
     log.info("[ProductCacheService] 타임딜 TTL = {}", ttl != null ? ttl.getSeconds() : "null");
 
+    if (timedealStockShardService.isEnabled()) {
+      timedealStockShardService.cacheStock(policyId, stock, ttl);
+      log.info("[ProductCacheService] 타임딜 샤드 재고 캐시 저장 - policyId={}, stock={}", policyId, stock);
+      return;
+    }
+
     if (ttl != null) {
       redisTemplate.opsForValue().set(key, stock, ttl);
       log.info(
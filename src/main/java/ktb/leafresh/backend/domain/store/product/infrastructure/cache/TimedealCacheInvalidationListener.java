@@ -0,0 +1,22 @@
+package ktb.leafresh.backend.domain.store.product.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/** 다른 인스턴스에서 타임딜 캐시가 바뀌면 로컬 목록 캐시를 비운다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimedealCacheInvalidationListener implements MessageListener {
+
+  private final TimedealListNearCache timedealListNearCache;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    timedealListNearCache.invalidate();
+    log.debug("[TimedealCacheInvalidationListener] 무효화 수신 - body={}", new String(message.getBody()));
+  }
+}
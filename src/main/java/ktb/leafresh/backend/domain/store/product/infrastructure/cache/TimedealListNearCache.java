@@ -0,0 +1,63 @@
+package ktb.leafresh.backend.domain.store.product.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductListResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 타임딜 목록 인스턴스 로컬 캐시.
+ *
+ * <p>짧은 TTL 동안 상태(UPCOMING/ONGOING)까지 계산된 응답을 그대로 재사용하므로, 캐시가 살아 있는 동안에는 Redis 왕복 없이 응답한다. 다음 상태
+ * 전환 시각이 TTL 보다 빠르면 그 시각에 만료된다. 타임딜 캐시가 갱신/삭제되면 Redis pub/sub 으로 모든 인스턴스에서 무효화된다.
+ */
+@Slf4j
+@Component
+public class TimedealListNearCache {
+
+  private record Entry(TimedealProductListResponseDto value, long expiresAtMillis, long version) {}
+
+  private final AtomicReference<Entry> entry = new AtomicReference<>();
+  private final AtomicLong version = new AtomicLong();
+
+  @Value("${store.timedeal.near-cache-ttl-millis:1000}")
+  private long ttlMillis;
+
+  public TimedealProductListResponseDto get() {
+    Entry current = entry.get();
+    if (current == null
+        || current.version() != version.get()
+        || System.currentTimeMillis() >= current.expiresAtMillis()) {
+      return null;
+    }
+    return current.value();
+  }
+
+  /** 조회를 시작한 시점의 버전. 조회 도중 무효화되면 {@link #put} 이 무시된다 */
+  public long currentVersion() {
+    return version.get();
+  }
+
+  public void put(
+      long loadedVersion, TimedealProductListResponseDto value, OffsetDateTime nextStatusChange) {
+    long expiresAt = System.currentTimeMillis() + ttlMillis;
+    if (nextStatusChange != null) {
+      expiresAt = Math.min(expiresAt, nextStatusChange.toInstant().toEpochMilli());
+    }
+
+    // 조회 도중 무효화됐다면 저장하지 않는다 (저장 직후 무효화된 경우도 get 에서 버전으로 걸러진다)
+    if (version.get() == loadedVersion) {
+      entry.set(new Entry(value, expiresAt, loadedVersion));
+    }
+  }
+
+  public void invalidate() {
+    version.incrementAndGet();
+    entry.set(null);
+    log.debug("[TimedealListNearCache] 로컬 목록 캐시 무효화");
+  }
+}
@@ -10,6 +10,12 @@ import java.time.ZoneOffset;
 public class TimedealProductSummaryCacheDtoMapper {
 
   public static TimedealProductSummaryCacheDto from(Product product, TimedealPolicy policy) {
+    return from(product, policy, policy.getStock());
+  }
+
+  /** 엔티티를 변경하지 않고 재고만 지정한 값으로 만든다 (배치 확정 등 JDBC 로 재고를 갱신한 경우) */
+  public static TimedealProductSummaryCacheDto from(
+      Product product, TimedealPolicy policy, Integer stock) {
     LocalDateTime now = LocalDateTime.now();
     String timeDealStatus = now.isBefore(policy.getStartTime()) ? "UPCOMING" : "ONGOING";
 
@@ -21,7 +27,7 @@ public class TimedealProductSummaryCacheDtoMapper {
         product.getPrice(),
         policy.getDiscountedPrice(),
         policy.getDiscountedPercentage(),
-        policy.getStock(),
+        stock,
         product.getImageUrl(),
         policy.getStartTime().atOffset(ZoneOffset.UTC),
         policy.getEndTime().atOffset(ZoneOffset.UTC),
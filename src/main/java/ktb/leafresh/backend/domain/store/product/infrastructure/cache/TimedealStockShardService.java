@@ -0,0 +1,102 @@
+package ktb.leafresh.backend.domain.store.product.infrastructure.cache;
+
+import ktb.leafresh.backend.global.util.redis.ShardedStockRedisLuaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 타임딜 재고 샤딩 모드.
+ *
+ * <p>{@code store.timedeal.stock-shards} 가 2 이상이면 타임딜 재고를 {@code stock:timedeal:{id}:shard:{n}} 하위
+ * 카운터로 나누어 저장하고, 요청마다 임의의 샤드에서 차감한다. 1 이하이면 비활성화되어 기존 단일 키를 그대로 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimedealStockShardService {
+
+  private final ShardedStockRedisLuaService shardedStockRedisLuaService;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${store.timedeal.stock-shards:1}")
+  private int shardCount;
+
+  public boolean isEnabled() {
+    return shardCount > 1;
+  }
+
+  public List<String> shardKeys(Long policyId) {
+    return IntStream.range(0, shardCount)
+        .mapToObj(i -> ProductCacheKeys.timedealStockShard(policyId, i))
+        .toList();
+  }
+
+  public void cacheStock(Long policyId, Integer stock, Duration ttl) {
+    shardedStockRedisLuaService.initialize(shardKeys(policyId), stock, ttl);
+  }
+
+  /** 샤드가 하나도 없을 때만 분배 (선점된 재고를 덮어쓰지 않음) */
+  public boolean cacheStockIfAbsent(Long policyId, Integer stock, Duration ttl) {
+    Long existing = shardedStockRedisLuaService.sumStock(shardKeys(policyId));
+    if (existing != null) return false;
+    cacheStock(policyId, stock, ttl);
+    return true;
+  }
+
+  /**
+   * 임의의 샤드에서 재고 차감, 부족하면 형제 샤드에서 차용.
+   *
+   * @return 0 이상(성공), -1(캐시 없음), -2(재고 부족)
+   */
+  public Long decreaseStock(Long policyId, int quantity) {
+    int homeIndex = ThreadLocalRandom.current().nextInt(shardCount);
+    return shardedStockRedisLuaService.decreaseStock(shardKeys(policyId), homeIndex, quantity);
+  }
+
+  /** 선점 취소 등으로 재고 반환 (재고는 샤드 간 구분이 없으므로 임의 샤드에 반환) */
+  public void increaseStock(Long policyId, int quantity) {
+    int index = ThreadLocalRandom.current().nextInt(shardCount);
+    shardedStockRedisLuaService.increaseStock(
+        ProductCacheKeys.timedealStockShard(policyId, index), quantity);
+  }
+
+  public Long getRemainingStock(Long policyId) {
+    return shardedStockRedisLuaService.sumStock(shardKeys(policyId));
+  }
+
+  /** 여러 타임딜의 남은 재고 합계를 MGET 한 번으로 조회 (캐시 없는 타임딜은 제외) */
+  public Map<Long, Long> getRemainingStocks(Collection<Long> policyIds) {
+    if (policyIds.isEmpty()) return Map.of();
+
+    List<Long> ids = new ArrayList<>(policyIds);
+    List<String> keys = new ArrayList<>(ids.size() * shardCount);
+    for (Long id : ids) {
+      keys.addAll(shardKeys(id));
+    }
+
+    List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+    if (values == null) return Map.of();
+
+    Map<Long, Long> result = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      long sum = 0;
+      boolean anyCached = false;
+      for (int s = 0; s < shardCount; s++) {
+        String value = values.get(i * shardCount + s);
+        if (value == null) continue;
+        anyCached = true;
+        sum += Long.parseLong(value);
+      }
+      if (anyCached) result.put(ids.get(i), sum);
+    }
+    return result;
+  }
+}
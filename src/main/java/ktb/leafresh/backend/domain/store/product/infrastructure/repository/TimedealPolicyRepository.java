@@ -35,4 +35,13 @@ public interface TimedealPolicyRepository extends JpaRepository<TimedealPolicy,
   @Query(
       "SELECT t FROM TimedealPolicy t JOIN FETCH t.product WHERE t.endTime > :now AND t.deletedAt IS NULL")
   List<TimedealPolicy> findAllValidWithProduct(@Param("now") LocalDateTime now);
+
+  /** (from, to] 구간에 시작 또는 종료되는 타임딜 */
+  @Query(
+      "SELECT t FROM TimedealPolicy t JOIN FETCH t.product "
+          + "WHERE t.deletedAt IS NULL "
+          + "AND ((t.startTime > :from AND t.startTime <= :to) "
+          + "OR (t.endTime > :from AND t.endTime <= :to))")
+  List<TimedealPolicy> findAllWithProductTransitioningBetween(
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
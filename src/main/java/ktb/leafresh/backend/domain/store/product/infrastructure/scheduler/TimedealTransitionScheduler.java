@@ -0,0 +1,139 @@
+package ktb.leafresh.backend.domain.store.product.infrastructure.scheduler;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktb.leafresh.backend.domain.store.product.application.service.TimedealLifecycleService;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.domain.entity.enums.TimedealPhase;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 휠 기반 타임딜 전환 예약.
+ *
+ * <p>주기적으로 가까운 시간 안에 시작/종료되는 타임딜만 조회해 휠에 예열(시작 - lead), 시작, 종료 작업을 등록한다. 휠 스레드는 만료 판정만 하고
+ * 실제 캐시 작업은 별도 실행기에서 수행한다. 모든 인스턴스가 같은 작업을 예약하지만 실행은 {@link TimedealLifecycleService} 에서 한 번만 된다.
+ * 시작 시각이 최근 horizon 안에 이미 지난 타임딜(기동 직후, 시작 직후 수정 등)은 시작 전환을 즉시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimedealTransitionScheduler {
+
+  private final TimedealPolicyRepository timedealPolicyRepository;
+  private final TimedealLifecycleService timedealLifecycleService;
+
+  @Value("${store.timedeal.transition.enabled:true}")
+  private boolean enabled;
+
+  @Value("${store.timedeal.transition.warm-up-lead-seconds:60}")
+  private long warmUpLeadSeconds;
+
+  @Value("${store.timedeal.transition.horizon-minutes:10}")
+  private long horizonMinutes;
+
+  @Value("${store.timedeal.transition.tick-millis:100}")
+  private long tickMillis;
+
+  private record Registration(Timeout timeout, LocalDateTime boundary) {}
+
+  /** 예약 키(policyId:phase:boundary) → 예약, 기준 시각이 지나면 정리 */
+  private final Map<String, Registration> scheduled = new ConcurrentHashMap<>();
+
+  private HashedWheelTimer wheel;
+  private ExecutorService worker;
+
+  @PostConstruct
+  void start() {
+    wheel =
+        new HashedWheelTimer(
+            r -> new Thread(r, "timedeal-wheel"), tickMillis, TimeUnit.MILLISECONDS, 512);
+    worker =
+        Executors.newFixedThreadPool(
+            2, Thread.ofPlatform().name("timedeal-transition-", 0).factory());
+  }
+
+  /** 다음 horizon 안에 예열/시작/종료될 타임딜을 휠에 등록 (이미 등록된 작업은 건너뜀) */
+  @Scheduled(fixedDelayString = "${store.timedeal.transition.scan-interval-millis:60000}")
+  public void scan() {
+    if (!enabled) return;
+
+    LocalDateTime now = LocalDateTime.now();
+    Duration lead = Duration.ofSeconds(warmUpLeadSeconds);
+    LocalDateTime from = now.minusMinutes(horizonMinutes);
+    LocalDateTime to = now.plusMinutes(horizonMinutes).plus(lead);
+    scheduled
+        .values()
+        .removeIf(r -> r.timeout().isExpired() && r.boundary().isBefore(from));
+
+    List<TimedealPolicy> policies =
+        timedealPolicyRepository.findAllWithProductTransitioningBetween(from, to);
+    int registered = 0;
+    for (TimedealPolicy policy : policies) {
+      if (policy.getStartTime().isAfter(now)) {
+        registered +=
+            schedule(policy, TimedealPhase.WARM_UP, policy.getStartTime().minus(lead), now);
+        registered += schedule(policy, TimedealPhase.OPEN, policy.getStartTime(), now);
+      } else if (policy.getStartTime().isAfter(from) && policy.getEndTime().isAfter(now)) {
+        // 시작 시각이 방금 지난 진행 중 타임딜: 시작 전환을 놓쳤을 수 있어 즉시 실행 (실행은 마커로 한 번만)
+        registered += schedule(policy, TimedealPhase.OPEN, policy.getStartTime(), now);
+      }
+      if (policy.getEndTime().isAfter(now) && !policy.getEndTime().isAfter(to)) {
+        registered += schedule(policy, TimedealPhase.CLOSE, policy.getEndTime(), now);
+      }
+    }
+    log.debug("[TimedealTransitionScheduler] 대상={}건, 신규 예약={}건", policies.size(), registered);
+  }
+
+  private int schedule(
+      TimedealPolicy policy, TimedealPhase phase, LocalDateTime fireAt, LocalDateTime now) {
+    Long policyId = policy.getId();
+    LocalDateTime boundary = TimedealLifecycleService.boundaryOf(policy, phase);
+    String key = policyId + ":" + phase + ":" + boundary;
+    if (scheduled.containsKey(key)) return 0;
+
+    // 예열 시각이 이미 지났으면(시작 직전에 생성/수정된 타임딜) 즉시 실행
+    long delayMillis = Math.max(0, Duration.between(now, fireAt).toMillis());
+    Timeout timeout =
+        wheel.newTimeout(
+            t -> worker.execute(() -> fire(policyId, phase, boundary)),
+            delayMillis,
+            TimeUnit.MILLISECONDS);
+    scheduled.put(key, new Registration(timeout, boundary));
+    return 1;
+  }
+
+  private void fire(Long policyId, TimedealPhase phase, LocalDateTime boundary) {
+    try {
+      timedealLifecycleService.transition(policyId, phase, boundary);
+    } catch (Exception e) {
+      log.error(
+          "[TimedealTransitionScheduler] 전환 실패 - policyId={}, phase={}, {}",
+          policyId,
+          phase,
+          e.getMessage(),
+          e);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    wheel.stop();
+    worker.shutdown();
+  }
+}
@@ -0,0 +1,4 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+/** 대댓글과 부모 댓글 ID (최상위 댓글 ID 백필용) */
+public record CommentParentLink(Long commentId, Long parentCommentId) {}
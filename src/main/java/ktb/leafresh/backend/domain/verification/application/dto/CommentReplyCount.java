@@ -0,0 +1,4 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+/** 최상위 댓글별 대댓글 수 */
+public record CommentReplyCount(Long rootCommentId, Long replyCount) {}
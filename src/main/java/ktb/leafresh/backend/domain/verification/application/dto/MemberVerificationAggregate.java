@@ -0,0 +1,4 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+/** 회원별로 묶은 성공 인증 집계 (name 은 카테고리명, 챌린지 ID, 챌린지 제목 등 묶은 기준) */
+public record MemberVerificationAggregate(Long memberId, String name, long count) {}
@@ -0,0 +1,5 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+import java.time.LocalDateTime;
+
+public record MemberVerificationTime(Long memberId, LocalDateTime createdAt) {}
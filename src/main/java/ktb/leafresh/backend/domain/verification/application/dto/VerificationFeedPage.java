@@ -0,0 +1,51 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+import java.util.Optional;
+
+/**
+ * 응답 캐시 대상인 피드 첫 페이지 (정렬 + 크기 + 카테고리).
+ *
+ * <p>{@link #id()} 는 캐시 키 접미사이자 캐시 목록 SET 의 member 로 쓰이며 {@link #parse(String)} 로 되돌린다.
+ * 카테고리는 마지막에 두어 구분자가 섞여도 앞 필드가 어긋나지 않게 하고, 전체 피드는 카테고리 이름이 될 수 없는 {@code *} 로 적는다
+ * ("ALL" 은 실제 카테고리).
+ */
+public record VerificationFeedPage(String sort, String category, int size) {
+
+  public static final String LATEST = "latest";
+  public static final String POPULAR = "popular";
+  private static final String ALL_CATEGORIES = "*";
+
+  public static VerificationFeedPage of(String sort, String category, int size) {
+    return new VerificationFeedPage(
+        POPULAR.equalsIgnoreCase(sort) ? POPULAR : LATEST,
+        category == null || category.isBlank() ? null : category,
+        size);
+  }
+
+  /** @return 형식이 맞지 않는 ID (이전 형식, 손상된 값) 면 empty */
+  public static Optional<VerificationFeedPage> parse(String id) {
+    String[] parts = id.split(":", 3);
+    if (parts.length != 3 || !(LATEST.equals(parts[0]) || POPULAR.equals(parts[0]))) {
+      return Optional.empty();
+    }
+    try {
+      String category = ALL_CATEGORIES.equals(parts[2]) ? null : parts[2];
+      return Optional.of(new VerificationFeedPage(parts[0], category, Integer.parseInt(parts[1])));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  public String id() {
+    return sort + ":" + size + ":" + (category != null ? category : ALL_CATEGORIES);
+  }
+
+  public boolean isPopular() {
+    return POPULAR.equals(sort);
+  }
+
+  /** 해당 카테고리 인증이 바뀌었을 때 다시 만들어야 하는 페이지인지 (전체 피드는 항상 포함) */
+  public boolean covers(String changedCategory) {
+    return category == null || changedCategory == null || category.equals(changedCategory);
+  }
+}
@@ -0,0 +1,17 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+import java.time.LocalDateTime;
+
+/** 인증 피드 카드 한 장에 필요한 컬럼만 담은 읽기 모델 (엔티티/연관관계 로딩 없음) */
+public record VerificationFeedRow(
+    Long id,
+    Long challengeId,
+    String nickname,
+    String profileImageUrl,
+    String imageUrl,
+    String content,
+    String category,
+    int viewCount,
+    int likeCount,
+    int commentCount,
+    LocalDateTime createdAt) {}
@@ -0,0 +1,4 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+/** DB 에 반영할 좋아요 최종 상태 (liked = false 면 취소) */
+public record VerificationLikeChange(Long verificationId, Long memberId, boolean liked) {}
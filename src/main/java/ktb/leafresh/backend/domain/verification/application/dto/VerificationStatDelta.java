@@ -0,0 +1,10 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+/** Redis 에 누적된 인증 통계 증감분 (DB 에 아직 반영되지 않은 값) */
+public record VerificationStatDelta(
+    Long verificationId, long viewCount, long likeCount, long commentCount) {
+
+  public boolean isZero() {
+    return viewCount == 0 && likeCount == 0 && commentCount == 0;
+  }
+}
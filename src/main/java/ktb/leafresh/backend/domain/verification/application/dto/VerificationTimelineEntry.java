@@ -0,0 +1,6 @@
+package ktb.leafresh.backend.domain.verification.application.dto;
+
+import java.time.LocalDateTime;
+
+/** 피드 타임라인 항목 (인증 ID + 작성 시각) */
+public record VerificationTimelineEntry(Long verificationId, LocalDateTime createdAt) {}
@@ -0,0 +1,42 @@
+package ktb.leafresh.backend.domain.verification.application.listener;
+
+import ktb.leafresh.backend.domain.verification.application.service.VerificationFeedPageCacheService;
+import ktb.leafresh.backend.domain.verification.application.service.VerificationTimelineRebuildService;
+import ktb.leafresh.backend.domain.verification.domain.event.GroupVerificationCreatedEvent;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationTimelineEventListener {
+
+  private final VerificationTimelineService verificationTimelineService;
+  private final VerificationTimelineRebuildService verificationTimelineRebuildService;
+  private final VerificationFeedPageCacheService feedPageCacheService;
+
+  /**
+   * 커밋된 인증만 피드 타임라인에 추가 (실패해도 타임라인 재구성이나 DB 조회로 복구된다).
+   *
+   * <p>첫 페이지 캐시 갱신은 타임라인 추가 뒤에 이어서 요청한다. 별도 AFTER_COMMIT 리스너로 두면 실행 순서가 정해지지 않아 새 인증이 빠진
+   * 페이지가 다시 캐시될 수 있다.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handle(GroupVerificationCreatedEvent event) {
+    try {
+      verificationTimelineService.add(event.verificationId(), event.category(), event.createdAt());
+      // 배포 직후나 Redis 초기화 뒤 첫 항목이면 과거 인증까지 채운다 (비동기)
+      if (!verificationTimelineService.isSeeded()) {
+        verificationTimelineRebuildService.rebuildIfUnseeded();
+      }
+    } catch (Exception e) {
+      log.warn(
+          "[타임라인 추가 실패] verificationId={}, error={}", event.verificationId(), e.getMessage());
+    }
+    feedPageCacheService.refreshAsync(event.category(), event.verificationId());
+  }
+}
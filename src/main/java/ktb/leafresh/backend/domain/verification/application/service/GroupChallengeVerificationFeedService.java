@@ -1,10 +1,13 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTimelineService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTrendingService;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedSummaryDto;
+import ktb.leafresh.backend.global.util.pagination.CursorConditionUtils;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationHelper;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +15,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,34 +29,100 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class GroupChallengeVerificationFeedService {
 
+  // 삭제된 인증으로 인기순 페이지가 비었을 때 다음 순위를 더 읽는 최대 횟수
+  private static final int POPULAR_REFILL_ROUNDS = 3;
+
   private final GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
   private final VerificationStatCacheService verificationStatCacheService;
-  private final LikeRepository likeRepository;
+  private final VerificationLikeCacheService verificationLikeCacheService;
+  private final VerificationTrendingService verificationTrendingService;
+  private final VerificationTimelineService verificationTimelineService;
 
   public CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto>
       getGroupChallengeVerifications(
           Long cursorId, String cursorTimestamp, int size, String category, Long loginMemberId) {
-    List<GroupChallengeVerification> verifications =
-        feedQueryRepository.findAllByFilter(category, cursorId, cursorTimestamp, size + 1);
+    // 타임라인 ZSET 에서 ID 를 읽고 본문만 조회, 타임라인으로 응답할 수 없으면 인덱스 순서 DB 조회
+    List<VerificationFeedRow> rows =
+        verificationTimelineService
+            .findIds(
+                category, cursorId, CursorConditionUtils.parseTimestamp(cursorTimestamp), size + 1)
+            .map(ids -> findTimelinePage(category, ids))
+            .orElseGet(
+                () ->
+                    feedQueryRepository.findAllByFilter(
+                        category, cursorId, cursorTimestamp, size + 1));
+    return toPage(rows, size, loginMemberId);
+  }
+
+  /**
+   * 인기순 피드. 순위는 Redis ZSET 에서 읽고, 본문은 해당 ID 만 DB 에서 조회한다. 삭제된 인증이 섞이면 순위에서 빼고 다음 순위로 페이지를 채운다.
+   *
+   * <p>커서는 직전 페이지 마지막 인증의 "현재" 순위 다음부터 읽는다. 요청 사이에 점수가 바뀌면 항목이 건너뛰어지거나 중복될 수 있고, 커서 인증이
+   * 상위 N 개 밖으로 밀려나면 빈 페이지로 끝난다. 인기순은 탐색용 목록이라 이 정도 흔들림은 허용한다.
+   */
+  public CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto>
+      getPopularGroupChallengeVerifications(
+          Long cursorId, int size, String category, Long loginMemberId) {
+    List<VerificationFeedRow> rows = new ArrayList<>(size + 1);
+    List<Long> deletedIds = new ArrayList<>();
+    Long cursor = cursorId;
+    for (int round = 0; round < POPULAR_REFILL_ROUNDS && rows.size() <= size; round++) {
+      int need = size + 1 - rows.size();
+      List<Long> rankedIds = verificationTrendingService.findTrendingIds(category, cursor, need);
+      if (rankedIds.isEmpty()) break;
+
+      List<VerificationFeedRow> found = findInOrder(rankedIds);
+      rows.addAll(found);
+      deletedIds.addAll(missingIds(rankedIds, found));
+      if (rankedIds.size() < need) break;
+      cursor = rankedIds.get(rankedIds.size() - 1);
+    }
+
+    // 커서로 쓴 ID 가 먼저 빠지지 않도록 페이지를 다 채운 뒤에 정리한다
+    if (!deletedIds.isEmpty()) verificationTrendingService.remove(deletedIds);
+    return toPage(rows, size, loginMemberId);
+  }
+
+  /** 삭제된 인증이 섞여 페이지가 짧아지면 타임라인에서 빼고 이번 페이지는 DB 에서 읽는다 (null 반환) */
+  private List<VerificationFeedRow> findTimelinePage(String category, List<Long> ids) {
+    List<VerificationFeedRow> rows = findInOrder(ids);
+    if (rows.size() == ids.size()) return rows;
+
+    verificationTimelineService.remove(category, missingIds(ids, rows));
+    return null;
+  }
+
+  private List<Long> missingIds(List<Long> ids, List<VerificationFeedRow> found) {
+    Set<Long> foundIds = found.stream().map(VerificationFeedRow::id).collect(Collectors.toSet());
+    return ids.stream().filter(id -> !foundIds.contains(id)).toList();
+  }
+
+  /** ID 목록 순서대로 인증 조회 (쿼리 한 번, 삭제된 인증은 제외) */
+  private List<VerificationFeedRow> findInOrder(List<Long> ids) {
+    Map<Long, VerificationFeedRow> byId =
+        feedQueryRepository.findAllByIds(ids).stream()
+            .collect(Collectors.toMap(VerificationFeedRow::id, Function.identity()));
+    return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+  }
 
-    List<Long> verificationIds =
-        verifications.stream().map(GroupChallengeVerification::getId).toList();
+  private CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> toPage(
+      List<VerificationFeedRow> rows, int size, Long loginMemberId) {
+    List<Long> verificationIds = rows.stream().map(VerificationFeedRow::id).toList();
 
     Map<Long, Map<Object, Object>> redisStats =
-        verificationIds.stream()
-            .collect(Collectors.toMap(id -> id, id -> verificationStatCacheService.getStats(id)));
+        verificationStatCacheService.getStatsBulk(verificationIds);
 
     Set<Long> likedIds =
         loginMemberId != null
-            ? likeRepository.findLikedVerificationIdsByMemberId(loginMemberId, verificationIds)
+            ? verificationLikeCacheService.findLikedIds(loginMemberId, verificationIds)
             : Set.of();
 
     return CursorPaginationHelper.paginateWithTimestamp(
-        verifications,
+        rows,
         size,
-        v ->
+        row ->
             GroupChallengeVerificationFeedSummaryDto.from(
-                v, redisStats.get(v.getId()), likedIds.contains(v.getId())),
+                row, redisStats.get(row.id()), likedIds.contains(row.id())),
         dto -> dto.id(),
         dto -> dto.createdAt().toLocalDateTime());
   }
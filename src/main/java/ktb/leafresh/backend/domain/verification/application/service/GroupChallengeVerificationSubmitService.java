@@ -5,6 +5,7 @@ import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeP
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeParticipantRecordRepository;
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeRepository;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.domain.event.GroupVerificationCreatedEvent;
 import ktb.leafresh.backend.domain.verification.domain.support.validator.VerificationSubmitValidator;
 import ktb.leafresh.backend.domain.verification.infrastructure.dto.request.AiVerificationRequestDto;
 import ktb.leafresh.backend.domain.verification.infrastructure.publisher.AiVerificationPublisher;
@@ -18,12 +19,14 @@ import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -36,6 +39,7 @@ public class GroupChallengeVerificationSubmitService {
   private final VerificationSubmitValidator validator;
   private final StringRedisTemplate redisTemplate;
   private final AiVerificationPublisher pubSubPublisher;
+  private final ApplicationEventPublisher eventPublisher;
 
   private static final String TOTAL_VERIFICATION_COUNT_KEY = "leafresh:totalVerifications:count";
 
@@ -69,6 +73,7 @@ public class GroupChallengeVerificationSubmitService {
     GroupChallengeVerification verification =
         GroupChallengeVerification.builder()
             .participantRecord(record)
+            .category(challenge.getCategory())
             .imageUrl(dto.imageUrl())
             .content(dto.content())
             .status(ChallengeStatus.PENDING_APPROVAL)
@@ -76,6 +81,13 @@ public class GroupChallengeVerificationSubmitService {
 
     verificationRepository.save(verification);
 
+    // 커밋 후 피드 타임라인에 추가
+    eventPublisher.publishEvent(
+        new GroupVerificationCreatedEvent(
+            verification.getId(),
+            challenge.getCategory().getName(),
+            Objects.requireNonNullElse(verification.getCreatedAt(), now)));
+
     AiVerificationRequestDto aiRequest =
         AiVerificationRequestDto.builder()
             .verificationId(verification.getId())
@@ -4,6 +4,7 @@ import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.domain.verification.presentation.dto.request.GroupVerificationCommentCreateRequestDto;
@@ -11,7 +12,6 @@ import ktb.leafresh.backend.domain.verification.presentation.dto.response.Commen
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.MemberErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,7 +25,7 @@ public class GroupVerificationCommentCreateService {
   private final CommentRepository commentRepository;
   private final GroupChallengeVerificationRepository verificationRepository;
   private final MemberRepository memberRepository;
-  private final VerificationStatRedisLuaService verificationStatRedisLuaService;
+  private final VerificationStatCounterBuffer verificationStatCounterBuffer;
 
   @Transactional
   public CommentResponseDto createComment(
@@ -53,7 +53,7 @@ public class GroupVerificationCommentCreateService {
               .build();
 
       commentRepository.save(comment);
-      verificationStatRedisLuaService.increaseVerificationCommentCount(verificationId);
+      verificationStatCounterBuffer.increaseCommentCount(verificationId);
 
       log.info(
           "[댓글 생성 완료] verificationId={}, commentId={}, memberId={}",
@@ -114,7 +114,7 @@ public class GroupVerificationCommentCreateService {
               .build();
 
       commentRepository.save(reply);
-      verificationStatRedisLuaService.increaseVerificationCommentCount(verificationId);
+      verificationStatCounterBuffer.increaseCommentCount(verificationId);
 
       log.info(
           "[대댓글 생성 완료] verificationId={}, parentCommentId={}, replyId={}, memberId={}",
@@ -2,12 +2,12 @@ package ktb.leafresh.backend.domain.verification.application.service;
 
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.GlobalErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,7 +20,7 @@ public class GroupVerificationCommentDeleteService {
 
   private final GroupChallengeVerificationRepository verificationRepository;
   private final CommentRepository commentRepository;
-  private final VerificationStatRedisLuaService verificationStatRedisLuaService;
+  private final VerificationStatCounterBuffer verificationStatCounterBuffer;
 
   @Transactional
   public void deleteComment(Long challengeId, Long verificationId, Long commentId, Long memberId) {
@@ -52,7 +52,7 @@ public class GroupVerificationCommentDeleteService {
       }
 
       comment.softDelete();
-      verificationStatRedisLuaService.decreaseVerificationCommentCount(verificationId);
+      verificationStatCounterBuffer.decreaseCommentCount(verificationId);
 
       log.info("[댓글 삭제 완료] commentId={}, memberId={}", commentId, memberId);
     } catch (CustomException e) {
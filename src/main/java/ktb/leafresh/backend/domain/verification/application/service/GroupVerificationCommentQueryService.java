@@ -1,20 +1,30 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
+import ktb.leafresh.backend.domain.verification.application.dto.CommentReplyCount;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
-import ktb.leafresh.backend.domain.verification.presentation.assembler.CommentHierarchyBuilder;
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.CommentSummaryResponseDto;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationHelper;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * 인증 댓글 스레드 조회.
+ *
+ * <p>최상위 댓글만 id 커서로 페이지 조회하고 대댓글은 개수만 함께 내려준다. 대댓글은 스레드별 별도 커서로 조회하며, 모든 댓글이 최상위 댓글 ID 를
+ * 저장하고 있으므로 부모를 따라 올라가지 않고 인덱스 조회 한 번으로 스레드를 읽는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,17 +34,60 @@ public class GroupVerificationCommentQueryService {
   private final CommentRepository commentRepository;
 
   @Transactional(readOnly = true)
-  public List<CommentSummaryResponseDto> getComments(
-      Long challengeId, Long verificationId, Long loginMemberId) {
-    GroupChallengeVerification verification =
-        verificationRepository
-            .findByIdAndDeletedAtIsNull(verificationId)
-            .orElseThrow(
-                () -> new CustomException(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND));
-
-    // 인증 ID 기반 댓글 + 작성자 모두 fetch
-    List<Comment> comments = commentRepository.findAllByVerificationIdWithMember(verificationId);
-
-    return CommentHierarchyBuilder.build(comments, loginMemberId);
+  public CursorPaginationResult<CommentSummaryResponseDto> getComments(
+      Long challengeId, Long verificationId, Long cursorId, int size, Long loginMemberId) {
+    verificationRepository
+        .findByIdAndDeletedAtIsNull(verificationId)
+        .orElseThrow(
+            () -> new CustomException(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND));
+
+    List<Comment> roots =
+        commentRepository.findRootComments(
+            verificationId, cursorOf(cursorId), PageRequest.of(0, size + 1));
+    List<Long> rootIds = roots.stream().limit(size).map(Comment::getId).toList();
+    Map<Long, Long> replyCounts =
+        rootIds.isEmpty()
+            ? Map.of()
+            : commentRepository.countRepliesByRootCommentIds(rootIds).stream()
+                .collect(
+                    Collectors.toMap(
+                        CommentReplyCount::rootCommentId, CommentReplyCount::replyCount));
+
+    return CursorPaginationHelper.paginate(
+        roots,
+        size,
+        root ->
+            CommentSummaryResponseDto.collapsedRoot(
+                root, loginMemberId, replyCounts.getOrDefault(root.getId(), 0L)),
+        CommentSummaryResponseDto::getId);
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPaginationResult<CommentSummaryResponseDto> getReplies(
+      Long challengeId,
+      Long verificationId,
+      Long commentId,
+      Long cursorId,
+      int size,
+      Long loginMemberId) {
+    Comment comment =
+        commentRepository
+            .findById(commentId)
+            .filter(c -> c.getVerification().getId().equals(verificationId))
+            .orElseThrow(() -> new CustomException(VerificationErrorCode.COMMENT_NOT_FOUND));
+
+    List<Comment> replies =
+        commentRepository.findReplies(
+            comment.getThreadRootId(), cursorOf(cursorId), PageRequest.of(0, size + 1));
+
+    return CursorPaginationHelper.paginate(
+        replies,
+        size,
+        reply -> CommentSummaryResponseDto.from(reply, loginMemberId, false),
+        CommentSummaryResponseDto::getId);
+  }
+
+  private long cursorOf(Long cursorId) {
+    return cursorId != null ? cursorId : 0L;
   }
 }
@@ -1,88 +1,68 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
-import ktb.leafresh.backend.domain.member.domain.entity.Member;
-import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
-import ktb.leafresh.backend.domain.verification.domain.entity.Like;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.global.exception.CustomException;
-import ktb.leafresh.backend.global.exception.GlobalErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 인증 좋아요/취소 (write-behind).
+ *
+ * <p>요청 경로에서는 Redis 좋아요 SET 스크립트 한 번만 호출하고, 상태가 실제로 바뀐 경우에만 좋아요 수를 통계 버퍼에 더한다. DB 행은
+ * {@link VerificationLikeSyncService} 가 모아서 반영한다. 인증별 SET 이 없을 때만 인증 존재 여부를 확인하고 DB 좋아요로 SET 을 채우며,
+ * 회원별 좋아요 SET 이 없으면 역시 DB 로 채운 뒤 다시 반영한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class GroupVerificationLikeService {
 
+  private static final long MISSING_LIKERS = -1;
+  private static final long MISSING_MEMBER_LIKES = -2;
+
   private final GroupChallengeVerificationRepository verificationRepository;
   private final LikeRepository likeRepository;
-  private final MemberRepository memberRepository;
-  private final VerificationStatRedisLuaService verificationStatRedisLuaService;
+  private final VerificationLikeCacheService verificationLikeCacheService;
+  private final VerificationStatCounterBuffer verificationStatCounterBuffer;
 
-  @Transactional
   public boolean likeVerification(Long verificationId, Long memberId) {
-    GroupChallengeVerification verification =
-        verificationRepository
-            .findByIdAndDeletedAtIsNull(verificationId)
-            .orElseThrow(
-                () -> new CustomException(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND));
-
-    Member member =
-        memberRepository
-            .findByIdAndDeletedAtIsNull(memberId)
-            .orElseThrow(() -> new CustomException(GlobalErrorCode.UNAUTHORIZED));
-
-    // 1. 삭제되지 않은 좋아요가 이미 있는 경우 → true 반환
-    if (likeRepository.existsByVerificationIdAndMemberIdAndDeletedAtIsNull(
-        verificationId, memberId)) {
-      return true;
-    }
-
-    // 2. soft delete된 좋아요가 있는 경우 → 복구
-    Like like =
-        likeRepository.findByVerificationIdAndMemberId(verificationId, memberId).orElse(null);
-
-    if (like != null && like.isDeleted()) {
-      like.restoreLike();
-      verificationStatRedisLuaService.increaseVerificationLikeCount(verificationId);
-      return true;
+    if (toggle(verificationId, memberId, true)) {
+      verificationStatCounterBuffer.increaseLikeCount(verificationId);
     }
-
-    likeRepository.save(Like.builder().verification(verification).member(member).build());
-
-    verificationStatRedisLuaService.increaseVerificationLikeCount(verificationId);
     return true;
   }
 
-  @Transactional
   public boolean cancelLike(Long verificationId, Long memberId) {
-    GroupChallengeVerification verification =
-        verificationRepository
-            .findByIdAndDeletedAtIsNull(verificationId)
-            .orElseThrow(
-                () -> new CustomException(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND));
-
-    Member member =
-        memberRepository
-            .findByIdAndDeletedAtIsNull(memberId)
-            .orElseThrow(() -> new CustomException(GlobalErrorCode.UNAUTHORIZED));
-
-    Like like =
-        likeRepository
-            .findByVerificationIdAndMemberIdAndDeletedAtIsNull(verificationId, memberId)
-            .orElse(null);
+    // 이미 취소된 상태여도 200 반환
+    if (toggle(verificationId, memberId, false)) {
+      verificationStatCounterBuffer.decreaseLikeCount(verificationId);
+    }
+    return false;
+  }
 
-    if (like == null) {
-      // 이미 취소된 상태여도 200 반환
-      return false;
+  /** @return 좋아요 상태가 실제로 바뀌었으면 true */
+  private boolean toggle(Long verificationId, Long memberId, boolean liked) {
+    long result = verificationLikeCacheService.toggle(verificationId, memberId, liked);
+    if (result == MISSING_LIKERS) {
+      seed(verificationId);
+      result = verificationLikeCacheService.toggle(verificationId, memberId, liked);
+    }
+    if (result == MISSING_MEMBER_LIKES) {
+      verificationLikeCacheService.seedMember(memberId);
+      result = verificationLikeCacheService.toggle(verificationId, memberId, liked);
     }
+    return result > 0;
+  }
 
-    like.softDelete();
-    verificationStatRedisLuaService.decreaseVerificationLikeCount(verificationId);
-    return false;
+  private void seed(Long verificationId) {
+    verificationRepository
+        .findByIdAndDeletedAtIsNull(verificationId)
+        .orElseThrow(
+            () -> new CustomException(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND));
+    verificationLikeCacheService.seed(
+        verificationId, likeRepository.findMemberIdsByVerificationId(verificationId));
   }
 }
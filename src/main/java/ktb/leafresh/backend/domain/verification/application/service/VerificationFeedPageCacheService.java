@@ -0,0 +1,151 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedPage;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationFeedPageCache;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedListResponseDto;
+import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedSummaryDto;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.VerificationErrorCode;
+import ktb.leafresh.backend.global.response.ApiResponse;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 커서 없는 피드 첫 페이지를 직렬화된 JSON 으로 캐시해 응답.
+ *
+ * <p>캐시는 로그인 여부와 무관한 익명 응답만 담는다. 로그인 사용자는 같은 JSON 에 좋아요 여부만 Redis 에서 읽어 덮어쓰므로 첫 페이지 요청은 적중 시
+ * DB 를 거치지 않는다. 인증 등록과 통계 반영 이벤트가 캐시된 페이지를 다시 만들고, 짧은 TTL 이 그 사이의 통계 오차를 제한한다.
+ *
+ * <p>카테고리는 요청 값 그대로 들어오므로 실제 카테고리만 캐시하고, 없는 이름은 캐시 없이 일반 조회로 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VerificationFeedPageCacheService {
+
+  static final String SUCCESS_MESSAGE = "단체 챌린지 인증 내역 목록 조회에 성공했습니다.";
+
+  private final GroupChallengeVerificationFeedService feedService;
+  private final VerificationFeedPageCache feedPageCache;
+  private final VerificationLikeCacheService verificationLikeCacheService;
+  private final GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+  private final ObjectMapper objectMapper;
+
+  @Value("${verification.feed-page.enabled:true}")
+  private boolean enabled;
+
+  /** 첫 페이지 응답 JSON (캐시 미스면 만들어 저장) */
+  public String getFirstPage(String sort, String category, int size, Long loginMemberId) {
+    VerificationFeedPage page = VerificationFeedPage.of(sort, category, size);
+    String json =
+        isCacheable(page) ? feedPageCache.get(page).orElseGet(() -> rebuild(page)) : render(page);
+    return loginMemberId != null ? mergeLiked(json, loginMemberId) : json;
+  }
+
+  /**
+   * 해당 카테고리와 전체 피드의 캐시된 첫 페이지를 다시 만든다. 만료된 페이지는 만들지 않고 목록에서 뺀다.
+   *
+   * @param category null 이면 캐시된 모든 페이지
+   * @return 다시 만든 페이지 수
+   */
+  public int refresh(String category) {
+    if (!enabled) return 0;
+
+    int refreshed = 0;
+    for (String pageId : feedPageCache.pageIds()) {
+      Optional<VerificationFeedPage> parsed = VerificationFeedPage.parse(pageId);
+      if (parsed.isEmpty()) {
+        feedPageCache.forget(pageId);
+        continue;
+      }
+      VerificationFeedPage page = parsed.get();
+      if (!page.covers(category)) continue;
+      // 한 페이지의 실패가 나머지 페이지 갱신을 막지 않게 한다 (실패한 페이지는 TTL 만료 후 다시 만들어진다)
+      try {
+        if (!feedPageCache.exists(page)) {
+          feedPageCache.forget(pageId);
+          continue;
+        }
+        rebuild(page);
+        refreshed++;
+      } catch (Exception e) {
+        log.warn("[피드 첫 페이지 갱신 실패] page={}, error={}", pageId, e.getMessage());
+      }
+    }
+    return refreshed;
+  }
+
+  private boolean isCacheable(VerificationFeedPage page) {
+    return enabled
+        && (page.category() == null || feedQueryRepository.existsCategory(page.category()));
+  }
+
+  /** 인증 등록 직후 갱신 (요청 스레드를 잡지 않도록 비동기, 실패해도 TTL 만료 후 다시 만들어진다) */
+  @Async
+  public void refreshAsync(String category, Long verificationId) {
+    try {
+      refresh(category);
+    } catch (Exception e) {
+      log.warn("[피드 첫 페이지 갱신 실패] verificationId={}, error={}", verificationId, e.getMessage());
+    }
+  }
+
+  private String rebuild(VerificationFeedPage page) {
+    String json = render(page);
+    feedPageCache.put(page, json);
+    return json;
+  }
+
+  private String render(VerificationFeedPage page) {
+    CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
+        page.isPopular()
+            ? feedService.getPopularGroupChallengeVerifications(
+                null, page.size(), page.category(), null)
+            : feedService.getGroupChallengeVerifications(
+                null, null, page.size(), page.category(), null);
+    try {
+      return objectMapper.writeValueAsString(
+          ApiResponse.success(
+              SUCCESS_MESSAGE, GroupChallengeVerificationFeedListResponseDto.from(result)));
+    } catch (JsonProcessingException e) {
+      log.error("[피드 첫 페이지 직렬화 실패] page={}", page.id(), e);
+      throw new CustomException(VerificationErrorCode.VERIFICATION_LIST_QUERY_FAILED);
+    }
+  }
+
+  /** 익명 응답의 isLiked 만 로그인 사용자 기준으로 덮어쓴다 */
+  private String mergeLiked(String json, Long loginMemberId) {
+    try {
+      JsonNode root = objectMapper.readTree(json);
+      JsonNode items = root.path("data").path("verifications");
+      if (items.isEmpty()) return json;
+
+      List<Long> ids = new ArrayList<>(items.size());
+      items.forEach(item -> ids.add(item.path("id").asLong()));
+      Set<Long> likedIds = verificationLikeCacheService.findLikedIds(loginMemberId, ids);
+
+      for (JsonNode item : items) {
+        ((ObjectNode) item).put("isLiked", likedIds.contains(item.path("id").asLong()));
+      }
+      return objectMapper.writeValueAsString(root);
+    } catch (JsonProcessingException e) {
+      log.error("[피드 첫 페이지 좋아요 병합 실패] memberId={}", loginMemberId, e);
+      throw new CustomException(VerificationErrorCode.VERIFICATION_LIST_QUERY_FAILED);
+    }
+  }
+}
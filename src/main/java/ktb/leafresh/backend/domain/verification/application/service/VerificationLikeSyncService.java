@@ -0,0 +1,80 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationLikeChange;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeBatchJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 에 쌓인 좋아요 변경을 DB 에 반영.
+ *
+ * <p>변경 해시를 한 번에 가져와 청크마다 batchUpdate 로 반영하고, 반영한 청크는 바로 변경 해시에서 뺀다. 삭제된 인증/회원처럼 제약 조건 위반으로
+ * 다시 반영해도 실패할 변경이 섞인 청크는 한 건씩 다시 반영해 그 변경만 dead-letter 로 격리하므로 동기화가 멈추지 않는다. 그 밖의 실패(DB
+ * 장애 등)는 남은 변경을 다음 주기에 다시 반영한다 (SQL 이 멱등). 좋아요 수 증감은 통계 버퍼/증감분 동기화가 따로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VerificationLikeSyncService {
+
+  private final VerificationLikeCacheService verificationLikeCacheService;
+  private final LikeBatchJdbcRepository likeBatchJdbcRepository;
+
+  @Value("${verification.like.sync-chunk-size:500}")
+  private int chunkSize;
+
+  /**
+   * @return DB 에 반영한 변경 수
+   */
+  public int sync() {
+    List<VerificationLikeChange> changes = verificationLikeCacheService.drainPending();
+    if (changes.isEmpty()) return 0;
+
+    int applied = 0;
+    for (int from = 0; from < changes.size(); from += chunkSize) {
+      applied += applyChunk(changes.subList(from, Math.min(from + chunkSize, changes.size())));
+    }
+    verificationLikeCacheService.completePending();
+
+    log.info("[VerificationLikeSync] 동기화 완료 - 반영 변경 수={}/{}", applied, changes.size());
+    return applied;
+  }
+
+  private int applyChunk(List<VerificationLikeChange> chunk) {
+    try {
+      likeBatchJdbcRepository.applyChanges(chunk);
+      verificationLikeCacheService.completeChanges(chunk);
+      return chunk.size();
+    } catch (DataIntegrityViolationException e) {
+      return applyOneByOne(chunk);
+    }
+  }
+
+  private int applyOneByOne(List<VerificationLikeChange> chunk) {
+    List<VerificationLikeChange> applied = new ArrayList<>(chunk.size());
+    List<VerificationLikeChange> rejected = new ArrayList<>();
+    for (VerificationLikeChange change : chunk) {
+      try {
+        likeBatchJdbcRepository.applyChanges(List.of(change));
+        applied.add(change);
+      } catch (DataIntegrityViolationException e) {
+        rejected.add(change);
+        log.warn(
+            "[VerificationLikeSync] 반영 불가 변경 격리 - verificationId={}, memberId={}, error={}",
+            change.verificationId(),
+            change.memberId(),
+            e.getMostSpecificCause().getMessage());
+      }
+    }
+    verificationLikeCacheService.completeChanges(applied);
+    verificationLikeCacheService.deadLetter(rejected);
+    return applied.size();
+  }
+}
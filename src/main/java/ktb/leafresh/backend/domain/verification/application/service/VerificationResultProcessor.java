@@ -2,9 +2,10 @@ package ktb.leafresh.backend.domain.verification.application.service;
 
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeParticipantRecord;
-import ktb.leafresh.backend.domain.member.application.service.BadgeGrantManager;
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxService;
 import ktb.leafresh.backend.domain.member.application.service.RewardGrantService;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
 import ktb.leafresh.backend.domain.notification.application.service.NotificationCreateService;
 import ktb.leafresh.backend.domain.notification.domain.entity.enums.NotificationType;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
@@ -21,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Slf4j
@@ -32,7 +34,7 @@ public class VerificationResultProcessor {
   private final PersonalChallengeVerificationRepository personalChallengeVerificationRepository;
   private final NotificationCreateService notificationCreateService;
   private final RewardGrantService rewardGrantService;
-  private final BadgeGrantManager badgeGrantManager;
+  private final MemberActivityOutboxService memberActivityOutboxService;
 
   @Transactional
   public void process(Long verificationId, VerificationResultRequestDto dto) {
@@ -64,6 +66,8 @@ public class VerificationResultProcessor {
                   throw new CustomException(VerificationErrorCode.VERIFICATION_NOT_FOUND);
                 });
 
+    // 같은 결과가 다시 들어와도 뱃지 카운터는 한 번만 센다
+    boolean firstSuccess = isSuccess && verification.getStatus() != ChallengeStatus.SUCCESS;
     ChallengeStatus newStatus = isSuccess ? ChallengeStatus.SUCCESS : ChallengeStatus.FAILURE;
     verification.markVerified(newStatus);
     log.info("[Processor 상태 업데이트 완료] verificationId={}, newStatus={}", verificationId, newStatus);
@@ -84,22 +88,34 @@ public class VerificationResultProcessor {
         member.getId(),
         challenge.getTitle());
 
+    // 지급은 아웃박스에 기록하고 커밋 후 회원별로 모아 처리한다 (지급 여부 플래그는 여기서 바로 남긴다)
+    int leafPoints = 0;
     if (isSuccess && !verification.isRewarded()) {
-      int reward = challenge.getLeafReward();
-      rewardGrantService.grantLeafPoints(member, reward);
+      leafPoints += challenge.getLeafReward();
       verification.markRewarded();
-      log.info("[Processor 1차 보상 지급 완료] memberId={}, reward={}", member.getId(), reward);
     }
 
     if (record.isAllSuccess()
         && record.getVerifications().size() == challenge.getDurationInDays()
         && !record.hasReceivedParticipationBonus()) {
-      rewardGrantService.grantParticipationBonus(member, record);
+      leafPoints += rewardGrantService.participationBonusOf(record);
       record.markParticipationBonusRewarded();
-      log.info("[Processor 2차 보너스 지급 완료] memberId={}, bonusGranted=true", member.getId());
     }
 
-    badgeGrantManager.evaluateAllAndGrant(member);
+    BadgeActivity activity =
+        firstSuccess
+            ? BadgeActivity.group(
+                challenge.getCategory().getName(),
+                challenge.getId(),
+                Boolean.TRUE.equals(challenge.getEventFlag()) ? challenge.getTitle() : null,
+                activityDate(verification.getCreatedAt()))
+            : null;
+    memberActivityOutboxService.enqueue(member, leafPoints, activity);
+    log.info(
+        "[Processor 보상/뱃지 활동 기록 완료] memberId={}, leafPoints={}, badgeActivity={}",
+        member.getId(),
+        leafPoints,
+        activity != null);
     log.info("[Processor 단체 인증 결과 저장 로직 완료] verificationId={}", verificationId);
   }
 
@@ -122,6 +138,7 @@ public class VerificationResultProcessor {
                   return new CustomException(VerificationErrorCode.VERIFICATION_NOT_FOUND);
                 });
 
+    boolean firstSuccess = isSuccess && verification.getStatus() != ChallengeStatus.SUCCESS;
     ChallengeStatus newStatus = isSuccess ? ChallengeStatus.SUCCESS : ChallengeStatus.FAILURE;
     verification.markVerified(newStatus);
     log.info(
@@ -139,6 +156,7 @@ public class VerificationResultProcessor {
         verification.getPersonalChallenge().getId());
     log.info("[Processor 알림 생성 완료] memberId={}, challengeTitle={}", member.getId(), challengeTitle);
 
+    int leafPoints = 0;
     if (isSuccess) {
       if (verification.isRewarded()) {
         log.warn(
@@ -146,18 +164,26 @@ public class VerificationResultProcessor {
             verificationId,
             member.getId());
       } else {
-        int reward = verification.getPersonalChallenge().getLeafReward();
-        rewardGrantService.grantLeafPoints(member, reward);
+        leafPoints = verification.getPersonalChallenge().getLeafReward();
         verification.markRewarded();
-        log.info(
-            "[Processor 보상 지급 완료] verificationId={}, memberId={}, reward={}",
-            verificationId,
-            member.getId(),
-            reward);
       }
     }
 
-    badgeGrantManager.evaluateAllAndGrant(member);
+    BadgeActivity activity =
+        firstSuccess
+            ? BadgeActivity.personal(challengeTitle, activityDate(verification.getCreatedAt()))
+            : null;
+    memberActivityOutboxService.enqueue(member, leafPoints, activity);
+    log.info(
+        "[Processor 보상/뱃지 활동 기록 완료] verificationId={}, memberId={}, leafPoints={}",
+        verificationId,
+        member.getId(),
+        leafPoints);
     log.info("[Processor 개인 인증 결과 저장 및 보상 로직 완료]");
   }
+
+  // 연속 일수는 결과 수신일이 아니라 인증 제출일 기준
+  private LocalDate activityDate(LocalDateTime createdAt) {
+    return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+  }
 }
@@ -0,0 +1,75 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.VerificationStatBatchJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Redis 에 쌓인 인증 통계 증감분을 DB 에 반영.
+ *
+ * <p>dirty 집합을 반영 중 집합으로 RENAME 해 청크 단위로 비울 때까지 가져오고, 청크마다 증감분 해시를 읽어 batchUpdate 한 번으로 더한다. DB
+ * 값을 다시 읽지 않으며 표시용 통계 해시도 지우지 않으므로 다음 조회가 DB 재적재로 이어지지 않는다.
+ *
+ * <p>ID 와 증감분은 DB 커밋이 끝난 뒤에야 Redis 에서 빠진다. 반영에 실패하거나 도중에 인스턴스가 죽으면 반영 중 집합과 해시가 그대로 남아 다음
+ * 실행에서 다시 반영된다. 커밋 직후 완료 처리 전에 죽은 청크만 한 번 더 더해질 수 있다 (유실 대신 중복을 택함).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VerificationStatSyncService {
+
+  private final VerificationStatCacheService verificationStatCacheService;
+  private final VerificationStatBatchJdbcRepository verificationStatBatchJdbcRepository;
+
+  @Value("${verification.stat.sync-chunk-size:500}")
+  private int chunkSize;
+
+  /** 한 번의 실행에서 처리할 최대 청크 수 (락 점유 시간 상한) */
+  @Value("${verification.stat.sync-max-chunks:200}")
+  private int maxChunks;
+
+  /**
+   * @return DB 에 반영한 인증 수
+   */
+  public int sync() {
+    int synced = 0;
+    for (int chunk = 0; chunk < maxChunks; chunk++) {
+      List<Long> ids = verificationStatCacheService.claimDirty(chunkSize);
+      if (ids.isEmpty()) break;
+
+      List<VerificationStatDelta> deltas =
+          verificationStatCacheService.readDeltas(ids).stream()
+              .filter(delta -> !delta.isZero())
+              .toList();
+      if (!deltas.isEmpty()) {
+        try {
+          verificationStatBatchJdbcRepository.increaseCounts(deltas);
+        } catch (Exception e) {
+          log.error(
+              "[VerificationStatSync] 청크 반영 실패, 다음 주기에 재시도 - size={}, message={}",
+              deltas.size(),
+              e.getMessage(),
+              e);
+          break;
+        }
+      }
+
+      verificationStatCacheService.completeDeltas(ids, deltas);
+      if (deltas.isEmpty()) continue;
+      verificationStatCacheService.touchStats(
+          deltas.stream().map(VerificationStatDelta::verificationId).toList());
+      synced += deltas.size();
+    }
+
+    if (synced > 0) {
+      log.info("[VerificationStatSync] 동기화 완료 - 반영 대상 수={}", synced);
+    }
+    return synced;
+  }
+}
@@ -0,0 +1,68 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
+import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeCategoryRepository;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTimelineService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 피드 타임라인 재구성. 전체와 카테고리별로 최신 max-size 개를 DB 에서 읽어 타임라인에 병합한다. 기존 항목을 지우지 않으므로 재구성 중 등록된
+ * 인증도 사라지지 않는다. 병합이 끝나야 seeded 표식을 남기므로 그 전까지 피드는 DB 에서 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VerificationTimelineRebuildService {
+
+  private final GroupChallengeCategoryRepository categoryRepository;
+  private final GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+  private final VerificationTimelineService verificationTimelineService;
+
+  @Value("${verification.timeline.max-size:1000}")
+  private int maxSize;
+
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  /** 배포 직후나 Redis 초기화 뒤 타임라인이 비어 있으면 한 번만 재구성 (인스턴스 안에서 중복 실행 방지) */
+  @Async
+  public void rebuildIfUnseeded() {
+    if (verificationTimelineService.isSeeded() || !rebuilding.compareAndSet(false, true)) return;
+    try {
+      rebuild();
+    } catch (Exception e) {
+      log.warn("[VerificationTimelineRebuildService] 피드 타임라인 재구성 실패 - error={}", e.getMessage());
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  /** @return 반영한 타임라인 항목 수 (전체 + 카테고리) */
+  public int rebuild() {
+    List<VerificationTimelineEntry> global =
+        feedQueryRepository.findLatestTimelineEntries(null, maxSize);
+    verificationTimelineService.merge(null, global, true);
+    int merged = global.size();
+
+    for (GroupChallengeCategory category : categoryRepository.findAll()) {
+      List<VerificationTimelineEntry> entries =
+          feedQueryRepository.findLatestTimelineEntries(category.getName(), maxSize);
+      verificationTimelineService.merge(category.getName(), entries, false);
+      merged += entries.size();
+    }
+    verificationTimelineService.markSeeded();
+
+    log.info("[VerificationTimelineRebuildService] 피드 타임라인 재구성 완료 - 반영={}건", merged);
+    return merged;
+  }
+}
@@ -6,7 +6,13 @@ import ktb.leafresh.backend.global.common.entity.BaseEntity;
 import lombok.*;
 
 @Entity
-@Table(name = "comments", indexes = @Index(name = "idx_comment_deleted", columnList = "deleted_at"))
+@Table(
+    name = "comments",
+    indexes = {
+      @Index(name = "idx_comment_deleted", columnList = "deleted_at"),
+      @Index(name = "idx_comment_thread", columnList = "verification_id, root_comment_id, id"),
+      @Index(name = "idx_comment_root", columnList = "root_comment_id, id")
+    })
 @Getter
 @Builder
 @AllArgsConstructor
@@ -29,9 +35,25 @@ public class Comment extends BaseEntity {
   @JoinColumn(name = "parent_comment_id")
   private Comment parentComment;
 
+  /** 스레드 최상위 댓글 ID (최상위 댓글이면 null). 부모를 따라 올라가지 않고 스레드를 인덱스로 조회하기 위해 저장 */
+  @Column(name = "root_comment_id")
+  private Long rootCommentId;
+
   @Column(nullable = false)
   private String content;
 
+  @PrePersist
+  void assignRootComment() {
+    if (parentComment != null && rootCommentId == null) {
+      rootCommentId = parentComment.getThreadRootId();
+    }
+  }
+
+  /** 이 댓글이 속한 스레드의 최상위 댓글 ID */
+  public Long getThreadRootId() {
+    return rootCommentId != null ? rootCommentId : id;
+  }
+
   public void updateContent(String content) {
     this.content = content;
   }
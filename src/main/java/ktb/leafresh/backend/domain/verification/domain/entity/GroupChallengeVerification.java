@@ -1,6 +1,7 @@
 package ktb.leafresh.backend.domain.verification.domain.entity;
 
 import jakarta.persistence.*;
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeParticipantRecord;
 import ktb.leafresh.backend.global.common.entity.BaseEntity;
 import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
@@ -12,7 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "group_challenge_verifications")
+@Table(
+    name = "group_challenge_verifications",
+    indexes = {
+      @Index(name = "idx_gcv_feed_category", columnList = "category_id, created_at, id"),
+      @Index(name = "idx_gcv_feed_latest", columnList = "deleted_at, created_at, id")
+    })
 @Getter
 @Builder
 @AllArgsConstructor
@@ -27,6 +33,11 @@ public class GroupChallengeVerification extends BaseEntity {
   @JoinColumn(name = "participant_record_id", nullable = false)
   private GroupChallengeParticipantRecord participantRecord;
 
+  /** 피드 카테고리 필터용 챌린지 카테고리 복제 (챌린지 카테고리 변경 시 함께 갱신) */
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "category_id")
+  private GroupChallengeCategory category;
+
   @OneToMany(mappedBy = "verification", cascade = CascadeType.ALL, orphanRemoval = true)
   @Builder.Default
   private List<Like> likes = new ArrayList<>();
@@ -0,0 +1,6 @@
+package ktb.leafresh.backend.domain.verification.domain.event;
+
+import java.time.LocalDateTime;
+
+public record GroupVerificationCreatedEvent(
+    Long verificationId, String category, LocalDateTime createdAt) {}
@@ -2,11 +2,88 @@ package ktb.leafresh.backend.domain.verification.infrastructure.cache;
 
 public class VerificationCacheKeys {
 
+  // 전체 피드 키 접미사. 카테고리 이름은 대문자 enum 이름이라 겹치지 않는다 ("ALL" 도 실제 카테고리)
+  private static final String GLOBAL = "global";
+
   public static String stat(Long verificationId) {
     return "verification:stat:" + verificationId;
   }
 
+  /** DB 에 아직 반영되지 않은 증감분 해시 (stat 해시는 화면 표시용 누적값) */
+  public static String delta(Long verificationId) {
+    return "verification:stat:delta:" + verificationId;
+  }
+
+  /** 고유 조회자 HyperLogLog */
+  public static String viewers(Long verificationId) {
+    return "verification:viewers:" + verificationId;
+  }
+
+  /** 좋아요한 회원 ID SET */
+  public static String likers(Long verificationId) {
+    return "verification:likers:" + verificationId;
+  }
+
+  /** 회원이 좋아요한 인증 ID SET ("좋아요 여부" 조회용) */
+  public static String memberLikes(Long memberId) {
+    return "member:liked-verifications:" + memberId;
+  }
+
+  /** DB 에 아직 반영되지 않은 좋아요 변경 해시 (field = 인증ID:회원ID, value = 1/0) */
+  public static String likePending() {
+    return "verification:like:pending";
+  }
+
+  /** DB 반영 중인 좋아요 변경 해시 (반영이 끝나야 지운다) */
+  public static String likeProcessing() {
+    return "verification:like:processing";
+  }
+
+  /** DB 에 반영할 수 없어 격리한 좋아요 변경 해시 (삭제된 인증/회원 등, 확인용) */
+  public static String likeDeadLetter() {
+    return "verification:like:dead-letter";
+  }
+
+  /** 인기 피드 ZSET (category 가 없으면 전체) */
+  public static String trending(String category) {
+    return "verification:trending:" + (category == null || category.isBlank() ? GLOBAL : category);
+  }
+
+  /** 최신순 피드 타임라인 ZSET, score 는 작성 시각(ms) (category 가 없으면 전체) */
+  public static String timeline(String category) {
+    return "verification:timeline:" + (category == null || category.isBlank() ? GLOBAL : category);
+  }
+
+  /** 타임라인이 DB 기준으로 한 번 채워졌음을 나타내는 표식 (없으면 타임라인을 믿지 않는다) */
+  public static String timelineSeeded() {
+    return "verification:timeline:seeded";
+  }
+
+  /** 익명 첫 페이지 피드 응답 JSON (pageId = 정렬:카테고리:크기) */
+  public static String feedPage(String pageId) {
+    return "verification:feed-page:" + pageId;
+  }
+
+  /** 캐시된 피드 첫 페이지 ID SET (이벤트 시 다시 만들 대상) */
+  public static String feedPageIds() {
+    return "verification:feed-page:ids";
+  }
+
+  public static String trendingEpoch() {
+    return "verification:trending:epoch";
+  }
+
+  /** 인기 피드 ZSET 키 목록 (rebase/trim 대상) */
+  public static String trendingKeys() {
+    return "verification:trending:keys";
+  }
+
   public static String dirtySetKey() {
     return "verification:stat:dirty";
   }
+
+  /** DB 반영 중인 인증 ID SET (반영이 끝난 ID 만 뺀다) */
+  public static String dirtyProcessingKey() {
+    return "verification:stat:dirty:processing";
+  }
 }
@@ -0,0 +1,60 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 익명 피드 첫 페이지 응답 캐시.
+ *
+ * <p>직렬화된 응답 JSON 을 그대로 저장하므로 적중 시 DB 조회, 통계 조회, 직렬화 없이 응답한다. 저장한 페이지 ID 는 목록 SET 에 남겨 두어 인증 등록이나
+ * 통계 반영 이벤트가 해당 페이지만 다시 만들 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationFeedPageCache {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${verification.feed-page.ttl-seconds:30}")
+  private long ttlSeconds;
+
+  public Optional<String> get(VerificationFeedPage page) {
+    return Optional.ofNullable(
+        stringRedisTemplate.opsForValue().get(VerificationCacheKeys.feedPage(page.id())));
+  }
+
+  /** 응답 저장 + 목록 SET 등록 (파이프라인 한 번) */
+  public void put(VerificationFeedPage page, String json) {
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              conn.setEx(VerificationCacheKeys.feedPage(page.id()), ttlSeconds, json);
+              conn.sAdd(VerificationCacheKeys.feedPageIds(), page.id());
+              return null;
+            });
+  }
+
+  public Set<String> pageIds() {
+    Set<String> ids = stringRedisTemplate.opsForSet().members(VerificationCacheKeys.feedPageIds());
+    return ids != null ? ids : Set.of();
+  }
+
+  public boolean exists(VerificationFeedPage page) {
+    return Boolean.TRUE.equals(
+        stringRedisTemplate.hasKey(VerificationCacheKeys.feedPage(page.id())));
+  }
+
+  /** 만료되어 아무도 보지 않거나 읽을 수 없는 페이지 ID 는 목록에서 뺀다 */
+  public void forget(String pageId) {
+    stringRedisTemplate.opsForSet().remove(VerificationCacheKeys.feedPageIds(), pageId);
+  }
+}
@@ -0,0 +1,204 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationLikeChange;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
+import ktb.leafresh.backend.global.util.redis.VerificationLikeRedisLuaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증 좋아요 write-behind 저장소.
+ *
+ * <p>인증마다 좋아요한 회원 SET 을, 회원마다 좋아요한 인증 SET 을 두고 좋아요/취소를 스크립트 한 번으로 두 SET 에 함께 반영한다. 회원
+ * SET 은 피드의 "좋아요 여부" 를 페이지 단위 SMISMEMBER 한 번으로 답하는 데 쓰며, 처음 필요할 때 DB 로 채운다. DB 미반영 변경은
+ * pending 해시에 쌓이며, 동기화 시 이 해시를 processing 키로 RENAME 해 가져가고 반영한 변경부터 지운다. 반영 도중 일시적으로 실패하면
+ * 남은 변경만 다음 주기에 다시 반영하고, 다시 반영해도 실패할 변경은 dead-letter 해시로 옮겨 processing 키가 계속 남지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationLikeCacheService {
+
+  // 좋아요가 하나도 없어도 SET 이 존재하도록 넣는 값 (ID 와 겹치지 않음)
+  private static final String SENTINEL = "_";
+  private static final int SCAN_COUNT = 500;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final VerificationLikeRedisLuaService verificationLikeRedisLuaService;
+  private final LikeRepository likeRepository;
+
+  @Value("${verification.like.ttl-days:7}")
+  private long ttlDays;
+
+  /** 회원별 SET 에 DB 에서 채울 최대 인증 수 (피드는 최근 인증 위주라 오래된 좋아요는 생략한다) */
+  @Value("${verification.like.member-seed-limit:1000}")
+  private int memberSeedLimit;
+
+  /**
+   * @return 1 상태 변경, 0 이미 같은 상태, -1 인증별 SET 없음 ({@link #seed} 후 다시 호출), -2 회원별 SET 없음
+   *     ({@link #seedMember} 후 다시 호출)
+   */
+  public long toggle(Long verificationId, Long memberId, boolean liked) {
+    return verificationLikeRedisLuaService.toggle(
+        VerificationCacheKeys.likers(verificationId),
+        VerificationCacheKeys.likePending(),
+        VerificationCacheKeys.memberLikes(memberId),
+        verificationId + ":" + memberId,
+        memberId.toString(),
+        verificationId.toString(),
+        liked,
+        ttlSeconds());
+  }
+
+  /** DB 기준 좋아요 회원으로 인증별 SET 을 채운다 (이미 있으면 그대로 둔다) */
+  public void seed(Long verificationId, Collection<Long> memberIds) {
+    verificationLikeRedisLuaService.seed(
+        VerificationCacheKeys.likers(verificationId), withSentinel(memberIds), ttlSeconds());
+  }
+
+  /**
+   * DB 기준 좋아요한 인증(최근 인증부터 {@code member-seed-limit} 개)으로 회원별 SET 을 채운다 (이미 있으면 그대로 둔다).
+   *
+   * <p>아직 DB 에 반영되지 않은 이 회원의 변경을 processing, pending 해시 순서로 덮어쓴다. DB 만 보면 방금 누른 좋아요가 빠지거나 방금 취소한
+   * 좋아요가 다시 들어간다.
+   *
+   * @return 채운 좋아요한 인증 ID
+   */
+  public Set<Long> seedMember(Long memberId) {
+    Set<Long> likedIds =
+        new HashSet<>(
+            likeRepository.findVerificationIdsByMemberId(
+                memberId, PageRequest.of(0, memberSeedLimit)));
+    applyUnsynced(VerificationCacheKeys.likeProcessing(), memberId, likedIds);
+    applyUnsynced(VerificationCacheKeys.likePending(), memberId, likedIds);
+    verificationLikeRedisLuaService.seed(
+        VerificationCacheKeys.memberLikes(memberId), withSentinel(likedIds), ttlSeconds());
+    return likedIds;
+  }
+
+  /** verificationIds 중 회원이 좋아요한 인증 (회원 SET 이 있으면 Redis 호출 한 번, 없으면 DB 로 채운 뒤 응답) */
+  public Set<Long> findLikedIds(Long memberId, List<Long> verificationIds) {
+    if (verificationIds.isEmpty()) return Set.of();
+
+    List<Boolean> flags =
+        verificationLikeRedisLuaService.isMembers(
+            VerificationCacheKeys.memberLikes(memberId),
+            verificationIds.stream().map(String::valueOf).toList());
+
+    Set<Long> likedIds = new HashSet<>();
+    if (flags == null) {
+      Set<Long> loaded = seedMember(memberId);
+      verificationIds.stream().filter(loaded::contains).forEach(likedIds::add);
+      return likedIds;
+    }
+    for (int i = 0; i < verificationIds.size(); i++) {
+      if (flags.get(i)) likedIds.add(verificationIds.get(i));
+    }
+    return likedIds;
+  }
+
+  /** 반영 중인 변경이 남아 있으면 그것을, 없으면 pending 해시를 가져온다 */
+  public List<VerificationLikeChange> drainPending() {
+    String processing = VerificationCacheKeys.likeProcessing();
+    if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(processing))) {
+      // pending 키는 동기화 작업만 옮기므로 (ShedLock) 확인과 RENAME 사이에 사라지지 않는다
+      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VerificationCacheKeys.likePending()))) {
+        return List.of();
+      }
+      stringRedisTemplate.rename(VerificationCacheKeys.likePending(), processing);
+    }
+
+    Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(processing);
+    List<VerificationLikeChange> changes = new ArrayList<>(entries.size());
+    entries.forEach(
+        (field, value) -> {
+          String[] ids = field.toString().split(":");
+          try {
+            changes.add(
+                new VerificationLikeChange(
+                    Long.valueOf(ids[0]), Long.valueOf(ids[1]), "1".equals(value.toString())));
+          } catch (RuntimeException e) {
+            log.warn("[VerificationLikeCache] 잘못된 변경 필드 형식: {}", field);
+          }
+        });
+    return changes;
+  }
+
+  /** DB 에 반영한 변경을 processing 해시에서 뺀다 */
+  public void completeChanges(List<VerificationLikeChange> changes) {
+    if (changes.isEmpty()) return;
+    Object[] fields = changes.stream().map(this::fieldOf).toArray();
+    stringRedisTemplate.opsForHash().delete(VerificationCacheKeys.likeProcessing(), fields);
+  }
+
+  /** 반영할 수 없는 변경을 dead-letter 해시로 옮긴다 */
+  public void deadLetter(List<VerificationLikeChange> changes) {
+    if (changes.isEmpty()) return;
+    Map<String, String> entries = new HashMap<>();
+    changes.forEach(change -> entries.put(fieldOf(change), change.liked() ? "1" : "0"));
+
+    String deadLetter = VerificationCacheKeys.likeDeadLetter();
+    stringRedisTemplate.opsForHash().putAll(deadLetter, entries);
+    stringRedisTemplate.expire(deadLetter, Duration.ofSeconds(ttlSeconds()));
+    completeChanges(changes);
+  }
+
+  /** 남은 변경 해시를 지운다 (형식이 잘못된 필드 포함) */
+  public void completePending() {
+    stringRedisTemplate.delete(VerificationCacheKeys.likeProcessing());
+  }
+
+  private String fieldOf(VerificationLikeChange change) {
+    return change.verificationId() + ":" + change.memberId();
+  }
+
+  private List<String> withSentinel(Collection<Long> ids) {
+    List<String> members = new ArrayList<>(ids.size() + 1);
+    members.add(SENTINEL);
+    ids.forEach(id -> members.add(id.toString()));
+    return members;
+  }
+
+  /** 변경 해시에서 이 회원의 필드(인증ID:회원ID)만 HSCAN 으로 골라 좋아요 상태를 덮어쓴다 */
+  private void applyUnsynced(String key, Long memberId, Set<Long> likedIds) {
+    ScanOptions options =
+        ScanOptions.scanOptions().match("*:" + memberId).count(SCAN_COUNT).build();
+    try (Cursor<Map.Entry<Object, Object>> cursor =
+        stringRedisTemplate.opsForHash().scan(key, options)) {
+      cursor.forEachRemaining(
+          entry -> {
+            String[] ids = entry.getKey().toString().split(":");
+            if (ids.length != 2 || !ids[1].equals(memberId.toString())) return;
+            try {
+              Long verificationId = Long.valueOf(ids[0]);
+              if ("1".equals(entry.getValue().toString())) {
+                likedIds.add(verificationId);
+              } else {
+                likedIds.remove(verificationId);
+              }
+            } catch (NumberFormatException e) {
+              log.warn("[VerificationLikeCache] 잘못된 변경 필드 형식: {}", entry.getKey());
+            }
+          });
+    }
+  }
+
+  private long ttlSeconds() {
+    return ttlDays * 24 * 60 * 60;
+  }
+}
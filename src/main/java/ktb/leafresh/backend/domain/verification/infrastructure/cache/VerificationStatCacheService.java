@@ -1,13 +1,26 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.cache;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -18,6 +31,9 @@ public class VerificationStatCacheService {
 
   private final StringRedisTemplate stringRedisTemplate;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final GroupChallengeVerificationRepository groupChallengeVerificationRepository;
+  private final MeterRegistry meterRegistry;
+  private final VerificationStatRedisLuaService verificationStatRedisLuaService;
 
   public void initializeVerificationStats(
       Long verificationId, int viewCount, int likeCount, int commentCount) {
@@ -33,12 +49,179 @@ public class VerificationStatCacheService {
     return stringRedisTemplate.opsForHash().entries(key);
   }
 
-  public void clearStats(Long verificationId) {
-    String key = VerificationCacheKeys.stat(verificationId);
-    stringRedisTemplate.delete(key);
-    stringRedisTemplate
-        .opsForSet()
-        .remove(VerificationCacheKeys.dirtySetKey(), verificationId.toString());
-    log.info("[VerificationStatCache] 캐시 삭제 - key={}", key);
+  /**
+   * 여러 인증의 통계를 파이프라인 한 번(HGETALL)으로 조회한다. 캐시에 없는 인증은 DB 한 번으로 모아 조회한 뒤 캐시를 다시 채운다.
+   *
+   * @return 인증 ID 별 통계 (DB 에도 없는 인증은 포함하지 않음)
+   */
+  public Map<Long, Map<Object, Object>> getStatsBulk(List<Long> verificationIds) {
+    if (verificationIds.isEmpty()) return Map.of();
+
+    List<Long> ids = verificationIds.stream().distinct().toList();
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection conn = (StringRedisConnection) connection;
+                  ids.forEach(id -> conn.hGetAll(VerificationCacheKeys.stat(id)));
+                  return null;
+                });
+
+    Map<Long, Map<Object, Object>> stats = new LinkedHashMap<>();
+    List<Long> missingIds = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      Map<?, ?> fields = (Map<?, ?>) results.get(i);
+      if (fields == null || fields.isEmpty()) {
+        missingIds.add(ids.get(i));
+      } else {
+        stats.put(ids.get(i), new HashMap<>(fields));
+      }
+    }
+
+    DistributionSummary.builder("verification.stat.cache.batch-size")
+        .register(meterRegistry)
+        .record(ids.size());
+    meterRegistry.counter("verification.stat.cache.hit").increment(stats.size());
+    meterRegistry.counter("verification.stat.cache.miss").increment(missingIds.size());
+
+    if (!missingIds.isEmpty()) {
+      stats.putAll(loadMissing(missingIds));
+    }
+    return stats;
+  }
+
+  /** 캐시 누락분을 DB 에서 한 번에 조회하고 캐시 복구 */
+  private Map<Long, Map<Object, Object>> loadMissing(List<Long> missingIds) {
+    List<VerificationStatSnapshot> snapshots =
+        groupChallengeVerificationRepository.findStatsByIds(missingIds);
+    cacheIfAbsent(snapshots);
+
+    Map<Long, Map<Object, Object>> loaded = new HashMap<>();
+    for (VerificationStatSnapshot snapshot : snapshots) {
+      loaded.put(
+          snapshot.getId(),
+          Map.of(
+              "viewCount", Integer.toString(snapshot.getViewCount()),
+              "likeCount", Integer.toString(snapshot.getLikeCount()),
+              "commentCount", Integer.toString(snapshot.getCommentCount())));
+    }
+    log.info(
+        "[Redis 복구] 인증 통계 캐시 일괄 복구 - 요청={}건, 복구={}건", missingIds.size(), snapshots.size());
+    return loaded;
+  }
+
+  /** DB 스냅샷을 HSETNX + EXPIRE 파이프라인 한 번으로 캐시 (이미 채워진 필드는 덮어쓰지 않음) */
+  public void cacheIfAbsent(List<VerificationStatSnapshot> snapshots) {
+    if (snapshots.isEmpty()) return;
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              for (VerificationStatSnapshot snapshot : snapshots) {
+                String key = VerificationCacheKeys.stat(snapshot.getId());
+                conn.hSetNX(key, "viewCount", Integer.toString(snapshot.getViewCount()));
+                conn.hSetNX(key, "likeCount", Integer.toString(snapshot.getLikeCount()));
+                conn.hSetNX(key, "commentCount", Integer.toString(snapshot.getCommentCount()));
+                conn.expire(key, TTL.getSeconds());
+              }
+              return null;
+            });
+  }
+
+  /**
+   * 반영 중 집합에서 동기화 대상 ID 를 최대 count 개 고른다. 반영 중 집합이 비어 있으면 dirty 집합을 RENAME 해 가져온다.
+   *
+   * <p>ID 는 반영이 끝나야 집합에서 빠지므로, 반영 도중 인스턴스가 죽어도 다음 실행이 같은 ID 를 다시 가져간다.
+   */
+  public List<Long> claimDirty(int count) {
+    String processing = VerificationCacheKeys.dirtyProcessingKey();
+    if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(processing))) {
+      // dirty 집합은 동기화 작업만 옮기므로 (ShedLock) 확인과 RENAME 사이에 사라지지 않는다
+      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(VerificationCacheKeys.dirtySetKey()))) {
+        return List.of();
+      }
+      stringRedisTemplate.rename(VerificationCacheKeys.dirtySetKey(), processing);
+    }
+
+    Set<String> members = stringRedisTemplate.opsForSet().distinctRandomMembers(processing, count);
+    if (members == null) return List.of();
+
+    List<Long> ids = new ArrayList<>(members.size());
+    for (String value : members) {
+      try {
+        ids.add(Long.valueOf(value));
+      } catch (NumberFormatException e) {
+        log.warn("[VerificationStatCache] 잘못된 ID 형식: {}", value);
+        stringRedisTemplate.opsForSet().remove(processing, value);
+      }
+    }
+    return ids;
+  }
+
+  /** 증감분 해시를 파이프라인 한 번(HGETALL)으로 읽는다. 해시는 반영이 끝난 뒤 {@link #completeDeltas} 에서 줄인다. */
+  public List<VerificationStatDelta> readDeltas(List<Long> verificationIds) {
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection conn = (StringRedisConnection) connection;
+                  verificationIds.forEach(id -> conn.hGetAll(VerificationCacheKeys.delta(id)));
+                  return null;
+                });
+
+    List<VerificationStatDelta> deltas = new ArrayList<>(verificationIds.size());
+    for (int i = 0; i < verificationIds.size(); i++) {
+      Map<?, ?> fields = (Map<?, ?>) results.get(i);
+      if (fields == null || fields.isEmpty()) continue;
+      deltas.add(
+          new VerificationStatDelta(
+              verificationIds.get(i),
+              parse(fields.get("viewCount")),
+              parse(fields.get("likeCount")),
+              parse(fields.get("commentCount"))));
+    }
+    return deltas;
+  }
+
+  /**
+   * DB 에 반영한 만큼 증감분 해시에서 빼고 반영 중 집합에서 ID 를 뺀다.
+   *
+   * @param verificationIds 이번 청크의 모든 ID (반영할 증감분이 없던 ID 포함)
+   * @param applied DB 에 반영한 증감분
+   */
+  public void completeDeltas(List<Long> verificationIds, List<VerificationStatDelta> applied) {
+    Map<Long, VerificationStatDelta> appliedById = new HashMap<>();
+    applied.forEach(delta -> appliedById.put(delta.verificationId(), delta));
+
+    List<String> deltaKeys = new ArrayList<>(verificationIds.size());
+    List<long[]> values = new ArrayList<>(verificationIds.size());
+    for (Long verificationId : verificationIds) {
+      VerificationStatDelta delta = appliedById.get(verificationId);
+      deltaKeys.add(VerificationCacheKeys.delta(verificationId));
+      values.add(
+          delta == null
+              ? new long[] {verificationId, 0, 0, 0}
+              : new long[] {
+                verificationId, delta.viewCount(), delta.likeCount(), delta.commentCount()
+              });
+    }
+    verificationStatRedisLuaService.complete(
+        VerificationCacheKeys.dirtyProcessingKey(), deltaKeys, values);
+  }
+
+  /** 동기화한 인증의 표시용 통계 해시 TTL 연장 (반영 후에도 캐시를 지우지 않는다) */
+  public void touchStats(List<Long> verificationIds) {
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              verificationIds.forEach(
+                  id -> conn.expire(VerificationCacheKeys.stat(id), TTL.getSeconds()));
+              return null;
+            });
+  }
+
+  private long parse(Object value) {
+    return value == null ? 0 : Long.parseLong(value.toString());
   }
 }
@@ -0,0 +1,316 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인증 조회수/좋아요/댓글 수 증감을 인스턴스 메모리에 모았다가 주기적으로 Redis 에 한 번에 반영한다.
+ *
+ * <p>증감은 인증 ID 해시로 나눈 stripe 별 맵에 누적되므로 요청 스레드는 Redis 를 호출하지 않는다. flush 는 stripe 마다 맵을 통째로 교체해
+ * 누적분을 가져가고, 캐시 해시가 없는 인증만 DB 기준으로 초기화한 뒤 HINCRBY/SADD/EXPIRE 를 파이프라인 한 번으로 보낸다. 증감은 표시용
+ * 누적값 해시와 DB 미반영 증감분 해시에 함께 더하고, 반영이 끝나면 인기 점수에도 더한다. 반영에 실패한 누적분은 버퍼에 되돌려 다음 주기에
+ * 다시 시도하며, 종료 시에도 남은 누적분을 flush 한다.
+ *
+ * <p>파이프라인이 일부만 실패하면 명령별 결과를 보고 증감분 해시 HINCRBY 가 실행되지 않은 필드만 되돌린다 (이미 반영된 증감분을 다시 더하지
+ * 않는다). flush 는 300ms 주기로 돌기 때문에 공용 스케줄러 스레드를 쓰지 않고 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationStatCounterBuffer {
+
+  private static final int STRIPES = 16;
+  private static final long STAT_TTL_SECONDS = 60 * 60 * 24;
+  private static final String[] FIELDS = {"viewCount", "likeCount", "commentCount"};
+  private static final int VIEW = 0;
+  private static final int LIKE = 1;
+  private static final int COMMENT = 2;
+  /** 인증 하나의 필드별 명령 수 (통계 해시 HINCRBY, 증감분 해시 HINCRBY) */
+  private static final int COMMANDS_PER_FIELD = 2;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final GroupChallengeVerificationRepository groupChallengeVerificationRepository;
+  private final VerificationStatCacheService verificationStatCacheService;
+  private final VerificationTrendingService verificationTrendingService;
+
+  @Value("${verification.stat.flush-interval-millis:300}")
+  private long flushIntervalMillis;
+
+  private ScheduledExecutorService flushExecutor;
+
+  @SuppressWarnings("unchecked")
+  private final Map<Long, long[]>[] stripes = new Map[STRIPES];
+
+  {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new HashMap<>();
+    }
+  }
+
+  public void increaseViewCount(Long verificationId) {
+    add(verificationId, VIEW, 1);
+  }
+
+  public void increaseLikeCount(Long verificationId) {
+    add(verificationId, LIKE, 1);
+  }
+
+  public void decreaseLikeCount(Long verificationId) {
+    add(verificationId, LIKE, -1);
+  }
+
+  public void increaseCommentCount(Long verificationId) {
+    add(verificationId, COMMENT, 1);
+  }
+
+  public void decreaseCommentCount(Long verificationId) {
+    add(verificationId, COMMENT, -1);
+  }
+
+  @PostConstruct
+  public void start() {
+    flushExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("verification-stat-flush").daemon(true).factory());
+    flushExecutor.scheduleWithFixedDelay(
+        this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** 예외가 나면 이후 실행이 취소되므로 주기 작업에서는 모두 잡는다 */
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (Exception e) {
+      log.error("[VerificationStatCounterBuffer] flush 중 예외", e);
+    }
+  }
+
+  /** 누적분을 Redis 에 반영 (인스턴스마다 자기 버퍼를 flush 하므로 분산 락을 쓰지 않는다) */
+  public void flush() {
+    Map<Long, long[]> deltas = drain();
+    if (deltas.isEmpty()) return;
+
+    List<Long> ids;
+    try {
+      deltas.keySet().removeAll(initializeMissing(deltas.keySet()));
+      ids = new ArrayList<>(deltas.keySet());
+    } catch (Exception e) {
+      deltas.forEach(this::restore);
+      log.warn(
+          "[VerificationStatCounterBuffer] 캐시 초기화 실패, 다음 주기에 재시도 - 대상 수={}, error={}",
+          deltas.size(),
+          e.getMessage());
+      return;
+    }
+
+    try {
+      stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long verificationId : ids) {
+                  long[] delta = deltas.get(verificationId);
+                  String key = VerificationCacheKeys.stat(verificationId);
+                  String deltaKey = VerificationCacheKeys.delta(verificationId);
+                  for (int field = 0; field < FIELDS.length; field++) {
+                    if (delta[field] == 0) continue;
+                    conn.hIncrBy(key, FIELDS[field], delta[field]);
+                    conn.hIncrBy(deltaKey, FIELDS[field], delta[field]);
+                  }
+                  conn.sAdd(VerificationCacheKeys.dirtySetKey(), verificationId.toString());
+                  conn.expire(key, STAT_TTL_SECONDS);
+                }
+                return null;
+              });
+      log.debug("[VerificationStatCounterBuffer] flush 완료 - 대상 수={}", deltas.size());
+    } catch (Exception e) {
+      Map<Long, long[]> failed = unapplied(ids, deltas, e);
+      failed.forEach(this::restore);
+      failed.forEach((verificationId, delta) -> subtract(deltas.get(verificationId), delta));
+      log.warn(
+          "[VerificationStatCounterBuffer] flush 실패, 다음 주기에 재시도 - 대상 수={}, error={}",
+          failed.size(),
+          e.getMessage());
+      deltas.values().removeIf(VerificationStatCounterBuffer::isZero);
+      if (deltas.isEmpty()) return;
+    }
+
+    recordTrending(deltas);
+  }
+
+  private static boolean isZero(long[] delta) {
+    for (long value : delta) {
+      if (value != 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * 실패한 파이프라인에서 증감분 해시 HINCRBY 가 실행되지 않은 필드만 골라낸다.
+   *
+   * <p>명령별 결과를 알 수 없으면 (연결 실패 등) 전부 실행되지 않은 것으로 본다.
+   */
+  private Map<Long, long[]> unapplied(List<Long> ids, Map<Long, long[]> deltas, Exception e) {
+    List<Object> results =
+        e instanceof RedisPipelineException pipeline ? pipeline.getPipelineResult() : List.of();
+    if (results.size() != commandCount(ids, deltas)) {
+      Map<Long, long[]> all = new HashMap<>();
+      deltas.forEach((verificationId, delta) -> all.put(verificationId, delta.clone()));
+      return all;
+    }
+
+    Map<Long, long[]> failed = new HashMap<>();
+    int index = 0;
+    for (Long verificationId : ids) {
+      long[] delta = deltas.get(verificationId);
+      for (int field = 0; field < FIELDS.length; field++) {
+        if (delta[field] == 0) continue;
+        Object deltaResult = results.get(index + 1);
+        index += COMMANDS_PER_FIELD;
+        if (deltaResult instanceof Exception) {
+          failed.computeIfAbsent(verificationId, id -> new long[FIELDS.length])[field] =
+              delta[field];
+        }
+      }
+      index += 2; // SADD, EXPIRE
+    }
+    return failed;
+  }
+
+  private int commandCount(List<Long> ids, Map<Long, long[]> deltas) {
+    int count = 0;
+    for (Long verificationId : ids) {
+      for (long value : deltas.get(verificationId)) {
+        if (value != 0) count += COMMANDS_PER_FIELD;
+      }
+      count += 2;
+    }
+    return count;
+  }
+
+  private static void subtract(long[] delta, long[] failed) {
+    for (int field = 0; field < FIELDS.length; field++) {
+      delta[field] -= failed[field];
+    }
+  }
+
+  /** 반영된 증감분을 인기 점수에 더한다 (실패해도 통계 반영은 되돌리지 않음) */
+  private void recordTrending(Map<Long, long[]> deltas) {
+    try {
+      List<VerificationStatDelta> applied = new ArrayList<>(deltas.size());
+      deltas.forEach(
+          (verificationId, delta) ->
+              applied.add(
+                  new VerificationStatDelta(
+                      verificationId, delta[VIEW], delta[LIKE], delta[COMMENT])));
+      verificationTrendingService.record(applied);
+    } catch (Exception e) {
+      log.warn("[VerificationStatCounterBuffer] 인기 점수 반영 실패 - error={}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() throws InterruptedException {
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+      flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+    flush();
+  }
+
+  private void add(Long verificationId, int field, long delta) {
+    Map<Long, long[]> stripe = stripeOf(verificationId);
+    synchronized (stripe) {
+      stripe.computeIfAbsent(verificationId, id -> new long[FIELDS.length])[field] += delta;
+    }
+  }
+
+  private void restore(Long verificationId, long[] delta) {
+    for (int field = 0; field < FIELDS.length; field++) {
+      if (delta[field] != 0) add(verificationId, field, delta[field]);
+    }
+  }
+
+  /** stripe 별로 맵을 교체해 지금까지의 누적분을 가져온다 */
+  Map<Long, long[]> drain() {
+    Map<Long, long[]> drained = new HashMap<>();
+    for (int i = 0; i < STRIPES; i++) {
+      Map<Long, long[]> taken;
+      synchronized (stripes[i]) {
+        if (stripes[i].isEmpty()) continue;
+        taken = new HashMap<>(stripes[i]);
+        stripes[i].clear();
+      }
+      drained.putAll(taken);
+    }
+    return drained;
+  }
+
+  /**
+   * 캐시 해시가 없는 인증은 DB 값으로 먼저 초기화 (증감분만 있는 해시가 생기면 DB 동기화 시 차이가 음수가 된다).
+   *
+   * @return DB 에도 없어 반영하지 않을 인증 ID
+   */
+  private Set<Long> initializeMissing(Set<Long> verificationIds) {
+    List<Long> ids = new ArrayList<>(verificationIds);
+
+    List<Object> exists =
+        stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection conn = (StringRedisConnection) connection;
+                  ids.forEach(id -> conn.exists(VerificationCacheKeys.stat(id)));
+                  return null;
+                });
+
+    List<Long> missing = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i++) {
+      if (!Boolean.TRUE.equals(exists.get(i))) missing.add(ids.get(i));
+    }
+    if (missing.isEmpty()) return Set.of();
+
+    Map<Long, VerificationStatSnapshot> stats =
+        groupChallengeVerificationRepository.findStatsByIds(missing).stream()
+            .collect(Collectors.toMap(VerificationStatSnapshot::getId, Function.identity()));
+    Set<Long> unknown = new HashSet<>();
+    for (Long verificationId : missing) {
+      VerificationStatSnapshot stat = stats.get(verificationId);
+      if (stat == null) {
+        unknown.add(verificationId);
+        log.warn("[VerificationStatCounterBuffer] 존재하지 않는 인증 - id={}", verificationId);
+        continue;
+      }
+      verificationStatCacheService.initializeVerificationStats(
+          verificationId, stat.getViewCount(), stat.getLikeCount(), stat.getCommentCount());
+      log.info("[Redis 복구] 캐시 누락으로 인해 Redis 재초기화 - verificationId={}", verificationId);
+    }
+    return unknown;
+  }
+
+  private Map<Long, long[]> stripeOf(Long verificationId) {
+    return stripes[Math.floorMod(verificationId.hashCode(), STRIPES)];
+  }
+}
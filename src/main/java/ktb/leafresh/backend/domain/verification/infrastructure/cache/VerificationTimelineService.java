@@ -0,0 +1,163 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 최신순 피드 타임라인 (fan-out-on-write).
+ *
+ * <p>인증이 등록되면 전체/카테고리 ZSET 에 작성 시각(ms)을 score 로 추가하고 최근 max-size 개만 남긴다. 피드는 이 ZSET 에서 ID 를 읽어
+ * 본문만 한 번에 조회하며, 키가 없거나 커서가 보관 범위를 벗어나면 DB 조회로 넘긴다.
+ *
+ * <p>배포 직후나 Redis 초기화 뒤에는 새 인증만 담긴 타임라인이 과거 인증을 가리므로, 재구성이 끝나 seeded 표식이 생긴 뒤에만 타임라인으로
+ * 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationTimelineService {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  // 같은 ms 에 작성되어 커서 조건으로 걸러질 항목을 감안해 조금 더 읽는다
+  private static final int TIE_SLACK = 20;
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Value("${verification.timeline.enabled:true}")
+  private boolean enabled;
+
+  @Value("${verification.timeline.max-size:1000}")
+  private int maxSize;
+
+  /** 전체 + 카테고리 타임라인에 추가하고 보관 범위를 넘는 항목은 잘라낸다 (파이프라인 한 번) */
+  public void add(Long verificationId, String category, LocalDateTime createdAt) {
+    if (!enabled) return;
+    merge(category, List.of(new VerificationTimelineEntry(verificationId, createdAt)), true);
+  }
+
+  /**
+   * 타임라인 항목을 ZADD 로 병합한 뒤 잘라낸다. 기존 항목을 지우지 않으므로 재구성 중에 들어온 인증도 유지된다.
+   *
+   * @param includeGlobal 전체 타임라인에도 반영할지 여부
+   */
+  public void merge(
+      String category, Collection<VerificationTimelineEntry> entries, boolean includeGlobal) {
+    if (entries.isEmpty()) return;
+
+    String globalKey = VerificationCacheKeys.timeline(null);
+    String categoryKey = VerificationCacheKeys.timeline(category);
+    List<String> keys = new ArrayList<>(2);
+    if (includeGlobal) keys.add(globalKey);
+    if (!categoryKey.equals(globalKey)) keys.add(categoryKey);
+
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              for (String key : keys) {
+                for (VerificationTimelineEntry entry : entries) {
+                  conn.zAdd(key, scoreOf(entry.createdAt()), entry.verificationId().toString());
+                }
+                conn.zRemRange(key, 0, -(maxSize + 1L));
+              }
+              return null;
+            });
+  }
+
+  /** DB 기준 재구성이 끝난 타임라인인지 (꺼져 있으면 채울 것이 없으므로 true) */
+  public boolean isSeeded() {
+    if (!enabled) return true;
+    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(VerificationCacheKeys.timelineSeeded()));
+  }
+
+  public void markSeeded() {
+    stringRedisTemplate.opsForValue().set(VerificationCacheKeys.timelineSeeded(), "1");
+  }
+
+  /** 삭제되어 DB 에 없는 인증을 전체 + 카테고리 타임라인에서 뺀다 */
+  public void remove(String category, Collection<Long> verificationIds) {
+    if (!enabled || verificationIds.isEmpty()) return;
+
+    Object[] members = verificationIds.stream().map(String::valueOf).toArray();
+    String globalKey = VerificationCacheKeys.timeline(null);
+    String categoryKey = VerificationCacheKeys.timeline(category);
+    stringRedisTemplate.opsForZSet().remove(globalKey, members);
+    if (!categoryKey.equals(globalKey)) {
+      stringRedisTemplate.opsForZSet().remove(categoryKey, members);
+    }
+  }
+
+  /**
+   * 커서 다음 인증 ID 를 최신순으로 최대 limit 개 조회.
+   *
+   * @return 타임라인으로 응답할 수 없으면 empty (재구성 전, 키 없음, 또는 보관 범위를 벗어나 DB 에 더 있을 수 있음)
+   */
+  public Optional<List<Long>> findIds(
+      String category, Long cursorId, LocalDateTime cursorTimestamp, int limit) {
+    if (!enabled) return Optional.empty();
+
+    String key = VerificationCacheKeys.timeline(category);
+    boolean useCursor = cursorId != null && cursorTimestamp != null;
+    double max = useCursor ? scoreOf(cursorTimestamp) : Double.POSITIVE_INFINITY;
+
+    List<Object> results =
+        stringRedisTemplate.executePipelined(
+            new SessionCallback<>() {
+              @Override
+              @SuppressWarnings("unchecked")
+              public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet()
+                    .reverseRangeByScoreWithScores(
+                        key, Double.NEGATIVE_INFINITY, max, 0, limit + TIE_SLACK);
+                ops.opsForZSet().zCard(key);
+                ops.hasKey(VerificationCacheKeys.timelineSeeded());
+                return null;
+              }
+            });
+
+    @SuppressWarnings("unchecked")
+    Collection<TypedTuple<String>> tuples = (Collection<TypedTuple<String>>) results.get(0);
+    long size = results.get(1) != null ? (Long) results.get(1) : 0;
+    if (size == 0 || !Boolean.TRUE.equals(results.get(2))) return Optional.empty();
+
+    List<TypedTuple<String>> ordered = new ArrayList<>();
+    for (TypedTuple<String> tuple : tuples) {
+      long id = Long.parseLong(tuple.getValue());
+      // DB 커서 조건과 동일: createdAt < ts OR (createdAt = ts AND id < cursorId)
+      if (useCursor && tuple.getScore() == max && id >= cursorId) continue;
+      ordered.add(tuple);
+    }
+    ordered.sort(
+        Comparator.comparing((TypedTuple<String> t) -> t.getScore())
+            .thenComparing(t -> Long.parseLong(t.getValue()))
+            .reversed());
+
+    List<Long> ids =
+        ordered.stream().limit(limit).map(t -> Long.parseLong(t.getValue())).toList();
+    if (ids.size() < limit && size >= maxSize) return Optional.empty();
+    return Optional.of(ids);
+  }
+
+  private double scoreOf(LocalDateTime createdAt) {
+    return createdAt.atZone(ZONE).toInstant().toEpochMilli();
+  }
+}
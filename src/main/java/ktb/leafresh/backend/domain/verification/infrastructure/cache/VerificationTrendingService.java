@@ -0,0 +1,152 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import ktb.leafresh.backend.global.util.redis.TrendingScoreRedisLuaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 인기 인증 순위 (시간 감쇠 점수 ZSET).
+ *
+ * <p>통계 버퍼가 Redis 에 반영한 증감분을 가중합해 카테고리 ZSET 과 전체 ZSET 에 함께 더한다. 인증의 카테고리는 바뀌지 않으므로 인스턴스
+ * 메모리에 LRU 로 기억하고, 모르는 인증만 DB 에서 한 번에 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationTrendingService {
+
+  private static final int CATEGORY_CACHE_SIZE = 10_000;
+
+  private final TrendingScoreRedisLuaService trendingScoreRedisLuaService;
+  private final GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+
+  @Value("${verification.trending.enabled:true}")
+  private boolean enabled;
+
+  @Value("${verification.trending.half-life-hours:24}")
+  private long halfLifeHours;
+
+  @Value("${verification.trending.view-weight:1}")
+  private double viewWeight;
+
+  @Value("${verification.trending.like-weight:5}")
+  private double likeWeight;
+
+  @Value("${verification.trending.comment-weight:8}")
+  private double commentWeight;
+
+  @Value("${verification.trending.top-n:1000}")
+  private int topN;
+
+  private final Map<Long, String> categoryCache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+              return size() > CATEGORY_CACHE_SIZE;
+            }
+          });
+
+  /** 증감분을 인기 점수에 반영 (스크립트 호출 한 번) */
+  public void record(List<VerificationStatDelta> deltas) {
+    if (!enabled || deltas.isEmpty()) return;
+
+    Map<Long, String> categories = categoriesOf(deltas);
+    String globalKey = VerificationCacheKeys.trending(null);
+    List<String> keys = new ArrayList<>();
+    List<String> members = new ArrayList<>();
+    List<Double> weights = new ArrayList<>();
+    for (VerificationStatDelta delta : deltas) {
+      double weight =
+          delta.viewCount() * viewWeight
+              + delta.likeCount() * likeWeight
+              + delta.commentCount() * commentWeight;
+      if (weight == 0) continue;
+
+      String member = delta.verificationId().toString();
+      keys.add(globalKey);
+      members.add(member);
+      weights.add(weight);
+
+      String categoryKey = VerificationCacheKeys.trending(categories.get(delta.verificationId()));
+      if (!categoryKey.equals(globalKey)) {
+        keys.add(categoryKey);
+        members.add(member);
+        weights.add(weight);
+      }
+    }
+
+    trendingScoreRedisLuaService.increment(
+        VerificationCacheKeys.trendingEpoch(),
+        VerificationCacheKeys.trendingKeys(),
+        keys,
+        members,
+        weights,
+        System.currentTimeMillis() / 1000,
+        halfLifeSeconds());
+  }
+
+  /** 인기순 인증 ID (cursorId 다음부터 size 개) */
+  public List<Long> findTrendingIds(String category, Long cursorId, int size) {
+    List<String> members =
+        trendingScoreRedisLuaService.pageAfter(
+            VerificationCacheKeys.trending(category),
+            cursorId != null ? cursorId.toString() : null,
+            size);
+    return members.stream().map(Long::valueOf).toList();
+  }
+
+  /** 삭제되어 DB 에 없는 인증을 모든 인기 ZSET 에서 뺀다 */
+  public void remove(Collection<Long> verificationIds) {
+    if (verificationIds.isEmpty()) return;
+    verificationIds.forEach(categoryCache::remove);
+    trendingScoreRedisLuaService.remove(
+        VerificationCacheKeys.trendingKeys(),
+        verificationIds.stream().map(String::valueOf).toList());
+  }
+
+  /** 기준 시각을 옮기고 상위 N 개만 남긴다 */
+  public long trim() {
+    return trendingScoreRedisLuaService.rebaseAndTrim(
+        VerificationCacheKeys.trendingEpoch(),
+        VerificationCacheKeys.trendingKeys(),
+        System.currentTimeMillis() / 1000,
+        halfLifeSeconds(),
+        topN);
+  }
+
+  private Map<Long, String> categoriesOf(List<VerificationStatDelta> deltas) {
+    Map<Long, String> categories = new LinkedHashMap<>();
+    List<Long> unknown = new ArrayList<>();
+    for (VerificationStatDelta delta : deltas) {
+      String category = categoryCache.get(delta.verificationId());
+      if (category != null) {
+        categories.put(delta.verificationId(), category);
+      } else {
+        unknown.add(delta.verificationId());
+      }
+    }
+
+    if (!unknown.isEmpty()) {
+      Map<Long, String> loaded = feedQueryRepository.findCategoryNamesByIds(unknown);
+      categoryCache.putAll(loaded);
+      categories.putAll(loaded);
+    }
+    return categories;
+  }
+
+  private long halfLifeSeconds() {
+    return halfLifeHours * 60 * 60;
+  }
+}
@@ -0,0 +1,60 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증 상세 조회수 기록.
+ *
+ * <p>고유 조회자 모드가 켜져 있으면 인증마다 HyperLogLog 에 조회자(회원 ID, 비회원은 클라이언트 키 해시)를 PFADD 하고, 새 조회자로 판단된
+ * 경우에만 조회수를 올린다. 새로고침은 집계되지 않으며 HyperLogLog 는 조회자 수와 관계없이 인증당 최대 12KB 를 사용한다. 모드가 꺼져 있으면 매
+ * 조회마다 조회수를 올린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationViewCounter {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final VerificationStatCounterBuffer verificationStatCounterBuffer;
+
+  @Value("${verification.stat.unique-view.enabled:false}")
+  private boolean uniqueViewEnabled;
+
+  @Value("${verification.stat.unique-view.ttl-days:30}")
+  private long viewerTtlDays;
+
+  public void recordView(Long verificationId, Long memberId, String clientKey) {
+    if (!uniqueViewEnabled) {
+      verificationStatCounterBuffer.increaseViewCount(verificationId);
+      return;
+    }
+
+    String viewer = viewerOf(memberId, clientKey);
+    if (viewer == null) return;
+
+    try {
+      String key = VerificationCacheKeys.viewers(verificationId);
+      Long added = stringRedisTemplate.opsForHyperLogLog().add(key, viewer);
+      if (added != null && added == 1) {
+        stringRedisTemplate.expire(key, Duration.ofDays(viewerTtlDays));
+        verificationStatCounterBuffer.increaseViewCount(verificationId);
+      }
+    } catch (Exception e) {
+      log.warn("[조회자 기록 실패] verificationId={}, error={}", verificationId, e.getMessage());
+    }
+  }
+
+  /** 회원은 ID, 비회원은 클라이언트 키의 해시로 구분 (식별 정보를 그대로 저장하지 않음) */
+  private String viewerOf(Long memberId, String clientKey) {
+    if (memberId != null) return "m:" + memberId;
+    if (clientKey == null || clientKey.isBlank()) return null;
+    return "a:" + DigestUtils.sha256Hex(clientKey).substring(0, 16);
+  }
+}
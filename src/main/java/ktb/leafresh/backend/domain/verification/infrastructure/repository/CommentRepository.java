@@ -1,27 +1,66 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
+import ktb.leafresh.backend.domain.verification.application.dto.CommentParentLink;
+import ktb.leafresh.backend.domain.verification.application.dto.CommentReplyCount;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-  @Query(
-      "SELECT c.verification.id, COUNT(c) "
-          + "FROM Comment c "
-          + "WHERE c.deletedAt IS NULL "
-          + "GROUP BY c.verification.id")
-  List<Object[]> findAllCommentCountByVerificationId();
-
   List<Comment> findByParentCommentAndDeletedAtIsNull(Comment parentComment);
 
+  /** 최상위 댓글 페이지 (id 오름차순, 작성자 fetch) */
+  @Query(
+      "SELECT c FROM Comment c "
+          + "JOIN FETCH c.member "
+          + "WHERE c.verification.id = :verificationId "
+          + "AND c.rootCommentId IS NULL "
+          + "AND c.id > :cursorId "
+          + "ORDER BY c.id ASC")
+  List<Comment> findRootComments(
+      @Param("verificationId") Long verificationId,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  /** 스레드의 대댓글 페이지 (id 오름차순, 작성자 fetch) */
   @Query(
       "SELECT c FROM Comment c "
           + "JOIN FETCH c.member "
-          + "LEFT JOIN FETCH c.parentComment "
-          + "WHERE c.verification.id = :verificationId")
-  List<Comment> findAllByVerificationIdWithMember(@Param("verificationId") Long verificationId);
+          + "WHERE c.rootCommentId = :rootCommentId "
+          + "AND c.id > :cursorId "
+          + "ORDER BY c.id ASC")
+  List<Comment> findReplies(
+      @Param("rootCommentId") Long rootCommentId,
+      @Param("cursorId") Long cursorId,
+      Pageable pageable);
+
+  @Query(
+      "SELECT new ktb.leafresh.backend.domain.verification.application.dto.CommentReplyCount("
+          + "c.rootCommentId, COUNT(c)) "
+          + "FROM Comment c "
+          + "WHERE c.rootCommentId IN :rootCommentIds "
+          + "GROUP BY c.rootCommentId")
+  List<CommentReplyCount> countRepliesByRootCommentIds(
+      @Param("rootCommentIds") Collection<Long> rootCommentIds);
+
+  boolean existsByParentCommentIsNotNullAndRootCommentIdIsNull();
+
+  @Query(
+      "SELECT new ktb.leafresh.backend.domain.verification.application.dto.CommentParentLink("
+          + "c.id, c.parentComment.id) "
+          + "FROM Comment c "
+          + "WHERE c.parentComment IS NOT NULL")
+  List<CommentParentLink> findAllParentLinks();
+
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Comment c SET c.rootCommentId = :rootCommentId WHERE c.id IN :ids")
+  int updateRootCommentId(
+      @Param("rootCommentId") Long rootCommentId, @Param("ids") Collection<Long> ids);
 }
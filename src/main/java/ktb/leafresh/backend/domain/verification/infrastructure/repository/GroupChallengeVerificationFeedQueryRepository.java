@@ -1,10 +1,25 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface GroupChallengeVerificationFeedQueryRepository {
-  List<GroupChallengeVerification> findAllByFilter(
+  List<VerificationFeedRow> findAllByFilter(
       String category, Long cursorId, String cursorTimestamp, int size);
+
+  /** 삭제되지 않은 인증만 조회 (순서는 보장하지 않음) */
+  List<VerificationFeedRow> findAllByIds(Collection<Long> ids);
+
+  /** 인증 ID 별 카테고리 이름 */
+  Map<Long, String> findCategoryNamesByIds(Collection<Long> ids);
+
+  /** 실제 카테고리 이름인지 */
+  boolean existsCategory(String category);
+
+  /** 타임라인 재구성용 최신 인증 limit 개 (category 가 없으면 전체) */
+  List<VerificationTimelineEntry> findLatestTimelineEntries(String category, int limit);
 }
@@ -1,10 +1,14 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.member.domain.entity.QMember;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
 import ktb.leafresh.backend.domain.verification.domain.entity.QGroupChallengeVerification;
-import ktb.leafresh.backend.domain.challenge.group.domain.entity.QGroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.QGroupChallengeCategory;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.QGroupChallengeParticipantRecord;
 import ktb.leafresh.backend.global.util.pagination.CursorConditionUtils;
@@ -12,7 +16,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,19 +33,46 @@ public class GroupChallengeVerificationFeedQueryRepositoryImpl
       QGroupChallengeVerification.groupChallengeVerification;
   private final QGroupChallengeParticipantRecord pr =
       QGroupChallengeParticipantRecord.groupChallengeParticipantRecord;
-  private final QGroupChallenge gc = QGroupChallenge.groupChallenge;
+  private final QMember m = QMember.member;
   private final QGroupChallengeCategory cat = QGroupChallengeCategory.groupChallengeCategory;
 
+  /** 카테고리 이름 → ID (카테고리는 초기화 데이터라 한 번 찾으면 바뀌지 않는다) */
+  private final Map<String, Long> categoryIds = new ConcurrentHashMap<>();
+
+  /**
+   * 카드에 필요한 컬럼만 select 하는 피드 쿼리. 카테고리는 인증에 복제된 category_id 로 거르므로 (category_id, created_at, id)
+   * 또는 (deleted_at, created_at, id) 인덱스 순서대로 읽고, 챌린지 테이블은 조인하지 않는다. category_id 는 백필 전 인증에서 비어 있을 수
+   * 있어 카테고리는 left join 으로 이름만 가져온다.
+   */
+  private JPAQuery<VerificationFeedRow> selectFeedRows() {
+    return queryFactory
+        .select(
+            Projections.constructor(
+                VerificationFeedRow.class,
+                v.id,
+                pr.groupChallenge.id,
+                m.nickname,
+                m.imageUrl,
+                v.imageUrl,
+                v.content,
+                cat.name,
+                v.viewCount,
+                v.likeCount,
+                v.commentCount,
+                v.createdAt))
+        .from(v)
+        .join(v.participantRecord, pr)
+        .join(pr.member, m)
+        .leftJoin(v.category, cat);
+  }
+
   @Override
-  public List<GroupChallengeVerification> findAllByFilter(
+  public List<VerificationFeedRow> findAllByFilter(
       String category, Long cursorId, String cursorTimestamp, int size) {
     LocalDateTime ts = CursorConditionUtils.parseTimestamp(cursorTimestamp);
+    if (isUnknownCategory(category)) return List.of();
 
-    return queryFactory
-        .selectFrom(v)
-        .join(v.participantRecord, pr)
-        .join(pr.groupChallenge, gc)
-        .join(gc.category, cat)
+    return selectFeedRows()
         .where(
             v.deletedAt.isNull(),
             eqCategory(category),
@@ -47,7 +82,68 @@ public class GroupChallengeVerificationFeedQueryRepositoryImpl
         .fetch();
   }
 
+  @Override
+  public List<VerificationFeedRow> findAllByIds(Collection<Long> ids) {
+    if (ids.isEmpty()) return List.of();
+    return selectFeedRows().where(v.id.in(ids), v.deletedAt.isNull()).fetch();
+  }
+
+  @Override
+  public Map<Long, String> findCategoryNamesByIds(Collection<Long> ids) {
+    if (ids.isEmpty()) return Map.of();
+    List<Tuple> rows =
+        queryFactory
+            .select(v.id, cat.name)
+            .from(v)
+            .join(v.category, cat)
+            .where(v.id.in(ids))
+            .fetch();
+
+    Map<Long, String> categories = new HashMap<>();
+    for (Tuple row : rows) {
+      categories.put(row.get(v.id), row.get(cat.name));
+    }
+    return categories;
+  }
+
+  @Override
+  public List<VerificationTimelineEntry> findLatestTimelineEntries(String category, int limit) {
+    if (isUnknownCategory(category)) return List.of();
+
+    return queryFactory
+        .select(Projections.constructor(VerificationTimelineEntry.class, v.id, v.createdAt))
+        .from(v)
+        .where(v.deletedAt.isNull(), eqCategory(category))
+        .orderBy(v.createdAt.desc(), v.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /** 카테고리 ID 로 거른다 (카테고리 테이블 조인 없이 category_id 인덱스를 탄다) */
   private BooleanExpression eqCategory(String category) {
-    return (category != null && !category.isBlank()) ? cat.name.eq(category) : null;
+    return hasCategory(category) ? v.category.id.eq(categoryId(category)) : null;
+  }
+
+  @Override
+  public boolean existsCategory(String category) {
+    return hasCategory(category) && categoryId(category) != null;
+  }
+
+  private boolean isUnknownCategory(String category) {
+    return hasCategory(category) && categoryId(category) == null;
+  }
+
+  private boolean hasCategory(String category) {
+    return category != null && !category.isBlank();
+  }
+
+  /** @return 없는 카테고리면 null (없는 이름은 캐시하지 않는다) */
+  private Long categoryId(String category) {
+    Long cached = categoryIds.get(category);
+    if (cached != null) return cached;
+
+    Long id = queryFactory.select(cat.id).from(cat).where(cat.name.eq(category)).fetchFirst();
+    if (id != null) categoryIds.put(category, id);
+    return id;
   }
 }
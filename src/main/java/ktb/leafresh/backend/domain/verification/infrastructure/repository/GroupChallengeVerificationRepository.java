@@ -1,15 +1,18 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate;
 import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
 import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,82 +32,63 @@ public interface GroupChallengeVerificationRepository
       findTopByParticipantRecord_Member_IdAndParticipantRecord_GroupChallenge_IdAndCreatedAtBetween(
           Long memberId, Long challengeId, LocalDateTime start, LocalDateTime end);
 
-  /** 카테고리별 서로 다른 챌린지 인증 개수 (3개 이상일 때 사용) */
+  /** 회원 × 카테고리별 성공 인증 수 (활동 카운터 백필) */
   @Query(
       """
-    SELECT COUNT(DISTINCT gcv.participantRecord.groupChallenge.id)
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate(
+      pr.member.id, cat.name, COUNT(gcv))
     FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.member.id = :memberId
-      AND gcv.participantRecord.groupChallenge.category = :category
-      AND gcv.status = :status
+    JOIN gcv.participantRecord pr
+    JOIN pr.groupChallenge gc
+    JOIN gc.category cat
+    WHERE gcv.status = :status
+    GROUP BY pr.member.id, cat.name
     """)
-  long countDistinctChallengesByMemberIdAndCategoryAndStatus(
-      @Param("memberId") Long memberId,
-      @Param("category") GroupChallengeCategory category,
+  List<MemberVerificationAggregate> aggregateByMemberAndCategory(
       @Param("status") ChallengeStatus status);
 
-  /** 카테고리별 인증 횟수 (10회 이상 마스터 조건) */
+  /** 회원 × 카테고리별 성공 인증이 있는 서로 다른 챌린지 수 (활동 카운터 백필) */
   @Query(
       """
-    SELECT COUNT(gcv)
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate(
+      pr.member.id, cat.name, COUNT(DISTINCT gc.id))
     FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.member.id = :memberId
-      AND gcv.participantRecord.groupChallenge.category = :category
-      AND gcv.status = :status
+    JOIN gcv.participantRecord pr
+    JOIN pr.groupChallenge gc
+    JOIN gc.category cat
+    WHERE gcv.status = :status
+    GROUP BY pr.member.id, cat.name
     """)
-  long countByMemberIdAndCategoryAndStatus(
-      @Param("memberId") Long memberId,
-      @Param("category") GroupChallengeCategory category,
+  List<MemberVerificationAggregate> aggregateDistinctChallengesByMemberAndCategory(
       @Param("status") ChallengeStatus status);
 
-  /** 카테고리별 인증 1회 이상 여부 (지속가능 전도사 조건) */
+  /** 회원 × 챌린지별 성공 인증 수, name 은 챌린지 ID (활동 카운터 백필) */
   @Query(
       """
-    SELECT CASE WHEN COUNT(gcv) > 0 THEN true ELSE false END
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate(
+      pr.member.id, CAST(pr.groupChallenge.id AS String), COUNT(gcv))
     FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.member.id = :memberId
-      AND gcv.participantRecord.groupChallenge.category = :category
-      AND gcv.status = :status
+    JOIN gcv.participantRecord pr
+    WHERE gcv.status = :status
+    GROUP BY pr.member.id, pr.groupChallenge.id
     """)
-  boolean existsByMemberIdAndCategoryAndStatus(
-      @Param("memberId") Long memberId,
-      @Param("category") GroupChallengeCategory category,
+  List<MemberVerificationAggregate> aggregateByMemberAndChallenge(
       @Param("status") ChallengeStatus status);
 
-  /** 이벤트 챌린지 제목 목록 조회 */
+  /** 회원 × 이벤트 챌린지 제목별 성공 인증 수 (활동 카운터 백필) */
   @Query(
       """
-    SELECT DISTINCT gcv.participantRecord.groupChallenge.title
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate(
+      pr.member.id, gc.title, COUNT(gcv))
     FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.groupChallenge.eventFlag = true
+    JOIN gcv.participantRecord pr
+    JOIN pr.groupChallenge gc
+    WHERE gcv.status = :status AND gc.eventFlag = true
+    GROUP BY pr.member.id, gc.title
     """)
-  List<String> findDistinctEventTitlesWithEventFlagTrue();
-
-  /** 특정 이벤트명에 대한 인증 횟수 */
-  @Query(
-      """
-    SELECT COUNT(gcv)
-    FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.member.id = :memberId
-      AND gcv.participantRecord.groupChallenge.title = :eventTitle
-      AND gcv.participantRecord.groupChallenge.eventFlag = true
-      AND gcv.status = :status
-    """)
-  long countByMemberIdAndEventTitleAndStatus(
-      @Param("memberId") Long memberId,
-      @Param("eventTitle") String eventTitle,
+  List<MemberVerificationAggregate> aggregateEventByMemberAndTitle(
       @Param("status") ChallengeStatus status);
 
-  @Query(
-      """
-    SELECT COUNT(gcv)
-    FROM GroupChallengeVerification gcv
-    WHERE gcv.participantRecord.member.id = :memberId
-      AND gcv.status = :status
-    """)
-  long countByMemberIdAndStatus(
-      @Param("memberId") Long memberId, @Param("status") ChallengeStatus status);
-
   @Query(
       """
     SELECT gcv
@@ -131,26 +115,41 @@ public interface GroupChallengeVerificationRepository
 
   Optional<GroupChallengeVerification> findByIdAndDeletedAtIsNull(Long id);
 
+  /** 챌린지 카테고리 변경 시 해당 챌린지 인증의 피드 카테고리도 함께 변경 */
+  @Modifying
   @Query(
       """
-    SELECT v.id, v.viewCount
-    FROM GroupChallengeVerification v
-    WHERE v.deletedAt IS NULL
+    UPDATE GroupChallengeVerification v
+    SET v.category = :category
+    WHERE v.participantRecord.id IN (
+      SELECT pr.id FROM GroupChallengeParticipantRecord pr
+      WHERE pr.groupChallenge.id = :challengeId)
     """)
-  List<Object[]> findAllViewCountByVerificationId();
+  int updateCategoryByChallengeId(
+      @Param("challengeId") Long challengeId, @Param("category") GroupChallengeCategory category);
 
+  /** 피드 카테고리가 비어 있는 인증을 챌린지 카테고리로 채운다 */
   @Modifying
   @Query(
-      "UPDATE GroupChallengeVerification g SET "
-          + "g.viewCount = g.viewCount + :viewCount, "
-          + "g.likeCount = g.likeCount + :likeCount, "
-          + "g.commentCount = g.commentCount + :commentCount "
-          + "WHERE g.id = :verificationId")
-  void increaseCounts(
-      @Param("verificationId") Long verificationId,
-      @Param("viewCount") int viewCount,
-      @Param("likeCount") int likeCount,
-      @Param("commentCount") int commentCount);
+      """
+    UPDATE GroupChallengeVerification v
+    SET v.category = (
+      SELECT gc.category FROM GroupChallengeParticipantRecord pr
+      JOIN pr.groupChallenge gc
+      WHERE pr.id = v.participantRecord.id)
+    WHERE v.category IS NULL
+    """)
+  int backfillCategory();
+
+  /** 캐시 워밍업용 키셋 페이지 조회 (최신 인증부터 id 내림차순) */
+  @Query(
+      "SELECT new ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot("
+          + "v.id, v.viewCount, v.likeCount, v.commentCount) "
+          + "FROM GroupChallengeVerification v "
+          + "WHERE v.id < :cursorId AND v.createdAt >= :since AND v.deletedAt IS NULL "
+          + "ORDER BY v.id DESC")
+  List<VerificationStatSnapshot> findRecentStatsBefore(
+      @Param("cursorId") Long cursorId, @Param("since") LocalDateTime since, Pageable pageable);
 
   @Query(
       "SELECT new ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot("
@@ -158,6 +157,12 @@ public interface GroupChallengeVerificationRepository
           + "FROM GroupChallengeVerification v WHERE v.id = :id")
   Optional<VerificationStatSnapshot> findStatById(@Param("id") Long id);
 
+  @Query(
+      "SELECT new ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot("
+          + "v.id, v.viewCount, v.likeCount, v.commentCount) "
+          + "FROM GroupChallengeVerification v WHERE v.id IN :ids")
+  List<VerificationStatSnapshot> findStatsByIds(@Param("ids") Collection<Long> ids);
+
   @Query("SELECT COUNT(g) FROM GroupChallengeVerification g")
   int countAll();
 
@@ -0,0 +1,66 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.repository;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationLikeChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좋아요 변경 일괄 반영용 JDBC 저장소 (청크 단위 batchUpdate, 한 트랜잭션).
+ *
+ * <p>두 SQL 모두 같은 변경을 다시 반영해도 결과가 같으므로 실패한 청크를 그대로 재시도할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeBatchJdbcRepository {
+
+  // (verification_id, member_id) 유니크 제약으로 soft delete 된 행은 복구
+  private static final String LIKE_SQL =
+      "INSERT INTO likes (verification_id, member_id, created_at, updated_at, deleted_at)"
+          + " VALUES (?, ?, ?, ?, NULL)"
+          + " ON DUPLICATE KEY UPDATE deleted_at = NULL, updated_at = VALUES(updated_at)";
+
+  private static final String UNLIKE_SQL =
+      "UPDATE likes SET deleted_at = ?, updated_at = ?"
+          + " WHERE verification_id = ? AND member_id = ? AND deleted_at IS NULL";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void applyChanges(List<VerificationLikeChange> changes) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<VerificationLikeChange> likes =
+        changes.stream().filter(VerificationLikeChange::liked).toList();
+    List<VerificationLikeChange> unlikes = changes.stream().filter(c -> !c.liked()).toList();
+
+    if (!likes.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          LIKE_SQL,
+          likes,
+          likes.size(),
+          (ps, change) -> {
+            ps.setLong(1, change.verificationId());
+            ps.setLong(2, change.memberId());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+          });
+    }
+    if (!unlikes.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          UNLIKE_SQL,
+          unlikes,
+          unlikes.size(),
+          (ps, change) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setLong(3, change.verificationId());
+            ps.setLong(4, change.memberId());
+          });
+    }
+  }
+}
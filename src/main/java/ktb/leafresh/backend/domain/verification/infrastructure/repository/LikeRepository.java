@@ -1,38 +1,32 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
 import ktb.leafresh.backend.domain.verification.domain.entity.Like;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-  @Query(
-      "SELECT l.verification.id, COUNT(l) "
-          + "FROM Like l "
-          + "WHERE l.deletedAt IS NULL "
-          + "GROUP BY l.verification.id")
-  List<Object[]> findAllLikeCountByVerificationId();
-
+  /** 회원이 좋아요한 인증 ID (최근 인증부터, pageable 크기까지) */
   @Query(
       """
     SELECT l.verification.id
     FROM Like l
     WHERE l.member.id = :memberId
-    AND l.verification.id IN :verificationIds
     AND l.deletedAt IS NULL
+    ORDER BY l.verification.id DESC
     """)
-  Set<Long> findLikedVerificationIdsByMemberId(
-      @Param("memberId") Long memberId, @Param("verificationIds") List<Long> verificationIds);
-
-  boolean existsByVerificationIdAndMemberIdAndDeletedAtIsNull(Long verificationId, Long memberId);
+  List<Long> findVerificationIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-  Optional<Like> findByVerificationIdAndMemberIdAndDeletedAtIsNull(
-      Long verificationId, Long memberId);
-
-  Optional<Like> findByVerificationIdAndMemberId(Long verificationId, Long memberId);
+  @Query(
+      """
+    SELECT l.member.id
+    FROM Like l
+    WHERE l.verification.id = :verificationId
+    AND l.deletedAt IS NULL
+    """)
+  List<Long> findMemberIdsByVerificationId(@Param("verificationId") Long verificationId);
 }
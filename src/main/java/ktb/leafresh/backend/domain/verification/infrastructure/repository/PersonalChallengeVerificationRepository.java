@@ -1,5 +1,7 @@
 package ktb.leafresh.backend.domain.verification.infrastructure.repository;
 
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationTime;
 import ktb.leafresh.backend.domain.verification.domain.entity.PersonalChallengeVerification;
 import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,47 +13,35 @@ import java.util.List;
 import java.util.Optional;
 
 public interface PersonalChallengeVerificationRepository
-    extends JpaRepository<PersonalChallengeVerification, Long>,
-        PersonalChallengeVerificationCustomRepository {
+    extends JpaRepository<PersonalChallengeVerification, Long> {
 
   Optional<PersonalChallengeVerification>
       findTopByMemberIdAndPersonalChallengeIdAndCreatedAtBetween(
           Long memberId, Long challengeId, LocalDateTime startOfDay, LocalDateTime endOfDay);
 
-  int countConsecutiveSuccessDays(Long memberId);
-
-  /** 전체 개인 챌린지 제목 조회 */
+  /** 회원 × 개인 챌린지 제목별 성공 인증 수 (활동 카운터 백필) */
   @Query(
       """
-    SELECT DISTINCT pcv.personalChallenge.title
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate(
+      pcv.member.id, pc.title, COUNT(pcv))
     FROM PersonalChallengeVerification pcv
+    JOIN pcv.personalChallenge pc
+    WHERE pcv.status = :status
+    GROUP BY pcv.member.id, pc.title
     """)
-  List<String> findAllPersonalChallengeTitles();
-
-  /** 특정 개인 챌린지 인증 성공 여부 */
-  @Query(
-      """
-    SELECT CASE WHEN COUNT(pcv) > 0 THEN true ELSE false END
-    FROM PersonalChallengeVerification pcv
-    WHERE pcv.member.id = :memberId
-      AND pcv.personalChallenge.title = :title
-      AND pcv.status = :status
-    """)
-  boolean existsByMemberIdAndPersonalChallengeTitleAndStatus(
-      @Param("memberId") Long memberId,
-      @Param("title") String title,
+  List<MemberVerificationAggregate> aggregateByMemberAndTitle(
       @Param("status") ChallengeStatus status);
 
-  /** 전체 개인 인증 횟수 */
+  /** since 이후 성공한 개인 인증의 회원과 작성 시각 (연속 일수 백필) */
   @Query(
       """
-    SELECT COUNT(pcv)
+    SELECT new ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationTime(
+      pcv.member.id, pcv.createdAt)
     FROM PersonalChallengeVerification pcv
-    WHERE pcv.member.id = :memberId
-      AND pcv.status = :status
+    WHERE pcv.status = :status AND pcv.createdAt >= :since
     """)
-  long countTotalByMemberIdAndStatus(
-      @Param("memberId") Long memberId, @Param("status") ChallengeStatus status);
+  List<MemberVerificationTime> findSuccessTimesSince(
+      @Param("status") ChallengeStatus status, @Param("since") LocalDateTime since);
 
   @Query(
       """
@@ -0,0 +1,35 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.repository;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/** 인증 통계 증감분 일괄 반영용 JDBC 저장소 (청크 단위 batchUpdate 한 번, 한 트랜잭션) */
+@Repository
+@RequiredArgsConstructor
+public class VerificationStatBatchJdbcRepository {
+
+  private static final String INCREASE_COUNTS_SQL =
+      "UPDATE group_challenge_verifications SET view_count = view_count + ?,"
+          + " like_count = like_count + ?, comment_count = comment_count + ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void increaseCounts(List<VerificationStatDelta> deltas) {
+    jdbcTemplate.batchUpdate(
+        INCREASE_COUNTS_SQL,
+        deltas,
+        deltas.size(),
+        (ps, delta) -> {
+          ps.setLong(1, delta.viewCount());
+          ps.setLong(2, delta.likeCount());
+          ps.setLong(3, delta.commentCount());
+          ps.setLong(4, delta.verificationId());
+        });
+  }
+}
@@ -0,0 +1,30 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.verification.application.service.VerificationLikeSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationLikeSyncScheduler {
+
+  private final VerificationLikeSyncService verificationLikeSyncService;
+
+  /** Redis 에 쌓인 좋아요 변경을 DB 에 일괄 반영 (실패 시 다음 주기에 같은 변경을 다시 반영) */
+  @Scheduled(fixedDelayString = "${verification.like.sync-interval-millis:5000}")
+  @SchedulerLock(
+      name = "VerificationLikeSyncScheduler",
+      lockAtLeastFor = "1s",
+      lockAtMostFor = "5m")
+  public void syncLikes() {
+    try {
+      verificationLikeSyncService.sync();
+    } catch (Exception e) {
+      log.error("[VerificationLikeSyncScheduler] 동기화 실패 - message={}", e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationTrendingTrimScheduler {
+
+  private final VerificationTrendingService verificationTrendingService;
+
+  /** 인기 점수 기준 시각 이동 + 카테고리별 상위 N 개만 유지 */
+  @Scheduled(fixedDelayString = "${verification.trending.trim-interval-millis:600000}")
+  @SchedulerLock(
+      name = "VerificationTrendingTrimScheduler",
+      lockAtLeastFor = "5s",
+      lockAtMostFor = "5m")
+  public void trimTrending() {
+    try {
+      long removed = verificationTrendingService.trim();
+      log.debug("[VerificationTrendingTrimScheduler] 인기 순위 정리 - 제거={}건", removed);
+    } catch (Exception e) {
+      log.error("[VerificationTrendingTrimScheduler] 인기 순위 정리 실패 - message={}", e.getMessage(), e);
+    }
+  }
+}
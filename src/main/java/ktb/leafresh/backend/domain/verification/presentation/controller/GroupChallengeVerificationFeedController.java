@@ -6,12 +6,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import ktb.leafresh.backend.domain.verification.application.service.GroupChallengeVerificationFeedService;
+import ktb.leafresh.backend.domain.verification.application.service.VerificationFeedPageCacheService;
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedListResponseDto;
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedSummaryDto;
 import ktb.leafresh.backend.global.response.ApiResponse;
 import ktb.leafresh.backend.global.security.CurrentMemberId;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,20 +29,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupChallengeVerificationFeedController {
 
   private final GroupChallengeVerificationFeedService feedService;
+  private final VerificationFeedPageCacheService feedPageCacheService;
 
   @GetMapping
   @Operation(summary = "인증 피드 조회", description = "단체 챌린지 인증 피드를 커서 기반 페이지네이션으로 조회합니다.")
-  public ResponseEntity<ApiResponse<GroupChallengeVerificationFeedListResponseDto>> getFeed(
+  public ResponseEntity<?> getFeed(
       @Parameter(description = "커서 ID") @RequestParam(required = false) Long cursorId,
       @Parameter(description = "커서 타임스탬프") @RequestParam(required = false) String cursorTimestamp,
       @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "12") @Min(1) @Max(50)
           int size,
       @Parameter(description = "카테고리 필터") @RequestParam(required = false) String category,
+      @Parameter(description = "정렬 (latest: 최신순, popular: 인기순)")
+          @RequestParam(defaultValue = "latest")
+          String sort,
       @CurrentMemberId Long memberId) {
 
+    // 첫 페이지는 직렬화된 캐시 응답을 그대로 내려준다 (로그인 사용자는 좋아요 여부만 병합)
+    if (cursorId == null && cursorTimestamp == null) {
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .body(feedPageCacheService.getFirstPage(sort, category, size, memberId));
+    }
+
     CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
-        feedService.getGroupChallengeVerifications(
-            cursorId, cursorTimestamp, size, category, memberId);
+        "popular".equalsIgnoreCase(sort)
+            ? feedService.getPopularGroupChallengeVerifications(cursorId, size, category, memberId)
+            : feedService.getGroupChallengeVerifications(
+                cursorId, cursorTimestamp, size, category, memberId);
 
     return ResponseEntity.ok(
         ApiResponse.success(
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import ktb.leafresh.backend.domain.verification.application.service.GroupVerificationCommentCreateService;
 import ktb.leafresh.backend.domain.verification.application.service.GroupVerificationCommentDeleteService;
 import ktb.leafresh.backend.domain.verification.application.service.GroupVerificationCommentQueryService;
@@ -15,13 +17,12 @@ import ktb.leafresh.backend.domain.verification.presentation.dto.response.Commen
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.CommentUpdateResponseDto;
 import ktb.leafresh.backend.global.response.ApiResponse;
 import ktb.leafresh.backend.global.security.CurrentMemberId;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "Group Verification Comment", description = "단체 챌린지 인증 댓글 관리 API")
 @RestController
 @RequiredArgsConstructor
@@ -35,18 +36,42 @@ public class GroupVerificationCommentManageController {
   private final GroupVerificationCommentQueryService groupVerificationCommentQueryService;
 
   @GetMapping
-  @Operation(summary = "댓글 목록 조회", description = "단체 챌린지 인증의 댓글 목록을 조회합니다.")
+  @Operation(
+      summary = "댓글 목록 조회",
+      description = "단체 챌린지 인증의 최상위 댓글을 커서 기반으로 조회합니다. 대댓글은 개수만 포함됩니다.")
   public ResponseEntity<ApiResponse<CommentListResponseDto>> getComments(
       @Parameter(description = "챌린지 ID") @PathVariable Long challengeId,
       @Parameter(description = "인증 ID") @PathVariable Long verificationId,
+      @Parameter(description = "커서 ID") @RequestParam(required = false) Long cursorId,
+      @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(100)
+          int size,
       @CurrentMemberId Long memberId) {
 
-    List<CommentSummaryResponseDto> comments =
-        groupVerificationCommentQueryService.getComments(challengeId, verificationId, memberId);
+    CursorPaginationResult<CommentSummaryResponseDto> comments =
+        groupVerificationCommentQueryService.getComments(
+            challengeId, verificationId, cursorId, size, memberId);
+
+    return ResponseEntity.ok(
+        ApiResponse.success("댓글 목록을 조회했습니다.", CommentListResponseDto.from(comments)));
+  }
+
+  @GetMapping("/{commentId}/replies")
+  @Operation(summary = "대댓글 목록 조회", description = "댓글 스레드의 대댓글을 커서 기반으로 조회합니다.")
+  public ResponseEntity<ApiResponse<CommentListResponseDto>> getReplies(
+      @Parameter(description = "챌린지 ID") @PathVariable Long challengeId,
+      @Parameter(description = "인증 ID") @PathVariable Long verificationId,
+      @Parameter(description = "댓글 ID") @PathVariable Long commentId,
+      @Parameter(description = "커서 ID") @RequestParam(required = false) Long cursorId,
+      @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") @Min(1) @Max(100)
+          int size,
+      @CurrentMemberId Long memberId) {
 
-    CommentListResponseDto responseDto = new CommentListResponseDto(comments);
+    CursorPaginationResult<CommentSummaryResponseDto> replies =
+        groupVerificationCommentQueryService.getReplies(
+            challengeId, verificationId, commentId, cursorId, size, memberId);
 
-    return ResponseEntity.ok(ApiResponse.success("댓글 목록을 조회했습니다.", responseDto));
+    return ResponseEntity.ok(
+        ApiResponse.success("대댓글 목록을 조회했습니다.", CommentListResponseDto.from(replies)));
   }
 
   @PostMapping
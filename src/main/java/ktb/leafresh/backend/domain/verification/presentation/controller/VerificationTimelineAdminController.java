@@ -0,0 +1,29 @@
+package ktb.leafresh.backend.domain.verification.presentation.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ktb.leafresh.backend.domain.verification.application.service.VerificationTimelineRebuildService;
+import ktb.leafresh.backend.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Verification Timeline Admin", description = "인증 피드 타임라인 관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/verifications/timeline")
+public class VerificationTimelineAdminController {
+
+  private final VerificationTimelineRebuildService verificationTimelineRebuildService;
+
+  @PostMapping("/rebuild")
+  @Operation(summary = "피드 타임라인 재구성", description = "DB 기준으로 최신순 피드 타임라인을 다시 채웁니다. (관리자 권한 필요)")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ApiResponse<Integer>> rebuild() {
+    int merged = verificationTimelineRebuildService.rebuild();
+    return ResponseEntity.ok(ApiResponse.success("피드 타임라인을 재구성했습니다.", merged));
+  }
+}
@@ -1,6 +1,8 @@
 package ktb.leafresh.backend.domain.verification.presentation.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import ktb.leafresh.backend.global.util.pagination.CursorInfo;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -12,4 +14,15 @@ import java.util.List;
 public class CommentListResponseDto {
   @Schema(description = "댓글 목록")
   private List<CommentSummaryResponseDto> comments;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
+
+  @Schema(description = "커서 페이지네이션 정보")
+  private CursorInfo cursorInfo;
+
+  public static CommentListResponseDto from(
+      CursorPaginationResult<CommentSummaryResponseDto> result) {
+    return new CommentListResponseDto(result.items(), result.hasNext(), result.cursorInfo());
+  }
 }
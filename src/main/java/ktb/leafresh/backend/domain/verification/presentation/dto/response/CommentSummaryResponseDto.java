@@ -34,6 +34,7 @@ import java.util.Objects;
   "parentCommentId",
   "isMine",
   "deleted",
+  "replyCount",
   "replies"
 })
 public class CommentSummaryResponseDto {
@@ -71,6 +72,9 @@ public class CommentSummaryResponseDto {
   @Schema(description = "삭제된 댓글 여부", example = "false")
   private boolean deleted;
 
+  @Schema(description = "대댓글 수 (최상위 댓글만, 대댓글은 별도 API 로 페이지 조회)", example = "3")
+  private Long replyCount;
+
   @Schema(description = "대댓글 목록")
   @Builder.Default
   private List<CommentSummaryResponseDto> replies = new ArrayList<>();
@@ -96,4 +100,12 @@ public class CommentSummaryResponseDto {
         .replies((includeReplies && !isReply) ? new ArrayList<>() : null)
         .build();
   }
+
+  /** 대댓글을 접어 둔 최상위 댓글 (대댓글 수만 포함) */
+  public static CommentSummaryResponseDto collapsedRoot(
+      Comment comment, Long loginMemberId, long replyCount) {
+    CommentSummaryResponseDto dto = from(comment, loginMemberId, true);
+    dto.replyCount = replyCount;
+    return dto;
+  }
 }
@@ -1,10 +1,9 @@
 package ktb.leafresh.backend.domain.verification.presentation.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
 import lombok.Builder;
 
-import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
@@ -33,24 +32,21 @@ public record GroupChallengeVerificationFeedSummaryDto(
       @Schema(description = "댓글 수", example = "3") int comment) {}
 
   public static GroupChallengeVerificationFeedSummaryDto from(
-      GroupChallengeVerification verification, Map<Object, Object> cachedStats, boolean isLiked) {
-    var member = verification.getParticipantRecord().getMember();
-    var challenge = verification.getParticipantRecord().getGroupChallenge();
-
+      VerificationFeedRow row, Map<Object, Object> cachedStats, boolean isLiked) {
     return GroupChallengeVerificationFeedSummaryDto.builder()
-        .id(verification.getId())
-        .challengeId(challenge.getId())
-        .nickname(member.getNickname())
-        .profileImageUrl(member.getImageUrl())
-        .verificationImageUrl(verification.getImageUrl())
-        .description(verification.getContent())
-        .category(challenge.getCategory().getName())
+        .id(row.id())
+        .challengeId(row.challengeId())
+        .nickname(row.nickname())
+        .profileImageUrl(row.profileImageUrl())
+        .verificationImageUrl(row.imageUrl())
+        .description(row.content())
+        .category(row.category())
         .counts(
             new Counts(
-                parseCount(cachedStats, "viewCount", verification.getViewCount()),
-                parseCount(cachedStats, "likeCount", verification.getLikeCount()),
-                parseCount(cachedStats, "commentCount", verification.getCommentCount())))
-        .createdAt(verification.getCreatedAt().atOffset(ZoneOffset.UTC))
+                parseCount(cachedStats, "viewCount", row.viewCount()),
+                parseCount(cachedStats, "likeCount", row.likeCount()),
+                parseCount(cachedStats, "commentCount", row.commentCount())))
+        .createdAt(row.createdAt().atOffset(ZoneOffset.UTC))
         .isLiked(isLiked)
         .build();
   }
@@ -0,0 +1,71 @@
+package ktb.leafresh.backend.global.config;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기본 헬스 그룹(/actuator/health)에서 readiness 전용 지표를 뺀다.
+ *
+ * <p>워밍업처럼 트래픽 유입만 늦추면 되는 지표가 기본 그룹에 섞이면, 기본 그룹을 보는 LB·모니터링이 기동 중인 인스턴스를 장애로 판단한다. 이런 지표는
+ * application.yml 의 readiness 그룹 include 에만 둔다.
+ */
+@Configuration
+public class HealthGroupConfig {
+
+  static final Set<String> READINESS_ONLY_CONTRIBUTORS = Set.of("verificationStatCacheInitializer");
+
+  @Bean
+  public HealthEndpointGroupsPostProcessor readinessOnlyHealthGroupsPostProcessor() {
+    return groups -> {
+      Map<String, HealthEndpointGroup> named = new LinkedHashMap<>();
+      for (String name : groups.getNames()) {
+        named.put(name, groups.get(name));
+      }
+      return HealthEndpointGroups.of(new ExcludingGroup(groups.getPrimary()), named);
+    };
+  }
+
+  private record ExcludingGroup(HealthEndpointGroup delegate) implements HealthEndpointGroup {
+
+    @Override
+    public boolean isMember(String name) {
+      return !READINESS_ONLY_CONTRIBUTORS.contains(name) && delegate.isMember(name);
+    }
+
+    @Override
+    public boolean showComponents(SecurityContext securityContext) {
+      return delegate.showComponents(securityContext);
+    }
+
+    @Override
+    public boolean showDetails(SecurityContext securityContext) {
+      return delegate.showDetails(securityContext);
+    }
+
+    @Override
+    public StatusAggregator getStatusAggregator() {
+      return delegate.getStatusAggregator();
+    }
+
+    @Override
+    public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+      return delegate.getHttpCodeStatusMapper();
+    }
+
+    @Override
+    public AdditionalHealthEndpointPath getAdditionalPath() {
+      return delegate.getAdditionalPath();
+    }
+  }
+}
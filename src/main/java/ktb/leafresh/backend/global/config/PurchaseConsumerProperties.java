@@ -0,0 +1,39 @@
+package ktb.leafresh.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** 주문 큐 Consumer 설정 (워커 수, 동시 처리 한도, 가시성 연장, 배치 ack 주기) */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "store.order.consumer")
+public class PurchaseConsumerProperties {
+
+  /** 회원 단위 순서를 보장하는 단일 스레드 워커(레인) 수 */
+  private int workerThreads = Runtime.getRuntime().availableProcessors();
+
+  /** 동시에 처리 중일 수 있는 최대 메시지 수 */
+  private int maxInFlight = 100;
+
+  /** 수신 스레드 수 (SQS 폴러 / Pub/Sub parallel pull) */
+  private int pollerThreads = 2;
+
+  /** 한 번에 수신할 메시지 수 (SQS 최대 10) */
+  private int receiveBatchSize = 10;
+
+  private int waitTimeSeconds = 20;
+
+  /** 수신 시 가시성 타임아웃, 처리 중인 메시지는 주기적으로 이 값으로 다시 연장된다 */
+  private int visibilityTimeoutSeconds = 30;
+
+  private int visibilityExtendIntervalSeconds = 10;
+
+  /** 처리 완료된 메시지를 DeleteMessageBatch로 모아 보내는 주기 */
+  private long ackFlushIntervalMillis = 500;
+
+  /** true 이면 한 번에 수신한 메시지를 워커 레인별로 하나의 트랜잭션으로 확정 (SQS 전용) */
+  private boolean batchFinalizationEnabled = false;
+}
@@ -0,0 +1,31 @@
+package ktb.leafresh.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Redis 선점 재고와 DB 확정 재고 대사 설정 */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "store.stock.reconcile")
+public class StockReconciliationProperties {
+
+  private boolean enabled = true;
+
+  /** 대사 주기 */
+  private long intervalMillis = 10_000;
+
+  /** 한 번에 꺼내 검사할 dirty 대상 수 */
+  private int batchSize = 200;
+
+  /** 이 시간이 지나도 확정되지 않은 선점은 stuck 으로 보고 */
+  private long stuckThresholdSeconds = 900;
+
+  /** 선점 추적 ZSET 보관 시간 (멱등성 키 TTL 과 맞춤) */
+  private long pendingTtlSeconds = 86_400;
+
+  /** true 이면 연속 두 번 같은 값으로 관측된 차이를 Redis 재고에 반영 */
+  private boolean autoCorrectEnabled = false;
+}
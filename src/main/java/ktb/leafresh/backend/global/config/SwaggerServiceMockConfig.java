@@ -1,9 +1,13 @@
 package ktb.leafresh.backend.global.config;
 
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
+import ktb.leafresh.backend.global.util.redis.ShardedStockRedisLuaService;
 import ktb.leafresh.backend.global.util.redis.StockRedisLuaService;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
+import ktb.leafresh.backend.global.util.redis.StockReservationRedisLuaService;
+import ktb.leafresh.backend.global.util.redis.TrendingScoreRedisLuaService;
+import ktb.leafresh.backend.global.util.redis.VerificationLikeRedisLuaService;
 import lombok.extern.slf4j.Slf4j;
 import org.mockito.Mockito;
 import org.springframework.context.annotation.Bean;
@@ -43,8 +47,36 @@ public class SwaggerServiceMockConfig {
 
     @Bean
     @Primary
-    public VerificationStatRedisLuaService mockVerificationStatRedisLuaService() {
-        log.info("🔧 Creating Mock VerificationStatRedisLuaService for Swagger documentation");
-        return Mockito.mock(VerificationStatRedisLuaService.class);
+    public StockReservationRedisLuaService mockStockReservationRedisLuaService() {
+        log.info("🔧 Creating Mock StockReservationRedisLuaService for Swagger documentation");
+        return Mockito.mock(StockReservationRedisLuaService.class);
+    }
+
+    @Bean
+    @Primary
+    public ShardedStockRedisLuaService mockShardedStockRedisLuaService() {
+        log.info("🔧 Creating Mock ShardedStockRedisLuaService for Swagger documentation");
+        return Mockito.mock(ShardedStockRedisLuaService.class);
+    }
+
+    @Bean
+    @Primary
+    public VerificationStatCounterBuffer mockVerificationStatCounterBuffer() {
+        log.info("🔧 Creating Mock VerificationStatCounterBuffer for Swagger documentation");
+        return Mockito.mock(VerificationStatCounterBuffer.class);
+    }
+
+    @Bean
+    @Primary
+    public TrendingScoreRedisLuaService mockTrendingScoreRedisLuaService() {
+        log.info("🔧 Creating Mock TrendingScoreRedisLuaService for Swagger documentation");
+        return Mockito.mock(TrendingScoreRedisLuaService.class);
+    }
+
+    @Bean
+    @Primary
+    public VerificationLikeRedisLuaService mockVerificationLikeRedisLuaService() {
+        log.info("🔧 Creating Mock VerificationLikeRedisLuaService for Swagger documentation");
+        return Mockito.mock(VerificationLikeRedisLuaService.class);
     }
 }
@@ -0,0 +1,40 @@
+package ktb.leafresh.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** 타임딜 주문 대기열(입장 제어) 설정 */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "store.timedeal.waiting-room")
+public class TimedealWaitingRoomProperties {
+
+  /** true 이면 입장 허용된 회원만 타임딜 주문 가능 */
+  private boolean enabled = false;
+
+  /** 입장 처리 주기 */
+  private long admitIntervalMillis = 1_000;
+
+  /** 입장 후 주문할 수 있는 시간 */
+  private long admissionTtlSeconds = 60;
+
+  /** 처리량 측정 구간 (최근 N초 확정 건수 평균) */
+  private int throughputWindowSeconds = 10;
+
+  /** 측정 처리량에 곱하는 여유 배율 (1보다 커야 처리량이 늘어날 여지가 생긴다) */
+  private double headroom = 1.2;
+
+  /** 측정값이 없거나 낮을 때의 최소 초당 입장 수 */
+  private int minAdmitsPerSecond = 10;
+
+  private int maxAdmitsPerSecond = 500;
+
+  /** 딜별로 동시에 입장해 있을 수 있는 최대 인원 */
+  private int maxActivePerDeal = 1_000;
+
+  /** 대기열 키 보관 시간 */
+  private long queueTtlSeconds = 3_600;
+}
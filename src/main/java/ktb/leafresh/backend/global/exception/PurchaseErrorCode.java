@@ -7,7 +7,8 @@ public enum PurchaseErrorCode implements BaseErrorCode {
   INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
   INSUFFICIENT_POINTS(HttpStatus.BAD_REQUEST, "보유한 나뭇잎 포인트가 부족합니다."),
   PURCHASE_SERIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "구매 요청 직렬화에 실패했습니다."),
-  PURCHASE_PUBLISH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "구매 요청 발행에 실패했습니다.");
+  PURCHASE_PUBLISH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "구매 요청 발행에 실패했습니다."),
+  WAITING_ROOM_NOT_ADMITTED(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 순서가 아직 되지 않았습니다.");
 
   private final HttpStatus status;
   private final String message;
@@ -1,5 +1,6 @@
 package ktb.leafresh.backend.global.initializer;
 
+import ktb.leafresh.backend.domain.member.application.service.BadgeCatalog;
 import ktb.leafresh.backend.domain.member.domain.entity.Badge;
 import ktb.leafresh.backend.domain.member.domain.entity.enums.BadgeType;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.BadgeRepository;
@@ -15,6 +16,7 @@ import java.util.List;
 public class BadgeInitializer implements CommandLineRunner {
 
   private final BadgeRepository badgeRepository;
+  private final BadgeCatalog badgeCatalog;
 
   @Override
   @Transactional
@@ -227,6 +229,9 @@ public class BadgeInitializer implements CommandLineRunner {
                 .build());
       }
     }
+
+    // 뱃지가 바뀌는 곳은 시드뿐이므로 여기서 인메모리 목록을 다시 읽는다
+    badgeCatalog.refresh();
   }
 
   private record BadgeSeed(BadgeType type, String name, String condition, String imageUrl) {}
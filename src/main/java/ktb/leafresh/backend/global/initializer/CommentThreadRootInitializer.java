@@ -0,0 +1,58 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.verification.application.dto.CommentParentLink;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최상위 댓글 ID 백필.
+ *
+ * <p>root_comment_id 컬럼이 추가되기 전에 작성된 대댓글은 값이 비어 있으므로, 부모 관계를 (id, parentId) 로만 읽어 메모리에서 최상위
+ * 댓글을 찾고 최상위 댓글 단위로 한 번에 갱신한다. 비어 있는 대댓글이 없으면 조회 한 번으로 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentThreadRootInitializer implements CommandLineRunner {
+
+  private final CommentRepository commentRepository;
+
+  @Override
+  @Transactional
+  public void run(String... args) {
+    if (!commentRepository.existsByParentCommentIsNotNullAndRootCommentIdIsNull()) return;
+
+    Map<Long, Long> parents = new HashMap<>();
+    for (CommentParentLink link : commentRepository.findAllParentLinks()) {
+      parents.put(link.commentId(), link.parentCommentId());
+    }
+
+    Map<Long, List<Long>> repliesByRoot = new HashMap<>();
+    for (Long replyId : parents.keySet()) {
+      repliesByRoot.computeIfAbsent(rootOf(replyId, parents), root -> new ArrayList<>()).add(replyId);
+    }
+
+    int updated = 0;
+    for (Map.Entry<Long, List<Long>> entry : repliesByRoot.entrySet()) {
+      updated += commentRepository.updateRootCommentId(entry.getKey(), entry.getValue());
+    }
+    log.info("[CommentThreadRootInitializer] 최상위 댓글 ID 백필 완료 - 대댓글 {}건", updated);
+  }
+
+  private Long rootOf(Long commentId, Map<Long, Long> parents) {
+    Long current = commentId;
+    for (int depth = 0; parents.containsKey(current) && depth <= parents.size(); depth++) {
+      current = parents.get(current);
+    }
+    return current;
+  }
+}
@@ -0,0 +1,195 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityCounter;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityCounterRepository;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationTime;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.PersonalChallengeVerificationRepository;
+import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 회원 활동 카운터 백필.
+ *
+ * <p>카운터 테이블이 비어 있을 때만 기존 성공 인증을 회원별로 한 번씩 집계해 채운다. 이후에는 인증 결과가 들어올 때 카운터만 증가시킨다. 연속 일수는 최근
+ * {@value #STREAK_WINDOW_DAYS}일의 인증만 보고 마지막 활동일로 끝나는 구간을 센다.
+ *
+ * <p>여러 인스턴스가 동시에 뜨면 ShedLock 을 잡은 한 곳만 백필한다. 저장은 {@value #SAVE_CHUNK_SIZE}건씩 나눠 하고, 백필 중 인증
+ * 결과가 먼저 만든 카운터와 겹친 청크는 한 건씩 다시 저장하며 중복만 건너뛴다. 백필이 실패해도 기동은 멈추지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberActivityCounterInitializer implements CommandLineRunner {
+
+  static final int STREAK_WINDOW_DAYS = 31;
+  static final int SAVE_CHUNK_SIZE = 500;
+  static final String LOCK_NAME = "memberActivityCounterBackfill";
+  private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+  private static final Duration LOCK_AT_LEAST_FOR = Duration.ofSeconds(30);
+
+  private final MemberActivityCounterRepository counterRepository;
+  private final GroupChallengeVerificationRepository groupVerificationRepository;
+  private final PersonalChallengeVerificationRepository personalVerificationRepository;
+  private final LockProvider lockProvider;
+
+  @Override
+  public void run(String... args) {
+    Optional<SimpleLock> lock =
+        lockProvider.lock(
+            new LockConfiguration(Instant.now(), LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR));
+    if (lock.isEmpty()) {
+      log.info("[MemberActivityCounterInitializer] 다른 인스턴스가 백필 중 - 건너뜀");
+      return;
+    }
+    try {
+      backfill();
+    } catch (Exception e) {
+      log.error("[MemberActivityCounterInitializer] 회원 활동 카운터 백필 실패", e);
+    } finally {
+      lock.get().unlock();
+    }
+  }
+
+  private void backfill() {
+    if (counterRepository.count() > 0) return;
+
+    Counters counters = new Counters();
+    ChallengeStatus success = ChallengeStatus.SUCCESS;
+
+    for (MemberVerificationAggregate row :
+        groupVerificationRepository.aggregateByMemberAndCategory(success)) {
+      counters.add(row.memberId(), ActivityCounterKeys.totalSuccess(), row.count());
+      counters.add(row.memberId(), ActivityCounterKeys.categorySuccess(row.name()), row.count());
+      if (BadgeActivity.isRequiredCategory(row.name())) {
+        counters.add(row.memberId(), ActivityCounterKeys.categoriesCleared(), 1);
+      }
+    }
+    for (MemberVerificationAggregate row :
+        groupVerificationRepository.aggregateDistinctChallengesByMemberAndCategory(success)) {
+      counters.add(
+          row.memberId(), ActivityCounterKeys.categoryChallenges(row.name()), row.count());
+    }
+    for (MemberVerificationAggregate row :
+        groupVerificationRepository.aggregateByMemberAndChallenge(success)) {
+      counters.add(
+          row.memberId(),
+          ActivityCounterKeys.challengeSuccess(Long.valueOf(row.name())),
+          row.count());
+    }
+    for (MemberVerificationAggregate row :
+        groupVerificationRepository.aggregateEventByMemberAndTitle(success)) {
+      counters.add(row.memberId(), ActivityCounterKeys.eventSuccess(row.name()), row.count());
+    }
+    for (MemberVerificationAggregate row :
+        personalVerificationRepository.aggregateByMemberAndTitle(success)) {
+      counters.add(row.memberId(), ActivityCounterKeys.totalSuccess(), row.count());
+      counters.add(
+          row.memberId(), ActivityCounterKeys.personalTitleSuccess(row.name()), row.count());
+      counters.add(row.memberId(), ActivityCounterKeys.personalTitlesCleared(), 1);
+    }
+
+    List<MemberActivityCounter> entities = counters.toEntities();
+    entities.addAll(
+        streaks(
+            personalVerificationRepository.findSuccessTimesSince(
+                success, LocalDate.now().minusDays(STREAK_WINDOW_DAYS).atStartOfDay())));
+    if (entities.isEmpty()) return;
+
+    int saved = 0;
+    for (int from = 0; from < entities.size(); from += SAVE_CHUNK_SIZE) {
+      saved += save(entities.subList(from, Math.min(from + SAVE_CHUNK_SIZE, entities.size())));
+    }
+    log.info(
+        "[MemberActivityCounterInitializer] 회원 활동 카운터 백필 완료 - {}건 (중복 {}건 건너뜀)",
+        saved,
+        entities.size() - saved);
+  }
+
+  /** 청크 단위로 저장하고, 이미 있는 카운터와 겹치면 한 건씩 저장하며 중복만 건너뛴다. */
+  private int save(List<MemberActivityCounter> chunk) {
+    try {
+      counterRepository.saveAll(chunk);
+      return chunk.size();
+    } catch (DataIntegrityViolationException e) {
+      int saved = 0;
+      for (MemberActivityCounter counter : chunk) {
+        try {
+          // 롤백된 청크에서 id 를 받은 엔티티가 있을 수 있어 새 엔티티로 다시 저장한다
+          counterRepository.save(
+              MemberActivityCounter.of(
+                  counter.getMemberId(),
+                  counter.getCounterKey(),
+                  counter.getValue(),
+                  counter.getLastActivityDate()));
+          saved++;
+        } catch (DataIntegrityViolationException duplicate) {
+          log.debug(
+              "[MemberActivityCounterInitializer] 이미 있는 카운터 건너뜀 - memberId={}, key={}",
+              counter.getMemberId(),
+              counter.getCounterKey());
+        }
+      }
+      return saved;
+    }
+  }
+
+  private List<MemberActivityCounter> streaks(List<MemberVerificationTime> times) {
+    Map<Long, TreeSet<LocalDate>> datesByMember = new HashMap<>();
+    for (MemberVerificationTime time : times) {
+      datesByMember
+          .computeIfAbsent(time.memberId(), id -> new TreeSet<>())
+          .add(time.createdAt().toLocalDate());
+    }
+
+    return datesByMember.entrySet().stream()
+        .map(
+            entry -> {
+              TreeSet<LocalDate> dates = entry.getValue();
+              LocalDate last = dates.last();
+              long streak = 1;
+              while (dates.contains(last.minusDays(streak))) streak++;
+              return MemberActivityCounter.of(
+                  entry.getKey(), ActivityCounterKeys.personalStreak(), streak, last);
+            })
+        .toList();
+  }
+
+  private static class Counters {
+    private final Map<Long, Map<String, Long>> values = new HashMap<>();
+
+    void add(Long memberId, String key, long delta) {
+      values.computeIfAbsent(memberId, id -> new HashMap<>()).merge(key, delta, Long::sum);
+    }
+
+    List<MemberActivityCounter> toEntities() {
+      List<MemberActivityCounter> entities = new ArrayList<>();
+      values.forEach(
+          (memberId, counters) ->
+              counters.forEach(
+                  (key, value) ->
+                      entities.add(MemberActivityCounter.of(memberId, key, value, null))));
+      return entities;
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package ktb.leafresh.backend.global.initializer;
 
 import jakarta.annotation.PostConstruct;
-import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
 import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -17,23 +18,34 @@ import java.util.List;
 public class ProductStockCacheInitializer {
 
   private final ProductRepository productRepository;
-  private final ProductCacheLockFacade productCacheLockFacade;
+  private final ProductCacheService productCacheService;
+  private final StockReservationTracker stockReservationTracker;
 
-  /** 서비스 시작 시 모든 상품 재고를 Redis에 캐싱 */
+  /**
+   * 서비스 시작 시 캐시에 없는 상품 재고만 Redis에 캐싱. 이미 있는 재고에는 선점이 반영돼 있으므로 덮어쓰지 않고, 차이는 재고 대사에 맡긴다.
+   */
   @PostConstruct
   public void initProductStockCache() {
     List<Product> products = productRepository.findAll();
 
     int successCount = 0;
+    List<String> targets = new ArrayList<>(products.size());
     for (Product product : products) {
       try {
-        productCacheLockFacade.cacheProductStock(product.getId(), product.getStock());
-        successCount++;
+        if (productCacheService.cacheProductStockIfAbsent(product.getId(), product.getStock())) {
+          successCount++;
+        }
+        targets.add(StockReservationTracker.productTarget(product.getId()));
       } catch (Exception e) {
         log.error("[ProductStockCacheInitializer] 캐시 등록 실패 - productId={}", product.getId(), e);
       }
     }
 
-    log.info("[ProductStockCacheInitializer] Redis 재고 캐시 초기화 완료 - 총 {}건", successCount);
+    try {
+      stockReservationTracker.markDirty(targets);
+    } catch (Exception e) {
+      log.warn("[ProductStockCacheInitializer] 재고 대사 대상 등록 실패 - {}", e.getMessage());
+    }
+    log.info("[ProductStockCacheInitializer] Redis 재고 캐시 초기화 완료 - 신규 {}건", successCount);
   }
 }
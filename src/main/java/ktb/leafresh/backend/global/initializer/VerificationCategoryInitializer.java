@@ -0,0 +1,26 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 피드 카테고리 컬럼이 추가되기 전에 등록된 인증을 챌린지 카테고리로 채운다 (비어 있는 인증이 없으면 갱신 없음) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationCategoryInitializer implements CommandLineRunner {
+
+  private final GroupChallengeVerificationRepository verificationRepository;
+
+  @Override
+  @Transactional
+  public void run(String... args) {
+    int updated = verificationRepository.backfillCategory();
+    if (updated > 0) {
+      log.info("[VerificationCategoryInitializer] 인증 피드 카테고리 백필 완료 - {}건", updated);
+    }
+  }
+}
@@ -1,80 +1,99 @@
 package ktb.leafresh.backend.global.initializer;
 
-import jakarta.annotation.PostConstruct;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.List;
 
+/**
+ * 인증 통계 캐시 워밍업.
+ *
+ * <p>최근 인증만 id 내림차순 키셋 페이지로 읽어 페이지마다 HSETNX + EXPIRE 파이프라인 한 번으로 채우고, 나머지는 조회 시 지연 복구에 맡긴다.
+ * 워밍업은 애플리케이션 기동 후 별도 스레드에서 실행되며, 끝날 때까지 readiness 헬스 그룹에만 OUT_OF_SERVICE 를 보고해 트래픽 유입을 늦춘다
+ * (기본 그룹에서는 {@link ktb.leafresh.backend.global.config.HealthGroupConfig} 가 제외).
+ * 실패하더라도 지연 복구가 있으므로 게이트는 항상 열린다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class VerificationStatCacheInitializer {
+public class VerificationStatCacheInitializer implements HealthIndicator {
 
   private final GroupChallengeVerificationRepository verificationRepository;
-  private final LikeRepository likeRepository;
-  private final CommentRepository commentRepository;
   private final VerificationStatCacheService verificationStatCacheService;
-  private final StringRedisTemplate stringRedisTemplate;
 
-  @PostConstruct
-  public void initializeVerificationStats() {
-    Map<Long, Integer> viewCountMap = new HashMap<>();
-    Map<Long, Integer> likeCountMap = new HashMap<>();
-    Map<Long, Integer> commentCountMap = new HashMap<>();
+  @Value("${verification.stat.warmup.enabled:true}")
+  private boolean enabled;
 
-    for (Object[] row : verificationRepository.findAllViewCountByVerificationId()) {
-      viewCountMap.put((Long) row[0], row[1] != null ? ((Number) row[1]).intValue() : 0);
-    }
+  @Value("${verification.stat.warmup.recent-days:7}")
+  private int recentDays;
 
-    for (Object[] row : likeRepository.findAllLikeCountByVerificationId()) {
-      likeCountMap.put((Long) row[0], row[1] != null ? ((Number) row[1]).intValue() : 0);
-    }
+  @Value("${verification.stat.warmup.page-size:1000}")
+  private int pageSize;
 
-    for (Object[] row : commentRepository.findAllCommentCountByVerificationId()) {
-      commentCountMap.put((Long) row[0], row[1] != null ? ((Number) row[1]).intValue() : 0);
-    }
+  @Value("${verification.stat.warmup.max-entries:50000}")
+  private int maxEntries;
 
-    Set<Long> allVerificationIds = new HashSet<>();
-    allVerificationIds.addAll(viewCountMap.keySet());
-    allVerificationIds.addAll(likeCountMap.keySet());
-    allVerificationIds.addAll(commentCountMap.keySet());
+  private volatile boolean warmedUp;
 
-    int successCount = 0;
-    for (Long verificationId : allVerificationIds) {
-      String redisKey = "verification:stat:" + verificationId;
+  @EventListener(ApplicationReadyEvent.class)
+  public void startWarmup() {
+    if (!enabled) {
+      warmedUp = true;
+      return;
+    }
+    Thread.ofPlatform().name("verification-stat-warmup").daemon(true).start(this::warmUp);
+  }
 
-      if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(redisKey))) {
-        log.info("[VerificationStatCacheInitializer] 기존 Redis 캐시 존재 - 초기화 생략: {}", redisKey);
-        continue;
-      }
+  /** @return 캐시에 반영한 인증 수 */
+  public int warmUp() {
+    long startedAt = System.currentTimeMillis();
+    LocalDateTime since = LocalDateTime.now().minusDays(recentDays);
+    long cursorId = Long.MAX_VALUE;
+    int warmed = 0;
 
-      int views = viewCountMap.getOrDefault(verificationId, 0);
-      int likes = likeCountMap.getOrDefault(verificationId, 0);
-      int comments = commentCountMap.getOrDefault(verificationId, 0);
+    try {
+      while (warmed < maxEntries) {
+        int limit = Math.min(pageSize, maxEntries - warmed);
+        List<VerificationStatSnapshot> page =
+            verificationRepository.findRecentStatsBefore(
+                cursorId, since, PageRequest.of(0, limit));
+        if (page.isEmpty()) break;
 
-      try {
-        verificationStatCacheService.initializeVerificationStats(
-            verificationId, views, likes, comments);
-        successCount++;
-      } catch (Exception e) {
-        log.error(
-            "[VerificationStatCacheInitializer] 캐시 초기화 실패 - id={}, error={}",
-            verificationId,
-            e.getMessage(),
-            e);
+        verificationStatCacheService.cacheIfAbsent(page);
+        warmed += page.size();
+        cursorId = page.get(page.size() - 1).getId();
+        if (page.size() < limit) break;
       }
+      log.info(
+          "[VerificationStatCacheInitializer] Redis 인증 통계 캐시 워밍업 완료 - 총 {}건, {}ms",
+          warmed,
+          System.currentTimeMillis() - startedAt);
+    } catch (Exception e) {
+      log.error(
+          "[VerificationStatCacheInitializer] 캐시 워밍업 중단 - 반영={}건, error={}",
+          warmed,
+          e.getMessage(),
+          e);
+    } finally {
+      warmedUp = true;
     }
+    return warmed;
+  }
 
-    log.info("[VerificationStatCacheInitializer] Redis 인증 통계 캐시 초기화 완료 - 총 {}건", successCount);
+  @Override
+  public Health health() {
+    if (warmedUp) return Health.up().build();
+    return Health.outOfService().withDetail("warmup", "running").build();
   }
 }
@@ -26,4 +26,16 @@ public class CursorPaginationHelper {
 
     return new CursorPaginationResult<>(dtos, hasNext, cursorInfo);
   }
+
+  /** id 오름차순처럼 ID 만으로 커서가 결정되는 목록 (size + 1 개를 조회해 전달) */
+  public static <T, D> CursorPaginationResult<D> paginate(
+      List<T> entities, int size, Function<T, D> mapper, Function<D, Long> idExtractor) {
+    boolean hasNext = entities.size() > size;
+    if (hasNext) entities = entities.subList(0, size);
+
+    List<D> dtos = entities.stream().map(mapper).toList();
+    CursorInfo cursorInfo =
+        new CursorInfo(dtos.isEmpty() ? null : idExtractor.apply(dtos.getLast()), null);
+    return new CursorPaginationResult<>(dtos, hasNext, cursorInfo);
+  }
 }
@@ -0,0 +1,16 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+/** Lua 스크립트 생성 헬퍼 */
+public class RedisScripts {
+  private RedisScripts() {}
+
+  /** 배열을 반환하는 스크립트 (결과 타입을 raw List.class 로만 지정할 수 있어 변환을 여기서 한 번만 한다) */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public static DefaultRedisScript<List<Object>> listScript(String script) {
+    return new DefaultRedisScript(script, List.class);
+  }
+}
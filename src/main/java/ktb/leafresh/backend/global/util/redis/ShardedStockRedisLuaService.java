@@ -0,0 +1,170 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 하나의 재고를 N개의 하위 카운터(샤드)로 나누어 관리한다.
+ *
+ * <p>모든 스크립트는 단일 키만 다루므로 샤드가 서로 다른 슬롯/노드에 있어도 동작한다. 요청은 임의의 샤드에서 먼저 차감을 시도하고, 부족하면 형제
+ * 샤드에서 남은 수량을 빌려온다. 빌려온 합이 요청 수량에 못 미치면 가져온 만큼 되돌리므로 초과 판매는 발생하지 않는다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class ShardedStockRedisLuaService {
+
+  public static final long NOT_CACHED = -1L;
+  public static final long OUT_OF_STOCK = -2L;
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 전량 차감 (StockRedisLuaService 와 같은 반환 규약)
+  private static final DefaultRedisScript<Long> DECREASE_STOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            local stock = tonumber(redis.call("GET", KEYS[1]))
+            local qty = tonumber(ARGV[1])
+            if stock == nil then return -1 end
+            if stock < qty then return -2 end
+            return redis.call("DECRBY", KEYS[1], qty)
+          """,
+          Long.class);
+
+  // 가능한 만큼만 차감하고 실제로 가져온 수량을 반환
+  private static final DefaultRedisScript<Long> TAKE_UP_TO_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            local stock = tonumber(redis.call("GET", KEYS[1]))
+            if stock == nil then return -1 end
+            local take = math.min(stock, tonumber(ARGV[1]))
+            if take <= 0 then return 0 end
+            redis.call("DECRBY", KEYS[1], take)
+            return take
+          """,
+          Long.class);
+
+  /** 재고를 샤드에 균등 분배 (나머지는 앞 샤드부터 1개씩) */
+  public void initialize(List<String> shardKeys, int stock, Duration ttl) {
+    int shardCount = shardKeys.size();
+    int base = stock / shardCount;
+    int remainder = stock % shardCount;
+
+    stringRedisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              StringRedisConnection conn = (StringRedisConnection) connection;
+              for (int i = 0; i < shardCount; i++) {
+                String value = String.valueOf(base + (i < remainder ? 1 : 0));
+                if (ttl != null) {
+                  conn.setEx(shardKeys.get(i), ttl.getSeconds(), value);
+                } else {
+                  conn.set(shardKeys.get(i), value);
+                }
+              }
+              return null;
+            });
+    log.info("[ShardedStock] 재고 분배 - shards={}, stock={}", shardCount, stock);
+  }
+
+  /**
+   * 샤드 재고 차감.
+   *
+   * @return 차감 후 재고(0 이상, 홈 샤드에서 끝나면 홈 샤드 재고, 형제 샤드에서 빌려왔으면 전체 샤드 합계), 캐시 없음(-1), 재고 부족(-2)
+   */
+  public Long decreaseStock(List<String> shardKeys, int homeIndex, int quantity) {
+    String homeKey = shardKeys.get(homeIndex);
+    Long result = execute(DECREASE_STOCK_SCRIPT, homeKey, quantity);
+    if (result == null || result != OUT_OF_STOCK) {
+      return result;
+    }
+
+    // 홈 샤드 부족 → 형제 샤드에서 빌려오기. 다른 요청이 빌려갔다가 되돌리는 중이면 합계가 잠깐 모자라 보일 수 있으므로 한 번 더 시도한다
+    long borrowed = borrow(shardKeys, homeIndex, quantity);
+    if (borrowed == OUT_OF_STOCK) {
+      borrowed = borrow(shardKeys, homeIndex, quantity);
+    }
+    if (borrowed < 0) {
+      return borrowed;
+    }
+
+    Long remaining = sumStock(shardKeys);
+    log.debug(
+        "[ShardedStock] 형제 샤드 차용 성공 - home={}, quantity={}, remaining={}",
+        homeKey,
+        quantity,
+        remaining);
+    return remaining == null ? 0L : Math.max(remaining, 0L);
+  }
+
+  /**
+   * 홈 샤드부터 돌며 요청 수량을 모은다. 다 모으지 못하면 가져온 수량을 되돌린다.
+   *
+   * @return 성공(0), 캐시 없음(-1), 재고 부족(-2)
+   */
+  private long borrow(List<String> shardKeys, int homeIndex, int quantity) {
+    int shardCount = shardKeys.size();
+    long[] taken = new long[shardCount];
+    long collected = 0;
+    boolean anyCached = false;
+
+    for (int offset = 0; offset < shardCount && collected < quantity; offset++) {
+      int index = (homeIndex + offset) % shardCount;
+      Long got = execute(TAKE_UP_TO_SCRIPT, shardKeys.get(index), (int) (quantity - collected));
+      if (got == null || got == NOT_CACHED) continue;
+      anyCached = true;
+      taken[index] = got;
+      collected += got;
+    }
+
+    if (collected >= quantity) {
+      return 0L;
+    }
+
+    // 전체 재고 부족 → 가져온 수량 반환
+    for (int i = 0; i < shardCount; i++) {
+      if (taken[i] > 0) {
+        stringRedisTemplate.opsForValue().increment(shardKeys.get(i), taken[i]);
+      }
+    }
+    return anyCached ? OUT_OF_STOCK : NOT_CACHED;
+  }
+
+  public void increaseStock(String shardKey, int quantity) {
+    stringRedisTemplate.opsForValue().increment(shardKey, quantity);
+  }
+
+  /** 전체 샤드 합계 (MGET 한 번), 모든 샤드가 없으면 null */
+  public Long sumStock(List<String> shardKeys) {
+    List<String> values = stringRedisTemplate.opsForValue().multiGet(shardKeys);
+    if (values == null) return null;
+
+    long sum = 0;
+    boolean anyCached = false;
+    for (String value : values) {
+      if (value == null) continue;
+      anyCached = true;
+      sum += Long.parseLong(value);
+    }
+    return anyCached ? sum : null;
+  }
+
+  private Long execute(DefaultRedisScript<Long> script, String key, int quantity) {
+    try {
+      return stringRedisTemplate.execute(
+          script, Collections.singletonList(key), String.valueOf(quantity));
+    } catch (Exception e) {
+      log.error("[ShardedStock 오류] key={}, quantity={}, message={}", key, quantity, e.getMessage(), e);
+      throw e;
+    }
+  }
+}
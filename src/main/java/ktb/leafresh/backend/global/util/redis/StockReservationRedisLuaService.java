@@ -0,0 +1,159 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 멱등성 키 확인, 타임딜 판매 시간 확인, 재고 차감을 하나의 Lua 스크립트로 처리한다. 스크립트 자체가 원자적이므로 분산 락 없이 한 번의 왕복으로 재고를 선점할 수
+ * 있다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class StockReservationRedisLuaService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 멱등성 키 값은 PurchaseIdempotencyStatus 와 같은 규약 (선점 시 PROCESSING)
+  // KEYS[1]=멱등성 키, KEYS[2]=재고 키, KEYS[3]=타임딜 윈도우 해시(선택)
+  // ARGV[1]=수량, ARGV[2]=현재 시각(ms), ARGV[3]=멱등성 TTL(초)
+  private static final DefaultRedisScript<List<Object>> RESERVE_STOCK_SCRIPT =
+      RedisScripts.listScript(
+          """
+            local qty = tonumber(ARGV[1])
+            local now = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[3])
+
+            if redis.call("EXISTS", KEYS[1]) == 1 then return {-3, 0, 0, 0} end
+
+            local productId = 0
+            local price = 0
+            if KEYS[3] then
+              local window = redis.call("HMGET", KEYS[3], "start", "end", "productId", "price")
+              if not window[1] or not window[2] then return {-1, 0, 0, 0} end
+              if now < tonumber(window[1]) or now > tonumber(window[2]) then
+                return {-4, 0, 0, 0}
+              end
+              productId = tonumber(window[3]) or 0
+              price = tonumber(window[4]) or 0
+            end
+
+            local stock = tonumber(redis.call("GET", KEYS[2]))
+            if stock == nil then return {-1, 0, productId, price} end
+            if stock < qty then return {-2, stock, productId, price} end
+
+            local remaining = redis.call("DECRBY", KEYS[2], qty)
+            redis.call("SET", KEYS[1], "PROCESSING", "EX", ttl)
+            return {1, remaining, productId, price}
+          """);
+
+  // 재고 샤딩 모드용: 멱등성 키와 판매 시간만 확인하고 재고 차감은 샤드 카운터에 맡긴다
+  // KEYS[1]=멱등성 키, KEYS[2]=타임딜 윈도우 해시, ARGV[1]=수량, ARGV[2]=현재 시각(ms), ARGV[3]=멱등성 TTL(초)
+  private static final DefaultRedisScript<List<Object>> CLAIM_SCRIPT =
+      RedisScripts.listScript(
+          """
+            if redis.call("EXISTS", KEYS[1]) == 1 then return {-3, 0, 0, 0} end
+
+            local window = redis.call("HMGET", KEYS[2], "start", "end", "productId", "price")
+            if not window[1] or not window[2] then return {-1, 0, 0, 0} end
+            local now = tonumber(ARGV[2])
+            if now < tonumber(window[1]) or now > tonumber(window[2]) then return {-4, 0, 0, 0} end
+
+            redis.call("SET", KEYS[1], "PROCESSING", "EX", tonumber(ARGV[3]))
+            return {1, 0, tonumber(window[3]) or 0, tonumber(window[4]) or 0}
+          """);
+
+  // 멱등성 키가 남아 있을 때만 재고를 되돌려 중복 보상을 막는다
+  private static final DefaultRedisScript<Long> RELEASE_STOCK_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            if redis.call("DEL", KEYS[1]) == 1 then
+              return redis.call("INCRBY", KEYS[2], tonumber(ARGV[1]))
+            end
+            return -1
+          """,
+          Long.class);
+
+  public StockReservationResult reserve(
+      String idempotencyKey,
+      String stockKey,
+      String windowKey,
+      int quantity,
+      Duration idempotencyTtl) {
+    List<String> keys = new ArrayList<>(Arrays.asList(idempotencyKey, stockKey));
+    if (windowKey != null) keys.add(windowKey);
+
+    try {
+      List<?> raw =
+          stringRedisTemplate.execute(
+              RESERVE_STOCK_SCRIPT,
+              keys,
+              String.valueOf(quantity),
+              String.valueOf(System.currentTimeMillis()),
+              String.valueOf(idempotencyTtl.getSeconds()));
+
+      StockReservationResult result = StockReservationResult.from(raw);
+      log.debug(
+          "[StockReservation] key={}, quantity={}, status={}, remaining={}",
+          stockKey,
+          quantity,
+          result.status(),
+          result.remainingStock());
+      return result;
+    } catch (Exception e) {
+      log.error(
+          "[StockReservation 오류] key={}, quantity={}, message={}",
+          stockKey,
+          quantity,
+          e.getMessage(),
+          e);
+      throw e;
+    }
+  }
+
+  /** 멱등성 키 선점 + 판매 시간 확인 (재고는 차감하지 않음) */
+  public StockReservationResult claim(
+      String idempotencyKey, String windowKey, int quantity, Duration idempotencyTtl) {
+    List<?> raw =
+        stringRedisTemplate.execute(
+            CLAIM_SCRIPT,
+            List.of(idempotencyKey, windowKey),
+            String.valueOf(quantity),
+            String.valueOf(System.currentTimeMillis()),
+            String.valueOf(idempotencyTtl.getSeconds()));
+    return StockReservationResult.from(raw);
+  }
+
+  /** claim 으로 선점한 멱등성 키 해제, 실제로 해제했으면 true */
+  public boolean releaseClaim(String idempotencyKey) {
+    return Boolean.TRUE.equals(stringRedisTemplate.delete(idempotencyKey));
+  }
+
+  public void release(String idempotencyKey, String stockKey, int quantity) {
+    try {
+      Long restored =
+          stringRedisTemplate.execute(
+              RELEASE_STOCK_SCRIPT, List.of(idempotencyKey, stockKey), String.valueOf(quantity));
+      log.info(
+          "[StockReservation] 선점 재고 반환 - key={}, quantity={}, stock={}",
+          stockKey,
+          quantity,
+          restored);
+    } catch (Exception e) {
+      log.error(
+          "[StockReservation] 선점 재고 반환 실패 - key={}, quantity={}, message={}",
+          stockKey,
+          quantity,
+          e.getMessage(),
+          e);
+    }
+  }
+}
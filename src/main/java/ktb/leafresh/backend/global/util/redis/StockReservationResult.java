@@ -0,0 +1,55 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import java.util.List;
+
+/** 재고 선점 Lua 스크립트 실행 결과 */
+public record StockReservationResult(
+    Status status, long remainingStock, Long productId, Integer unitPrice) {
+
+  public enum Status {
+    RESERVED(1),
+    STOCK_NOT_CACHED(-1),
+    OUT_OF_STOCK(-2),
+    DUPLICATE_REQUEST(-3),
+    OUTSIDE_DEAL_WINDOW(-4);
+
+    private final long code;
+
+    Status(long code) {
+      this.code = code;
+    }
+
+    static Status fromCode(long code) {
+      for (Status status : values()) {
+        if (status.code == code) return status;
+      }
+      throw new IllegalStateException("알 수 없는 재고 선점 결과 코드: " + code);
+    }
+  }
+
+  public boolean isReserved() {
+    return status == Status.RESERVED;
+  }
+
+  /** Lua 반환값 {code, remaining, productId, price} 를 결과 객체로 변환 (productId/price 는 0이면 없음) */
+  static StockReservationResult from(List<?> raw) {
+    if (raw == null || raw.isEmpty()) {
+      throw new IllegalStateException("재고 선점 스크립트 결과가 비어 있습니다.");
+    }
+    long code = toLong(raw.get(0));
+    long remaining = raw.size() > 1 ? toLong(raw.get(1)) : 0L;
+    long productId = raw.size() > 2 ? toLong(raw.get(2)) : 0L;
+    long price = raw.size() > 3 ? toLong(raw.get(3)) : 0L;
+
+    return new StockReservationResult(
+        Status.fromCode(code),
+        remaining,
+        productId > 0 ? productId : null,
+        price > 0 ? (int) price : null);
+  }
+
+  private static long toLong(Object value) {
+    if (value instanceof Number number) return number.longValue();
+    return Long.parseLong(value.toString());
+  }
+}
@@ -0,0 +1,159 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간 감쇠 인기 점수 스크립트.
+ *
+ * <p>점수는 가중치 × 2^((현재 - 기준 시각) / 반감기) 를 ZINCRBY 로 누적한다. 같은 기준 시각을 쓰는 한 오래된 이벤트일수록 상대적으로 작아지므로
+ * 저장된 점수를 매번 줄이지 않고도 지수 감쇠 순위가 유지된다. 값이 커지지 않도록 rebase 가 기준 시각을 현재로 옮기면서 모든 점수를 같은 비율로
+ * 줄이고 상위 N 개만 남긴다. 기준 시각은 스크립트 안에서 읽으므로 증가와 rebase 가 섞여도 비율이 어긋나지 않는다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class TrendingScoreRedisLuaService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // KEYS[1]=기준 시각 키, KEYS[2]=ZSET 목록 SET, KEYS[3..]=항목별 ZSET
+  // ARGV[1]=현재 시각(초), ARGV[2]=반감기(초), ARGV[3..]=항목별 (member, 가중치) 쌍
+  private static final DefaultRedisScript<Long> INCREMENT_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call("GET", KEYS[1]))
+            if not epoch then
+              epoch = now
+              redis.call("SET", KEYS[1], now)
+            end
+            local factor = 2 ^ ((now - epoch) / tonumber(ARGV[2]))
+            for i = 3, #KEYS do
+              local member = ARGV[(i - 3) * 2 + 3]
+              local weight = tonumber(ARGV[(i - 3) * 2 + 4])
+              redis.call("ZINCRBY", KEYS[i], weight * factor, member)
+              redis.call("SADD", KEYS[2], KEYS[i])
+            end
+            return #KEYS - 2
+          """,
+          Long.class);
+
+  // KEYS[1]=기준 시각 키, KEYS[2]=ZSET 목록 SET, ARGV[1]=현재 시각(초), ARGV[2]=반감기(초), ARGV[3]=남길 개수
+  private static final DefaultRedisScript<Long> REBASE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            local now = tonumber(ARGV[1])
+            local epoch = tonumber(redis.call("GET", KEYS[1])) or now
+            local factor = 2 ^ (-(now - epoch) / tonumber(ARGV[2]))
+            local keep = tonumber(ARGV[3])
+            local removed = 0
+            for _, key in ipairs(redis.call("SMEMBERS", KEYS[2])) do
+              removed = removed + redis.call("ZREMRANGEBYRANK", key, 0, -(keep + 1))
+              if factor < 1 then
+                local entries = redis.call("ZRANGE", key, 0, -1, "WITHSCORES")
+                for i = 1, #entries, 2 do
+                  redis.call("ZADD", key, tonumber(entries[i + 1]) * factor, entries[i])
+                end
+              end
+              if redis.call("EXISTS", key) == 0 then redis.call("SREM", KEYS[2], key) end
+            end
+            redis.call("SET", KEYS[1], now)
+            return removed
+          """,
+          Long.class);
+
+  // KEYS[1]=ZSET, ARGV[1]=직전 페이지 마지막 member (첫 페이지는 빈 문자열), ARGV[2]=개수
+  private static final DefaultRedisScript<List<Object>> PAGE_SCRIPT =
+      RedisScripts.listScript(
+          """
+            local start = 0
+            if ARGV[1] ~= "" then
+              local rank = redis.call("ZREVRANK", KEYS[1], ARGV[1])
+              if not rank then return {} end
+              start = rank + 1
+            end
+            return redis.call("ZREVRANGE", KEYS[1], start, start + tonumber(ARGV[2]) - 1)
+          """);
+
+  // KEYS[1]=ZSET 목록 SET, ARGV=뺄 member 목록
+  private static final DefaultRedisScript<Long> REMOVE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            local removed = 0
+            for _, key in ipairs(redis.call("SMEMBERS", KEYS[1])) do
+              removed = removed + redis.call("ZREM", key, unpack(ARGV))
+            end
+            return removed
+          """,
+          Long.class);
+
+  /**
+   * 항목별 점수 증가.
+   *
+   * @param zsetKeys 항목마다 반영할 ZSET (members, weights 와 같은 순서)
+   */
+  public void increment(
+      String epochKey,
+      String registryKey,
+      List<String> zsetKeys,
+      List<String> members,
+      List<Double> weights,
+      long nowSeconds,
+      long halfLifeSeconds) {
+    if (zsetKeys.isEmpty()) return;
+
+    List<String> keys = new ArrayList<>(zsetKeys.size() + 2);
+    keys.add(epochKey);
+    keys.add(registryKey);
+    keys.addAll(zsetKeys);
+
+    Object[] args = new Object[members.size() * 2 + 2];
+    args[0] = String.valueOf(nowSeconds);
+    args[1] = String.valueOf(halfLifeSeconds);
+    for (int i = 0; i < members.size(); i++) {
+      args[i * 2 + 2] = members.get(i);
+      args[i * 2 + 3] = String.valueOf(weights.get(i));
+    }
+    stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, args);
+  }
+
+  /** 기준 시각을 현재로 옮기고 ZSET 마다 상위 keep 개만 남긴다 @return 제거한 member 수 */
+  public long rebaseAndTrim(
+      String epochKey, String registryKey, long nowSeconds, long halfLifeSeconds, int keep) {
+    Long removed =
+        stringRedisTemplate.execute(
+            REBASE_SCRIPT,
+            List.of(epochKey, registryKey),
+            String.valueOf(nowSeconds),
+            String.valueOf(halfLifeSeconds),
+            String.valueOf(keep));
+    return removed != null ? removed : 0;
+  }
+
+  /** 목록 SET 에 등록된 모든 ZSET 에서 member 를 뺀다 @return 제거한 항목 수 */
+  public long remove(String registryKey, List<String> members) {
+    if (members.isEmpty()) return 0;
+    Long removed =
+        stringRedisTemplate.execute(REMOVE_SCRIPT, List.of(registryKey), members.toArray());
+    return removed != null ? removed : 0;
+  }
+
+  /** 점수 내림차순으로 cursorMember 다음부터 size 개 (cursorMember 가 순위에서 빠졌으면 빈 목록) */
+  public List<String> pageAfter(String zsetKey, String cursorMember, int size) {
+    List<?> raw =
+        stringRedisTemplate.execute(
+            PAGE_SCRIPT,
+            List.of(zsetKey),
+            cursorMember != null ? cursorMember : "",
+            String.valueOf(size));
+    if (raw == null) return List.of();
+    return raw.stream().map(Object::toString).toList();
+  }
+}
@@ -0,0 +1,115 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증 좋아요 멤버십 SET 스크립트.
+ *
+ * <p>좋아요/취소는 SADD/SREM 결과로 상태가 실제로 바뀌었는지 판단하고, 바뀐 경우에만 DB 미반영 변경 해시에 마지막 상태를 기록하고 회원별
+ * 좋아요 SET 도 함께 고친다. 같은 회원이 여러 번 눌러도 변경 해시에는 마지막 상태 하나만 남는다. 두 SET 중 하나라도 없으면 DB 기준으로
+ * 먼저 채워야 하므로 아무것도 바꾸지 않고 음수를 돌려준다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class VerificationLikeRedisLuaService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // KEYS[1]=인증별 좋아요 회원 SET, KEYS[2]=DB 미반영 변경 해시, KEYS[3]=회원별 좋아요 인증 SET
+  // ARGV[1]=회원 ID, ARGV[2]=1(좋아요)/0(취소), ARGV[3]=변경 해시 필드, ARGV[4]=TTL(초), ARGV[5]=인증 ID
+  private static final DefaultRedisScript<Long> TOGGLE_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            if redis.call("EXISTS", KEYS[1]) == 0 then return -1 end
+            if redis.call("EXISTS", KEYS[3]) == 0 then return -2 end
+            local changed
+            if ARGV[2] == "1" then
+              changed = redis.call("SADD", KEYS[1], ARGV[1])
+              redis.call("SADD", KEYS[3], ARGV[5])
+            else
+              changed = redis.call("SREM", KEYS[1], ARGV[1])
+              redis.call("SREM", KEYS[3], ARGV[5])
+            end
+            if changed == 1 then redis.call("HSET", KEYS[2], ARGV[3], ARGV[2]) end
+            redis.call("EXPIRE", KEYS[1], ARGV[4])
+            redis.call("EXPIRE", KEYS[3], ARGV[4])
+            return changed
+          """,
+          Long.class);
+
+  // KEYS[1]=SET, ARGV[1]=TTL(초), ARGV[2..]=member (빈 SET 도 존재하도록 sentinel 포함)
+  private static final DefaultRedisScript<Long> SEED_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+            if redis.call("EXISTS", KEYS[1]) == 1 then return 0 end
+            for i = 2, #ARGV, 500 do
+              redis.call("SADD", KEYS[1], unpack(ARGV, i, math.min(i + 499, #ARGV)))
+            end
+            redis.call("EXPIRE", KEYS[1], ARGV[1])
+            return 1
+          """,
+          Long.class);
+
+  // KEYS[1]=회원별 좋아요 인증 SET, ARGV=확인할 인증 ID (SET 이 없으면 nil)
+  private static final DefaultRedisScript<List<Object>> IS_MEMBERS_SCRIPT =
+      RedisScripts.listScript(
+          """
+            if redis.call("EXISTS", KEYS[1]) == 0 then return false end
+            return redis.call("SMISMEMBER", KEYS[1], unpack(ARGV))
+          """);
+
+  /**
+   * @return 1 상태 변경, 0 이미 같은 상태, -1 인증별 SET 없음, -2 회원별 SET 없음
+   */
+  public long toggle(
+      String likersKey,
+      String pendingKey,
+      String memberLikesKey,
+      String pendingField,
+      String memberId,
+      String verificationId,
+      boolean liked,
+      long ttlSeconds) {
+    Long result =
+        stringRedisTemplate.execute(
+            TOGGLE_SCRIPT,
+            List.of(likersKey, pendingKey, memberLikesKey),
+            memberId,
+            liked ? "1" : "0",
+            pendingField,
+            String.valueOf(ttlSeconds),
+            verificationId);
+    return result != null ? result : -1;
+  }
+
+  /**
+   * SMISMEMBER 한 번으로 여러 member 포함 여부를 확인.
+   *
+   * @return members 와 같은 순서의 포함 여부, SET 이 없으면 null
+   */
+  public List<Boolean> isMembers(String key, List<String> members) {
+    List<?> raw = stringRedisTemplate.execute(IS_MEMBERS_SCRIPT, List.of(key), members.toArray());
+    if (raw == null) return null;
+    return raw.stream().map(flag -> Long.valueOf(1).equals(flag)).toList();
+  }
+
+  /** SET 이 없을 때만 채운다 (동시에 채워도 먼저 채운 쪽만 반영) @return 채웠으면 true */
+  public boolean seed(String key, Collection<String> members, long ttlSeconds) {
+    Object[] args = new Object[members.size() + 1];
+    args[0] = String.valueOf(ttlSeconds);
+    int i = 1;
+    for (String member : members) {
+      args[i++] = member;
+    }
+    Long result = stringRedisTemplate.execute(SEED_SCRIPT, List.of(key), args);
+    return result != null && result == 1;
+  }
+}
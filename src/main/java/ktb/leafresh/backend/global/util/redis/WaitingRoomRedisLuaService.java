@@ -0,0 +1,106 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 타임딜 대기열 스크립트. 대기 ZSET 의 score 는 딜별 INCR 순번이라 먼저 들어온 순서가 그대로 유지되고, 입장 ZSET 의 score 는 입장 만료
+ * 시각(ms)이다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class WaitingRoomRedisLuaService {
+
+  public static final long ADMITTED = 1L;
+  public static final long WAITING = 0L;
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // KEYS[1]=대기 ZSET, KEYS[2]=순번 키, KEYS[3]=입장 ZSET
+  // ARGV[1]=회원 ID, ARGV[2]=현재 시각(ms), ARGV[3]=키 TTL(초)
+  // 반환: {상태(1=입장, 0=대기), 순번, 대기 순서(1부터)}
+  private static final DefaultRedisScript<List<Object>> ENTER_SCRIPT =
+      RedisScripts.listScript(
+          """
+            local admittedUntil = tonumber(redis.call("ZSCORE", KEYS[3], ARGV[1]))
+            if admittedUntil and admittedUntil > tonumber(ARGV[2]) then return {1, 0, 0} end
+
+            local ticket = tonumber(redis.call("ZSCORE", KEYS[1], ARGV[1]))
+            if not ticket then
+              ticket = redis.call("INCR", KEYS[2])
+              redis.call("ZADD", KEYS[1], ticket, ARGV[1])
+              redis.call("EXPIRE", KEYS[1], tonumber(ARGV[3]))
+              redis.call("EXPIRE", KEYS[2], tonumber(ARGV[3]))
+            end
+            return {0, ticket, redis.call("ZRANK", KEYS[1], ARGV[1]) + 1}
+          """);
+
+  // KEYS[1]=대기 ZSET, KEYS[2]=입장 ZSET
+  // ARGV[1]=이번에 입장시킬 최대 인원, ARGV[2]=현재 시각(ms), ARGV[3]=입장 만료 시각(ms),
+  // ARGV[4]=동시 입장 최대 인원, ARGV[5]=키 TTL(초)
+  // 반환: {입장시킨 인원, 남은 대기 인원, 입장 중 인원}
+  private static final DefaultRedisScript<List<Object>> ADMIT_SCRIPT =
+      RedisScripts.listScript(
+          """
+            redis.call("ZREMRANGEBYSCORE", KEYS[2], "-inf", ARGV[2])
+            local active = redis.call("ZCARD", KEYS[2])
+            local count = math.min(tonumber(ARGV[1]), tonumber(ARGV[4]) - active)
+            local admitted = 0
+            if count > 0 then
+              local popped = redis.call("ZPOPMIN", KEYS[1], count)
+              for i = 1, #popped, 2 do
+                redis.call("ZADD", KEYS[2], ARGV[3], popped[i])
+                admitted = admitted + 1
+              end
+              if admitted > 0 then redis.call("EXPIRE", KEYS[2], tonumber(ARGV[5])) end
+            end
+            return {admitted, redis.call("ZCARD", KEYS[1]), active + admitted}
+          """);
+
+  /** 대기열 입장 (이미 대기 중이면 기존 순번 유지) */
+  public List<Long> enter(
+      String waitingKey, String sequenceKey, String admittedKey, Long memberId, long ttlSeconds) {
+    return toLongs(
+        stringRedisTemplate.execute(
+            ENTER_SCRIPT,
+            List.of(waitingKey, sequenceKey, admittedKey),
+            String.valueOf(memberId),
+            String.valueOf(System.currentTimeMillis()),
+            String.valueOf(ttlSeconds)));
+  }
+
+  /** 대기 순서대로 최대 count 명 입장 (동시 입장 인원 한도 적용) */
+  public List<Long> admit(
+      String waitingKey,
+      String admittedKey,
+      int count,
+      long admittedUntilMillis,
+      int maxActive,
+      long ttlSeconds) {
+    try {
+      return toLongs(
+          stringRedisTemplate.execute(
+              ADMIT_SCRIPT,
+              List.of(waitingKey, admittedKey),
+              String.valueOf(count),
+              String.valueOf(System.currentTimeMillis()),
+              String.valueOf(admittedUntilMillis),
+              String.valueOf(maxActive),
+              String.valueOf(ttlSeconds)));
+    } catch (Exception e) {
+      log.error("[WaitingRoom 입장 처리 오류] key={}, message={}", waitingKey, e.getMessage(), e);
+      throw e;
+    }
+  }
+
+  private List<Long> toLongs(List<?> raw) {
+    if (raw == null) return List.of(0L, 0L, 0L);
+    return raw.stream().map(value -> ((Number) value).longValue()).toList();
+  }
+}
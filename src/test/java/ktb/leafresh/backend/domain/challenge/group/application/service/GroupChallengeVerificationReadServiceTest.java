@@ -10,14 +10,14 @@ import ktb.leafresh.backend.domain.challenge.group.presentation.dto.response.Gro
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationViewCounter;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.global.exception.ChallengeErrorCode;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import ktb.leafresh.backend.support.fixture.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -52,9 +52,9 @@ class GroupChallengeVerificationReadServiceTest {
 
   @Mock private VerificationStatCacheService verificationStatCacheService;
 
-  @Mock private LikeRepository likeRepository;
+  @Mock private VerificationLikeCacheService verificationLikeCacheService;
 
-  @Mock private VerificationStatRedisLuaService verificationStatRedisLuaService;
+  @Mock private VerificationViewCounter verificationViewCounter;
 
   @InjectMocks private GroupChallengeVerificationReadService readService;
 
@@ -87,10 +87,10 @@ class GroupChallengeVerificationReadServiceTest {
             groupChallengeVerificationQueryRepository.findByChallengeId(
                 challenge.getId(), null, null, 11))
         .willReturn(list);
-    given(verificationStatCacheService.getStats(verification.getId())).willReturn(stats);
+    given(verificationStatCacheService.getStatsBulk(List.of(verification.getId())))
+        .willReturn(Map.of(verification.getId(), stats));
     given(
-            likeRepository.findLikedVerificationIdsByMemberId(
-                loginMemberId, List.of(verification.getId())))
+            verificationLikeCacheService.findLikedIds(loginMemberId, List.of(verification.getId())))
         .willReturn(Set.of(verification.getId()));
 
     // when
@@ -133,7 +133,7 @@ class GroupChallengeVerificationReadServiceTest {
 
     // when
     GroupChallengeVerificationDetailResponseDto dto =
-        readService.getVerificationDetail(challengeId, verificationId, null);
+        readService.getVerificationDetail(challengeId, verificationId, null, "127.0.0.1|test");
 
     // then
     assertThat(dto.id()).isEqualTo(verificationId);
@@ -155,12 +155,12 @@ class GroupChallengeVerificationReadServiceTest {
                 challengeId, verificationId))
         .willReturn(Optional.of(verification));
     given(verificationStatCacheService.getStats(verificationId)).willReturn(stats);
-    given(likeRepository.findLikedVerificationIdsByMemberId(loginMemberId, List.of(verificationId)))
+    given(verificationLikeCacheService.findLikedIds(loginMemberId, List.of(verificationId)))
         .willReturn(Set.of(verificationId));
 
     // when
     GroupChallengeVerificationDetailResponseDto dto =
-        readService.getVerificationDetail(challengeId, verificationId, loginMemberId);
+        readService.getVerificationDetail(challengeId, verificationId, loginMemberId, null);
 
     // then
     assertThat(dto.id()).isEqualTo(verificationId);
@@ -176,7 +176,7 @@ class GroupChallengeVerificationReadServiceTest {
         .willReturn(Optional.empty());
 
     // when & then
-    assertThatThrownBy(() -> readService.getVerificationDetail(1L, 2L, 3L))
+    assertThatThrownBy(() -> readService.getVerificationDetail(1L, 2L, 3L, null))
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND.getMessage());
   }
@@ -227,12 +227,12 @@ class GroupChallengeVerificationReadServiceTest {
     given(verificationStatCacheService.getStats(verificationId))
         .willReturn(emptyStats) // 첫 번째 호출: 캐시 없음
         .willReturn(recoveredStats); // 두 번째 호출: 복구 후 재조회
-    given(likeRepository.findLikedVerificationIdsByMemberId(loginMemberId, List.of(verificationId)))
+    given(verificationLikeCacheService.findLikedIds(loginMemberId, List.of(verificationId)))
         .willReturn(Set.of(verificationId));
 
     // when
     GroupChallengeVerificationDetailResponseDto dto =
-        readService.getVerificationDetail(challengeId, verificationId, loginMemberId);
+        readService.getVerificationDetail(challengeId, verificationId, loginMemberId, null);
 
     // then
     assertThat(dto.id()).isEqualTo(verificationId);
@@ -4,6 +4,7 @@ import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeCategoryRepository;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.global.exception.ChallengeErrorCode;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.support.fixture.GroupChallengeCategoryFixture;
@@ -27,6 +28,8 @@ class GroupChallengeCategoryUpdaterTest {
 
   @Mock private GroupChallengeCategoryRepository categoryRepository;
 
+  @Mock private GroupChallengeVerificationRepository verificationRepository;
+
   @InjectMocks private GroupChallengeCategoryUpdater categoryUpdater;
 
   @Test
@@ -46,6 +49,24 @@ class GroupChallengeCategoryUpdaterTest {
 
     // then
     assertThat(challenge.getCategory()).isEqualTo(newCategory);
+    then(verificationRepository).should().updateCategoryByChallengeId(challenge.getId(), newCategory);
+  }
+
+  @Test
+  @DisplayName("같은 카테고리로 변경하면 인증 카테고리를 갱신하지 않는다")
+  void updateCategory_withSameCategory_skipsVerificationUpdate() {
+    // given
+    Member member = MemberFixture.of();
+    GroupChallengeCategory category = GroupChallengeCategoryFixture.of("ZERO_WASTE");
+    GroupChallenge challenge = GroupChallengeFixture.of(member, category);
+
+    given(categoryRepository.findByName("ZERO_WASTE")).willReturn(Optional.of(category));
+
+    // when
+    categoryUpdater.updateCategory(challenge, "ZERO_WASTE");
+
+    // then
+    then(verificationRepository).shouldHaveNoInteractions();
   }
 
   @Test
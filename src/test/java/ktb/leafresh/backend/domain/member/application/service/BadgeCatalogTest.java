@@ -0,0 +1,80 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Badge;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.BadgeRepository;
+import ktb.leafresh.backend.support.fixture.BadgeFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeCatalog 테스트")
+class BadgeCatalogTest {
+
+  @Mock private BadgeRepository badgeRepository;
+
+  @InjectMocks private BadgeCatalog badgeCatalog;
+
+  private Badge badge(Long id, String name) {
+    Badge badge = BadgeFixture.of(name);
+    ReflectionTestUtils.setField(badge, "id", id);
+    return badge;
+  }
+
+  @Test
+  @DisplayName("처음 조회할 때 한 번만 읽고 이후에는 메모리에서 찾는다")
+  void findByName_loadsOnce() {
+    // given
+    given(badgeRepository.findAll()).willReturn(List.of(badge(2L, "마스터"), badge(1L, "첫 발자국")));
+
+    // when
+    badgeCatalog.findByName("마스터");
+    badgeCatalog.findByName("없는 뱃지");
+
+    // then
+    assertThat(badgeCatalog.findByName("첫 발자국")).map(Badge::getId).contains(1L);
+    assertThat(badgeCatalog.all()).extracting(Badge::getId).containsExactly(1L, 2L);
+    then(badgeRepository).should(times(1)).findAll();
+  }
+
+  @Test
+  @DisplayName("비어 있을 때 읽은 목록은 다음 조회에서 다시 읽는다")
+  void all_whenLoadedEmpty_reloads() {
+    // given
+    given(badgeRepository.findAll())
+        .willReturn(List.of())
+        .willReturn(List.of(badge(1L, "첫 발자국")));
+
+    // when
+    badgeCatalog.all();
+    List<Badge> badges = badgeCatalog.all();
+
+    // then
+    assertThat(badges).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("refresh 는 새 목록으로 교체한다")
+  void refresh_replacesSnapshot() {
+    // given
+    given(badgeRepository.findAll())
+        .willReturn(List.of(badge(1L, "첫 발자국")))
+        .willReturn(List.of(badge(1L, "첫 발자국"), badge(2L, "마스터")));
+    badgeCatalog.all();
+
+    // when
+    badgeCatalog.refresh();
+
+    // then
+    assertThat(badgeCatalog.findByName("마스터")).isPresent();
+  }
+}
@@ -3,83 +3,182 @@ package ktb.leafresh.backend.domain.member.application.service;
 import ktb.leafresh.backend.domain.member.domain.entity.Badge;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.domain.entity.MemberBadge;
-import ktb.leafresh.backend.domain.member.domain.service.policy.BadgeGrantPolicy;
+import ktb.leafresh.backend.domain.member.domain.event.BadgeGrantedEvent;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeRule;
+import ktb.leafresh.backend.domain.member.domain.service.badge.CounterChange;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberBadgeRepository;
 import ktb.leafresh.backend.support.fixture.BadgeFixture;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 
-import static org.assertj.core.api.Assertions.assertThatCode;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.*;
+import static org.mockito.BDDMockito.*;
 
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeGrantManager 테스트")
 class BadgeGrantManagerTest {
 
-  @Mock private BadgeGrantPolicy policy1;
-  @Mock private BadgeGrantPolicy policy2;
+  private static final String TOTAL = ActivityCounterKeys.totalSuccess();
+
+  @Mock private MemberActivityCounterService memberActivityCounterService;
+  @Mock private BadgeRuleCatalog badgeRuleCatalog;
+  @Mock private BadgeCatalog badgeCatalog;
+  @Mock private MemberOwnedBadgeService memberOwnedBadgeService;
   @Mock private MemberBadgeRepository memberBadgeRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private BadgeGrantManager badgeGrantManager;
 
   private Member member;
-  private Badge badge1;
-  private Badge badge2;
+  private BadgeActivity activity;
 
   @BeforeEach
   void setUp() {
-    MockitoAnnotations.openMocks(this);
-    badgeGrantManager = new BadgeGrantManager(List.of(policy1, policy2), memberBadgeRepository);
     member = MemberFixture.of();
-    badge1 = BadgeFixture.of("지속가능 전도사");
-    badge2 = BadgeFixture.of("에코 슈퍼루키");
+    ReflectionTestUtils.setField(member, "id", 1L);
+    activity = BadgeActivity.personal("텀블러 사용", LocalDate.of(2025, 7, 1));
+  }
+
+  @Test
+  @DisplayName("이번 변경으로 임계치를 넘은 규칙의 뱃지만 지급한다")
+  void recordAndGrant_grantsOnlyCrossedRules() {
+    // given
+    Badge badge = badge(5L, "첫 발자국");
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(TOTAL, 9, 10)));
+    given(badgeRuleCatalog.rulesFor(TOTAL))
+        .willReturn(
+            List.of(new BadgeRule(TOTAL, 10, "첫 발자국"), new BadgeRule(TOTAL, 30, "실천 중급자")));
+    given(memberOwnedBadgeService.ownedBadgeIds(1L)).willReturn(new BitSet());
+    given(badgeCatalog.findByName("첫 발자국")).willReturn(Optional.of(badge));
+
+    // when
+    badgeGrantManager.recordAndGrant(member, activity);
+
+    // then
+    then(memberBadgeRepository).should().save(any(MemberBadge.class));
+    then(eventPublisher).should().publishEvent(new BadgeGrantedEvent(1L, 5L));
+    then(badgeCatalog).should(never()).findByName("실천 중급자");
   }
 
   @Test
-  @DisplayName("정책별 새 뱃지가 존재할 경우 저장됨")
-  void evaluateAllAndGrant_success() {
+  @DisplayName("임계치를 이미 넘어 있던 규칙은 다시 평가하지 않는다")
+  void recordAndGrant_alreadyCrossed_skips() {
     // given
-    given(policy1.evaluateAndGetNewBadges(member)).willReturn(List.of(badge1));
-    given(policy2.evaluateAndGetNewBadges(member)).willReturn(List.of(badge2));
-    given(memberBadgeRepository.existsByMemberAndBadge(member, badge1)).willReturn(false);
-    given(memberBadgeRepository.existsByMemberAndBadge(member, badge2)).willReturn(false);
-
-    // when & then
-    assertThatCode(() -> badgeGrantManager.evaluateAllAndGrant(member)).doesNotThrowAnyException();
-    verify(memberBadgeRepository, times(2)).save(any(MemberBadge.class));
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(TOTAL, 10, 11)));
+    given(badgeRuleCatalog.rulesFor(TOTAL))
+        .willReturn(List.of(new BadgeRule(TOTAL, 10, "첫 발자국")));
+
+    // when
+    badgeGrantManager.recordAndGrant(member, activity);
+
+    // then
+    then(memberOwnedBadgeService).shouldHaveNoInteractions();
+    then(badgeCatalog).shouldHaveNoInteractions();
+    then(memberBadgeRepository).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("이미 보유한 뱃지는 저장되지 않음")
-  void evaluateAllAndGrant_alreadyOwnedBadge() {
+  @DisplayName("보유 비트맵에 있는 뱃지는 저장하지 않는다")
+  void recordAndGrant_alreadyOwnedBadge() {
     // given
-    given(policy1.evaluateAndGetNewBadges(member)).willReturn(List.of(badge1));
-    given(memberBadgeRepository.existsByMemberAndBadge(member, badge1)).willReturn(true);
+    BitSet owned = new BitSet();
+    owned.set(5);
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(TOTAL, 9, 10)));
+    given(badgeRuleCatalog.rulesFor(TOTAL))
+        .willReturn(List.of(new BadgeRule(TOTAL, 10, "첫 발자국")));
+    given(memberOwnedBadgeService.ownedBadgeIds(1L)).willReturn(owned);
+    given(badgeCatalog.findByName("첫 발자국")).willReturn(Optional.of(badge(5L, "첫 발자국")));
 
     // when
-    badgeGrantManager.evaluateAllAndGrant(member);
+    badgeGrantManager.recordAndGrant(member, activity);
 
     // then
-    verify(memberBadgeRepository, never()).save(any());
+    then(memberBadgeRepository).should(never()).save(any());
+    then(eventPublisher).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("뱃지가 아예 없는 경우에도 정상 처리")
-  void evaluateAllAndGrant_noBadges() {
+  @DisplayName("등록되지 않은 뱃지는 건너뛴다")
+  void recordAndGrant_unknownBadge_skips() {
     // given
-    given(policy1.evaluateAndGetNewBadges(member)).willReturn(List.of());
-    given(policy2.evaluateAndGetNewBadges(member)).willReturn(List.of());
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(TOTAL, 9, 10)));
+    given(badgeRuleCatalog.rulesFor(TOTAL))
+        .willReturn(List.of(new BadgeRule(TOTAL, 10, "없는 뱃지")));
+    given(memberOwnedBadgeService.ownedBadgeIds(1L)).willReturn(new BitSet());
+    given(badgeCatalog.findByName("없는 뱃지")).willReturn(Optional.empty());
 
     // when
-    badgeGrantManager.evaluateAllAndGrant(member);
+    badgeGrantManager.recordAndGrant(member, activity);
 
     // then
-    verify(memberBadgeRepository, never()).save(any());
+    then(memberBadgeRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("비트맵에 아직 반영되지 않았어도 DB 에 보유 뱃지가 있으면 다시 지급하지 않는다")
+  void recordAndGrant_ownedInDbBeforeBitmapUpdate_skips() {
+    // given
+    Badge badge = badge(5L, "첫 발자국");
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(TOTAL, 9, 10)));
+    given(badgeRuleCatalog.rulesFor(TOTAL)).willReturn(List.of(new BadgeRule(TOTAL, 10, "첫 발자국")));
+    given(memberOwnedBadgeService.ownedBadgeIds(1L)).willReturn(new BitSet());
+    given(badgeCatalog.findByName("첫 발자국")).willReturn(Optional.of(badge));
+    given(memberBadgeRepository.existsByMemberIdAndBadgeId(1L, 5L)).willReturn(true);
+
+    // when
+    badgeGrantManager.recordAndGrant(member, activity);
+
+    // then
+    then(memberBadgeRepository).should(never()).save(any());
+    then(eventPublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("여러 활동을 모아 평가할 때 중간에 임계치를 넘은 규칙도 한 번만 지급한다")
+  void recordAndGrant_multipleActivities_grantsOnceWithSingleBitmapRead() {
+    // given
+    String streak = ActivityCounterKeys.personalStreak();
+    BadgeActivity next = BadgeActivity.personal("텀블러 사용", LocalDate.of(2025, 7, 3));
+    Badge badge = badge(7L, "새싹 실천러");
+    given(memberActivityCounterService.record(1L, activity))
+        .willReturn(List.of(new CounterChange(streak, 2, 3)));
+    given(memberActivityCounterService.record(1L, next))
+        .willReturn(List.of(new CounterChange(streak, 3, 1)));
+    given(badgeRuleCatalog.rulesFor(streak))
+        .willReturn(List.of(new BadgeRule(streak, 3, "새싹 실천러")));
+    given(memberOwnedBadgeService.ownedBadgeIds(1L)).willReturn(new BitSet());
+    given(badgeCatalog.findByName("새싹 실천러")).willReturn(Optional.of(badge));
+
+    // when
+    badgeGrantManager.recordAndGrant(member, List.of(activity, next));
+
+    // then
+    then(memberBadgeRepository).should(times(1)).save(any(MemberBadge.class));
+    then(memberOwnedBadgeService).should(times(1)).ownedBadgeIds(1L);
+  }
+
+  private Badge badge(Long id, String name) {
+    Badge badge = BadgeFixture.of(name);
+    ReflectionTestUtils.setField(badge, "id", id);
+    return badge;
   }
 }
@@ -2,14 +2,11 @@ package ktb.leafresh.backend.domain.member.application.service;
 
 import ktb.leafresh.backend.domain.member.domain.entity.Badge;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
-import ktb.leafresh.backend.domain.member.domain.entity.MemberBadge;
 import ktb.leafresh.backend.domain.member.domain.entity.enums.BadgeType;
-import ktb.leafresh.backend.domain.member.infrastructure.repository.BadgeRepository;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.member.presentation.dto.response.BadgeListResponseDto;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.support.fixture.BadgeFixture;
-import ktb.leafresh.backend.support.fixture.MemberBadgeFixture;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +16,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Optional;
 
 import static ktb.leafresh.backend.global.exception.MemberErrorCode.BADGE_QUERY_FAILED;
 import static ktb.leafresh.backend.global.exception.MemberErrorCode.MEMBER_NOT_FOUND;
@@ -30,7 +27,9 @@ import static org.mockito.BDDMockito.given;
 
 class BadgeReadServiceTest {
 
-  @Mock private BadgeRepository badgeRepository;
+  @Mock private BadgeCatalog badgeCatalog;
+
+  @Mock private MemberOwnedBadgeService memberOwnedBadgeService;
 
   @Mock private MemberRepository memberRepository;
 
@@ -54,11 +53,12 @@ class BadgeReadServiceTest {
     ReflectionTestUtils.setField(owned, "id", 1L);
     ReflectionTestUtils.setField(locked, "id", 2L);
 
-    MemberBadge memberBadge = MemberBadgeFixture.of(member, owned);
-    member.getMemberBadges().add(memberBadge);
+    BitSet ownedIds = new BitSet();
+    ownedIds.set(1);
 
-    given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
-    given(badgeRepository.findAll()).willReturn(List.of(owned, locked));
+    given(memberRepository.existsById(member.getId())).willReturn(true);
+    given(badgeCatalog.all()).willReturn(List.of(owned, locked));
+    given(memberOwnedBadgeService.ownedBadgeIds(member.getId())).willReturn(ownedIds);
 
     // when
     BadgeListResponseDto response = badgeReadService.getAllBadges(member.getId());
@@ -76,7 +76,7 @@ class BadgeReadServiceTest {
   @DisplayName("존재하지 않는 회원인 경우 예외 발생")
   void getAllBadges_memberNotFound() {
     // given
-    given(memberRepository.findById(999L)).willReturn(Optional.empty());
+    given(memberRepository.existsById(999L)).willReturn(false);
 
     // expect
     assertThatThrownBy(() -> badgeReadService.getAllBadges(999L))
@@ -88,8 +88,8 @@ class BadgeReadServiceTest {
   @DisplayName("뱃지 데이터가 없는 경우 예외 발생")
   void getAllBadges_noBadges() {
     // given
-    given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
-    given(badgeRepository.findAll()).willReturn(List.of());
+    given(memberRepository.existsById(member.getId())).willReturn(true);
+    given(badgeCatalog.all()).willReturn(List.of());
 
     // expect
     assertThatThrownBy(() -> badgeReadService.getAllBadges(member.getId()))
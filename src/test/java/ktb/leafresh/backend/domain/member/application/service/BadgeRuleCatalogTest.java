@@ -0,0 +1,64 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.challenge.personal.infrastructure.repository.PersonalChallengeRepository;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeRuleCatalog 테스트")
+class BadgeRuleCatalogTest {
+
+  @Mock private PersonalChallengeRepository personalChallengeRepository;
+
+  @InjectMocks private BadgeRuleCatalog badgeRuleCatalog;
+
+  @Test
+  @DisplayName("카테고리 뱃지는 enum 이름으로 저장된 카테고리 카운터에 걸린다")
+  void rulesFor_categoryChallenges_usesEnumName() {
+    // given
+    given(personalChallengeRepository.countDistinctTitles()).willReturn(7L);
+
+    // when & then
+    assertThat(badgeRuleCatalog.rulesFor(ActivityCounterKeys.categoryChallenges("PLOGGING")))
+        .containsExactly(
+            new BadgeRule(ActivityCounterKeys.categoryChallenges("PLOGGING"), 3, "플로깅 파이터"));
+    assertThat(badgeRuleCatalog.rulesFor(ActivityCounterKeys.categorySuccess("PLOGGING")))
+        .extracting(BadgeRule::badgeName)
+        .containsExactly("마스터");
+  }
+
+  @Test
+  @DisplayName("모든 개인 챌린지 기준은 개인 챌린지 제목 수를 따르고, 규칙은 한 번만 만든다")
+  void rulesFor_personalTitlesCleared_usesTitleCountOnce() {
+    // given
+    given(personalChallengeRepository.countDistinctTitles()).willReturn(7L);
+
+    // when
+    badgeRuleCatalog.rulesFor(ActivityCounterKeys.totalSuccess());
+
+    // then
+    assertThat(badgeRuleCatalog.rulesFor(ActivityCounterKeys.personalTitlesCleared()))
+        .containsExactly(new BadgeRule(ActivityCounterKeys.personalTitlesCleared(), 7, "도전 전부러"));
+    then(personalChallengeRepository).should(times(1)).countDistinctTitles();
+  }
+
+  @Test
+  @DisplayName("규칙이 없는 카운터는 빈 목록을 돌려준다")
+  void rulesFor_unknownCounter_returnsEmpty() {
+    // given
+    given(personalChallengeRepository.countDistinctTitles()).willReturn(0L);
+
+    // when & then
+    assertThat(badgeRuleCatalog.rulesFor(ActivityCounterKeys.challengeSuccess(1L))).isEmpty();
+    assertThat(badgeRuleCatalog.rulesFor(ActivityCounterKeys.personalTitlesCleared())).isEmpty();
+  }
+}
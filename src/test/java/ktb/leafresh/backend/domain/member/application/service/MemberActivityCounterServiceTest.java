@@ -0,0 +1,176 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityCounter;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.domain.service.badge.CounterChange;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityCounterRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityCounterService 테스트")
+class MemberActivityCounterServiceTest {
+
+  private static final Long MEMBER_ID = 1L;
+  private static final LocalDate TODAY = LocalDate.of(2025, 7, 2);
+
+  @Mock private MemberActivityCounterRepository counterRepository;
+  @Mock private MemberRepository memberRepository;
+
+  @InjectMocks private MemberActivityCounterService memberActivityCounterService;
+
+  @Captor private ArgumentCaptor<List<MemberActivityCounter>> createdCaptor;
+
+  @Test
+  @DisplayName("첫 단체 인증이면 카테고리/챌린지 카운터를 만들고 서로 다른 수도 함께 센다")
+  void record_firstGroupSuccess_createsCountersAndCountsDistinct() {
+    // given
+    BadgeActivity activity = BadgeActivity.group("PLOGGING", 10L, null, TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(List.of());
+
+    // when
+    List<CounterChange> changes = memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    assertThat(changes)
+        .containsExactly(
+            new CounterChange(ActivityCounterKeys.totalSuccess(), 0, 1),
+            new CounterChange(ActivityCounterKeys.categorySuccess("PLOGGING"), 0, 1),
+            new CounterChange(ActivityCounterKeys.categoriesCleared(), 0, 1),
+            new CounterChange(ActivityCounterKeys.challengeSuccess(10L), 0, 1),
+            new CounterChange(ActivityCounterKeys.categoryChallenges("PLOGGING"), 0, 1));
+    then(counterRepository).should().saveAll(createdCaptor.capture());
+    assertThat(createdCaptor.getValue()).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("카운터를 잠그기 전에 회원 행을 먼저 잠근다")
+  void record_locksMemberBeforeCounters() {
+    // given
+    BadgeActivity activity = BadgeActivity.group("PLOGGING", 10L, null, TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(List.of());
+
+    // when
+    memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    InOrder inOrder = inOrder(memberRepository, counterRepository);
+    inOrder.verify(memberRepository).findByIdForUpdate(MEMBER_ID);
+    inOrder.verify(counterRepository).findAllForUpdate(MEMBER_ID, activity.counterKeys());
+  }
+
+  @Test
+  @DisplayName("이미 성공한 챌린지와 카테고리는 서로 다른 수를 다시 세지 않는다")
+  void record_repeatedGroupSuccess_doesNotCountDistinctAgain() {
+    // given
+    BadgeActivity activity = BadgeActivity.group("PLOGGING", 10L, "지구의 날", TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(
+            List.of(
+                counter(ActivityCounterKeys.totalSuccess(), 9),
+                counter(ActivityCounterKeys.categorySuccess("PLOGGING"), 2),
+                counter(ActivityCounterKeys.challengeSuccess(10L), 2),
+                counter(ActivityCounterKeys.eventSuccess("지구의 날"), 2)));
+
+    // when
+    List<CounterChange> changes = memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    assertThat(changes)
+        .containsExactly(
+            new CounterChange(ActivityCounterKeys.totalSuccess(), 9, 10),
+            new CounterChange(ActivityCounterKeys.categorySuccess("PLOGGING"), 2, 3),
+            new CounterChange(ActivityCounterKeys.challengeSuccess(10L), 2, 3),
+            new CounterChange(ActivityCounterKeys.eventSuccess("지구의 날"), 2, 3));
+    then(counterRepository).should(never()).saveAll(any());
+  }
+
+  @Test
+  @DisplayName("ETC 카테고리는 모든 카테고리 조건에 포함하지 않는다")
+  void record_etcCategory_doesNotCountTowardAllCategories() {
+    // given
+    BadgeActivity activity = BadgeActivity.group("ETC", 10L, null, TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(List.of());
+
+    // when
+    List<CounterChange> changes = memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    assertThat(changes)
+        .extracting(CounterChange::counterKey)
+        .doesNotContain(ActivityCounterKeys.categoriesCleared());
+  }
+
+  @Test
+  @DisplayName("개인 인증은 연속 일수를 이어가고 처음 성공한 제목이면 제목 수를 센다")
+  void record_personalSuccess_extendsStreakAndCountsTitle() {
+    // given
+    BadgeActivity activity = BadgeActivity.personal("텀블러 사용", TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(
+            List.of(
+                counter(ActivityCounterKeys.totalSuccess(), 5),
+                MemberActivityCounter.of(
+                    MEMBER_ID, ActivityCounterKeys.personalStreak(), 2, TODAY.minusDays(1))));
+
+    // when
+    List<CounterChange> changes = memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    assertThat(changes)
+        .containsExactly(
+            new CounterChange(ActivityCounterKeys.totalSuccess(), 5, 6),
+            new CounterChange(ActivityCounterKeys.personalStreak(), 2, 3),
+            new CounterChange(ActivityCounterKeys.personalTitleSuccess("텀블러 사용"), 0, 1),
+            new CounterChange(ActivityCounterKeys.personalTitlesCleared(), 0, 1));
+    then(counterRepository).should().saveAll(createdCaptor.capture());
+    assertThat(createdCaptor.getValue())
+        .extracting(MemberActivityCounter::getCounterKey)
+        .containsExactly(
+            ActivityCounterKeys.personalTitleSuccess("텀블러 사용"),
+            ActivityCounterKeys.personalTitlesCleared());
+  }
+
+  @Test
+  @DisplayName("같은 날 두 번째 개인 인증은 연속 일수를 바꾸지 않는다")
+  void record_sameDayPersonalSuccess_keepsStreak() {
+    // given
+    BadgeActivity activity = BadgeActivity.personal("텀블러 사용", TODAY);
+    given(counterRepository.findAllForUpdate(MEMBER_ID, activity.counterKeys()))
+        .willReturn(
+            List.of(
+                MemberActivityCounter.of(MEMBER_ID, ActivityCounterKeys.personalStreak(), 4, TODAY),
+                counter(ActivityCounterKeys.personalTitleSuccess("텀블러 사용"), 1)));
+
+    // when
+    List<CounterChange> changes = memberActivityCounterService.record(MEMBER_ID, activity);
+
+    // then
+    assertThat(changes)
+        .extracting(CounterChange::counterKey)
+        .doesNotContain(
+            ActivityCounterKeys.personalStreak(), ActivityCounterKeys.personalTitlesCleared());
+  }
+
+  private MemberActivityCounter counter(String key, long value) {
+    return MemberActivityCounter.of(MEMBER_ID, key, value, null);
+  }
+}
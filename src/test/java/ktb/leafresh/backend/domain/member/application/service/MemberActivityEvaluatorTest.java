@@ -0,0 +1,140 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.support.fixture.MemberFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus.PENDING;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityEvaluator 테스트")
+class MemberActivityEvaluatorTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+  @Mock private MemberActivityOutboxRepository outboxRepository;
+  @Mock private MemberRepository memberRepository;
+  @Mock private RewardGrantService rewardGrantService;
+  @Mock private BadgeGrantManager badgeGrantManager;
+
+  @InjectMocks private MemberActivityEvaluator memberActivityEvaluator;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(memberActivityEvaluator, "maxAttempts", 3);
+    member = MemberFixture.of();
+  }
+
+  @Test
+  @DisplayName("같은 회원의 행을 합쳐 나뭇잎은 한 번, 뱃지는 한 번의 평가로 처리한다")
+  void evaluate_coalescesRowsOfMember() {
+    // given
+    BadgeActivity first = BadgeActivity.personal("텀블러 사용", DAY);
+    BadgeActivity second = BadgeActivity.group("PLOGGING", 10L, null, DAY);
+    List<MemberActivityOutbox> rows =
+        List.of(
+            MemberActivityOutbox.of(1L, 5, first),
+            MemberActivityOutbox.of(1L, 10, second),
+            MemberActivityOutbox.of(1L, 50, null));
+    given(outboxRepository.findAllForUpdate(List.of(1L, 2L, 3L), PENDING)).willReturn(rows);
+    given(memberRepository.findByIdForUpdate(1L)).willReturn(Optional.of(member));
+
+    // when
+    int processed = memberActivityEvaluator.evaluate(1L, List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(processed).isEqualTo(3);
+    then(rewardGrantService).should().grantLeafPoints(member, 65);
+    then(badgeGrantManager).should().recordAndGrant(member, List.of(first, second));
+    assertThat(rows).allMatch(row -> row.getStatus() == MemberActivityOutboxStatus.DONE);
+  }
+
+  @Test
+  @DisplayName("나뭇잎을 지급하기 전에 회원 행을 잠가 읽는다")
+  void evaluate_locksMemberBeforeGranting() {
+    // given
+    given(outboxRepository.findAllForUpdate(List.of(1L), PENDING))
+        .willReturn(List.of(MemberActivityOutbox.of(1L, 5, null)));
+    given(memberRepository.findByIdForUpdate(1L)).willReturn(Optional.of(member));
+
+    // when
+    memberActivityEvaluator.evaluate(1L, List.of(1L));
+
+    // then
+    InOrder inOrder = inOrder(memberRepository, rewardGrantService);
+    inOrder.verify(memberRepository).findByIdForUpdate(1L);
+    inOrder.verify(rewardGrantService).grantLeafPoints(member, 5);
+    then(memberRepository).should(never()).findById(any());
+  }
+
+  @Test
+  @DisplayName("다른 처리자가 먼저 끝낸 행이면 아무것도 하지 않는다")
+  void evaluate_alreadyProcessed_returnsZero() {
+    // given
+    given(outboxRepository.findAllForUpdate(List.of(1L), PENDING)).willReturn(List.of());
+
+    // when
+    int processed = memberActivityEvaluator.evaluate(1L, List.of(1L));
+
+    // then
+    assertThat(processed).isZero();
+    then(memberRepository).shouldHaveNoInteractions();
+    then(rewardGrantService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("회원이 없으면 예외를 던져 재시도 대상으로 남긴다")
+  void evaluate_memberNotFound_throws() {
+    // given
+    given(outboxRepository.findAllForUpdate(List.of(1L), PENDING))
+        .willReturn(List.of(MemberActivityOutbox.of(1L, 5, null)));
+    given(memberRepository.findByIdForUpdate(1L)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> memberActivityEvaluator.evaluate(1L, List.of(1L)))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  @DisplayName("실패하면 시도 횟수를 늘리고, 최대 횟수에 도달하면 FAILED 로 남긴다")
+  void markFailed_incrementsAttemptsAndGivesUp() {
+    // given
+    MemberActivityOutbox row = MemberActivityOutbox.of(1L, 5, null);
+    ReflectionTestUtils.setField(row, "attempts", 1);
+    MemberActivityOutbox lastTry = MemberActivityOutbox.of(1L, 5, null);
+    ReflectionTestUtils.setField(lastTry, "attempts", 2);
+    given(outboxRepository.findAllForUpdate(List.of(1L, 2L), PENDING))
+        .willReturn(List.of(row, lastTry));
+
+    // when
+    memberActivityEvaluator.markFailed(List.of(1L, 2L), "DB Error");
+
+    // then
+    assertThat(row.getAttempts()).isEqualTo(2);
+    assertThat(row.getStatus()).isEqualTo(PENDING);
+    assertThat(row.getLastError()).isEqualTo("DB Error");
+    assertThat(lastTry.getStatus()).isEqualTo(MemberActivityOutboxStatus.FAILED);
+  }
+}
@@ -0,0 +1,97 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus.FAILED;
+import static ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus.PENDING;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityOutboxDispatcher 테스트")
+class MemberActivityOutboxDispatcherTest {
+
+  @Mock private MemberActivityOutboxRepository outboxRepository;
+  @Mock private MemberActivityEvaluator memberActivityEvaluator;
+
+  @InjectMocks private MemberActivityOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+  }
+
+  private MemberActivityOutbox row(Long id, Long memberId) {
+    MemberActivityOutbox row = MemberActivityOutbox.of(memberId, 5, null);
+    ReflectionTestUtils.setField(row, "id", id);
+    return row;
+  }
+
+  @Test
+  @DisplayName("대기 행을 회원별로 묶어 회원마다 한 번 평가한다")
+  void dispatch_groupsRowsByMember() {
+    // given
+    given(outboxRepository.findReady(eq(PENDING), any(), eq(PageRequest.of(0, 100))))
+        .willReturn(List.of(row(1L, 7L), row(2L, 8L), row(3L, 7L)));
+    given(memberActivityEvaluator.evaluate(7L, List.of(1L, 3L))).willReturn(2);
+    given(memberActivityEvaluator.evaluate(8L, List.of(2L))).willReturn(1);
+
+    // when
+    int processed = dispatcher.dispatch();
+
+    // then
+    assertThat(processed).isEqualTo(3);
+    then(memberActivityEvaluator).should(times(2)).evaluate(anyLong(), anyList());
+  }
+
+  @Test
+  @DisplayName("한 회원의 평가가 실패해도 그 회원의 행만 실패로 기록하고 계속 처리한다")
+  void dispatch_failureOfOneMember_marksFailedAndContinues() {
+    // given
+    given(outboxRepository.findReady(eq(PENDING), any(), any()))
+        .willReturn(List.of(row(1L, 7L), row(2L, 8L)));
+    given(memberActivityEvaluator.evaluate(7L, List.of(1L)))
+        .willThrow(new RuntimeException("Lock timeout"));
+    given(memberActivityEvaluator.evaluate(8L, List.of(2L))).willReturn(1);
+
+    // when
+    int processed = dispatcher.dispatch();
+
+    // then
+    assertThat(processed).isEqualTo(1);
+    then(memberActivityEvaluator).should().markFailed(List.of(1L), "Lock timeout");
+  }
+
+  @Test
+  @DisplayName("대기 행이 없으면 평가하지 않는다")
+  void dispatch_noRows_returnsZero() {
+    // given
+    given(outboxRepository.findReady(eq(PENDING), any(), any())).willReturn(List.of());
+
+    // when & then
+    assertThat(dispatcher.dispatch()).isZero();
+    then(memberActivityEvaluator).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("재시도를 포기한 행을 다시 대기 상태로 돌린다")
+  void requeueFailed_movesFailedRowsBackToPending() {
+    // given
+    given(outboxRepository.requeue(eq(FAILED), eq(PENDING), any())).willReturn(2);
+
+    // when & then
+    assertThat(dispatcher.requeueFailed()).isEqualTo(2);
+  }
+}
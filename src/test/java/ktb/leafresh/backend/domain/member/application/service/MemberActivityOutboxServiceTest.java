@@ -0,0 +1,85 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityOutbox;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import ktb.leafresh.backend.support.fixture.MemberFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityOutboxService 테스트")
+class MemberActivityOutboxServiceTest {
+
+  @Mock private MemberActivityOutboxRepository outboxRepository;
+  @Mock private RewardGrantService rewardGrantService;
+  @Mock private BadgeGrantManager badgeGrantManager;
+
+  @InjectMocks private MemberActivityOutboxService memberActivityOutboxService;
+
+  private Member member;
+  private BadgeActivity activity;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(memberActivityOutboxService, "enabled", true);
+    member = MemberFixture.of();
+    ReflectionTestUtils.setField(member, "id", 1L);
+    activity = BadgeActivity.personal("텀블러 사용", LocalDate.of(2025, 7, 1));
+  }
+
+  @Test
+  @DisplayName("지급은 하지 않고 아웃박스 행만 저장한다")
+  void enqueue_savesOutboxRowOnly() {
+    // when
+    memberActivityOutboxService.enqueue(member, 5, activity);
+
+    // then
+    ArgumentCaptor<MemberActivityOutbox> captor =
+        ArgumentCaptor.forClass(MemberActivityOutbox.class);
+    then(outboxRepository).should().save(captor.capture());
+    assertThat(captor.getValue().getMemberId()).isEqualTo(1L);
+    assertThat(captor.getValue().getLeafPoints()).isEqualTo(5);
+    assertThat(captor.getValue().toActivity()).isEqualTo(activity);
+    then(rewardGrantService).shouldHaveNoInteractions();
+    then(badgeGrantManager).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("지급할 것이 없으면 기록하지 않는다")
+  void enqueue_nothingToGrant_skips() {
+    // when
+    memberActivityOutboxService.enqueue(member, 0, null);
+
+    // then
+    then(outboxRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("아웃박스를 끄면 같은 트랜잭션에서 바로 지급한다")
+  void enqueue_whenDisabled_grantsInline() {
+    // given
+    ReflectionTestUtils.setField(memberActivityOutboxService, "enabled", false);
+
+    // when
+    memberActivityOutboxService.enqueue(member, 5, activity);
+
+    // then
+    then(rewardGrantService).should().grantLeafPoints(member, 5);
+    then(badgeGrantManager).should().recordAndGrant(member, activity);
+    then(outboxRepository).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,76 @@
+package ktb.leafresh.backend.domain.member.application.service;
+
+import ktb.leafresh.backend.domain.member.infrastructure.cache.MemberBadgeBitsetCache;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberBadgeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberOwnedBadgeService 테스트")
+class MemberOwnedBadgeServiceTest {
+
+  @Mock private MemberBadgeBitsetCache memberBadgeBitsetCache;
+
+  @Mock private MemberBadgeRepository memberBadgeRepository;
+
+  @InjectMocks private MemberOwnedBadgeService memberOwnedBadgeService;
+
+  @Test
+  @DisplayName("비트맵이 있으면 DB 를 읽지 않는다")
+  void ownedBadgeIds_cacheHit_skipsDb() {
+    // given
+    BitSet cached = new BitSet();
+    cached.set(4);
+    given(memberBadgeBitsetCache.get(1L)).willReturn(Optional.of(cached));
+
+    // when
+    BitSet owned = memberOwnedBadgeService.ownedBadgeIds(1L);
+
+    // then
+    assertThat(owned.stream()).containsExactly(4);
+    then(memberBadgeRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("비트맵이 없으면 보유 뱃지 ID 를 한 번 읽어 다시 채운다")
+  void ownedBadgeIds_cacheMiss_loadsFromDb() {
+    // given
+    given(memberBadgeBitsetCache.get(1L)).willReturn(Optional.empty());
+    given(memberBadgeRepository.findBadgeIdsByMemberId(1L)).willReturn(List.of(2L, 7L));
+
+    // when
+    BitSet owned = memberOwnedBadgeService.ownedBadgeIds(1L);
+
+    // then
+    assertThat(owned.stream()).containsExactly(2, 7);
+    then(memberBadgeBitsetCache).should().load(1L, List.of(2L, 7L));
+  }
+
+  @Test
+  @DisplayName("Redis 를 읽지 못해도 DB 결과로 응답한다")
+  void ownedBadgeIds_redisFailure_fallsBackToDb() {
+    // given
+    given(memberBadgeBitsetCache.get(1L)).willThrow(new RuntimeException("Redis Error"));
+    given(memberBadgeRepository.findBadgeIdsByMemberId(1L)).willReturn(List.of(3L));
+    willThrow(new RuntimeException("Redis Error"))
+        .given(memberBadgeBitsetCache)
+        .load(anyLong(), anyList());
+
+    // when
+    BitSet owned = memberOwnedBadgeService.ownedBadgeIds(1L);
+
+    // then
+    assertThat(owned.stream()).containsExactly(3);
+  }
+}
@@ -0,0 +1,80 @@
+package ktb.leafresh.backend.domain.member.domain.entity;
+
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberActivityCounterTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+  @Test
+  @DisplayName("최대 길이(100자) 챌린지 제목이 들어간 키도 컬럼 길이 안에 든다")
+  void counterKey_withLongestTitle_fitsColumn() {
+    // given
+    String title = "가".repeat(100);
+
+    // when & then
+    assertThat(ActivityCounterKeys.personalTitleSuccess(title))
+        .hasSizeLessThanOrEqualTo(MemberActivityCounter.COUNTER_KEY_LENGTH);
+    assertThat(ActivityCounterKeys.eventSuccess(title))
+        .hasSizeLessThanOrEqualTo(MemberActivityCounter.COUNTER_KEY_LENGTH);
+  }
+
+  @Test
+  @DisplayName("첫 활동이면 연속 일수는 1 이 된다")
+  void extendStreak_firstActivity_startsAtOne() {
+    // given
+    MemberActivityCounter counter = MemberActivityCounter.of(1L, "personal:streak");
+
+    // when
+    long value = counter.extendStreak(DAY);
+
+    // then
+    assertThat(value).isEqualTo(1);
+    assertThat(counter.getLastActivityDate()).isEqualTo(DAY);
+  }
+
+  @Test
+  @DisplayName("다음 날 활동이면 연속 일수가 1 늘어난다")
+  void extendStreak_nextDay_increases() {
+    // given
+    MemberActivityCounter counter = MemberActivityCounter.of(1L, "personal:streak", 3, DAY);
+
+    // when
+    long value = counter.extendStreak(DAY.plusDays(1));
+
+    // then
+    assertThat(value).isEqualTo(4);
+    assertThat(counter.getLastActivityDate()).isEqualTo(DAY.plusDays(1));
+  }
+
+  @Test
+  @DisplayName("하루 이상 비면 연속 일수는 1 부터 다시 센다")
+  void extendStreak_afterGap_resets() {
+    // given
+    MemberActivityCounter counter = MemberActivityCounter.of(1L, "personal:streak", 3, DAY);
+
+    // when
+    long value = counter.extendStreak(DAY.plusDays(2));
+
+    // then
+    assertThat(value).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("같은 날이나 이전 날짜의 활동은 연속 일수를 바꾸지 않는다")
+  void extendStreak_sameOrEarlierDay_keepsValue() {
+    // given
+    MemberActivityCounter counter = MemberActivityCounter.of(1L, "personal:streak", 3, DAY);
+
+    // when & then
+    assertThat(counter.extendStreak(DAY)).isEqualTo(3);
+    assertThat(counter.extendStreak(DAY.minusDays(1))).isEqualTo(3);
+    assertThat(counter.getLastActivityDate()).isEqualTo(DAY);
+  }
+}
@@ -0,0 +1,100 @@
+package ktb.leafresh.backend.domain.member.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberBadgeBitsetCache 테스트")
+class MemberBadgeBitsetCacheTest {
+
+  private static final String KEY = MemberCacheKeys.ownedBadges(1L);
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private StringRedisConnection connection;
+
+  private MemberBadgeBitsetCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new MemberBadgeBitsetCache(stringRedisTemplate);
+    ReflectionTestUtils.setField(cache, "ttlDays", 7L);
+  }
+
+  private void givenPipeline() {
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              return List.of();
+            });
+  }
+
+  @Test
+  @DisplayName("Redis 비트맵은 바이트의 상위 비트부터 번호를 매긴다")
+  void get_readsRedisBitOrder() {
+    // given: 0 번(적재 표시), 1 번, 9 번 비트
+    given(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .willReturn(new byte[] {(byte) 0b1100_0000, (byte) 0b0100_0000});
+
+    // when
+    Optional<BitSet> bits = cache.get(1L);
+
+    // then
+    assertThat(bits).isPresent();
+    assertThat(bits.get().stream()).containsExactly(1, 9);
+  }
+
+  @Test
+  @DisplayName("적재 표시가 없는 비트맵은 적재 전으로 본다")
+  void get_withoutLoadedBit_returnsEmpty() {
+    // given: 지급 SETBIT 만 먼저 반영된 키
+    given(stringRedisTemplate.execute(any(RedisCallback.class)))
+        .willReturn(new byte[] {(byte) 0b0100_0000});
+
+    // when & then
+    assertThat(cache.get(1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("키가 없으면 empty")
+  void get_missingKey_returnsEmpty() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisCallback.class))).willReturn(null);
+
+    // when & then
+    assertThat(cache.get(1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("적재는 보유 뱃지 비트와 적재 표시를 켜고 TTL 을 건다")
+  void load_setsBitsAndLoadedMarker() {
+    // given
+    givenPipeline();
+
+    // when
+    cache.load(1L, List.of(3L, 12L));
+
+    // then
+    then(connection).should().setBit(KEY, 3L, true);
+    then(connection).should().setBit(KEY, 12L, true);
+    then(connection).should().setBit(KEY, 0L, true);
+    then(connection).should().expire(KEY, 7L * 24 * 60 * 60);
+  }
+}
@@ -0,0 +1,316 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
+import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.global.exception.*;
+import ktb.leafresh.backend.global.util.redis.StockReservationRedisLuaService;
+import ktb.leafresh.backend.global.util.redis.StockReservationResult;
+import ktb.leafresh.backend.global.util.redis.StockReservationResult.Status;
+import ktb.leafresh.backend.support.fixture.ProductFixture;
+import ktb.leafresh.backend.support.fixture.TimedealPolicyFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReservationServiceTest {
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private TimedealPolicyRepository timedealPolicyRepository;
+
+  @Mock private StockReservationRedisLuaService stockReservationRedisLuaService;
+
+  @Mock private ProductCacheService productCacheService;
+
+  @Mock private TimedealStockShardService timedealStockShardService;
+
+  @Mock private PurchaseMessagePublisher purchaseMessagePublisher;
+
+  @Mock private PointService pointService;
+
+  @Mock private PurchaseIdempotencyService purchaseIdempotencyService;
+
+  @Mock private StockReservationTracker stockReservationTracker;
+
+  @InjectMocks private OrderReservationService service;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    product = ProductFixture.createDefaultProduct();
+  }
+
+  private static StockReservationResult result(Status status) {
+    return new StockReservationResult(status, 0L, null, null);
+  }
+
+  @Test
+  void reserveProductOrder_withValidInput_publishesCommand() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(product));
+    given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), isNull(), eq(2), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 8L, null, null));
+
+    // when
+    StockReservationResult result = service.reserveProductOrder(1L, 1L, 2, "key");
+
+    // then
+    assertThat(result.isReserved()).isTrue();
+    assertThat(result.remainingStock()).isEqualTo(8L);
+    then(stockReservationTracker).should().track(any(PurchaseCommand.class));
+    then(purchaseMessagePublisher).should().publish(any(PurchaseCommand.class));
+    then(purchaseIdempotencyService).should().markAccepted(1L, "key");
+  }
+
+  @Test
+  void reserveProductOrder_withMissingStockCache_warmsAndRetriesOnce() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(product));
+    given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), isNull(), eq(1), any()))
+        .willReturn(result(Status.STOCK_NOT_CACHED), result(Status.RESERVED));
+
+    // when
+    service.reserveProductOrder(1L, 1L, 1, "key");
+
+    // then
+    then(productCacheService).should().cacheProductStockIfAbsent(1L, product.getStock());
+    then(stockReservationRedisLuaService)
+        .should(times(2))
+        .reserve(anyString(), anyString(), isNull(), eq(1), any());
+  }
+
+  @Test
+  void reserveProductOrder_withDuplicateKey_throwsException() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(product));
+    given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), isNull(), anyInt(), any()))
+        .willReturn(result(Status.DUPLICATE_REQUEST));
+    willThrow(new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST))
+        .given(purchaseIdempotencyService)
+        .replayOrThrow(1L, "key");
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveProductOrder(1L, 1L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST.getMessage());
+    then(purchaseMessagePublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reserveProductOrder_withAcceptedKey_replaysWithoutPublishing() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(product));
+    given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), isNull(), anyInt(), any()))
+        .willReturn(result(Status.DUPLICATE_REQUEST));
+
+    // when
+    service.reserveProductOrder(1L, 1L, 1, "key");
+
+    // then
+    then(purchaseIdempotencyService).should().replayOrThrow(1L, "key");
+    then(purchaseMessagePublisher).shouldHaveNoInteractions();
+    then(purchaseIdempotencyService).should(never()).markAccepted(anyLong(), anyString());
+  }
+
+  @Test
+  void reserveProductOrder_withInsufficientPoints_doesNotTouchStock() {
+    // given
+    given(productRepository.findById(1L)).willReturn(Optional.of(product));
+    given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveProductOrder(1L, 1L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.INSUFFICIENT_POINTS.getMessage());
+    then(stockReservationRedisLuaService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reserveTimedealOrder_withValidInput_publishesCommandWithProductIdFromScript() {
+    // given
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 4L, 7L, 2500));
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(true);
+
+    // when
+    service.reserveTimedealOrder(1L, 2L, 1, "key");
+
+    // then
+    ArgumentCaptor<PurchaseCommand> captor = ArgumentCaptor.forClass(PurchaseCommand.class);
+    then(purchaseMessagePublisher).should().publish(captor.capture());
+    assertThat(captor.getValue().productId()).isEqualTo(7L);
+    assertThat(captor.getValue().timedealPolicyId()).isEqualTo(2L);
+    then(timedealPolicyRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reserveTimedealOrder_outsideDealWindow_throwsException() {
+    // given
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), anyInt(), any()))
+        .willReturn(result(Status.OUTSIDE_DEAL_WINDOW));
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(TimedealErrorCode.INVALID_STATUS.getMessage());
+  }
+
+  @Test
+  void reserveTimedealOrder_withMissingCache_warmsFromDbAndRetries() {
+    // given
+    TimedealPolicy policy = TimedealPolicyFixture.createDefaultTimedeal(product);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), eq(1), any()))
+        .willReturn(
+            result(Status.STOCK_NOT_CACHED), new StockReservationResult(Status.RESERVED, 9L, 7L, 2500));
+    given(timedealPolicyRepository.findById(2L)).willReturn(Optional.of(policy));
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(true);
+
+    // when
+    service.reserveTimedealOrder(1L, 2L, 1, "key");
+
+    // then
+    then(productCacheService).should().cacheTimedealWindow(policy);
+    then(purchaseMessagePublisher).should().publish(any(PurchaseCommand.class));
+  }
+
+  @Test
+  void reserveTimedealOrder_withInsufficientPoints_releasesReservation() {
+    // given
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 4L, 7L, 2500));
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.INSUFFICIENT_POINTS.getMessage());
+    then(stockReservationRedisLuaService).should().release(anyString(), anyString(), eq(1));
+    then(purchaseMessagePublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reserveTimedealOrder_whenPublishFails_releasesReservation() {
+    // given
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 4L, 7L, 2500));
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(true);
+    willThrow(new CustomException(PurchaseErrorCode.PURCHASE_PUBLISH_FAILED))
+        .given(purchaseMessagePublisher)
+        .publish(any());
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class);
+    then(stockReservationRedisLuaService).should().release(anyString(), anyString(), eq(1));
+    then(stockReservationTracker).should().untrack(any(PurchaseCommand.class));
+  }
+
+  @Test
+  void reserveTimedealOrder_withShardedStock_claimsThenDecreasesShard() {
+    // given
+    given(timedealStockShardService.isEnabled()).willReturn(true);
+    given(stockReservationRedisLuaService.claim(anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 0L, 7L, 2500));
+    given(timedealStockShardService.decreaseStock(2L, 1)).willReturn(3L);
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(true);
+
+    // when
+    StockReservationResult result = service.reserveTimedealOrder(1L, 2L, 1, "key");
+
+    // then
+    assertThat(result.isReserved()).isTrue();
+    then(purchaseMessagePublisher).should().publish(any(PurchaseCommand.class));
+    then(stockReservationRedisLuaService)
+        .should(never())
+        .reserve(anyString(), anyString(), anyString(), anyInt(), any());
+  }
+
+  @Test
+  void reserveTimedealOrder_withShardedStockAndInsufficientPoints_restoresShardStock() {
+    // given
+    given(timedealStockShardService.isEnabled()).willReturn(true);
+    given(stockReservationRedisLuaService.claim(anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 0L, 7L, 2500));
+    given(timedealStockShardService.decreaseStock(2L, 1)).willReturn(3L);
+    given(pointService.hasEnoughPoints(1L, 2500)).willReturn(false);
+    given(stockReservationRedisLuaService.releaseClaim(anyString())).willReturn(true);
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.INSUFFICIENT_POINTS.getMessage());
+    then(timedealStockShardService).should().increaseStock(2L, 1);
+  }
+
+  @Test
+  void reserveTimedealOrder_withShardedStockSoldOut_releasesClaim() {
+    // given
+    given(timedealStockShardService.isEnabled()).willReturn(true);
+    given(stockReservationRedisLuaService.claim(anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 0L, 7L, 2500));
+    given(timedealStockShardService.decreaseStock(2L, 1)).willReturn(-2L);
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ProductErrorCode.OUT_OF_STOCK.getMessage());
+    then(stockReservationRedisLuaService).should().releaseClaim(anyString());
+    then(timedealStockShardService).should(never()).increaseStock(anyLong(), anyInt());
+  }
+
+  @Test
+  void reserveTimedealOrder_withoutCachedPrice_releasesReservationAndReloadsWindow() {
+    // given
+    TimedealPolicy policy = TimedealPolicyFixture.createDefaultTimedeal(product);
+    given(stockReservationRedisLuaService.reserve(anyString(), anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 4L, 7L, null));
+    given(timedealPolicyRepository.findById(2L)).willReturn(Optional.of(policy));
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(TimedealErrorCode.TIMEDEAL_LOAD_FAIL.getMessage());
+    then(stockReservationRedisLuaService).should().release(anyString(), anyString(), eq(1));
+    then(productCacheService).should().cacheTimedealWindow(policy);
+    then(pointService).shouldHaveNoInteractions();
+    then(purchaseMessagePublisher).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reserveTimedealOrder_withShardedStockWithoutCachedPrice_releasesClaimBeforeShard() {
+    // given
+    given(timedealStockShardService.isEnabled()).willReturn(true);
+    given(stockReservationRedisLuaService.claim(anyString(), anyString(), eq(1), any()))
+        .willReturn(new StockReservationResult(Status.RESERVED, 0L, 7L, null));
+    given(timedealPolicyRepository.findById(2L)).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> service.reserveTimedealOrder(1L, 2L, 1, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(TimedealErrorCode.TIMEDEAL_LOAD_FAIL.getMessage());
+    then(stockReservationRedisLuaService).should().releaseClaim(anyString());
+    then(timedealStockShardService).should(never()).decreaseStock(anyLong(), anyInt());
+  }
+}
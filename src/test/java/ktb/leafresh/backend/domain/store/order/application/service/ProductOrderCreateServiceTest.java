@@ -4,9 +4,8 @@ import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
-import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseIdempotencyKey;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
-import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
 import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
 import ktb.leafresh.backend.global.exception.CustomException;
@@ -29,7 +28,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 class ProductOrderCreateServiceTest {
@@ -38,7 +36,7 @@ class ProductOrderCreateServiceTest {
 
   @Mock private ProductRepository productRepository;
 
-  @Mock private PurchaseIdempotencyKeyRepository idempotencyRepository;
+  @Mock private PurchaseIdempotencyService purchaseIdempotencyService;
 
   @Mock private StockRedisLuaService stockRedisLuaService;
 
@@ -48,6 +46,8 @@ class ProductOrderCreateServiceTest {
 
   @Mock private PointService pointService;
 
+  @Mock private StockReservationTracker stockReservationTracker;
+
   @InjectMocks private ProductOrderCreateService productOrderCreateService;
 
   private Member member;
@@ -68,6 +68,7 @@ class ProductOrderCreateServiceTest {
     void create_success() {
       // given
       given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+      given(purchaseIdempotencyService.tryAcquire(eq(1L), anyString())).willReturn(true);
       given(productRepository.findById(10L)).willReturn(Optional.of(product));
       given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
       given(stockRedisLuaService.decreaseStock("stock:product:10", 1)).willReturn(1L);
@@ -76,8 +77,8 @@ class ProductOrderCreateServiceTest {
       productOrderCreateService.create(1L, 10L, 1, "idempotent-key");
 
       // then
-      verify(idempotencyRepository).save(any(PurchaseIdempotencyKey.class));
       verify(purchaseMessagePublisher).publish(any(PurchaseCommand.class));
+      verify(purchaseIdempotencyService).markAccepted(1L, "idempotent-key");
     }
 
     @Test
@@ -94,9 +95,10 @@ class ProductOrderCreateServiceTest {
     @DisplayName("Idempotency 키가 중복되면 예외를 던진다")
     void create_duplicateIdempotencyKey() {
       given(memberRepository.findById(1L)).willReturn(Optional.of(member));
-      willThrow(new DataIntegrityViolationException("duplicate"))
-          .given(idempotencyRepository)
-          .save(any());
+      given(purchaseIdempotencyService.tryAcquire(1L, "duplicate-key")).willReturn(false);
+      willThrow(new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST))
+          .given(purchaseIdempotencyService)
+          .replayOrThrow(1L, "duplicate-key");
 
       assertThatThrownBy(() -> productOrderCreateService.create(1L, 10L, 1, "duplicate-key"))
           .isInstanceOf(CustomException.class)
@@ -107,7 +109,7 @@ class ProductOrderCreateServiceTest {
     @DisplayName("존재하지 않는 상품이면 예외를 던진다")
     void create_productNotFound() {
       given(memberRepository.findById(1L)).willReturn(Optional.of(member));
-      given(idempotencyRepository.save(any())).willReturn(null);
+      given(purchaseIdempotencyService.tryAcquire(1L, "key")).willReturn(true);
       given(productRepository.findById(10L)).willReturn(Optional.empty());
 
       assertThatThrownBy(() -> productOrderCreateService.create(1L, 10L, 1, "key"))
@@ -119,6 +121,7 @@ class ProductOrderCreateServiceTest {
     @DisplayName("Redis 재고가 -1이면 PRODUCT_NOT_FOUND 예외를 던진다")
     void create_redisReturnsMinusOne() {
       given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+      given(purchaseIdempotencyService.tryAcquire(eq(1L), anyString())).willReturn(true);
       given(productRepository.findById(10L)).willReturn(Optional.of(product));
       given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
       given(stockRedisLuaService.decreaseStock(any(), anyInt())).willReturn(-1L);
@@ -132,6 +135,7 @@ class ProductOrderCreateServiceTest {
     @DisplayName("Redis 재고가 -2이면 OUT_OF_STOCK 예외를 던진다")
     void create_redisReturnsMinusTwo() {
       given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+      given(purchaseIdempotencyService.tryAcquire(eq(1L), anyString())).willReturn(true);
       given(productRepository.findById(10L)).willReturn(Optional.of(product));
       given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
       given(stockRedisLuaService.decreaseStock(any(), anyInt())).willReturn(-2L);
@@ -139,6 +143,21 @@ class ProductOrderCreateServiceTest {
       assertThatThrownBy(() -> productOrderCreateService.create(1L, 10L, 1, "key"))
           .isInstanceOf(CustomException.class)
           .hasMessageContaining(ProductErrorCode.OUT_OF_STOCK.getMessage());
+      verify(purchaseIdempotencyService).release(1L, "key");
+      verify(purchaseIdempotencyService, never()).markAccepted(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 Idempotency 키로 재요청하면 재고를 건드리지 않고 원래 응답을 돌려준다")
+    void create_replayAcceptedIdempotencyKey() {
+      given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+      given(purchaseIdempotencyService.tryAcquire(1L, "done-key")).willReturn(false);
+
+      assertThatCode(() -> productOrderCreateService.create(1L, 10L, 1, "done-key"))
+          .doesNotThrowAnyException();
+
+      verify(purchaseIdempotencyService).replayOrThrow(1L, "done-key");
+      verifyNoInteractions(stockRedisLuaService, purchaseMessagePublisher);
     }
   }
 }
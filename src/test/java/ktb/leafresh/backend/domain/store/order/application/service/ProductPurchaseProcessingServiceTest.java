@@ -3,6 +3,7 @@ package ktb.leafresh.backend.domain.store.order.application.service;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.event.PurchasesFinalizedEvent;
 import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseProcessContext;
 import ktb.leafresh.backend.domain.store.order.domain.entity.PurchaseFailureLog;
 import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseType;
@@ -17,6 +18,7 @@ import ktb.leafresh.backend.global.exception.ProductErrorCode;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
 import ktb.leafresh.backend.support.fixture.ProductFixture;
 import ktb.leafresh.backend.support.fixture.TimedealPolicyFixture;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +48,8 @@ class ProductPurchaseProcessingServiceTest {
 
   @Mock private PurchaseProcessor purchaseProcessor;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private ProductPurchaseProcessingService service;
 
   private Member member;
@@ -88,6 +92,7 @@ class ProductPurchaseProcessingServiceTest {
     assertThat(context.purchaseType()).isEqualTo(PurchaseType.NORMAL);
     assertThat(context.unitPrice()).isEqualTo(product.getPrice());
     assertThat(context.quantity()).isEqualTo(QUANTITY);
+    verify(eventPublisher).publishEvent(new PurchasesFinalizedEvent(List.of(cmd)));
   }
 
   @Test
@@ -164,7 +169,8 @@ class ProductPurchaseProcessingServiceTest {
             productRepository,
             timedealPolicyRepository,
             failureLogRepository,
-            purchaseProcessor) {
+            purchaseProcessor,
+            eventPublisher) {
           protected void saveFailureLog(PurchaseCommand cmd, Exception e) {
             throw new RuntimeException("ObjectMapper Error");
           }
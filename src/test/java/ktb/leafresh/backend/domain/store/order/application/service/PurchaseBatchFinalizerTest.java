@@ -0,0 +1,113 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.event.PurchasesFinalizedEvent;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseBatchJdbcRepository;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.support.fixture.MemberFixture;
+import ktb.leafresh.backend.support.fixture.ProductFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseBatchFinalizerTest {
+
+  @Mock private MemberRepository memberRepository;
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private TimedealPolicyRepository timedealPolicyRepository;
+
+  @Mock private PurchaseBatchJdbcRepository batchJdbcRepository;
+
+  @Mock private PurchaseProcessor purchaseProcessor;
+
+  @Mock private ObjectMapper objectMapper;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks private PurchaseBatchFinalizer finalizer;
+
+  private Member member;
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    member = MemberFixture.of();
+    ReflectionTestUtils.setField(member, "id", 1L);
+    member.updateCurrentLeafPoints(10_000);
+
+    product = ProductFixture.createDefaultProduct(); // 3000원, 재고 10
+    ReflectionTestUtils.setField(product, "id", 10L);
+
+    given(memberRepository.findAllById(any())).willReturn(List.of(member));
+    given(productRepository.findAllById(any())).willReturn(List.of(product));
+    given(timedealPolicyRepository.findAllById(any())).willReturn(List.of());
+  }
+
+  private static PurchaseCommand command(int quantity) {
+    return new PurchaseCommand(1L, 10L, null, quantity, "key-" + quantity, LocalDateTime.now());
+  }
+
+  @Test
+  void finalizeBatch_aggregatesDeltasPerProductAndMember() {
+    // when
+    PurchaseBatchResult result = finalizer.finalizeBatch(List.of(command(1), command(2)));
+
+    // then
+    assertThat(result.succeededCount()).isEqualTo(2);
+    then(batchJdbcRepository).should().decreaseProductStocks(eq(Map.of(10L, 3)), any());
+    then(batchJdbcRepository).should().decreaseMemberPoints(eq(Map.of(1L, 9_000)), any());
+    then(batchJdbcRepository)
+        .should()
+        .insertPurchases(argThat(rows -> rows.size() == 2));
+  }
+
+  @Test
+  void finalizeBatch_withInsufficientPointsForLaterCommand_failsOnlyThatCommand() {
+    // when (3000 + 9000 > 10000)
+    PurchaseBatchResult result = finalizer.finalizeBatch(List.of(command(1), command(3)));
+
+    // then
+    assertThat(result.isSucceeded(0)).isTrue();
+    assertThat(result.isSucceeded(1)).isFalse();
+    then(batchJdbcRepository).should().decreaseMemberPoints(eq(Map.of(1L, 3_000)), any());
+    then(batchJdbcRepository).should().insertFailureLogs(argThat(rows -> rows.size() == 1));
+    then(eventPublisher)
+        .should()
+        .publishEvent(
+            argThat(
+                (PurchasesFinalizedEvent event) ->
+                    event.commands().size() == 1 && event.commands().get(0).quantity() == 1));
+  }
+
+  @Test
+  void finalizeBatch_whenConditionalUpdateIsNotApplied_throwsToRollback() {
+    // given
+    given(batchJdbcRepository.decreaseMemberPoints(any(), any())).willReturn(List.of(1L));
+
+    // when & then
+    assertThatThrownBy(() -> finalizer.finalizeBatch(List.of(command(1))))
+        .isInstanceOf(IllegalStateException.class);
+    then(batchJdbcRepository).should(never()).insertPurchases(any());
+  }
+}
@@ -0,0 +1,92 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseBatchProcessingServiceTest {
+
+  @Mock private PurchaseBatchFinalizer purchaseBatchFinalizer;
+
+  @Mock private ProductPurchaseProcessingService productPurchaseProcessingService;
+
+  @InjectMocks private PurchaseBatchProcessingService service;
+
+  private final PurchaseCommand first =
+      new PurchaseCommand(1L, 10L, null, 1, "a", LocalDateTime.now());
+  private final PurchaseCommand second =
+      new PurchaseCommand(1L, 10L, null, 1, "b", LocalDateTime.now());
+
+  @Test
+  void processBatch_whenBatchSucceeds_returnsBatchResult() {
+    // given
+    PurchaseBatchResult batchResult = new PurchaseBatchResult(2, Set.of());
+    given(purchaseBatchFinalizer.finalizeBatch(List.of(first, second))).willReturn(batchResult);
+
+    // when
+    PurchaseBatchResult result = service.processBatch(List.of(first, second));
+
+    // then
+    assertThat(result).isSameAs(batchResult);
+    then(productPurchaseProcessingService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void processBatch_whenBatchFails_fallsBackToSingleProcessingInOrder() {
+    // given
+    willThrow(new IllegalStateException("concurrent"))
+        .given(purchaseBatchFinalizer)
+        .finalizeBatch(anyList());
+    lenient()
+        .doThrow(new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS))
+        .when(productPurchaseProcessingService)
+        .process(second);
+
+    // when
+    PurchaseBatchResult result = service.processBatch(List.of(first, second));
+
+    // then
+    assertThat(result.isSucceeded(0)).isTrue();
+    assertThat(result.isSucceeded(1)).isFalse();
+    InOrder inOrder = inOrder(productPurchaseProcessingService);
+    inOrder.verify(productPurchaseProcessingService).process(first);
+    inOrder.verify(productPurchaseProcessingService).process(second);
+  }
+
+  @Test
+  void processBatch_whenSingleProcessingFails_skipsLaterCommandsOfSameMember() {
+    // given
+    PurchaseCommand otherMember = new PurchaseCommand(2L, 10L, null, 1, "c", LocalDateTime.now());
+    willThrow(new IllegalStateException("concurrent"))
+        .given(purchaseBatchFinalizer)
+        .finalizeBatch(anyList());
+    willThrow(new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS))
+        .given(productPurchaseProcessingService)
+        .process(first);
+
+    // when
+    PurchaseBatchResult result = service.processBatch(List.of(first, second, otherMember));
+
+    // then
+    assertThat(result.isSucceeded(0)).isFalse();
+    assertThat(result.isSucceeded(1)).isFalse();
+    assertThat(result.isSucceeded(2)).isTrue();
+    then(productPurchaseProcessingService).should(never()).process(second);
+    then(productPurchaseProcessingService).should().process(otherMember);
+  }
+}
@@ -0,0 +1,103 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PurchaseIdempotencyAudit;
+import ktb.leafresh.backend.domain.store.order.infrastructure.scheduler.PurchaseIdempotencyAuditScheduler;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseIdempotencyServiceTest {
+
+  private static final String REDIS_KEY = "purchase:idempotency:1:key";
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private ValueOperations<String, String> valueOps;
+
+  @Mock private PurchaseIdempotencyAuditScheduler auditScheduler;
+
+  @InjectMocks private PurchaseIdempotencyService service;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(service, "ttlSeconds", 600L);
+    lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+  }
+
+  @Test
+  void tryAcquire_withNewKey_setsProcessingWithTtl() {
+    // given
+    given(valueOps.setIfAbsent(REDIS_KEY, "PROCESSING", Duration.ofSeconds(600)))
+        .willReturn(true);
+
+    // when & then
+    assertThat(service.tryAcquire(1L, "key")).isTrue();
+  }
+
+  @Test
+  void tryAcquire_withExistingKey_returnsFalse() {
+    // given
+    given(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+    // when & then
+    assertThat(service.tryAcquire(1L, "key")).isFalse();
+  }
+
+  @Test
+  void markAccepted_storesOutcomeAndQueuesAudit() {
+    // when
+    service.markAccepted(1L, "key");
+
+    // then
+    then(valueOps).should().set(REDIS_KEY, "ACCEPTED", Duration.ofSeconds(600));
+    ArgumentCaptor<PurchaseIdempotencyAudit> captor =
+        ArgumentCaptor.forClass(PurchaseIdempotencyAudit.class);
+    then(auditScheduler).should().enqueue(captor.capture());
+    assertThat(captor.getValue().memberId()).isEqualTo(1L);
+    assertThat(captor.getValue().idempotencyKey()).isEqualTo("key");
+  }
+
+  @Test
+  void replayOrThrow_withAcceptedKey_returnsNormally() {
+    // given
+    given(valueOps.get(REDIS_KEY)).willReturn("ACCEPTED");
+
+    // when & then
+    assertThatCode(() -> service.replayOrThrow(1L, "key")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void replayOrThrow_withProcessingKey_throwsDuplicate() {
+    // given
+    given(valueOps.get(REDIS_KEY)).willReturn("PROCESSING");
+
+    // when & then
+    assertThatThrownBy(() -> service.replayOrThrow(1L, "key"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST.getMessage());
+  }
+
+  @Test
+  void release_deletesKey() {
+    // when
+    service.release(1L, "key");
+
+    // then
+    then(stringRedisTemplate).should().delete(REDIS_KEY);
+  }
+}
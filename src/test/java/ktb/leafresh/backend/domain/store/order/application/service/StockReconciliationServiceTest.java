@@ -0,0 +1,190 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ktb.leafresh.backend.domain.store.order.application.service.model.StockReconciliationReport;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PendingStockReservation;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.global.config.StockReconciliationProperties;
+import ktb.leafresh.backend.support.fixture.ProductFixture;
+import ktb.leafresh.backend.support.fixture.TimedealPolicyFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReconciliationServiceTest {
+
+  private static final String PRODUCT_TARGET = StockReservationTracker.productTarget(1L);
+  private static final String TIMEDEAL_TARGET = StockReservationTracker.timedealTarget(2L);
+
+  @Mock private StockReservationTracker stockReservationTracker;
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private TimedealPolicyRepository timedealPolicyRepository;
+
+  @Mock private TimedealStockShardService timedealStockShardService;
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private ValueOperations<String, String> valueOps;
+
+  private final StockReconciliationProperties properties = new StockReconciliationProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private StockReconciliationService service;
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new StockReconciliationService(
+            stockReservationTracker,
+            productRepository,
+            timedealPolicyRepository,
+            timedealStockShardService,
+            stringRedisTemplate,
+            properties,
+            meterRegistry);
+    service.registerMetrics();
+
+    product = ProductFixture.createActiveProduct("상품", 1000, 10);
+    ReflectionTestUtils.setField(product, "id", 1L);
+  }
+
+  private void givenProductState(String redisStock, List<PendingStockReservation> pending) {
+    given(stockReservationTracker.popDirty(anyInt())).willReturn(List.of(PRODUCT_TARGET));
+    given(stockReservationTracker.findPending(List.of(PRODUCT_TARGET)))
+        .willReturn(Map.of(PRODUCT_TARGET, pending));
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOps);
+    given(valueOps.multiGet(List.of(ProductCacheKeys.productStock(1L))))
+        .willReturn(Arrays.asList(redisStock));
+    given(productRepository.findAllById(List.of(1L))).willReturn(List.of(product));
+  }
+
+  private static PendingStockReservation pending(int quantity, long reservedAtMillis) {
+    return new PendingStockReservation(PRODUCT_TARGET, 7L, "key", quantity, reservedAtMillis);
+  }
+
+  @Test
+  void reconcile_withNoDirtyTargets_returnsEmptyReport() {
+    // given
+    given(stockReservationTracker.popDirty(anyInt())).willReturn(List.of());
+
+    // when
+    StockReconciliationReport report = service.reconcile();
+
+    // then
+    assertThat(report.checked()).isZero();
+    then(productRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void reconcile_whenRedisMatchesDbMinusPending_reportsNoDriftAndRechecksPending() {
+    // given (DB 10 - 선점 2 = Redis 8)
+    givenProductState("8", List.of(pending(2, System.currentTimeMillis())));
+
+    // when
+    StockReconciliationReport report = service.reconcile();
+
+    // then
+    assertThat(report.checked()).isEqualTo(1);
+    assertThat(report.drifts()).isEmpty();
+    assertThat(report.stuckReservations()).isEmpty();
+    then(stockReservationTracker).should().markDirty(Set.of(PRODUCT_TARGET));
+  }
+
+  @Test
+  void reconcile_withDriftSeenTwice_confirmsAndCorrectsWhenEnabled() {
+    // given (DB 10, 선점 없음, Redis 7 → 3개 묶여 있음)
+    properties.setAutoCorrectEnabled(true);
+    givenProductState("7", List.of());
+
+    // when
+    StockReconciliationReport first = service.reconcile();
+    StockReconciliationReport second = service.reconcile();
+
+    // then
+    assertThat(first.drifts()).isEmpty();
+    assertThat(second.drifts())
+        .singleElement()
+        .satisfies(
+            drift -> {
+              assertThat(drift.drift()).isEqualTo(-3L);
+              assertThat(drift.corrected()).isTrue();
+            });
+    then(valueOps).should().increment(ProductCacheKeys.productStock(1L), 3L);
+    assertThat(meterRegistry.counter("store.stock.reconcile.corrected", "type", "product").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void reconcile_withDriftAndAutoCorrectDisabled_onlyReports() {
+    // given
+    givenProductState("12", List.of());
+
+    // when
+    service.reconcile();
+    StockReconciliationReport report = service.reconcile();
+
+    // then
+    assertThat(report.drifts()).singleElement().extracting("drift").isEqualTo(2L);
+    assertThat(report.drifts().get(0).corrected()).isFalse();
+    then(valueOps).should(never()).increment(anyString(), anyLong());
+    assertThat(meterRegistry.get("store.stock.reconcile.drifted.targets").gauge().value())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void reconcile_withOldPendingReservation_returnsItAsStuck() {
+    // given
+    long old = System.currentTimeMillis() - (properties.getStuckThresholdSeconds() + 60) * 1000;
+    givenProductState("9", List.of(pending(1, old)));
+
+    // when
+    StockReconciliationReport report = service.reconcile();
+
+    // then
+    assertThat(report.stuckReservations()).singleElement().extracting("memberId").isEqualTo(7L);
+    assertThat(meterRegistry.get("store.stock.reconcile.stuck").gauge().value()).isEqualTo(1.0);
+  }
+
+  @Test
+  void reconcile_withShardedTimedeal_readsShardTotals() {
+    // given
+    TimedealPolicy policy = TimedealPolicyFixture.createOngoingTimedeal(product);
+    ReflectionTestUtils.setField(policy, "id", 2L);
+    given(stockReservationTracker.popDirty(anyInt())).willReturn(List.of(TIMEDEAL_TARGET));
+    given(stockReservationTracker.findPending(List.of(TIMEDEAL_TARGET)))
+        .willReturn(Map.of(TIMEDEAL_TARGET, List.of()));
+    given(timedealStockShardService.isEnabled()).willReturn(true);
+    given(timedealStockShardService.getRemainingStocks(List.of(2L))).willReturn(Map.of(2L, 10L));
+    given(timedealPolicyRepository.findAllById(List.of(2L))).willReturn(List.of(policy));
+
+    // when
+    StockReconciliationReport report = service.reconcile();
+
+    // then
+    assertThat(report.drifts()).isEmpty();
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+}
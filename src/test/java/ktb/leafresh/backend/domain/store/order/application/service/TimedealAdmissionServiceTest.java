@@ -0,0 +1,255 @@
+package ktb.leafresh.backend.domain.store.order.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.OrderCacheKeys;
+import ktb.leafresh.backend.domain.store.order.presentation.dto.response.TimedealQueueResponseDto;
+import ktb.leafresh.backend.domain.store.order.presentation.dto.response.TimedealQueueResponseDto.QueueStatus;
+import ktb.leafresh.backend.global.config.TimedealWaitingRoomProperties;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import ktb.leafresh.backend.global.util.redis.WaitingRoomRedisLuaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimedealAdmissionServiceTest {
+
+  private static final Long MEMBER_ID = 1L;
+  private static final Long DEAL_ID = 10L;
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private WaitingRoomRedisLuaService waitingRoomRedisLuaService;
+
+  @Mock private ValueOperations<String, String> valueOps;
+
+  @Mock private SetOperations<String, String> setOps;
+
+  @Mock private ZSetOperations<String, String> zSetOps;
+
+  private final TimedealWaitingRoomProperties properties = new TimedealWaitingRoomProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private TimedealAdmissionService service;
+
+  @BeforeEach
+  void setUp() {
+    properties.setEnabled(true);
+    service =
+        new TimedealAdmissionService(
+            stringRedisTemplate, waitingRoomRedisLuaService, properties, meterRegistry);
+    service.registerMetrics();
+  }
+
+  @Test
+  void enter_새로입장하면_순번과_예상대기시간을_반환하고_입장대상딜에_등록한다() {
+    // given
+    given(
+            waitingRoomRedisLuaService.enter(
+                OrderCacheKeys.timedealWaiting(DEAL_ID),
+                OrderCacheKeys.timedealWaitingSequence(DEAL_ID),
+                OrderCacheKeys.timedealAdmitted(DEAL_ID),
+                MEMBER_ID,
+                properties.getQueueTtlSeconds()))
+        .willReturn(List.of(WaitingRoomRedisLuaService.WAITING, 57L, 45L));
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOps);
+    given(valueOps.get(OrderCacheKeys.TIMEDEAL_ADMIT_RATE)).willReturn("20.0");
+
+    // when
+    TimedealQueueResponseDto response = service.enter(MEMBER_ID, DEAL_ID);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(QueueStatus.WAITING);
+    assertThat(response.getTicket()).isEqualTo(57L);
+    assertThat(response.getPosition()).isEqualTo(45L);
+    assertThat(response.getEstimatedWaitSeconds()).isEqualTo(3L);
+    then(setOps).should().add(OrderCacheKeys.TIMEDEAL_WAITING_DEALS, "10");
+  }
+
+  @Test
+  void enter_이미입장한회원이면_ADMITTED를_반환한다() {
+    // given
+    given(waitingRoomRedisLuaService.enter(any(), any(), any(), eq(MEMBER_ID), anyLong()))
+        .willReturn(List.of(WaitingRoomRedisLuaService.ADMITTED, 0L, 0L));
+
+    // when
+    TimedealQueueResponseDto response = service.enter(MEMBER_ID, DEAL_ID);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(QueueStatus.ADMITTED);
+    then(stringRedisTemplate).should(never()).opsForSet();
+  }
+
+  @Test
+  void getStatus_대기중이면_현재순서를_반환한다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(null, 57.0, 9L, "5.0"));
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+
+    // when
+    TimedealQueueResponseDto response = service.getStatus(MEMBER_ID, DEAL_ID);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(QueueStatus.WAITING);
+    assertThat(response.getTicket()).isEqualTo(57L);
+    assertThat(response.getPosition()).isEqualTo(10L);
+    assertThat(response.getEstimatedWaitSeconds()).isEqualTo(2L);
+  }
+
+  @Test
+  void getStatus_입장기간이_남아있으면_ADMITTED를_반환한다() {
+    // given
+    double admittedUntil = System.currentTimeMillis() + 60_000;
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(admittedUntil, null, null, null));
+
+    // when
+    TimedealQueueResponseDto response = service.getStatus(MEMBER_ID, DEAL_ID);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(QueueStatus.ADMITTED);
+  }
+
+  @Test
+  void getStatus_대기열에없으면_NOT_IN_QUEUE를_반환한다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(null, null, null, null));
+
+    // when
+    TimedealQueueResponseDto response = service.getStatus(MEMBER_ID, DEAL_ID);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(QueueStatus.NOT_IN_QUEUE);
+  }
+
+  @Test
+  void checkAdmitted_입장하지않은회원이면_예외() {
+    // given
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOps);
+    given(zSetOps.score(OrderCacheKeys.timedealAdmitted(DEAL_ID), "1")).willReturn(null);
+
+    // when & then
+    assertThatThrownBy(() -> service.checkAdmitted(MEMBER_ID, DEAL_ID))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(PurchaseErrorCode.WAITING_ROOM_NOT_ADMITTED.getMessage());
+    assertThat(meterRegistry.counter("store.timedeal.waiting-room.rejected").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void checkAdmitted_입장기간이_지났으면_예외() {
+    // given
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOps);
+    given(zSetOps.score(OrderCacheKeys.timedealAdmitted(DEAL_ID), "1"))
+        .willReturn((double) System.currentTimeMillis() - 1_000);
+
+    // when & then
+    assertThatThrownBy(() -> service.checkAdmitted(MEMBER_ID, DEAL_ID))
+        .isInstanceOf(CustomException.class);
+  }
+
+  @Test
+  void checkAdmitted_입장한회원이면_통과() {
+    // given
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOps);
+    given(zSetOps.score(OrderCacheKeys.timedealAdmitted(DEAL_ID), "1"))
+        .willReturn((double) System.currentTimeMillis() + 60_000);
+
+    // when & then
+    assertThatCode(() -> service.checkAdmitted(MEMBER_ID, DEAL_ID)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void admit_측정처리량에_여유배율을_곱한만큼_딜별로_나누어_입장시킨다() {
+    // given: 최근 10초 동안 1000건 확정 → 초당 100건 × 1.2 = 120, 딜 2개 → 딜당 60
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOps);
+    given(setOps.members(OrderCacheKeys.TIMEDEAL_WAITING_DEALS)).willReturn(Set.of("10", "20"));
+    given(valueOps.multiGet(anyList())).willReturn(Collections.nCopies(10, "100"));
+    given(waitingRoomRedisLuaService.admit(any(), any(), anyInt(), anyLong(), anyInt(), anyLong()))
+        .willReturn(List.of(60L, 100L, 60L));
+
+    // when
+    int admitted = service.admit();
+
+    // then
+    assertThat(admitted).isEqualTo(120);
+    then(waitingRoomRedisLuaService)
+        .should()
+        .admit(
+            eq(OrderCacheKeys.timedealWaiting(10L)),
+            eq(OrderCacheKeys.timedealAdmitted(10L)),
+            eq(60),
+            anyLong(),
+            eq(properties.getMaxActivePerDeal()),
+            eq(properties.getQueueTtlSeconds()));
+    then(setOps).should(never()).remove(any(), any());
+    assertThat(meterRegistry.counter("store.timedeal.waiting-room.admitted").count())
+        .isEqualTo(120.0);
+  }
+
+  @Test
+  void admit_측정값이없으면_최소속도로_입장시키고_비어있는딜은_대상에서_제외한다() {
+    // given
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOps);
+    given(setOps.members(OrderCacheKeys.TIMEDEAL_WAITING_DEALS)).willReturn(Set.of("10"));
+    given(valueOps.multiGet(anyList())).willReturn(Collections.nCopies(10, null));
+    given(waitingRoomRedisLuaService.admit(any(), any(), anyInt(), anyLong(), anyInt(), anyLong()))
+        .willReturn(List.of(0L, 0L, 0L));
+
+    // when
+    service.admit();
+
+    // then
+    then(waitingRoomRedisLuaService)
+        .should()
+        .admit(any(), any(), eq(properties.getMinAdmitsPerSecond()), anyLong(), anyInt(), anyLong());
+    then(setOps).should().remove(OrderCacheKeys.TIMEDEAL_WAITING_DEALS, "10");
+  }
+
+  @Test
+  void admit_대기중인딜이없으면_아무것도하지않는다() {
+    // given
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(setOps.members(OrderCacheKeys.TIMEDEAL_WAITING_DEALS)).willReturn(Set.of());
+
+    // when
+    int admitted = service.admit();
+
+    // then
+    assertThat(admitted).isZero();
+    then(waitingRoomRedisLuaService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void recordFinalized_비활성화면_기록하지않는다() {
+    // given
+    properties.setEnabled(false);
+
+    // when
+    service.recordFinalized(5);
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -4,10 +4,11 @@ import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
 import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
+import ktb.leafresh.backend.domain.store.order.infrastructure.cache.StockReservationTracker;
 import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
-import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyRepository;
 import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
 import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
 import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
 import ktb.leafresh.backend.global.exception.*;
 import ktb.leafresh.backend.global.util.redis.StockRedisLuaService;
@@ -21,7 +22,6 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -36,16 +36,20 @@ class TimedealOrderCreateServiceTest {
 
   @Mock private TimedealPolicyRepository timedealPolicyRepository;
 
-  @Mock private PurchaseIdempotencyKeyRepository idempotencyRepository;
+  @Mock private PurchaseIdempotencyService purchaseIdempotencyService;
 
   @Mock private StockRedisLuaService stockRedisLuaService;
 
+  @Mock private TimedealStockShardService timedealStockShardService;
+
   @Mock private PurchaseMessagePublisher purchaseMessagePublisher;
 
   @Mock private ProductCacheLockFacade productCacheLockFacade;
 
   @Mock private PointService pointService;
 
+  @Mock private StockReservationTracker stockReservationTracker;
+
   @InjectMocks private TimedealOrderCreateService service;
 
   private static final LocalDateTime FIXED_NOW = LocalDateTime.of(2025, 7, 1, 12, 0);
@@ -82,6 +86,7 @@ class TimedealOrderCreateServiceTest {
     String idempotencyKey = "unique-key";
 
     given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
+    given(purchaseIdempotencyService.tryAcquire(memberId, idempotencyKey)).willReturn(true);
     given(timedealPolicyRepository.findById(dealId)).willReturn(Optional.of(policy));
     given(pointService.hasEnoughPoints(eq(memberId), anyInt())).willReturn(true);
     given(stockRedisLuaService.decreaseStock(anyString(), eq(quantity))).willReturn(1L);
@@ -91,8 +96,8 @@ class TimedealOrderCreateServiceTest {
     assertThatCode(() -> service.create(memberId, dealId, quantity, idempotencyKey))
         .doesNotThrowAnyException();
 
-    then(idempotencyRepository).should().save(any());
     then(purchaseMessagePublisher).should().publish(any(PurchaseCommand.class));
+    then(purchaseIdempotencyService).should().markAccepted(memberId, idempotencyKey);
   }
 
   @Test
@@ -103,7 +108,10 @@ class TimedealOrderCreateServiceTest {
     String key = "duplicate-key";
 
     given(memberRepository.findById(memberId)).willReturn(Optional.of(member));
-    willThrow(DataIntegrityViolationException.class).given(idempotencyRepository).save(any());
+    given(purchaseIdempotencyService.tryAcquire(memberId, key)).willReturn(false);
+    willThrow(new CustomException(PurchaseErrorCode.DUPLICATE_PURCHASE_REQUEST))
+        .given(purchaseIdempotencyService)
+        .replayOrThrow(memberId, key);
 
     // when & then
     assertThatThrownBy(() -> service.create(memberId, dealId, 1, key))
@@ -117,7 +125,7 @@ class TimedealOrderCreateServiceTest {
     TimedealPolicy expiredPolicy = TimedealPolicyFixture.createExpiredTimedeal(product);
 
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
-    given(idempotencyRepository.save(any())).willReturn(null);
+    given(purchaseIdempotencyService.tryAcquire(1L, "key")).willReturn(true);
     given(timedealPolicyRepository.findById(anyLong())).willReturn(Optional.of(expiredPolicy));
 
     // when & then
@@ -130,7 +138,7 @@ class TimedealOrderCreateServiceTest {
   void createTimedealOrder_withOutOfStock_throwsException() {
     // given
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
-    given(idempotencyRepository.save(any())).willReturn(null);
+    given(purchaseIdempotencyService.tryAcquire(1L, "key")).willReturn(true);
     given(timedealPolicyRepository.findById(anyLong())).willReturn(Optional.of(policy));
     given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
     given(stockRedisLuaService.decreaseStock(anyString(), anyInt())).willReturn(-2L);
@@ -139,6 +147,20 @@ class TimedealOrderCreateServiceTest {
     assertThatThrownBy(() -> service.create(1L, 2L, 1, "key"))
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(ProductErrorCode.OUT_OF_STOCK.getMessage());
+    then(purchaseIdempotencyService).should().release(1L, "key");
+  }
+
+  @Test
+  void createTimedealOrder_withAcceptedIdempotencyKey_replaysWithoutReservingStock() {
+    // given
+    given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+    given(purchaseIdempotencyService.tryAcquire(1L, "done-key")).willReturn(false);
+
+    // when & then
+    assertThatCode(() -> service.create(1L, 2L, 1, "done-key")).doesNotThrowAnyException();
+    then(purchaseIdempotencyService).should().replayOrThrow(1L, "done-key");
+    then(stockRedisLuaService).shouldHaveNoInteractions();
+    then(purchaseMessagePublisher).shouldHaveNoInteractions();
   }
 
   @Test
@@ -156,7 +178,7 @@ class TimedealOrderCreateServiceTest {
   void createTimedealOrder_withInvalidPolicyId_throwsException() {
     // given
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
-    given(idempotencyRepository.save(any())).willReturn(null);
+    given(purchaseIdempotencyService.tryAcquire(1L, "key")).willReturn(true);
     given(timedealPolicyRepository.findById(anyLong())).willReturn(Optional.empty());
 
     // when & then
@@ -169,7 +191,7 @@ class TimedealOrderCreateServiceTest {
   void createTimedealOrder_withMissingStockInRedis_throwsException() {
     // given
     given(memberRepository.findById(anyLong())).willReturn(Optional.of(member));
-    given(idempotencyRepository.save(any())).willReturn(null);
+    given(purchaseIdempotencyService.tryAcquire(1L, "key")).willReturn(true);
     given(timedealPolicyRepository.findById(anyLong())).willReturn(Optional.of(policy));
     given(pointService.hasEnoughPoints(eq(1L), anyInt())).willReturn(true);
     given(stockRedisLuaService.decreaseStock(anyString(), anyInt())).willReturn(-1L);
@@ -0,0 +1,84 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.scheduler;
+
+import ktb.leafresh.backend.domain.store.order.infrastructure.dto.PurchaseIdempotencyAudit;
+import ktb.leafresh.backend.domain.store.order.infrastructure.repository.PurchaseIdempotencyKeyJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseIdempotencyAuditSchedulerTest {
+
+  @Mock private PurchaseIdempotencyKeyJdbcRepository jdbcRepository;
+
+  @InjectMocks private PurchaseIdempotencyAuditScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(scheduler, "retentionDays", 30);
+  }
+
+  @Test
+  void flush_withPendingAudits_insertsInOneStatement() {
+    // given
+    PurchaseIdempotencyAudit first = new PurchaseIdempotencyAudit(1L, "a", LocalDateTime.now());
+    PurchaseIdempotencyAudit second = new PurchaseIdempotencyAudit(2L, "b", LocalDateTime.now());
+    scheduler.enqueue(first);
+    scheduler.enqueue(second);
+
+    // when
+    scheduler.flush();
+
+    // then
+    then(jdbcRepository).should().insertIgnore(List.of(first, second));
+  }
+
+  @Test
+  void flush_withNoPendingAudits_doesNothing() {
+    // when
+    scheduler.flush();
+
+    // then
+    then(jdbcRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void purgeExpired_deletesDayByDayUntilCutoff() {
+    // given
+    LocalDateTime cutoff = LocalDate.now().minusDays(30).atStartOfDay();
+    LocalDateTime oldest = cutoff.minusDays(2).plusHours(3);
+    given(jdbcRepository.findOldestCreatedAt()).willReturn(Optional.of(oldest));
+    given(jdbcRepository.deleteCreatedBetween(any(), any(), anyInt())).willReturn(10);
+
+    // when
+    scheduler.purgeExpired();
+
+    // then
+    then(jdbcRepository).should().deleteCreatedBetween(cutoff.minusDays(2), cutoff.minusDays(1), 1_000);
+    then(jdbcRepository).should().deleteCreatedBetween(cutoff.minusDays(1), cutoff, 1_000);
+    then(jdbcRepository).should(times(2)).deleteCreatedBetween(any(), any(), anyInt());
+  }
+
+  @Test
+  void purgeExpired_withNothingOlderThanRetention_skipsDelete() {
+    // given
+    given(jdbcRepository.findOldestCreatedAt()).willReturn(Optional.of(LocalDateTime.now()));
+
+    // when
+    scheduler.purgeExpired();
+
+    // then
+    then(jdbcRepository).should(never()).deleteCreatedBetween(any(), any(), anyInt());
+  }
+}
@@ -0,0 +1,174 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.subscriber;
+
+import com.amazonaws.services.sqs.AmazonSQSAsync;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.service.ProductPurchaseProcessingService;
+import ktb.leafresh.backend.domain.store.order.application.service.PurchaseBatchProcessingService;
+import ktb.leafresh.backend.domain.store.order.application.service.model.PurchaseBatchResult;
+import ktb.leafresh.backend.global.config.PurchaseConsumerProperties;
+import ktb.leafresh.backend.global.exception.CustomException;
+import ktb.leafresh.backend.global.exception.PurchaseErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AwsPurchaseMessageSubscriberTest {
+
+  @Mock private AmazonSQSAsync sqs;
+
+  @Mock private ProductPurchaseProcessingService processingService;
+
+  @Mock private PurchaseBatchProcessingService batchProcessingService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private PurchaseConsumerProperties properties;
+  private PurchaseWorkerPool workerPool;
+  private AwsPurchaseMessageSubscriber subscriber;
+  private Semaphore permits;
+
+  @BeforeEach
+  void setUp() {
+    properties = new PurchaseConsumerProperties();
+    properties.setWorkerThreads(2);
+    properties.setMaxInFlight(10);
+    workerPool = new PurchaseWorkerPool(properties);
+    subscriber =
+        new AwsPurchaseMessageSubscriber(
+            sqs, objectMapper, processingService, batchProcessingService, workerPool, properties);
+    permits = new Semaphore(0);
+    ReflectionTestUtils.setField(subscriber, "inFlightPermits", permits);
+  }
+
+  private PurchaseCommand command(Long memberId, String idempotencyKey) {
+    return new PurchaseCommand(memberId, 10L, null, 1, idempotencyKey, LocalDateTime.now());
+  }
+
+  private Message message(String id, PurchaseCommand command) throws Exception {
+    return new Message()
+        .withMessageId(id)
+        .withReceiptHandle("receipt-" + id)
+        .withBody(objectMapper.writeValueAsString(command));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> ackedMessageIds() {
+    Queue<DeleteMessageBatchRequestEntry> acks =
+        (Queue<DeleteMessageBatchRequestEntry>)
+            ReflectionTestUtils.getField(subscriber, "pendingAcks");
+    return acks.stream().map(DeleteMessageBatchRequestEntry::getId).toList();
+  }
+
+  @Test
+  void receiveBatchSize_동시처리_한도보다_크게_수신하지_않는다() {
+    // given
+    properties.setReceiveBatchSize(10);
+    properties.setMaxInFlight(4);
+
+    // when & then
+    assertThat(AwsPurchaseMessageSubscriber.receiveBatchSize(properties)).isEqualTo(4);
+  }
+
+  @Test
+  void startPolling_동시처리_한도가_1보다_작으면_기동하지_않는다() {
+    // given
+    properties.setMaxInFlight(0);
+
+    // when & then
+    assertThatThrownBy(() -> subscriber.startPolling())
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void handle_성공한_메시지만_삭제_대상에_넣고_허가를_돌려준다() throws Exception {
+    // given
+    PurchaseCommand first = command(1L, "a");
+    PurchaseCommand second = command(2L, "b");
+
+    // when
+    subscriber.handle(List.of(message("m1", first), message("m2", second)));
+    workerPool.shutdown();
+
+    // then
+    then(processingService).should().process(first);
+    then(processingService).should().process(second);
+    assertThat(ackedMessageIds()).containsExactlyInAnyOrder("m1", "m2");
+    assertThat(permits.availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  void handle_같은_회원의_앞_메시지가_실패하면_뒤_메시지는_처리하지_않는다() throws Exception {
+    // given
+    PurchaseCommand failed = command(1L, "a");
+    PurchaseCommand sameMember = command(1L, "b");
+    PurchaseCommand otherMember = command(2L, "c");
+    willThrow(new CustomException(PurchaseErrorCode.INSUFFICIENT_POINTS))
+        .given(processingService)
+        .process(failed);
+
+    // when
+    subscriber.handle(
+        List.of(message("m1", failed), message("m2", sameMember), message("m3", otherMember)));
+    workerPool.shutdown();
+
+    // then
+    then(processingService).should(never()).process(sameMember);
+    then(processingService).should().process(otherMember);
+    assertThat(ackedMessageIds()).containsExactly("m3");
+    assertThat(permits.availablePermits()).isEqualTo(3);
+  }
+
+  @Test
+  void handle_파싱할_수_없는_메시지는_삭제하지_않고_허가만_돌려준다() {
+    // given
+    Message broken = new Message().withMessageId("m1").withReceiptHandle("r1").withBody("{");
+
+    // when
+    subscriber.handle(List.of(broken));
+    workerPool.shutdown();
+
+    // then
+    then(processingService).shouldHaveNoInteractions();
+    assertThat(ackedMessageIds()).isEmpty();
+    assertThat(permits.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  void handle_배치_모드에서는_레인별로_나눠_확정한다() throws Exception {
+    // given
+    properties.setBatchFinalizationEnabled(true);
+    PurchaseCommand lane1First = command(1L, "a");
+    PurchaseCommand lane0 = command(2L, "b");
+    PurchaseCommand lane1Second = command(3L, "c");
+    given(batchProcessingService.processBatch(List.of(lane1First, lane1Second)))
+        .willReturn(new PurchaseBatchResult(2, Set.of(1)));
+    given(batchProcessingService.processBatch(List.of(lane0)))
+        .willReturn(new PurchaseBatchResult(1, Set.of()));
+
+    // when
+    subscriber.handle(
+        List.of(message("m1", lane1First), message("m2", lane0), message("m3", lane1Second)));
+    workerPool.shutdown();
+
+    // then
+    then(batchProcessingService).should(times(2)).processBatch(anyList());
+    assertThat(ackedMessageIds()).containsExactlyInAnyOrder("m1", "m2");
+    assertThat(permits.availablePermits()).isEqualTo(3);
+  }
+}
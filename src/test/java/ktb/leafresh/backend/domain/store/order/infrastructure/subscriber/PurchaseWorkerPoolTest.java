@@ -0,0 +1,99 @@
+package ktb.leafresh.backend.domain.store.order.infrastructure.subscriber;
+
+import ktb.leafresh.backend.global.config.PurchaseConsumerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PurchaseWorkerPoolTest {
+
+  private PurchaseWorkerPool workerPool;
+
+  @BeforeEach
+  void setUp() {
+    PurchaseConsumerProperties properties = new PurchaseConsumerProperties();
+    properties.setWorkerThreads(4);
+    workerPool = new PurchaseWorkerPool(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    workerPool.shutdown();
+  }
+
+  @Test
+  void submit_sameMember_preservesOrder() {
+    // given
+    List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      int seq = i;
+      futures.add(workerPool.submit(7L, () -> processed.add(seq)));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+    // then
+    assertThat(processed).isSorted().hasSize(100);
+  }
+
+  @Test
+  void submit_differentMembers_runsInParallel() throws InterruptedException {
+    // given
+    CountDownLatch allStarted = new CountDownLatch(4);
+    CountDownLatch release = new CountDownLatch(1);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    // when
+    for (long memberId = 0; memberId < 4; memberId++) {
+      workerPool.submit(
+          memberId,
+          () -> {
+            threads.add(Thread.currentThread().getName());
+            allStarted.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    // then
+    assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(threads).hasSize(4);
+    release.countDown();
+  }
+
+  @Test
+  void submit_whenTaskFails_completesExceptionally() {
+    // when
+    CompletableFuture<Void> future =
+        workerPool.submit(
+            1L,
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+
+    // then
+    assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void laneIndex_nullOrNegativeMemberId_isWithinRange() {
+    assertThat(workerPool.laneIndex(null)).isZero();
+    assertThat(workerPool.laneIndex(-5L)).isBetween(0, 3);
+  }
+}
@@ -0,0 +1,302 @@
+package ktb.leafresh.backend.domain.store.order.load;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.storage.Storage;
+import ktb.leafresh.backend.domain.feedback.infrastructure.subscriber.GcpAiFeedbackResultDlqSubscriber;
+import ktb.leafresh.backend.domain.feedback.infrastructure.subscriber.GcpAiFeedbackResultSubscriber;
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.TreeLevel;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.TreeLevelRepository;
+import ktb.leafresh.backend.domain.store.order.application.facade.OrderCreateFacade;
+import ktb.leafresh.backend.domain.store.order.application.service.ProductPurchaseProcessingService;
+import ktb.leafresh.backend.domain.store.order.domain.entity.enums.PurchaseType;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.GcpPurchaseDlqMessageSubscriber;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.GcpPurchaseMessageSubscriber;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.PurchaseWorkerPool;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.ProductRepository;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.domain.verification.infrastructure.subscriber.GcpVerificationResultDlqMessageSubscriber;
+import ktb.leafresh.backend.domain.verification.infrastructure.subscriber.GcpVerificationResultSubscriber;
+import ktb.leafresh.backend.global.security.CustomUserDetails;
+import ktb.leafresh.backend.support.fixture.MemberFixture;
+import ktb.leafresh.backend.support.fixture.ProductFixture;
+import ktb.leafresh.backend.support.fixture.TimedealPolicyFixture;
+import ktb.leafresh.backend.support.fixture.TreeLevelFixture;
+import ktb.leafresh.backend.support.load.InMemoryPurchaseMessagePublisher;
+import ktb.leafresh.backend.support.load.LoadDriver;
+import ktb.leafresh.backend.support.load.LoadTestReport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 주문 경로 부하 테스트.
+ *
+ * <p>MySQL/Redis 를 컨테이너로 띄우고 주문 큐는 {@link InMemoryPurchaseMessagePublisher} 로 대체해, 구매자 N명이 같은 상품/타임딜에
+ * 동시에 주문하는 상황을 재현한다. 회차마다 처리량, p50/p99 지연, 응답 코드별 건수(429 = 분산 락 획득 실패)를 로그로 남기고 초과 판매 여부를 검증한다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew loadTest -Dload.buyers=5000 -Dload.concurrency=300}
+ * 처럼 실행한다.
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = "spring.profiles.active=loadtest")
+@AutoConfigureMockMvc
+@Import(TimedealOrderLoadTest.InMemoryQueueConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TimedealOrderLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(TimedealOrderLoadTest.class);
+
+  private static final int BUYERS = Integer.getInteger("load.buyers", 2_000);
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+  private static final int STOCK = Integer.getInteger("load.stock", 500);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(3);
+
+  @Container
+  static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+  // 블룸 필터 클라이언트가 RedisBloom 모듈을 요구하므로 redis-stack 이미지를 사용
+  @Container
+  static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis/redis-stack-server:7.2.0-v10"))
+          .withExposedPorts(6379);
+
+  @DynamicPropertySource
+  static void containerProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+    registry.add("spring.data.redis.host", REDIS::getHost);
+    registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    registry.add(
+        "redis.redisson.address",
+        () -> "redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+    registry.add("redis.bloom.host", REDIS::getHost);
+    registry.add("redis.bloom.port", () -> REDIS.getMappedPort(6379));
+  }
+
+  @TestConfiguration
+  static class InMemoryQueueConfig {
+
+    @Bean
+    @Primary
+    InMemoryPurchaseMessagePublisher inMemoryPurchaseMessagePublisher(
+        PurchaseWorkerPool workerPool, ProductPurchaseProcessingService processingService) {
+      return new InMemoryPurchaseMessagePublisher(workerPool, processingService);
+    }
+  }
+
+  // 외부 연동 (GCS, Pub/Sub)
+  @MockitoBean private Storage storage;
+
+  @MockitoBean(name = "purchasePubSubPublisher")
+  private Publisher purchasePubSubPublisher;
+
+  @MockitoBean(name = "imageVerificationPubSubPublisher")
+  private Publisher imageVerificationPubSubPublisher;
+
+  @MockitoBean(name = "feedbackPubSubPublisher")
+  private Publisher feedbackPubSubPublisher;
+
+  @MockitoBean private GcpPurchaseMessageSubscriber gcpPurchaseMessageSubscriber;
+
+  @MockitoBean private GcpPurchaseDlqMessageSubscriber gcpPurchaseDlqMessageSubscriber;
+
+  @MockitoBean private GcpVerificationResultSubscriber gcpVerificationResultSubscriber;
+
+  @MockitoBean
+  private GcpVerificationResultDlqMessageSubscriber gcpVerificationResultDlqMessageSubscriber;
+
+  @MockitoBean private GcpAiFeedbackResultSubscriber gcpAiFeedbackResultSubscriber;
+
+  @MockitoBean private GcpAiFeedbackResultDlqSubscriber gcpAiFeedbackResultDlqSubscriber;
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private OrderCreateFacade orderCreateFacade;
+  @Autowired private InMemoryPurchaseMessagePublisher publisher;
+  @Autowired private TreeLevelRepository treeLevelRepository;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private ProductRepository productRepository;
+  @Autowired private TimedealPolicyRepository timedealPolicyRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  private List<Long> memberIds;
+
+  @BeforeAll
+  void createBuyers() {
+    TreeLevel treeLevel = treeLevelRepository.save(TreeLevelFixture.defaultLevel());
+    List<Member> members = new ArrayList<>(BUYERS);
+    for (int i = 0; i < BUYERS; i++) {
+      Member member = MemberFixture.of("load" + i + "@leafresh.com", "load" + i);
+      member.updateTreeLevel(treeLevel);
+      member.updateCurrentLeafPoints(1_000_000);
+      members.add(member);
+    }
+    memberIds = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+  }
+
+  @ParameterizedTest(name = "script={0}")
+  @ValueSource(booleans = {false, true})
+  void 타임딜_오픈_동시주문(boolean reservationScript) throws Exception {
+    // given
+    useReservationScript(reservationScript);
+    Product product =
+        productRepository.save(ProductFixture.createActiveProduct("부하 타임딜 상품", 1000, STOCK));
+    LocalDateTime now = LocalDateTime.now();
+    TimedealPolicy deal =
+        timedealPolicyRepository.save(
+            TimedealPolicyFixture.createTimedeal(
+                product, 500, 50, STOCK, now.minusMinutes(1), now.plusHours(1)));
+
+    // when
+    LoadTestReport report =
+        LoadDriver.run(
+            "timedeal/" + path(reservationScript),
+            BUYERS,
+            CONCURRENCY,
+            i -> order("/api/orders/timedeals/" + deal.getId(), memberIds.get(i)));
+    publisher.awaitDrained(DRAIN_TIMEOUT);
+
+    // then
+    int sold = soldQuantity(product.getId(), PurchaseType.TIMEDEAL);
+    int dbStock = timedealPolicyRepository.findById(deal.getId()).orElseThrow().getStock();
+    String redisStock =
+        stringRedisTemplate.opsForValue().get(ProductCacheKeys.timedealStock(deal.getId()));
+    printResult(report, sold, dbStock, redisStock);
+
+    assertNoOversell(report, sold, dbStock);
+  }
+
+  @ParameterizedTest(name = "script={0}")
+  @ValueSource(booleans = {false, true})
+  void 일반상품_동시주문(boolean reservationScript) throws Exception {
+    // given
+    useReservationScript(reservationScript);
+    Product product =
+        productRepository.save(ProductFixture.createActiveProduct("부하 일반 상품", 1000, STOCK));
+
+    // when
+    LoadTestReport report =
+        LoadDriver.run(
+            "product/" + path(reservationScript),
+            BUYERS,
+            CONCURRENCY,
+            i -> order("/api/orders/products/" + product.getId(), memberIds.get(i)));
+    publisher.awaitDrained(DRAIN_TIMEOUT);
+
+    // then
+    int sold = soldQuantity(product.getId(), PurchaseType.NORMAL);
+    int dbStock = productRepository.findById(product.getId()).orElseThrow().getStock();
+    String redisStock =
+        stringRedisTemplate.opsForValue().get(ProductCacheKeys.productStock(product.getId()));
+    printResult(report, sold, dbStock, redisStock);
+
+    assertNoOversell(report, sold, dbStock);
+  }
+
+  private int order(String url, Long memberId) {
+    CustomUserDetails principal =
+        new CustomUserDetails(memberId, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    try {
+      return mockMvc
+          .perform(
+              post(url)
+                  .with(
+                      authentication(
+                          new UsernamePasswordAuthenticationToken(
+                              principal, null, principal.getAuthorities())))
+                  .header("Idempotency-Key", UUID.randomUUID().toString())
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content("{\"quantity\":1}"))
+          .andReturn()
+          .getResponse()
+          .getStatus();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void useReservationScript(boolean enabled) {
+    ReflectionTestUtils.setField(orderCreateFacade, "reservationScriptEnabled", enabled);
+    publisher.reset();
+  }
+
+  private int soldQuantity(Long productId, PurchaseType type) {
+    Integer sold =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(quantity), 0) FROM product_purchases"
+                + " WHERE product_id = ? AND type = ?",
+            Integer.class,
+            productId,
+            type.name());
+    return sold != null ? sold : 0;
+  }
+
+  private void printResult(LoadTestReport report, int sold, int dbStock, String redisStock) {
+    log.info(report.summary());
+    log.info(
+        "  accepted={}, lockFailures(429)={}, published={}, consumerFailures={},"
+            + " sold={}, dbStock={}, redisStock={}",
+        report.count(204),
+        report.count(429),
+        publisher.publishedCount(),
+        publisher.failedCount(),
+        sold,
+        dbStock,
+        redisStock);
+  }
+
+  private void assertNoOversell(LoadTestReport report, int sold, int dbStock) {
+    assertThat(report.total()).isEqualTo(BUYERS);
+    assertThat(report.count(500)).isZero();
+    assertThat(sold).isLessThanOrEqualTo(STOCK);
+    assertThat(sold + dbStock).isEqualTo(STOCK);
+    assertThat(sold).isLessThanOrEqualTo(report.count(204));
+  }
+
+  private static String path(boolean reservationScript) {
+    return reservationScript ? "script" : "lock";
+  }
+}
@@ -0,0 +1,149 @@
+package ktb.leafresh.backend.domain.store.product.application.service;
+
+import ktb.leafresh.backend.domain.store.order.application.facade.ProductCacheLockFacade;
+import ktb.leafresh.backend.domain.store.product.domain.entity.Product;
+import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
+import ktb.leafresh.backend.domain.store.product.domain.entity.enums.TimedealPhase;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheService;
+import ktb.leafresh.backend.domain.store.product.infrastructure.repository.TimedealPolicyRepository;
+import ktb.leafresh.backend.support.fixture.ProductFixture;
+import ktb.leafresh.backend.support.fixture.TimedealPolicyFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimedealLifecycleServiceTest {
+
+  @Mock private TimedealPolicyRepository timedealPolicyRepository;
+
+  @Mock private ProductCacheService productCacheService;
+
+  @Mock private ProductCacheLockFacade productCacheLockFacade;
+
+  @Mock private TimedealProductReadService timedealProductReadService;
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock private ValueOperations<String, Object> valueOps;
+
+  @InjectMocks private TimedealLifecycleService service;
+
+  private TimedealPolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    Product product = ProductFixture.createDefaultProduct();
+    ReflectionTestUtils.setField(product, "id", 1L);
+    policy =
+        TimedealPolicyFixture.createTimedeal(
+            product,
+            2500,
+            30,
+            10,
+            LocalDateTime.now().plusMinutes(1),
+            LocalDateTime.now().plusHours(1));
+    ReflectionTestUtils.setField(policy, "id", 2L);
+  }
+
+  private void givenFirstRunner(boolean acquired) {
+    given(timedealPolicyRepository.findById(2L)).willReturn(Optional.of(policy));
+    given(redisTemplate.opsForValue()).willReturn(valueOps);
+    given(valueOps.setIfAbsent(anyString(), any(), any())).willReturn(acquired);
+  }
+
+  @Test
+  void transition_warmUp_preloadsStockAndCachesThenRebuildsList() {
+    // given
+    givenFirstRunner(true);
+
+    // when
+    boolean executed = service.transition(2L, TimedealPhase.WARM_UP, policy.getStartTime());
+
+    // then
+    assertThat(executed).isTrue();
+    then(productCacheService)
+        .should()
+        .cacheTimedealStockIfAbsent(2L, policy.getStock(), policy.getEndTime());
+    then(productCacheLockFacade).should().updateSingleTimedealCache(policy);
+    then(timedealProductReadService).should().findTimedealProducts();
+    then(redisTemplate)
+        .should()
+        .convertAndSend(ProductCacheKeys.TIMEDEAL_TRANSITION_CHANNEL, "2:WARM_UP");
+  }
+
+  @Test
+  void transition_close_evictsCache() {
+    // given
+    givenFirstRunner(true);
+
+    // when
+    boolean executed = service.transition(2L, TimedealPhase.CLOSE, policy.getEndTime());
+
+    // then
+    assertThat(executed).isTrue();
+    then(productCacheLockFacade).should().evictTimedealCache(policy);
+    then(productCacheService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void transition_whenWorkFails_deletesMarkerForRetry() {
+    // given
+    givenFirstRunner(true);
+    willThrow(new IllegalStateException("redis down"))
+        .given(productCacheLockFacade)
+        .updateSingleTimedealCache(policy);
+
+    // when & then
+    assertThatThrownBy(() -> service.transition(2L, TimedealPhase.OPEN, policy.getStartTime()))
+        .isInstanceOf(IllegalStateException.class);
+    long epochMillis =
+        policy.getStartTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    then(redisTemplate)
+        .should()
+        .delete(ProductCacheKeys.timedealTransition(2L, "OPEN", epochMillis));
+    then(redisTemplate).should(never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  void transition_whenAnotherInstanceAlreadyRan_skips() {
+    // given
+    givenFirstRunner(false);
+
+    // when
+    boolean executed = service.transition(2L, TimedealPhase.OPEN, policy.getStartTime());
+
+    // then
+    assertThat(executed).isFalse();
+    then(productCacheLockFacade).shouldHaveNoInteractions();
+    then(timedealProductReadService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void transition_whenPolicyWasRescheduled_skips() {
+    // given
+    given(timedealPolicyRepository.findById(2L)).willReturn(Optional.of(policy));
+
+    // when
+    boolean executed =
+        service.transition(2L, TimedealPhase.OPEN, policy.getStartTime().minusMinutes(5));
+
+    // then
+    assertThat(executed).isFalse();
+    then(redisTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import ktb.leafresh.backend.domain.store.product.domain.entity.TimedealPolicy;
 import ktb.leafresh.backend.domain.store.product.domain.service.TimedealProductQueryService;
 import ktb.leafresh.backend.domain.store.product.infrastructure.cache.ProductCacheKeys;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealListNearCache;
+import ktb.leafresh.backend.domain.store.product.infrastructure.cache.TimedealStockShardService;
 import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductListResponseDto;
 import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductSummaryResponseDto;
 import ktb.leafresh.backend.support.fixture.ProductFixture;
@@ -16,10 +18,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
 import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -39,11 +43,33 @@ class TimedealProductReadServiceTest {
 
   @Mock private ObjectMapper objectMapper;
 
+  @Mock private TimedealStockShardService timedealStockShardService;
+
+  @Mock private TimedealListNearCache timedealListNearCache;
+
   @InjectMocks private TimedealProductReadService service;
 
   @BeforeEach
   void setup() {
-    when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
+  }
+
+  @Test
+  @DisplayName("로컬 캐시 HIT 시 Redis 조회 없이 반환")
+  void findTimedealProducts_nearCacheHit() {
+    // given
+    TimedealProductSummaryResponseDto dto =
+        toDto(TimedealPolicyFixture.createOngoingTimedeal(ProductFixture.createDefaultProduct()));
+    TimedealProductListResponseDto cached = new TimedealProductListResponseDto(List.of(dto));
+    when(timedealListNearCache.get()).thenReturn(cached);
+
+    // when
+    TimedealProductListResponseDto result = service.findTimedealProducts();
+
+    // then
+    assertThat(result).isSameAs(cached);
+    verifyNoInteractions(redisTemplate, timedealStockShardService);
+    verify(timedealListNearCache, never()).put(anyLong(), any(), any());
   }
 
   @Test
@@ -64,6 +90,7 @@ class TimedealProductReadServiceTest {
     assertThat(result.timeDeals()).hasSize(1);
     assertThat(result.timeDeals().get(0).title()).isEqualTo(dto.title());
     verify(redisTemplate, never()).opsForZSet();
+    verify(timedealListNearCache).put(anyLong(), eq(result), any());
   }
 
   @Test
@@ -78,7 +105,8 @@ class TimedealProductReadServiceTest {
     when(valueOps.get(ProductCacheKeys.TIMEDEAL_LIST)).thenReturn(null);
     when(zSetOps.rangeByScore(anyString(), anyDouble(), anyDouble()))
         .thenReturn(Set.of(dto.dealId()));
-    when(valueOps.get(ProductCacheKeys.timedealSingle(dto.dealId()))).thenReturn(dto);
+    when(valueOps.multiGet(List.of(ProductCacheKeys.timedealSingle(dto.dealId()))))
+        .thenReturn(List.of(dto));
     when(objectMapper.convertValue(dto, TimedealProductSummaryResponseDto.class)).thenReturn(dto);
 
     // when
@@ -87,6 +115,7 @@ class TimedealProductReadServiceTest {
     // then
     assertThat(result.timeDeals()).hasSize(1);
     assertThat(result.timeDeals().get(0).dealId()).isEqualTo(dto.dealId());
+    verify(valueOps, never()).get(ProductCacheKeys.timedealSingle(dto.dealId()));
   }
 
   @Test
@@ -101,7 +130,8 @@ class TimedealProductReadServiceTest {
     when(valueOps.get(ProductCacheKeys.TIMEDEAL_LIST)).thenReturn(null);
     when(zSetOps.rangeByScore(anyString(), anyDouble(), anyDouble()))
         .thenReturn(Set.of(fallbackDto.dealId()));
-    when(valueOps.get(ProductCacheKeys.timedealSingle(fallbackDto.dealId()))).thenReturn(null);
+    when(valueOps.multiGet(List.of(ProductCacheKeys.timedealSingle(fallbackDto.dealId()))))
+        .thenReturn(Arrays.asList((Object) null));
     when(queryService.findAllById(List.of(fallbackDto.dealId()))).thenReturn(List.of(fallbackDto));
 
     // when
@@ -111,6 +141,7 @@ class TimedealProductReadServiceTest {
     assertThat(result.timeDeals()).hasSize(1);
     assertThat(result.timeDeals().get(0).title()).isEqualTo(fallbackDto.title());
     verify(queryService).findAllById(List.of(fallbackDto.dealId()));
+    verify(redisTemplate).executePipelined(any(SessionCallback.class));
   }
 
   @Test
@@ -0,0 +1,73 @@
+package ktb.leafresh.backend.domain.store.product.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.store.product.presentation.dto.response.TimedealProductListResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedealListNearCacheTest {
+
+  private TimedealListNearCache nearCache;
+  private final TimedealProductListResponseDto value = new TimedealProductListResponseDto(List.of());
+
+  @BeforeEach
+  void setUp() {
+    nearCache = new TimedealListNearCache();
+    ReflectionTestUtils.setField(nearCache, "ttlMillis", 60_000L);
+  }
+
+  @Test
+  @DisplayName("TTL 안에서는 저장한 목록을 반환")
+  void get_returnsCachedValue() {
+    // when
+    nearCache.put(nearCache.currentVersion(), value, null);
+
+    // then
+    assertThat(nearCache.get()).isSameAs(value);
+  }
+
+  @Test
+  @DisplayName("무효화 이후에는 MISS")
+  void invalidate_clearsValue() {
+    // given
+    nearCache.put(nearCache.currentVersion(), value, null);
+
+    // when
+    nearCache.invalidate();
+
+    // then
+    assertThat(nearCache.get()).isNull();
+  }
+
+  @Test
+  @DisplayName("조회 도중 무효화되면 저장하지 않음")
+  void put_ignoredWhenInvalidatedDuringLoad() {
+    // given
+    long version = nearCache.currentVersion();
+    nearCache.invalidate();
+
+    // when
+    nearCache.put(version, value, null);
+
+    // then
+    assertThat(nearCache.get()).isNull();
+  }
+
+  @Test
+  @DisplayName("상태 전환 시각이 지나면 TTL 이전이라도 만료")
+  void get_expiresAtNextStatusChange() {
+    // when
+    nearCache.put(
+        nearCache.currentVersion(), value, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+
+    // then
+    assertThat(nearCache.get()).isNull();
+  }
+}
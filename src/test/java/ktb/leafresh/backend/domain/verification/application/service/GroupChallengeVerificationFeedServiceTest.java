@@ -1,10 +1,13 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTimelineService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTrendingService;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedSummaryDto;
 import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import ktb.leafresh.backend.support.fixture.*;
@@ -19,10 +22,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GroupChallengeVerificationFeedService 테스트")
@@ -32,7 +36,11 @@ class GroupChallengeVerificationFeedServiceTest {
 
   @Mock private VerificationStatCacheService verificationStatCacheService;
 
-  @Mock private LikeRepository likeRepository;
+  @Mock private VerificationLikeCacheService verificationLikeCacheService;
+
+  @Mock private VerificationTrendingService verificationTrendingService;
+
+  @Mock private VerificationTimelineService verificationTimelineService;
 
   @InjectMocks private GroupChallengeVerificationFeedService feedService;
 
@@ -50,19 +58,36 @@ class GroupChallengeVerificationFeedServiceTest {
     ReflectionTestUtils.setField(challenge, "id", 100L);
   }
 
+  private VerificationFeedRow rowOf(GroupChallengeVerification v) {
+    var record = v.getParticipantRecord();
+    return new VerificationFeedRow(
+        v.getId(),
+        record.getGroupChallenge().getId(),
+        record.getMember().getNickname(),
+        record.getMember().getImageUrl(),
+        v.getImageUrl(),
+        v.getContent(),
+        record.getGroupChallenge().getCategory().getName(),
+        v.getViewCount(),
+        v.getLikeCount(),
+        v.getCommentCount(),
+        v.getCreatedAt());
+  }
+
   @Test
   @DisplayName("인증 피드 조회 시 - 로그인된 사용자는 좋아요 여부와 함께 페이징 결과를 반환한다")
   void getGroupChallengeVerifications_withValidInput_returnsPaginatedFeed() {
     // given
     Long loginMemberId = 10L;
-    List<GroupChallengeVerification> verificationList = List.of(verification);
+    List<VerificationFeedRow> rows = List.of(rowOf(verification));
     Map<Object, Object> cachedStats = Map.of("viewCount", 30, "likeCount", 5, "commentCount", 2);
     Set<Long> likedIds = Set.of(1L);
 
     given(feedQueryRepository.findAllByFilter("ZERO_WASTE", null, null, 6))
-        .willReturn(verificationList);
-    given(verificationStatCacheService.getStats(1L)).willReturn(cachedStats);
-    given(likeRepository.findLikedVerificationIdsByMemberId(loginMemberId, List.of(1L)))
+        .willReturn(rows);
+    given(verificationStatCacheService.getStatsBulk(List.of(1L)))
+        .willReturn(Map.of(1L, cachedStats));
+    given(verificationLikeCacheService.findLikedIds(loginMemberId, List.of(1L)))
         .willReturn(likedIds);
 
     // when
@@ -93,12 +118,13 @@ class GroupChallengeVerificationFeedServiceTest {
   @DisplayName("인증 피드 조회 시 - 로그인하지 않은 경우 좋아요 여부 없이 페이징 결과를 반환한다")
   void getGroupChallengeVerifications_withoutLogin_returnsFeedWithoutLikeInfo() {
     // given
-    List<GroupChallengeVerification> verificationList = List.of(verification);
+    List<VerificationFeedRow> rows = List.of(rowOf(verification));
     Map<Object, Object> cachedStats = Map.of(); // 캐시 없는 경우 fallback
 
     given(feedQueryRepository.findAllByFilter("ZERO_WASTE", null, null, 6))
-        .willReturn(verificationList);
-    given(verificationStatCacheService.getStats(1L)).willReturn(cachedStats);
+        .willReturn(rows);
+    given(verificationStatCacheService.getStatsBulk(List.of(1L)))
+        .willReturn(Map.of(1L, cachedStats));
 
     // when
     CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
@@ -112,4 +138,104 @@ class GroupChallengeVerificationFeedServiceTest {
     assertThat(dto.counts().like()).isEqualTo(verification.getLikeCount());
     assertThat(dto.counts().comment()).isEqualTo(verification.getCommentCount());
   }
+
+  @Test
+  @DisplayName("인기순 피드 조회 시 - ZSET 순위 순서대로 인증을 반환한다")
+  void getPopularGroupChallengeVerifications_returnsInRankingOrder() {
+    // given
+    GroupChallengeVerification second =
+        GroupChallengeVerificationFixture.of(verification.getParticipantRecord());
+    ReflectionTestUtils.setField(second, "id", 2L);
+
+    given(verificationTrendingService.findTrendingIds("ZERO_WASTE", null, 6))
+        .willReturn(List.of(2L, 1L, 3L));
+    given(feedQueryRepository.findAllByIds(List.of(2L, 1L, 3L)))
+        .willReturn(List.of(rowOf(verification), rowOf(second))); // 3L 은 삭제된 인증
+    given(verificationStatCacheService.getStatsBulk(List.of(2L, 1L))).willReturn(Map.of());
+
+    // when
+    CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
+        feedService.getPopularGroupChallengeVerifications(null, 5, "ZERO_WASTE", null);
+
+    // then
+    assertThat(result.items())
+        .extracting(GroupChallengeVerificationFeedSummaryDto::id)
+        .containsExactly(2L, 1L);
+    assertThat(result.hasNext()).isFalse();
+    assertThat(result.cursorInfo().lastCursorId()).isEqualTo(1L);
+    then(verificationTrendingService).should().remove(List.of(3L));
+  }
+
+  @Test
+  @DisplayName("인기순 피드 조회 시 - 삭제된 인증으로 페이지가 짧아지면 다음 순위로 채워 hasNext 를 지킨다")
+  void getPopularGroupChallengeVerifications_refillsPageAfterDeletedIds() {
+    // given
+    GroupChallengeVerification second =
+        GroupChallengeVerificationFixture.of(verification.getParticipantRecord());
+    ReflectionTestUtils.setField(second, "id", 2L);
+    GroupChallengeVerification third =
+        GroupChallengeVerificationFixture.of(verification.getParticipantRecord());
+    ReflectionTestUtils.setField(third, "id", 5L);
+
+    given(verificationTrendingService.findTrendingIds("ZERO_WASTE", null, 3))
+        .willReturn(List.of(5L, 4L, 1L));
+    given(feedQueryRepository.findAllByIds(List.of(5L, 4L, 1L)))
+        .willReturn(List.of(rowOf(verification), rowOf(third))); // 4L 은 삭제된 인증
+    given(verificationTrendingService.findTrendingIds("ZERO_WASTE", 1L, 1))
+        .willReturn(List.of(2L));
+    given(feedQueryRepository.findAllByIds(List.of(2L))).willReturn(List.of(rowOf(second)));
+    given(verificationStatCacheService.getStatsBulk(List.of(5L, 1L, 2L))).willReturn(Map.of());
+
+    // when
+    CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
+        feedService.getPopularGroupChallengeVerifications(null, 2, "ZERO_WASTE", null);
+
+    // then
+    assertThat(result.items())
+        .extracting(GroupChallengeVerificationFeedSummaryDto::id)
+        .containsExactly(5L, 1L);
+    assertThat(result.hasNext()).isTrue();
+    then(verificationTrendingService).should().remove(List.of(4L));
+  }
+
+  @Test
+  @DisplayName("인증 피드 조회 시 - 타임라인이 있으면 조인 조회 없이 ID 로 본문만 조회한다")
+  void getGroupChallengeVerifications_withTimeline_hydratesByIds() {
+    // given
+    given(verificationTimelineService.findIds("ZERO_WASTE", null, null, 6))
+        .willReturn(Optional.of(List.of(1L)));
+    given(feedQueryRepository.findAllByIds(List.of(1L))).willReturn(List.of(rowOf(verification)));
+    given(verificationStatCacheService.getStatsBulk(List.of(1L))).willReturn(Map.of());
+
+    // when
+    CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
+        feedService.getGroupChallengeVerifications(null, null, 5, "ZERO_WASTE", null);
+
+    // then
+    assertThat(result.items()).extracting(GroupChallengeVerificationFeedSummaryDto::id)
+        .containsExactly(1L);
+    then(feedQueryRepository).should(never()).findAllByFilter(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("인증 피드 조회 시 - 타임라인에 삭제된 인증이 섞이면 타임라인에서 빼고 DB 에서 페이지를 읽는다")
+  void getGroupChallengeVerifications_withDeletedInTimeline_fallsBackToDb() {
+    // given
+    given(verificationTimelineService.findIds("ZERO_WASTE", null, null, 6))
+        .willReturn(Optional.of(List.of(3L, 1L)));
+    given(feedQueryRepository.findAllByIds(List.of(3L, 1L)))
+        .willReturn(List.of(rowOf(verification))); // 3L 은 삭제된 인증
+    given(feedQueryRepository.findAllByFilter("ZERO_WASTE", null, null, 6))
+        .willReturn(List.of(rowOf(verification)));
+    given(verificationStatCacheService.getStatsBulk(List.of(1L))).willReturn(Map.of());
+
+    // when
+    CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result =
+        feedService.getGroupChallengeVerifications(null, null, 5, "ZERO_WASTE", null);
+
+    // then
+    assertThat(result.items()).extracting(GroupChallengeVerificationFeedSummaryDto::id)
+        .containsExactly(1L);
+    then(verificationTimelineService).should().remove("ZERO_WASTE", List.of(3L));
+  }
 }
@@ -6,6 +6,7 @@ import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.Gro
 import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeRepository;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.domain.event.GroupVerificationCreatedEvent;
 import ktb.leafresh.backend.domain.verification.domain.support.validator.VerificationSubmitValidator;
 import ktb.leafresh.backend.domain.verification.infrastructure.publisher.GcpAiVerificationPubSubPublisher;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -27,6 +29,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.*;
 
@@ -46,6 +49,8 @@ class GroupChallengeVerificationSubmitServiceTest {
 
   @Mock private GcpAiVerificationPubSubPublisher pubSubPublisher;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private GroupChallengeVerificationSubmitService submitService;
 
   private Member member;
@@ -56,7 +61,7 @@ class GroupChallengeVerificationSubmitServiceTest {
   @BeforeEach
   void setUp() {
     member = MemberFixture.of();
-    challenge = GroupChallengeFixture.of(member, null);
+    challenge = GroupChallengeFixture.of(member, GroupChallengeCategoryFixture.defaultCategory());
     participantRecord = GroupChallengeParticipantRecordFixture.of(challenge, member);
     requestDto = new GroupChallengeVerificationRequestDto("https://img.test", "플라스틱 줄이기 캠페인 참여");
   }
@@ -101,6 +106,13 @@ class GroupChallengeVerificationSubmitServiceTest {
     then(verificationRepository).should().save(any(GroupChallengeVerification.class));
     then(pubSubPublisher).should().publishAsyncWithRetry(any());
     then(redisTemplate.opsForValue()).should().increment("leafresh:totalVerifications:count");
+
+    ArgumentCaptor<GroupVerificationCreatedEvent> event =
+        ArgumentCaptor.forClass(GroupVerificationCreatedEvent.class);
+    then(eventPublisher).should().publishEvent(event.capture());
+    assertThat(event.getValue().verificationId()).isEqualTo(10L);
+    assertThat(event.getValue().category()).isEqualTo(challenge.getCategory().getName());
+    assertThat(event.getValue().createdAt()).isNotNull();
   }
 
   @Test
@@ -4,6 +4,7 @@ import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.domain.verification.presentation.dto.request.GroupVerificationCommentCreateRequestDto;
@@ -11,7 +12,6 @@ import ktb.leafresh.backend.domain.verification.presentation.dto.response.Commen
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.MemberErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import ktb.leafresh.backend.support.fixture.GroupChallengeVerificationFixture;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.DisplayName;
@@ -37,7 +37,7 @@ class GroupVerificationCommentCreateServiceTest {
 
   @Mock private MemberRepository memberRepository;
 
-  @Mock private VerificationStatRedisLuaService verificationStatRedisLuaService;
+  @Mock private VerificationStatCounterBuffer verificationStatCounterBuffer;
 
   @InjectMocks private GroupVerificationCommentCreateService commentCreateService;
 
@@ -84,7 +84,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(memberRepository).should().findById(memberId);
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().save(any(Comment.class));
-    then(verificationStatRedisLuaService).should().increaseVerificationCommentCount(verificationId);
+    then(verificationStatCounterBuffer).should().increaseCommentCount(verificationId);
   }
 
   @Test
@@ -110,7 +110,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(memberRepository).should().findById(memberId);
     then(verificationRepository).shouldHaveNoInteractions();
     then(commentRepository).shouldHaveNoInteractions();
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -139,7 +139,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(memberRepository).should().findById(memberId);
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).shouldHaveNoInteractions();
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -194,7 +194,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().findById(parentCommentId);
     then(commentRepository).should().save(any(Comment.class));
-    then(verificationStatRedisLuaService).should().increaseVerificationCommentCount(verificationId);
+    then(verificationStatCounterBuffer).should().increaseCommentCount(verificationId);
   }
 
   @Test
@@ -227,7 +227,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().findById(parentCommentId);
     then(commentRepository).should(never()).save(any());
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -266,7 +266,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().findById(parentCommentId);
     then(commentRepository).should(never()).save(any());
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -298,7 +298,7 @@ class GroupVerificationCommentCreateServiceTest {
     then(memberRepository).should().findById(memberId);
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().save(any(Comment.class));
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -338,6 +338,6 @@ class GroupVerificationCommentCreateServiceTest {
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().findById(parentCommentId);
     then(commentRepository).should().save(any(Comment.class));
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 }
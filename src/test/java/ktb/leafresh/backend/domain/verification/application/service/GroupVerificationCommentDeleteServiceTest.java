@@ -3,12 +3,12 @@ package ktb.leafresh.backend.domain.verification.application.service;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.GlobalErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import ktb.leafresh.backend.support.fixture.GroupChallengeVerificationFixture;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +33,7 @@ class GroupVerificationCommentDeleteServiceTest {
 
   @Mock private CommentRepository commentRepository;
 
-  @Mock private VerificationStatRedisLuaService verificationStatRedisLuaService;
+  @Mock private VerificationStatCounterBuffer verificationStatCounterBuffer;
 
   @InjectMocks private GroupVerificationCommentDeleteService deleteService;
 
@@ -66,7 +66,7 @@ class GroupVerificationCommentDeleteServiceTest {
     assertThat(comment.isDeleted()).isTrue();
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).should().findById(commentId);
-    then(verificationStatRedisLuaService).should().decreaseVerificationCommentCount(verificationId);
+    then(verificationStatCounterBuffer).should().decreaseCommentCount(verificationId);
   }
 
   @Test
@@ -89,7 +89,7 @@ class GroupVerificationCommentDeleteServiceTest {
 
     then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
     then(commentRepository).shouldHaveNoInteractions();
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -113,7 +113,7 @@ class GroupVerificationCommentDeleteServiceTest {
         .hasMessageContaining(VerificationErrorCode.COMMENT_NOT_FOUND.getMessage());
 
     then(commentRepository).should().findById(commentId);
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -145,7 +145,7 @@ class GroupVerificationCommentDeleteServiceTest {
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(GlobalErrorCode.ACCESS_DENIED.getMessage());
 
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -177,7 +177,7 @@ class GroupVerificationCommentDeleteServiceTest {
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(VerificationErrorCode.CANNOT_EDIT_DELETED_COMMENT.getMessage());
 
-    then(verificationStatRedisLuaService).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
   }
 
   @Test
@@ -202,8 +202,8 @@ class GroupVerificationCommentDeleteServiceTest {
         .willReturn(Optional.of(verification));
     given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
     willThrow(new RuntimeException("Redis 오류"))
-        .given(verificationStatRedisLuaService)
-        .decreaseVerificationCommentCount(verificationId);
+        .given(verificationStatCounterBuffer)
+        .decreaseCommentCount(verificationId);
 
     // when & then
     assertThatThrownBy(
@@ -211,6 +211,6 @@ class GroupVerificationCommentDeleteServiceTest {
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(VerificationErrorCode.COMMENT_UPDATE_FAILED.getMessage());
 
-    then(verificationStatRedisLuaService).should().decreaseVerificationCommentCount(verificationId);
+    then(verificationStatCounterBuffer).should().decreaseCommentCount(verificationId);
   }
 }
@@ -1,6 +1,7 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.verification.application.dto.CommentReplyCount;
 import ktb.leafresh.backend.domain.verification.domain.entity.Comment;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
@@ -8,14 +9,17 @@ import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupC
 import ktb.leafresh.backend.domain.verification.presentation.dto.response.CommentSummaryResponseDto;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
 import ktb.leafresh.backend.support.fixture.GroupChallengeVerificationFixture;
 import ktb.leafresh.backend.support.fixture.MemberFixture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -34,73 +38,112 @@ class GroupVerificationCommentQueryServiceTest {
 
   @InjectMocks private GroupVerificationCommentQueryService commentQueryService;
 
-  @Test
-  @DisplayName("댓글 계층 목록 조회에 성공한다")
-  void getComments_withValidInput_returnsHierarchy() {
-    // given
-    Long challengeId = 1L;
-    Long verificationId = 10L;
-    Long memberId = 99L;
-
-    GroupChallengeVerification verification = GroupChallengeVerificationFixture.of(null);
-    Member member = MemberFixture.of();
+  private final Long challengeId = 1L;
+  private final Long verificationId = 10L;
+  private final Long memberId = 99L;
+  private GroupChallengeVerification verification;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    verification = GroupChallengeVerificationFixture.of(null);
+    ReflectionTestUtils.setField(verification, "id", verificationId);
+    member = MemberFixture.of();
     ReflectionTestUtils.setField(member, "id", memberId);
+  }
 
-    // 부모 댓글
-    Comment parent =
-        Comment.builder().verification(verification).member(member).content("부모 댓글").build();
-    ReflectionTestUtils.setField(parent, "id", 100L);
-    ReflectionTestUtils.setField(parent, "createdAt", LocalDateTime.of(2024, 1, 1, 12, 0));
-    ReflectionTestUtils.setField(parent, "updatedAt", LocalDateTime.of(2024, 1, 1, 12, 0));
-
-    // 자식 댓글
-    Comment child =
+  private Comment comment(Long id, Comment parent) {
+    Comment comment =
         Comment.builder()
             .verification(verification)
             .member(member)
             .parentComment(parent)
-            .content("대댓글")
+            .rootCommentId(parent != null ? parent.getThreadRootId() : null)
+            .content(parent == null ? "부모 댓글" : "대댓글")
             .build();
-    ReflectionTestUtils.setField(child, "id", 101L);
-    ReflectionTestUtils.setField(child, "createdAt", LocalDateTime.of(2024, 1, 1, 12, 1));
-    ReflectionTestUtils.setField(child, "updatedAt", LocalDateTime.of(2024, 1, 1, 12, 1));
+    ReflectionTestUtils.setField(comment, "id", id);
+    ReflectionTestUtils.setField(comment, "createdAt", LocalDateTime.of(2024, 1, 1, 12, 0));
+    ReflectionTestUtils.setField(comment, "updatedAt", LocalDateTime.of(2024, 1, 1, 12, 0));
+    return comment;
+  }
+
+  @Test
+  @DisplayName("최상위 댓글만 페이지 조회하고 대댓글은 개수만 포함한다")
+  void getComments_returnsCollapsedRootPage() {
+    // given
+    Comment first = comment(100L, null);
+    Comment second = comment(102L, null);
+    Comment third = comment(105L, null);
 
     given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
         .willReturn(Optional.of(verification));
-    given(commentRepository.findAllByVerificationIdWithMember(verificationId))
-        .willReturn(List.of(parent, child));
+    given(commentRepository.findRootComments(verificationId, 0L, PageRequest.of(0, 3)))
+        .willReturn(List.of(first, second, third));
+    given(commentRepository.countRepliesByRootCommentIds(List.of(100L, 102L)))
+        .willReturn(List.of(new CommentReplyCount(100L, 4L)));
 
     // when
-    List<CommentSummaryResponseDto> result =
-        commentQueryService.getComments(challengeId, verificationId, memberId);
+    CursorPaginationResult<CommentSummaryResponseDto> result =
+        commentQueryService.getComments(challengeId, verificationId, null, 2, memberId);
 
     // then
-    assertThat(result).hasSize(1);
-    CommentSummaryResponseDto parentDto = result.get(0);
-    assertThat(parentDto.getId()).isEqualTo(parent.getId());
-    assertThat(parentDto.getReplies()).hasSize(1);
-    assertThat(parentDto.getReplies().get(0).getId()).isEqualTo(child.getId());
-    assertThat(parentDto.isMine()).isTrue();
-    assertThat(parentDto.getReplies().get(0).isMine()).isTrue();
+    assertThat(result.items()).extracting(CommentSummaryResponseDto::getId)
+        .containsExactly(100L, 102L);
+    assertThat(result.items()).extracting(CommentSummaryResponseDto::getReplyCount)
+        .containsExactly(4L, 0L);
+    assertThat(result.items().get(0).getReplies()).isEmpty();
+    assertThat(result.items().get(0).isMine()).isTrue();
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.cursorInfo().lastCursorId()).isEqualTo(102L);
+  }
 
-    then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
-    then(commentRepository).should().findAllByVerificationIdWithMember(verificationId);
+  @Test
+  @DisplayName("대댓글은 최상위 댓글 ID 로 스레드를 한 번에 커서 조회한다")
+  void getReplies_readsThreadByRootId() {
+    // given
+    Comment root = comment(100L, null);
+    Comment reply = comment(101L, root);
+    Comment nested = comment(103L, reply);
+
+    given(commentRepository.findById(101L)).willReturn(Optional.of(reply));
+    given(commentRepository.findReplies(100L, 101L, PageRequest.of(0, 21)))
+        .willReturn(List.of(nested));
+
+    // when
+    CursorPaginationResult<CommentSummaryResponseDto> result =
+        commentQueryService.getReplies(challengeId, verificationId, 101L, 101L, 20, memberId);
+
+    // then
+    assertThat(nested.getRootCommentId()).isEqualTo(100L);
+    assertThat(result.items()).extracting(CommentSummaryResponseDto::getId).containsExactly(103L);
+    assertThat(result.items().get(0).getParentCommentId()).isEqualTo(101L);
+    assertThat(result.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("다른 인증의 댓글이면 대댓글 조회 시 예외 발생")
+  void getReplies_withOtherVerification_throwsException() {
+    // given
+    given(commentRepository.findById(100L)).willReturn(Optional.of(comment(100L, null)));
+
+    // when & then
+    assertThatThrownBy(
+            () -> commentQueryService.getReplies(challengeId, 11L, 100L, null, 20, null))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(VerificationErrorCode.COMMENT_NOT_FOUND.getMessage());
+    then(commentRepository).should(never()).findReplies(anyLong(), anyLong(), any());
   }
 
   @Test
   @DisplayName("존재하지 않는 인증 ID이면 예외 발생")
   void getComments_withInvalidVerification_throwsException() {
     // given
-    Long challengeId = 1L;
-    Long verificationId = 99L;
-    Long loginMemberId = 1L;
-
     given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
         .willReturn(Optional.empty());
 
     // when & then
     assertThatThrownBy(
-            () -> commentQueryService.getComments(challengeId, verificationId, loginMemberId))
+            () -> commentQueryService.getComments(challengeId, verificationId, null, 20, memberId))
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND.getMessage());
 
@@ -109,27 +152,21 @@ class GroupVerificationCommentQueryServiceTest {
   }
 
   @Test
-  @DisplayName("댓글이 하나도 없는 경우 빈 리스트를 반환한다")
+  @DisplayName("댓글이 하나도 없는 경우 빈 리스트를 반환하고 대댓글 수는 조회하지 않는다")
   void getComments_withNoComments_returnsEmptyList() {
     // given
-    Long challengeId = 1L;
-    Long verificationId = 10L;
-    Long loginMemberId = 1L;
-    GroupChallengeVerification verification = GroupChallengeVerificationFixture.of(null);
-
     given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
         .willReturn(Optional.of(verification));
-    given(commentRepository.findAllByVerificationIdWithMember(verificationId))
+    given(commentRepository.findRootComments(eq(verificationId), eq(0L), any()))
         .willReturn(List.of());
 
     // when
-    List<CommentSummaryResponseDto> result =
-        commentQueryService.getComments(challengeId, verificationId, loginMemberId);
+    CursorPaginationResult<CommentSummaryResponseDto> result =
+        commentQueryService.getComments(challengeId, verificationId, null, 20, memberId);
 
     // then
-    assertThat(result).isEmpty();
-
-    then(verificationRepository).should().findByIdAndDeletedAtIsNull(verificationId);
-    then(commentRepository).should().findAllByVerificationIdWithMember(verificationId);
+    assertThat(result.items()).isEmpty();
+    assertThat(result.hasNext()).isFalse();
+    then(commentRepository).should(never()).countRepliesByRootCommentIds(any());
   }
 }
@@ -1,17 +1,13 @@
 package ktb.leafresh.backend.domain.verification.application.service;
 
-import ktb.leafresh.backend.domain.member.domain.entity.Member;
-import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
-import ktb.leafresh.backend.domain.verification.domain.entity.Like;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCounterBuffer;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
 import ktb.leafresh.backend.global.exception.CustomException;
-import ktb.leafresh.backend.global.exception.GlobalErrorCode;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
-import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
 import ktb.leafresh.backend.support.fixture.GroupChallengeVerificationFixture;
-import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -30,143 +27,123 @@ class GroupVerificationLikeServiceTest {
 
   @Mock private GroupChallengeVerificationRepository verificationRepository;
 
-  @Mock private MemberRepository memberRepository;
-
   @Mock private LikeRepository likeRepository;
 
-  @Mock private VerificationStatRedisLuaService verificationStatRedisLuaService;
+  @Mock private VerificationLikeCacheService verificationLikeCacheService;
+
+  @Mock private VerificationStatCounterBuffer verificationStatCounterBuffer;
 
   @InjectMocks private GroupVerificationLikeService likeService;
 
   private final Long memberId = 1L;
   private final Long verificationId = 10L;
-  private Member member;
   private GroupChallengeVerification verification;
 
   @BeforeEach
   void setUp() {
-    member = MemberFixture.of();
     verification = GroupChallengeVerificationFixture.of(null);
   }
 
   @Test
-  @DisplayName("이미 좋아요가 존재하면 true를 반환한다")
+  @DisplayName("이미 좋아요가 존재하면 좋아요 수를 바꾸지 않고 true를 반환한다")
   void likeVerification_alreadyExists_returnsTrue() {
     // given
-    given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
-        .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.of(member));
-    given(
-            likeRepository.existsByVerificationIdAndMemberIdAndDeletedAtIsNull(
-                verificationId, memberId))
-        .willReturn(true);
+    given(verificationLikeCacheService.toggle(verificationId, memberId, true)).willReturn(0L);
 
     // when
     boolean result = likeService.likeVerification(verificationId, memberId);
 
     // then
     assertThat(result).isTrue();
-    then(likeRepository).should(never()).save(any());
+    then(verificationStatCounterBuffer).should(never()).increaseLikeCount(anyLong());
+    then(verificationRepository).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("삭제된 좋아요가 있으면 복구하고 true를 반환한다")
-  void likeVerification_softDeletedLike_restoreAndReturnTrue() {
+  @DisplayName("좋아요가 추가되면 Redis 호출만으로 좋아요 수를 증가시키고 DB 는 조회하지 않는다")
+  void likeVerification_createNewLike_returnsTrue() {
     // given
-    Like deletedLike = Like.builder().verification(verification).member(member).build();
-    deletedLike.softDelete();
-
-    given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
-        .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.of(member));
-    given(
-            likeRepository.existsByVerificationIdAndMemberIdAndDeletedAtIsNull(
-                verificationId, memberId))
-        .willReturn(false);
-    given(likeRepository.findByVerificationIdAndMemberId(verificationId, memberId))
-        .willReturn(Optional.of(deletedLike));
+    given(verificationLikeCacheService.toggle(verificationId, memberId, true)).willReturn(1L);
 
     // when
     boolean result = likeService.likeVerification(verificationId, memberId);
 
     // then
     assertThat(result).isTrue();
-    assertThat(deletedLike.isDeleted()).isFalse();
-    then(verificationStatRedisLuaService).should().increaseVerificationLikeCount(verificationId);
+    then(verificationStatCounterBuffer).should().increaseLikeCount(verificationId);
+    then(verificationRepository).shouldHaveNoInteractions();
+    then(likeRepository).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("좋아요가 없으면 새로 생성하고 true를 반환한다")
-  void likeVerification_createNewLike_returnsTrue() {
+  @DisplayName("좋아요 SET 이 없으면 DB 좋아요로 채운 뒤 다시 반영한다")
+  void likeVerification_withoutLikers_seedsAndRetries() {
     // given
+    given(verificationLikeCacheService.toggle(verificationId, memberId, true))
+        .willReturn(-1L, 1L);
     given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
         .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.of(member));
-    given(
-            likeRepository.existsByVerificationIdAndMemberIdAndDeletedAtIsNull(
-                verificationId, memberId))
-        .willReturn(false);
+    given(likeRepository.findMemberIdsByVerificationId(verificationId)).willReturn(List.of(2L));
 
-    given(likeRepository.findByVerificationIdAndMemberId(verificationId, memberId))
-        .willReturn(Optional.empty());
+    // when
+    boolean result = likeService.likeVerification(verificationId, memberId);
+
+    // then
+    assertThat(result).isTrue();
+    then(verificationLikeCacheService).should().seed(verificationId, List.of(2L));
+    then(verificationStatCounterBuffer).should().increaseLikeCount(verificationId);
+  }
+
+  @Test
+  @DisplayName("회원별 좋아요 SET 이 없으면 DB 로 채운 뒤 다시 반영한다")
+  void likeVerification_withoutMemberLikes_seedsMemberAndRetries() {
+    // given
+    given(verificationLikeCacheService.toggle(verificationId, memberId, true))
+        .willReturn(-2L, 1L);
 
     // when
     boolean result = likeService.likeVerification(verificationId, memberId);
 
     // then
     assertThat(result).isTrue();
-    then(likeRepository).should().save(any(Like.class));
-    then(verificationStatRedisLuaService).should().increaseVerificationLikeCount(verificationId);
+    then(verificationLikeCacheService).should().seedMember(memberId);
+    then(verificationStatCounterBuffer).should().increaseLikeCount(verificationId);
+    then(verificationRepository).shouldHaveNoInteractions();
   }
 
   @Test
   @DisplayName("좋아요 취소 - 존재하지 않으면 false 반환")
   void cancelLike_notExists_returnsFalse() {
     // given
-    given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
-        .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.of(member));
-
-    given(
-            likeRepository.findByVerificationIdAndMemberIdAndDeletedAtIsNull(
-                verificationId, memberId))
-        .willReturn(Optional.empty());
+    given(verificationLikeCacheService.toggle(verificationId, memberId, false)).willReturn(0L);
 
     // when
     boolean result = likeService.cancelLike(verificationId, memberId);
 
     // then
     assertThat(result).isFalse();
-    then(verificationStatRedisLuaService).should(never()).decreaseVerificationLikeCount(anyLong());
+    then(verificationStatCounterBuffer).should(never()).decreaseLikeCount(anyLong());
   }
 
   @Test
-  @DisplayName("좋아요 취소 - 정상 취소되면 false 반환")
-  void cancelLike_exists_softDeleteAndReturnFalse() {
+  @DisplayName("좋아요 취소 - 정상 취소되면 좋아요 수를 감소시키고 false 반환")
+  void cancelLike_exists_decreaseAndReturnFalse() {
     // given
-    Like like = Like.builder().verification(verification).member(member).build();
-
-    given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
-        .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.of(member));
-    given(
-            likeRepository.findByVerificationIdAndMemberIdAndDeletedAtIsNull(
-                verificationId, memberId))
-        .willReturn(Optional.ofNullable(like));
+    given(verificationLikeCacheService.toggle(verificationId, memberId, false)).willReturn(1L);
 
     // when
     boolean result = likeService.cancelLike(verificationId, memberId);
 
     // then
     assertThat(result).isFalse();
-    assertThat(like.isDeleted()).isTrue();
-    then(verificationStatRedisLuaService).should().decreaseVerificationLikeCount(verificationId);
+    then(verificationStatCounterBuffer).should().decreaseLikeCount(verificationId);
   }
 
   @Test
   @DisplayName("좋아요 대상 인증이 존재하지 않으면 예외 발생")
   void likeVerification_invalidVerificationId_throwsException() {
     // given
+    given(verificationLikeCacheService.toggle(verificationId, memberId, true)).willReturn(-1L);
     given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
         .willReturn(Optional.empty());
 
@@ -174,19 +151,6 @@ class GroupVerificationLikeServiceTest {
     assertThatThrownBy(() -> likeService.likeVerification(verificationId, memberId))
         .isInstanceOf(CustomException.class)
         .hasMessageContaining(VerificationErrorCode.VERIFICATION_DETAIL_NOT_FOUND.getMessage());
-  }
-
-  @Test
-  @DisplayName("좋아요 시 회원이 존재하지 않으면 예외 발생")
-  void likeVerification_invalidMemberId_throwsException() {
-    // given
-    given(verificationRepository.findByIdAndDeletedAtIsNull(verificationId))
-        .willReturn(Optional.of(verification));
-    given(memberRepository.findByIdAndDeletedAtIsNull(memberId)).willReturn(Optional.empty());
-
-    // when & then
-    assertThatThrownBy(() -> likeService.likeVerification(verificationId, memberId))
-        .isInstanceOf(CustomException.class)
-        .hasMessageContaining(GlobalErrorCode.UNAUTHORIZED.getMessage());
+    then(verificationLikeCacheService).should(never()).seed(anyLong(), anyList());
   }
 }
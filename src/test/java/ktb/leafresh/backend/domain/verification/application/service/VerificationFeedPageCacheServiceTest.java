@@ -0,0 +1,224 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedPage;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationFeedPageCache;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedListResponseDto;
+import ktb.leafresh.backend.domain.verification.presentation.dto.response.GroupChallengeVerificationFeedSummaryDto;
+import ktb.leafresh.backend.global.response.ApiResponse;
+import ktb.leafresh.backend.global.util.pagination.CursorInfo;
+import ktb.leafresh.backend.global.util.pagination.CursorPaginationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerificationFeedPageCacheService 테스트")
+class VerificationFeedPageCacheServiceTest {
+
+  @Mock private GroupChallengeVerificationFeedService feedService;
+
+  @Mock private VerificationFeedPageCache feedPageCache;
+
+  @Mock private VerificationLikeCacheService verificationLikeCacheService;
+
+  @Mock private GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private VerificationFeedPageCacheService feedPageCacheService;
+
+  @BeforeEach
+  void setUp() {
+    feedPageCacheService =
+        new VerificationFeedPageCacheService(
+            feedService,
+            feedPageCache,
+            verificationLikeCacheService,
+            feedQueryRepository,
+            objectMapper);
+    ReflectionTestUtils.setField(feedPageCacheService, "enabled", true);
+  }
+
+  private CursorPaginationResult<GroupChallengeVerificationFeedSummaryDto> result(Long... ids) {
+    List<GroupChallengeVerificationFeedSummaryDto> items =
+        Arrays.stream(ids)
+            .map(
+                id ->
+                    GroupChallengeVerificationFeedSummaryDto.builder()
+                        .id(id)
+                        .category("ZERO_WASTE")
+                        .counts(new GroupChallengeVerificationFeedSummaryDto.Counts(1, 2, 3))
+                        .createdAt(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+                        .isLiked(false)
+                        .build())
+            .toList();
+    return new CursorPaginationResult<>(items, false, new CursorInfo(ids[ids.length - 1], null));
+  }
+
+  @Test
+  @DisplayName("캐시된 첫 페이지가 있으면 피드 조회 없이 저장된 JSON 을 그대로 반환한다")
+  void getFirstPage_withCachedPage_returnsCachedJson() {
+    // given
+    VerificationFeedPage page = VerificationFeedPage.of("latest", "ZERO_WASTE", 12);
+    given(feedQueryRepository.existsCategory("ZERO_WASTE")).willReturn(true);
+    given(feedPageCache.get(page)).willReturn(Optional.of("{\"cached\":true}"));
+
+    // when
+    String json = feedPageCacheService.getFirstPage("latest", "ZERO_WASTE", 12, null);
+
+    // then
+    assertThat(json).isEqualTo("{\"cached\":true}");
+    then(feedService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("캐시 미스면 익명 기준으로 첫 페이지를 만들어 저장한다")
+  void getFirstPage_withMiss_rendersAnonymousPageAndStores() throws Exception {
+    // given
+    VerificationFeedPage page = VerificationFeedPage.of("popular", null, 12);
+    given(feedPageCache.get(page)).willReturn(Optional.empty());
+    given(feedService.getPopularGroupChallengeVerifications(null, 12, null, null))
+        .willReturn(result(3L, 1L));
+
+    // when
+    String json = feedPageCacheService.getFirstPage("POPULAR", " ", 12, null);
+
+    // then
+    JsonNode data = objectMapper.readTree(json).path("data");
+    assertThat(data.path("verifications")).hasSize(2);
+    assertThat(data.path("verifications").get(0).path("id").asLong()).isEqualTo(3L);
+    then(feedPageCache).should().put(page, json);
+  }
+
+  @Test
+  @DisplayName("로그인 사용자는 캐시된 응답에 좋아요 여부만 병합한다")
+  void getFirstPage_withLogin_mergesLikedFlags() throws Exception {
+    // given
+    String cached =
+        objectMapper.writeValueAsString(
+            ApiResponse.success(
+                "ok", GroupChallengeVerificationFeedListResponseDto.from(result(2L, 1L))));
+    given(feedPageCache.get(any())).willReturn(Optional.of(cached));
+    given(verificationLikeCacheService.findLikedIds(10L, List.of(2L, 1L))).willReturn(Set.of(1L));
+
+    // when
+    String json = feedPageCacheService.getFirstPage("latest", null, 12, 10L);
+
+    // then
+    JsonNode items = objectMapper.readTree(json).path("data").path("verifications");
+    assertThat(items.get(0).path("isLiked").asBoolean()).isFalse();
+    assertThat(items.get(1).path("isLiked").asBoolean()).isTrue();
+    then(feedService).shouldHaveNoInteractions();
+    then(feedPageCache).should(never()).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("갱신 시 해당 카테고리와 전체 피드만 다시 만들고 만료된 페이지는 목록에서 뺀다")
+  void refresh_rebuildsMatchingPages_andForgetsExpired() {
+    // given
+    VerificationFeedPage all = VerificationFeedPage.of("latest", null, 12);
+    VerificationFeedPage zeroWaste = VerificationFeedPage.of("latest", "ZERO_WASTE", 12);
+    VerificationFeedPage vegan = VerificationFeedPage.of("latest", "VEGAN", 12);
+    VerificationFeedPage expired = VerificationFeedPage.of("popular", "ZERO_WASTE", 12);
+    given(feedPageCache.pageIds())
+        .willReturn(Set.of(all.id(), zeroWaste.id(), vegan.id(), expired.id()));
+    given(feedPageCache.exists(all)).willReturn(true);
+    given(feedPageCache.exists(zeroWaste)).willReturn(true);
+    given(feedPageCache.exists(expired)).willReturn(false);
+    given(feedService.getGroupChallengeVerifications(any(), any(), anyInt(), any(), any()))
+        .willReturn(result(1L));
+
+    // when
+    int refreshed = feedPageCacheService.refresh("ZERO_WASTE");
+
+    // then
+    assertThat(refreshed).isEqualTo(2);
+    then(feedPageCache).should().put(eq(all), anyString());
+    then(feedPageCache).should().put(eq(zeroWaste), anyString());
+    then(feedPageCache).should().forget(expired.id());
+    then(feedPageCache).should(never()).exists(vegan);
+  }
+
+  @Test
+  @DisplayName("없는 카테고리는 캐시하지 않고 일반 조회로 응답한다")
+  void getFirstPage_withUnknownCategory_rendersWithoutCaching() {
+    // given
+    given(feedQueryRepository.existsCategory("a:b")).willReturn(false);
+    given(feedService.getGroupChallengeVerifications(null, null, 12, "a:b", null))
+        .willReturn(result(1L));
+
+    // when
+    feedPageCacheService.getFirstPage("latest", "a:b", 12, null);
+
+    // then
+    then(feedPageCache).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("ALL 카테고리 페이지와 전체 피드 페이지는 ID 가 다르다")
+  void feedPage_allCategoryAndAllCategoriesHaveDifferentIds() {
+    // given
+    VerificationFeedPage allCategory = VerificationFeedPage.of("latest", "ALL", 12);
+    VerificationFeedPage allCategories = VerificationFeedPage.of("latest", null, 12);
+
+    // when & then
+    assertThat(allCategory.id()).isNotEqualTo(allCategories.id());
+    assertThat(VerificationFeedPage.parse(allCategory.id())).contains(allCategory);
+    assertThat(VerificationFeedPage.parse(allCategories.id())).contains(allCategories);
+  }
+
+  @Test
+  @DisplayName("읽을 수 없는 페이지 ID 는 목록에서 빼고 나머지 페이지는 계속 갱신한다")
+  void refresh_forgetsMalformedIds_andContinuesAfterPageFailure() {
+    // given
+    VerificationFeedPage failing = VerificationFeedPage.of("popular", null, 12);
+    VerificationFeedPage ok = VerificationFeedPage.of("latest", null, 12);
+    given(feedPageCache.pageIds())
+        .willReturn(new LinkedHashSet<>(List.of("latest:a:b:12", failing.id(), ok.id())));
+    given(feedPageCache.exists(failing)).willReturn(true);
+    given(feedPageCache.exists(ok)).willReturn(true);
+    given(feedService.getPopularGroupChallengeVerifications(null, 12, null, null))
+        .willThrow(new IllegalStateException("db down"));
+    given(feedService.getGroupChallengeVerifications(null, null, 12, null, null))
+        .willReturn(result(1L));
+
+    // when
+    int refreshed = feedPageCacheService.refresh(null);
+
+    // then
+    assertThat(refreshed).isEqualTo(1);
+    then(feedPageCache).should().forget("latest:a:b:12");
+    then(feedPageCache).should().put(eq(ok), anyString());
+  }
+
+  @Test
+  @DisplayName("비동기 갱신은 실패해도 예외를 던지지 않는다")
+  void refreshAsync_whenRefreshFails_swallowsException() {
+    // given
+    given(feedPageCache.pageIds()).willThrow(new IllegalStateException("redis down"));
+
+    // when & then
+    assertThatCode(() -> feedPageCacheService.refreshAsync("ZERO_WASTE", 1L))
+        .doesNotThrowAnyException();
+  }
+}
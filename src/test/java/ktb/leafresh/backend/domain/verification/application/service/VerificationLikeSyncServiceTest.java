@@ -0,0 +1,113 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationLikeChange;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationLikeCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeBatchJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerificationLikeSyncService 테스트")
+class VerificationLikeSyncServiceTest {
+
+  @Mock private VerificationLikeCacheService verificationLikeCacheService;
+
+  @Mock private LikeBatchJdbcRepository likeBatchJdbcRepository;
+
+  @InjectMocks private VerificationLikeSyncService syncService;
+
+  private final VerificationLikeChange like1 = new VerificationLikeChange(1L, 10L, true);
+  private final VerificationLikeChange like2 = new VerificationLikeChange(1L, 11L, true);
+  private final VerificationLikeChange unlike = new VerificationLikeChange(2L, 10L, false);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(syncService, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("변경을 청크 단위로 반영한 뒤 변경 해시를 지운다")
+  void sync_appliesChunks_thenCompletes() {
+    // given
+    given(verificationLikeCacheService.drainPending()).willReturn(List.of(like1, like2, unlike));
+
+    // when
+    int synced = syncService.sync();
+
+    // then
+    assertThat(synced).isEqualTo(3);
+    then(likeBatchJdbcRepository).should().applyChanges(List.of(like1, like2));
+    then(likeBatchJdbcRepository).should().applyChanges(List.of(unlike));
+    then(verificationLikeCacheService).should().completeChanges(List.of(like1, like2));
+    then(verificationLikeCacheService).should().completePending();
+  }
+
+  @Test
+  @DisplayName("제약 조건 위반 청크는 한 건씩 다시 반영해 실패한 변경만 격리하고 동기화를 마친다")
+  void sync_withIntegrityViolation_deadLettersOnlyRejectedChanges() {
+    // given
+    given(verificationLikeCacheService.drainPending()).willReturn(List.of(like1, like2, unlike));
+    willThrow(new DataIntegrityViolationException("FK"))
+        .given(likeBatchJdbcRepository)
+        .applyChanges(List.of(like1, like2));
+    willThrow(new DataIntegrityViolationException("FK"))
+        .given(likeBatchJdbcRepository)
+        .applyChanges(List.of(like2));
+    willDoNothing().given(likeBatchJdbcRepository).applyChanges(List.of(like1));
+    willDoNothing().given(likeBatchJdbcRepository).applyChanges(List.of(unlike));
+
+    // when
+    int synced = syncService.sync();
+
+    // then
+    assertThat(synced).isEqualTo(2);
+    then(likeBatchJdbcRepository).should().applyChanges(List.of(like1));
+    then(verificationLikeCacheService).should().completeChanges(List.of(like1));
+    then(verificationLikeCacheService).should().deadLetter(List.of(like2));
+    then(verificationLikeCacheService).should().completePending();
+  }
+
+  @Test
+  @DisplayName("변경이 없으면 DB 를 호출하지 않는다")
+  void sync_withoutChanges_thenSkip() {
+    // given
+    given(verificationLikeCacheService.drainPending()).willReturn(List.of());
+
+    // when
+    int synced = syncService.sync();
+
+    // then
+    assertThat(synced).isZero();
+    then(likeBatchJdbcRepository).shouldHaveNoInteractions();
+    then(verificationLikeCacheService).should(never()).completePending();
+  }
+
+  @Test
+  @DisplayName("반영에 실패하면 변경 해시를 남겨 다음 주기에 다시 반영한다")
+  void sync_whenDbFails_keepsPending() {
+    // given
+    given(verificationLikeCacheService.drainPending()).willReturn(List.of(like1, like2, unlike));
+    willDoNothing().given(likeBatchJdbcRepository).applyChanges(List.of(like1, like2));
+    willThrow(new RuntimeException("DB Error"))
+        .given(likeBatchJdbcRepository)
+        .applyChanges(List.of(unlike));
+
+    // when & then
+    assertThatThrownBy(() -> syncService.sync()).isInstanceOf(RuntimeException.class);
+    then(verificationLikeCacheService).should().completeChanges(List.of(like1, like2));
+    then(verificationLikeCacheService).should(never()).completeChanges(List.of(unlike));
+    then(verificationLikeCacheService).should(never()).completePending();
+  }
+}
@@ -3,9 +3,10 @@ package ktb.leafresh.backend.domain.verification.application.service;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
 import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeParticipantRecord;
 import ktb.leafresh.backend.domain.challenge.personal.domain.entity.PersonalChallenge;
-import ktb.leafresh.backend.domain.member.application.service.BadgeGrantManager;
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxService;
 import ktb.leafresh.backend.domain.member.application.service.RewardGrantService;
 import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.service.badge.BadgeActivity;
 import ktb.leafresh.backend.domain.notification.application.service.NotificationCreateService;
 import ktb.leafresh.backend.domain.notification.domain.entity.enums.NotificationType;
 import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
@@ -17,6 +18,7 @@ import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
 import ktb.leafresh.backend.global.common.entity.enums.ChallengeType;
 import ktb.leafresh.backend.global.exception.CustomException;
 import ktb.leafresh.backend.global.exception.VerificationErrorCode;
+import ktb.leafresh.backend.support.fixture.GroupChallengeCategoryFixture;
 import ktb.leafresh.backend.support.fixture.GroupChallengeVerificationFixture;
 import ktb.leafresh.backend.support.fixture.PersonalChallengeVerificationFixture;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +29,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,7 +49,7 @@ class VerificationResultProcessorTest {
 
   @Mock private RewardGrantService rewardGrantService;
 
-  @Mock private BadgeGrantManager badgeGrantManager;
+  @Mock private MemberActivityOutboxService memberActivityOutboxService;
 
   @Mock private GroupChallengeParticipantRecord participantRecord;
 
@@ -65,6 +69,7 @@ class VerificationResultProcessorTest {
     GroupChallengeVerification verification =
         GroupChallengeVerificationFixture.of(participantRecord, ChallengeStatus.PENDING_APPROVAL);
     ReflectionTestUtils.setField(verification, "rewarded", false);
+    ReflectionTestUtils.setField(verification, "createdAt", LocalDateTime.of(2024, 1, 1, 9, 0));
 
     given(groupChallengeVerificationRepository.findById(verificationId))
         .willReturn(Optional.of(verification));
@@ -73,10 +78,13 @@ class VerificationResultProcessorTest {
     given(groupChallenge.getTitle()).willReturn("제로웨이스트 5일 챌린지");
     given(groupChallenge.getId()).willReturn(123L);
     given(groupChallenge.getLeafReward()).willReturn(10);
+    given(groupChallenge.getCategory()).willReturn(GroupChallengeCategoryFixture.of("ZERO_WASTE"));
+    given(groupChallenge.getEventFlag()).willReturn(false);
     given(participantRecord.getVerifications()).willReturn(List.of(verification));
     given(participantRecord.isAllSuccess()).willReturn(true);
     given(groupChallenge.getDurationInDays()).willReturn(1);
     given(participantRecord.hasReceivedParticipationBonus()).willReturn(false);
+    given(rewardGrantService.participationBonusOf(participantRecord)).willReturn(50);
 
     VerificationResultRequestDto dto =
         VerificationResultRequestDto.builder()
@@ -101,9 +109,53 @@ class VerificationResultProcessorTest {
             NotificationType.GROUP,
             verification.getImageUrl(),
             123L);
-    verify(rewardGrantService).grantLeafPoints(member, 10);
-    verify(rewardGrantService).grantParticipationBonus(member, participantRecord);
-    verify(badgeGrantManager).evaluateAllAndGrant(member);
+    assertThat(verification.isRewarded()).isTrue();
+    verify(participantRecord).markParticipationBonusRewarded();
+    verify(rewardGrantService, never()).grantLeafPoints(any(), anyInt());
+    verify(memberActivityOutboxService)
+        .enqueue(
+            member,
+            60,
+            BadgeActivity.group("ZERO_WASTE", 123L, null, LocalDate.of(2024, 1, 1)));
+  }
+
+  @Test
+  @DisplayName("개인 인증 결과 처리 - 성공 시 지급은 아웃박스에 기록만 한다")
+  void processPersonal_withSuccessResult_enqueuesRewardAndActivity() {
+    // given
+    Long verificationId = 3L;
+    PersonalChallengeVerification verification =
+        PersonalChallengeVerificationFixture.of(member, personalChallenge);
+    ReflectionTestUtils.setField(verification, "status", ChallengeStatus.PENDING_APPROVAL);
+    ReflectionTestUtils.setField(verification, "rewarded", false);
+    ReflectionTestUtils.setField(verification, "createdAt", LocalDateTime.of(2025, 7, 1, 9, 0));
+
+    given(personalChallengeVerificationRepository.findById(verificationId))
+        .willReturn(Optional.of(verification));
+    given(personalChallenge.getTitle()).willReturn("텀블러 사용 챌린지");
+    given(personalChallenge.getId()).willReturn(321L);
+    given(personalChallenge.getLeafReward()).willReturn(5);
+
+    VerificationResultRequestDto dto =
+        VerificationResultRequestDto.builder()
+            .type(ChallengeType.PERSONAL)
+            .memberId(1L)
+            .challengeId(321L)
+            .verificationId(verificationId)
+            .date("2025-07-01")
+            .result("true")
+            .build();
+
+    // when
+    verificationResultProcessor.process(verificationId, dto);
+
+    // then
+    assertThat(verification.getStatus()).isEqualTo(ChallengeStatus.SUCCESS);
+    assertThat(verification.isRewarded()).isTrue();
+    verify(rewardGrantService, never()).grantLeafPoints(any(), anyInt());
+    verify(memberActivityOutboxService)
+        .enqueue(
+            member, 5, BadgeActivity.personal("텀블러 사용 챌린지", LocalDate.of(2025, 7, 1)));
   }
 
   @Test
@@ -145,7 +197,7 @@ class VerificationResultProcessorTest {
             verification.getImageUrl(),
             321L);
     verify(rewardGrantService, never()).grantLeafPoints(any(), anyInt());
-    verify(badgeGrantManager).evaluateAllAndGrant(member);
+    verify(memberActivityOutboxService).enqueue(member, 0, null);
   }
 
   @Test
@@ -192,6 +244,6 @@ class VerificationResultProcessorTest {
     verifyNoInteractions(groupChallengeVerificationRepository);
     verifyNoInteractions(notificationCreateService);
     verifyNoInteractions(rewardGrantService);
-    verifyNoInteractions(badgeGrantManager);
+    verifyNoInteractions(memberActivityOutboxService);
   }
 }
@@ -0,0 +1,115 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.VerificationStatBatchJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationStatSyncServiceTest {
+
+  @Mock private VerificationStatCacheService verificationStatCacheService;
+
+  @Mock private VerificationStatBatchJdbcRepository verificationStatBatchJdbcRepository;
+
+  private VerificationStatSyncService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new VerificationStatSyncService(
+            verificationStatCacheService, verificationStatBatchJdbcRepository);
+    ReflectionTestUtils.setField(service, "chunkSize", 2);
+    ReflectionTestUtils.setField(service, "maxChunks", 10);
+  }
+
+  @Test
+  void sync_dirty집합이_빌때까지_청크마다_batchUpdate_한번으로_반영한다() {
+    // given
+    VerificationStatDelta first = new VerificationStatDelta(1L, 3, 1, 0);
+    VerificationStatDelta second = new VerificationStatDelta(2L, 1, 0, -1);
+    VerificationStatDelta third = new VerificationStatDelta(3L, 5, 0, 0);
+    given(verificationStatCacheService.claimDirty(2))
+        .willReturn(List.of(1L, 2L), List.of(3L), List.of());
+    given(verificationStatCacheService.readDeltas(List.of(1L, 2L)))
+        .willReturn(List.of(first, second));
+    given(verificationStatCacheService.readDeltas(List.of(3L))).willReturn(List.of(third));
+
+    // when
+    int synced = service.sync();
+
+    // then
+    assertThat(synced).isEqualTo(3);
+    then(verificationStatBatchJdbcRepository).should().increaseCounts(List.of(first, second));
+    then(verificationStatBatchJdbcRepository).should().increaseCounts(List.of(third));
+    then(verificationStatCacheService).should().touchStats(List.of(1L, 2L));
+    then(verificationStatCacheService).should().touchStats(List.of(3L));
+    then(verificationStatCacheService)
+        .should()
+        .completeDeltas(List.of(1L, 2L), List.of(first, second));
+    then(verificationStatCacheService).should().completeDeltas(List.of(3L), List.of(third));
+  }
+
+  @Test
+  void sync_증감분이_0이면_DB에_쓰지않는다() {
+    // given
+    given(verificationStatCacheService.claimDirty(2)).willReturn(List.of(1L), List.of());
+    given(verificationStatCacheService.readDeltas(List.of(1L)))
+        .willReturn(List.of(new VerificationStatDelta(1L, 0, 0, 0)));
+
+    // when
+    int synced = service.sync();
+
+    // then
+    assertThat(synced).isZero();
+    then(verificationStatBatchJdbcRepository).shouldHaveNoInteractions();
+    then(verificationStatCacheService).should().completeDeltas(List.of(1L), List.of());
+  }
+
+  @Test
+  void sync_DB반영에_실패하면_완료처리없이_남겨두고_중단한다() {
+    // given
+    VerificationStatDelta delta = new VerificationStatDelta(1L, 2, 0, 0);
+    given(verificationStatCacheService.claimDirty(2)).willReturn(List.of(1L));
+    given(verificationStatCacheService.readDeltas(List.of(1L))).willReturn(List.of(delta));
+    willThrow(new DataAccessResourceFailureException("db down"))
+        .given(verificationStatBatchJdbcRepository)
+        .increaseCounts(List.of(delta));
+
+    // when
+    int synced = service.sync();
+
+    // then
+    assertThat(synced).isZero();
+    then(verificationStatCacheService).should(never()).completeDeltas(any(), any());
+    then(verificationStatCacheService).should(times(1)).claimDirty(2);
+    then(verificationStatCacheService).should(never()).touchStats(any());
+  }
+
+  @Test
+  void sync_최대_청크수까지만_처리한다() {
+    // given
+    ReflectionTestUtils.setField(service, "maxChunks", 2);
+    given(verificationStatCacheService.claimDirty(2)).willReturn(List.of(1L, 2L));
+    given(verificationStatCacheService.readDeltas(List.of(1L, 2L)))
+        .willReturn(
+            List.of(new VerificationStatDelta(1L, 1, 0, 0), new VerificationStatDelta(2L, 1, 0, 0)));
+
+    // when
+    service.sync();
+
+    // then
+    then(verificationStatCacheService).should(times(2)).claimDirty(2);
+  }
+}
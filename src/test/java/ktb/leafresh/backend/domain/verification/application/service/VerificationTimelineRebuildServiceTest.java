@@ -0,0 +1,93 @@
+package ktb.leafresh.backend.domain.verification.application.service;
+
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.enums.GroupChallengeCategoryName;
+import ktb.leafresh.backend.domain.challenge.group.infrastructure.repository.GroupChallengeCategoryRepository;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
+import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationTimelineService;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import ktb.leafresh.backend.support.fixture.GroupChallengeCategoryFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTimelineRebuildServiceTest {
+
+  @Mock private GroupChallengeCategoryRepository categoryRepository;
+
+  @Mock private GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+
+  @Mock private VerificationTimelineService verificationTimelineService;
+
+  private VerificationTimelineRebuildService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new VerificationTimelineRebuildService(
+            categoryRepository, feedQueryRepository, verificationTimelineService);
+    ReflectionTestUtils.setField(service, "maxSize", 50);
+  }
+
+  @Test
+  void rebuild_전체와_카테고리별_최신_인증을_타임라인에_병합한다() {
+    // given
+    GroupChallengeCategory category =
+        GroupChallengeCategoryFixture.of(GroupChallengeCategoryName.ZERO_WASTE);
+    LocalDateTime now = LocalDateTime.now();
+    List<VerificationTimelineEntry> global =
+        List.of(new VerificationTimelineEntry(2L, now), new VerificationTimelineEntry(1L, now));
+    List<VerificationTimelineEntry> zeroWaste = List.of(new VerificationTimelineEntry(1L, now));
+
+    given(feedQueryRepository.findLatestTimelineEntries(null, 50)).willReturn(global);
+    given(categoryRepository.findAll()).willReturn(List.of(category));
+    given(feedQueryRepository.findLatestTimelineEntries(category.getName(), 50))
+        .willReturn(zeroWaste);
+
+    // when
+    int merged = service.rebuild();
+
+    // then
+    assertThat(merged).isEqualTo(3);
+    then(verificationTimelineService).should().merge(null, global, true);
+    then(verificationTimelineService).should().merge(category.getName(), zeroWaste, false);
+    then(verificationTimelineService).should().markSeeded();
+  }
+
+  @Test
+  void rebuildIfUnseeded_이미_채워진_타임라인이면_DB를_읽지_않는다() {
+    // given
+    given(verificationTimelineService.isSeeded()).willReturn(true);
+
+    // when
+    service.rebuildIfUnseeded();
+
+    // then
+    then(feedQueryRepository).shouldHaveNoInteractions();
+    then(verificationTimelineService).should(never()).markSeeded();
+  }
+
+  @Test
+  void rebuildIfUnseeded_표식이_없으면_재구성한다() {
+    // given
+    given(verificationTimelineService.isSeeded()).willReturn(false);
+    given(feedQueryRepository.findLatestTimelineEntries(any(), anyInt())).willReturn(List.of());
+    given(categoryRepository.findAll()).willReturn(List.of());
+
+    // when
+    service.rebuildIfUnseeded();
+
+    // then
+    then(verificationTimelineService).should().markSeeded();
+  }
+}
@@ -10,6 +10,7 @@ import ktb.leafresh.backend.support.fixture.MemberFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -162,6 +163,30 @@ class CommentTest {
       assertThat(childComment.getParentComment()).isEqualTo(parentComment);
       assertThat(childComment.getVerification()).isEqualTo(parentComment.getVerification());
     }
+
+    @Test
+    @DisplayName("저장 시 대댓글의 대댓글도 스레드 최상위 댓글 ID 를 가진다")
+    void assignRootComment_usesThreadRootOfParent() {
+      // given
+      Member member = MemberFixture.of();
+      GroupChallengeVerification verification = GroupChallengeVerificationFixture.of(null);
+      Comment root = CommentFixture.of(verification, member, "최상위 댓글");
+      ReflectionTestUtils.setField(root, "id", 1L);
+      Comment reply = CommentFixture.replyOf(verification, member, root, "대댓글");
+      ReflectionTestUtils.setField(reply, "id", 2L);
+      Comment nested = CommentFixture.replyOf(verification, member, reply, "대댓글의 대댓글");
+
+      // when
+      root.assignRootComment();
+      reply.assignRootComment();
+      nested.assignRootComment();
+
+      // then
+      assertThat(root.getRootCommentId()).isNull();
+      assertThat(root.getThreadRootId()).isEqualTo(1L);
+      assertThat(reply.getRootCommentId()).isEqualTo(1L);
+      assertThat(nested.getRootCommentId()).isEqualTo(1L);
+    }
   }
 
   @Nested
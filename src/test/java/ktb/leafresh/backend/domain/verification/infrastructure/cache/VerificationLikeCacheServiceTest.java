@@ -0,0 +1,226 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationLikeChange;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
+import ktb.leafresh.backend.global.util.redis.VerificationLikeRedisLuaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationLikeCacheServiceTest {
+
+  private static final String PENDING = VerificationCacheKeys.likePending();
+  private static final String PROCESSING = VerificationCacheKeys.likeProcessing();
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private VerificationLikeRedisLuaService verificationLikeRedisLuaService;
+
+  @Mock private LikeRepository likeRepository;
+
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+
+  private VerificationLikeCacheService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new VerificationLikeCacheService(
+            stringRedisTemplate, verificationLikeRedisLuaService, likeRepository);
+    ReflectionTestUtils.setField(service, "ttlDays", 1L);
+    ReflectionTestUtils.setField(service, "memberSeedLimit", 1000);
+  }
+
+  /** HSCAN 결과를 돌려주는 커서 */
+  @SuppressWarnings("unchecked")
+  private Cursor<Map.Entry<Object, Object>> cursorOf(Map<Object, Object> entries) {
+    Iterator<Map.Entry<Object, Object>> iterator = entries.entrySet().iterator();
+    Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+    willAnswer(
+            invocation -> {
+              Consumer<Map.Entry<Object, Object>> action = invocation.getArgument(0);
+              iterator.forEachRemaining(action);
+              return null;
+            })
+        .given(cursor)
+        .forEachRemaining(any());
+    return cursor;
+  }
+
+  private void givenUnsynced(Map<Object, Object> processing, Map<Object, Object> pending) {
+    Cursor<Map.Entry<Object, Object>> processingCursor = cursorOf(processing);
+    Cursor<Map.Entry<Object, Object>> pendingCursor = cursorOf(pending);
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.scan(eq(PROCESSING), any(ScanOptions.class)))
+        .willReturn(processingCursor);
+    given(hashOperations.scan(eq(PENDING), any(ScanOptions.class))).willReturn(pendingCursor);
+  }
+
+  @Test
+  void toggle_인증별_회원별_SET과_변경_해시를_스크립트_한_번으로_갱신한다() {
+    // given
+    given(
+            verificationLikeRedisLuaService.toggle(
+                VerificationCacheKeys.likers(10L),
+                PENDING,
+                VerificationCacheKeys.memberLikes(1L),
+                "10:1",
+                "1",
+                "10",
+                true,
+                86400))
+        .willReturn(1L);
+
+    // when & then
+    assertThat(service.toggle(10L, 1L, true)).isEqualTo(1L);
+  }
+
+  @Test
+  void seed_좋아요가_없어도_SET이_존재하도록_sentinel을_넣는다() {
+    // when
+    service.seed(10L, List.of());
+
+    // then
+    then(verificationLikeRedisLuaService)
+        .should()
+        .seed(VerificationCacheKeys.likers(10L), List.of("_"), 86400);
+  }
+
+  @Test
+  void drainPending_변경_해시를_processing_키로_옮겨_읽는다() {
+    // given
+    given(stringRedisTemplate.hasKey(PROCESSING)).willReturn(false);
+    given(stringRedisTemplate.hasKey(PENDING)).willReturn(true);
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries(PROCESSING)).willReturn(Map.of("10:1", "1", "11:2", "0"));
+
+    // when
+    List<VerificationLikeChange> changes = service.drainPending();
+
+    // then
+    then(stringRedisTemplate).should().rename(PENDING, PROCESSING);
+    assertThat(changes)
+        .containsExactlyInAnyOrder(
+            new VerificationLikeChange(10L, 1L, true), new VerificationLikeChange(11L, 2L, false));
+  }
+
+  @Test
+  void drainPending_이전에_실패한_변경이_남아_있으면_그것부터_다시_읽는다() {
+    // given
+    given(stringRedisTemplate.hasKey(PROCESSING)).willReturn(true);
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries(PROCESSING)).willReturn(Map.of("10:1", "1"));
+
+    // when
+    List<VerificationLikeChange> changes = service.drainPending();
+
+    // then
+    then(stringRedisTemplate).should(never()).rename(anyString(), anyString());
+    assertThat(changes).containsExactly(new VerificationLikeChange(10L, 1L, true));
+  }
+
+  @Test
+  void deadLetter_반영할_수_없는_변경을_격리_해시로_옮기고_processing에서_뺀다() {
+    // given
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+
+    // when
+    service.deadLetter(List.of(new VerificationLikeChange(10L, 1L, true)));
+
+    // then
+    then(hashOperations)
+        .should()
+        .putAll(VerificationCacheKeys.likeDeadLetter(), Map.of("10:1", "1"));
+    then(hashOperations).should().delete(PROCESSING, "10:1");
+  }
+
+  @Test
+  void drainPending_변경이_없으면_빈_목록() {
+    // given
+    given(stringRedisTemplate.hasKey(PROCESSING)).willReturn(false);
+    given(stringRedisTemplate.hasKey(PENDING)).willReturn(false);
+
+    // when & then
+    assertThat(service.drainPending()).isEmpty();
+    then(stringRedisTemplate).should(never()).rename(anyString(), anyString());
+  }
+
+  @Test
+  void findLikedIds_회원_SET이_있으면_SMISMEMBER_결과로_응답하고_DB를_조회하지_않는다() {
+    // given
+    given(
+            verificationLikeRedisLuaService.isMembers(
+                VerificationCacheKeys.memberLikes(1L), List.of("10", "11", "12")))
+        .willReturn(List.of(true, false, true));
+
+    // when
+    Set<Long> likedIds = service.findLikedIds(1L, List.of(10L, 11L, 12L));
+
+    // then
+    assertThat(likedIds).containsExactlyInAnyOrder(10L, 12L);
+    then(likeRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void findLikedIds_회원_SET이_없으면_DB로_채운_뒤_응답한다() {
+    // given
+    given(verificationLikeRedisLuaService.isMembers(anyString(), anyList())).willReturn(null);
+    given(likeRepository.findVerificationIdsByMemberId(eq(1L), any(Pageable.class)))
+        .willReturn(List.of(11L, 99L));
+    givenUnsynced(Map.of(), Map.of());
+
+    // when
+    Set<Long> likedIds = service.findLikedIds(1L, List.of(10L, 11L));
+
+    // then
+    assertThat(likedIds).containsExactly(11L);
+    then(verificationLikeRedisLuaService)
+        .should()
+        .seed(eq(VerificationCacheKeys.memberLikes(1L)), argThat(m -> m.contains("_")), eq(86400L));
+  }
+
+  @Test
+  void seedMember_DB에_아직_반영되지_않은_이_회원의_변경을_덮어쓴다() {
+    // given
+    given(likeRepository.findVerificationIdsByMemberId(eq(1L), any(Pageable.class)))
+        .willReturn(List.of(11L, 12L));
+    givenUnsynced(Map.of("12:1", "0", "13:1", "1"), Map.of("13:1", "0", "14:1", "1"));
+
+    // when
+    Set<Long> likedIds = service.seedMember(1L);
+
+    // then
+    assertThat(likedIds).containsExactlyInAnyOrder(11L, 14L);
+    then(verificationLikeRedisLuaService)
+        .should()
+        .seed(
+            eq(VerificationCacheKeys.memberLikes(1L)),
+            argThat(m -> m.containsAll(List.of("_", "11", "14")) && m.size() == 3),
+            eq(86400L));
+  }
+
+  @Test
+  void findLikedIds_빈_페이지면_Redis를_호출하지_않는다() {
+    // when & then
+    assertThat(service.findLikedIds(1L, List.of())).isEmpty();
+    then(verificationLikeRedisLuaService).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,182 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import ktb.leafresh.backend.global.util.redis.VerificationStatRedisLuaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationStatCacheServiceTest {
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock private GroupChallengeVerificationRepository groupChallengeVerificationRepository;
+
+  @Mock private VerificationStatRedisLuaService verificationStatRedisLuaService;
+
+  @Mock private SetOperations<String, String> setOps;
+
+  @Mock private StringRedisConnection connection;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private VerificationStatCacheService service;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new VerificationStatCacheService(
+            stringRedisTemplate,
+            redisTemplate,
+            groupChallengeVerificationRepository,
+            meterRegistry,
+            verificationStatRedisLuaService);
+  }
+
+  /** 파이프라인 콜백을 mock 커넥션에 실행하고, 호출 순서대로 주어진 결과를 돌려준다 */
+  @SafeVarargs
+  private void givenPipelineResults(List<Object>... results) {
+    var stub = given(stringRedisTemplate.executePipelined(any(RedisCallback.class)));
+    for (List<Object> result : results) {
+      stub =
+          stub.willAnswer(
+              invocation -> {
+                RedisCallback<?> callback = invocation.getArgument(0);
+                callback.doInRedis(connection);
+                return result;
+              });
+    }
+  }
+
+  @Test
+  void getStatsBulk_모두_캐시에_있으면_파이프라인_한번으로_조회한다() {
+    // given
+    Map<Object, Object> first = Map.of("viewCount", "3", "likeCount", "1", "commentCount", "0");
+    Map<Object, Object> second = Map.of("viewCount", "7", "likeCount", "2", "commentCount", "4");
+    givenPipelineResults(List.of(first, second));
+
+    // when
+    Map<Long, Map<Object, Object>> stats = service.getStatsBulk(List.of(1L, 2L));
+
+    // then
+    assertThat(stats).containsEntry(1L, first).containsEntry(2L, second);
+    then(connection).should().hGetAll(VerificationCacheKeys.stat(1L));
+    then(connection).should().hGetAll(VerificationCacheKeys.stat(2L));
+    then(stringRedisTemplate).should(times(1)).executePipelined(any(RedisCallback.class));
+    then(groupChallengeVerificationRepository).shouldHaveNoInteractions();
+    assertThat(meterRegistry.counter("verification.stat.cache.hit").count()).isEqualTo(2);
+    assertThat(meterRegistry.counter("verification.stat.cache.miss").count()).isZero();
+    assertThat(meterRegistry.summary("verification.stat.cache.batch-size").totalAmount())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void getStatsBulk_캐시_누락분은_DB_한번으로_조회하고_캐시를_복구한다() {
+    // given
+    Map<Object, Object> cached = Map.of("viewCount", "3", "likeCount", "1", "commentCount", "0");
+    givenPipelineResults(List.of(cached, Map.of(), Map.of()), List.of());
+    given(groupChallengeVerificationRepository.findStatsByIds(List.of(2L, 3L)))
+        .willReturn(List.of(new VerificationStatSnapshot(2L, 10, 5, 1)));
+
+    // when
+    Map<Long, Map<Object, Object>> stats = service.getStatsBulk(List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(stats).hasSize(2).containsEntry(1L, cached).doesNotContainKey(3L);
+    assertThat(stats.get(2L))
+        .containsEntry("viewCount", "10")
+        .containsEntry("likeCount", "5")
+        .containsEntry("commentCount", "1");
+    then(connection).should().hSetNX(VerificationCacheKeys.stat(2L), "viewCount", "10");
+    then(connection).should().hSetNX(VerificationCacheKeys.stat(2L), "likeCount", "5");
+    then(connection).should().hSetNX(VerificationCacheKeys.stat(2L), "commentCount", "1");
+    then(connection).should().expire(eq(VerificationCacheKeys.stat(2L)), anyLong());
+    assertThat(meterRegistry.counter("verification.stat.cache.hit").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("verification.stat.cache.miss").count()).isEqualTo(2);
+  }
+
+  @Test
+  void getStatsBulk_빈_목록이면_Redis를_호출하지_않는다() {
+    // when
+    Map<Long, Map<Object, Object>> stats = service.getStatsBulk(List.of());
+
+    // then
+    assertThat(stats).isEmpty();
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void claimDirty_반영중_집합이_없으면_dirty_집합을_옮겨와_고른다() {
+    // given
+    given(stringRedisTemplate.hasKey(VerificationCacheKeys.dirtyProcessingKey())).willReturn(false);
+    given(stringRedisTemplate.hasKey(VerificationCacheKeys.dirtySetKey())).willReturn(true);
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(setOps.distinctRandomMembers(VerificationCacheKeys.dirtyProcessingKey(), 2))
+        .willReturn(Set.of("1"));
+
+    // when
+    List<Long> ids = service.claimDirty(2);
+
+    // then
+    assertThat(ids).containsExactly(1L);
+    then(stringRedisTemplate)
+        .should()
+        .rename(VerificationCacheKeys.dirtySetKey(), VerificationCacheKeys.dirtyProcessingKey());
+  }
+
+  @Test
+  void claimDirty_반영중_집합이_남아있으면_그것부터_다시_가져간다() {
+    // given
+    given(stringRedisTemplate.hasKey(VerificationCacheKeys.dirtyProcessingKey())).willReturn(true);
+    given(stringRedisTemplate.opsForSet()).willReturn(setOps);
+    given(setOps.distinctRandomMembers(VerificationCacheKeys.dirtyProcessingKey(), 2))
+        .willReturn(Set.of("7"));
+
+    // when
+    List<Long> ids = service.claimDirty(2);
+
+    // then
+    assertThat(ids).containsExactly(7L);
+    then(stringRedisTemplate).should(never()).rename(anyString(), anyString());
+  }
+
+  @Test
+  void completeDeltas_반영분과_반영할_것이_없던_ID를_함께_완료처리한다() {
+    // when
+    service.completeDeltas(List.of(1L, 2L), List.of(new VerificationStatDelta(1L, 3, 0, -1)));
+
+    // then
+    then(verificationStatRedisLuaService)
+        .should()
+        .complete(
+            eq(VerificationCacheKeys.dirtyProcessingKey()),
+            eq(List.of(VerificationCacheKeys.delta(1L), VerificationCacheKeys.delta(2L))),
+            argThat(
+                values ->
+                    values.size() == 2
+                        && Arrays.equals(values.get(0), new long[] {1, 3, 0, -1})
+                        && Arrays.equals(values.get(1), new long[] {2, 0, 0, 0})));
+  }
+}
@@ -0,0 +1,228 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationStatCounterBufferTest {
+
+  private static final Long VERIFICATION_ID = 1L;
+  private static final String STAT_KEY = VerificationCacheKeys.stat(VERIFICATION_ID);
+  private static final String DELTA_KEY = VerificationCacheKeys.delta(VERIFICATION_ID);
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private GroupChallengeVerificationRepository groupChallengeVerificationRepository;
+
+  @Mock private VerificationStatCacheService verificationStatCacheService;
+
+  @Mock private VerificationTrendingService verificationTrendingService;
+
+  @Mock private StringRedisConnection connection;
+
+  private VerificationStatCounterBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    buffer =
+        new VerificationStatCounterBuffer(
+            stringRedisTemplate,
+            groupChallengeVerificationRepository,
+            verificationStatCacheService,
+            verificationTrendingService);
+  }
+
+  /** 파이프라인 콜백을 mock 커넥션에 실행, 첫 번째 호출(EXISTS)은 주어진 결과를 돌려준다 */
+  private void givenPipelineWithExists(Boolean... exists) {
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              return List.of(exists);
+            });
+  }
+
+  @Test
+  void flush_누적된_증감분을_파이프라인으로_한번에_반영한다() {
+    // given
+    givenPipelineWithExists(true);
+    buffer.increaseViewCount(VERIFICATION_ID);
+    buffer.increaseViewCount(VERIFICATION_ID);
+    buffer.increaseViewCount(VERIFICATION_ID);
+    buffer.increaseLikeCount(VERIFICATION_ID);
+    buffer.decreaseLikeCount(VERIFICATION_ID);
+    buffer.increaseCommentCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    then(connection).should().hIncrBy(STAT_KEY, "viewCount", 3L);
+    then(connection).should().hIncrBy(STAT_KEY, "commentCount", 1L);
+    then(connection).should().hIncrBy(DELTA_KEY, "viewCount", 3L);
+    then(connection).should().hIncrBy(DELTA_KEY, "commentCount", 1L);
+    then(connection).should(never()).hIncrBy(anyString(), eq("likeCount"), anyLong());
+    then(connection).should().sAdd(VerificationCacheKeys.dirtySetKey(), "1");
+    then(connection).should().expire(STAT_KEY, 60 * 60 * 24);
+    then(verificationStatCacheService).shouldHaveNoInteractions();
+    then(verificationTrendingService)
+        .should()
+        .record(List.of(new VerificationStatDelta(VERIFICATION_ID, 3, 0, 1)));
+    assertThat(buffer.drain()).isEmpty();
+  }
+
+  @Test
+  void flush_인기_점수_반영이_실패해도_증감분을_되돌리지_않는다() {
+    // given
+    givenPipelineWithExists(true);
+    willThrow(new QueryTimeoutException("timeout"))
+        .given(verificationTrendingService)
+        .record(anyList());
+    buffer.increaseLikeCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    then(connection).should().hIncrBy(STAT_KEY, "likeCount", 1L);
+    assertThat(buffer.drain()).isEmpty();
+  }
+
+  @Test
+  void flush_캐시가_없으면_DB값으로_초기화한뒤_반영한다() {
+    // given
+    givenPipelineWithExists(false);
+    given(groupChallengeVerificationRepository.findStatsByIds(List.of(VERIFICATION_ID)))
+        .willReturn(List.of(new VerificationStatSnapshot(VERIFICATION_ID, 10, 2, 1)));
+    buffer.increaseViewCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    then(verificationStatCacheService)
+        .should()
+        .initializeVerificationStats(VERIFICATION_ID, 10, 2, 1);
+    then(connection).should().hIncrBy(STAT_KEY, "viewCount", 1L);
+  }
+
+  @Test
+  void flush_DB에도_없는_인증은_반영하지_않는다() {
+    // given
+    givenPipelineWithExists(false);
+    given(groupChallengeVerificationRepository.findStatsByIds(List.of(VERIFICATION_ID)))
+        .willReturn(List.of());
+    buffer.increaseViewCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    then(connection).should(never()).hIncrBy(anyString(), anyString(), anyLong());
+    then(connection).should(never()).sAdd(anyString(), any(String[].class));
+  }
+
+  @Test
+  void flush_실패하면_증감분을_버퍼에_되돌린다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willThrow(new QueryTimeoutException("timeout"));
+    buffer.increaseViewCount(VERIFICATION_ID);
+    buffer.increaseCommentCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    Map<Long, long[]> remaining = buffer.drain();
+    assertThat(remaining.get(VERIFICATION_ID)).containsExactly(1L, 0L, 1L);
+    then(verificationTrendingService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void flush_파이프라인이_일부만_실패하면_실행되지_않은_필드만_되돌린다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(List.of(true))
+        .willThrow(
+            new RedisPipelineException(
+                new QueryTimeoutException("timeout"),
+                List.of(3L, 3L, 1L, new QueryTimeoutException("timeout"), 1L, true)));
+    buffer.increaseViewCount(VERIFICATION_ID);
+    buffer.increaseCommentCount(VERIFICATION_ID);
+
+    // when
+    buffer.flush();
+
+    // then
+    Map<Long, long[]> remaining = buffer.drain();
+    assertThat(remaining.get(VERIFICATION_ID)).containsExactly(0L, 0L, 1L);
+    then(verificationTrendingService)
+        .should()
+        .record(List.of(new VerificationStatDelta(VERIFICATION_ID, 1, 0, 0)));
+  }
+
+  @Test
+  void flush_누적분이_없으면_Redis를_호출하지_않는다() {
+    // when
+    buffer.flush();
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void 동시에_증가해도_누락없이_집계된다() throws Exception {
+    // given
+    int threads = 8;
+    int perThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // when
+    for (int t = 0; t < threads; t++) {
+      long id = t % 2 + 1;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+              for (int i = 0; i < perThread; i++) {
+                buffer.increaseViewCount(id);
+              }
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    Map<Long, long[]> drained = buffer.drain();
+    assertThat(drained.get(1L)[0]).isEqualTo(threads / 2L * perThread);
+    assertThat(drained.get(2L)[0]).isEqualTo(threads / 2L * perThread);
+  }
+}
@@ -0,0 +1,183 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationTimelineEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTimelineServiceTest {
+
+  private static final LocalDateTime CURSOR_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private StringRedisConnection connection;
+
+  private VerificationTimelineService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new VerificationTimelineService(stringRedisTemplate);
+    ReflectionTestUtils.setField(service, "enabled", true);
+    ReflectionTestUtils.setField(service, "maxSize", 100);
+  }
+
+  private double scoreOf(LocalDateTime time) {
+    return time.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+  }
+
+  private void givenTimeline(long size, TypedTuple<String>... tuples) {
+    givenTimeline(true, size, tuples);
+  }
+
+  private void givenTimeline(boolean seeded, long size, TypedTuple<String>... tuples) {
+    Set<TypedTuple<String>> range = new LinkedHashSet<>(List.of(tuples));
+    given(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+        .willReturn(List.of(range, size, seeded));
+  }
+
+  @Test
+  void add_전체와_카테고리_타임라인에_추가하고_보관_범위로_자른다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              return List.of();
+            });
+
+    // when
+    service.add(7L, "ZERO_WASTE", CURSOR_TIME);
+
+    // then
+    then(connection).should().zAdd(VerificationCacheKeys.timeline(null), scoreOf(CURSOR_TIME), "7");
+    then(connection)
+        .should()
+        .zAdd(VerificationCacheKeys.timeline("ZERO_WASTE"), scoreOf(CURSOR_TIME), "7");
+    then(connection).should().zRemRange(VerificationCacheKeys.timeline(null), 0, -101);
+    then(connection).should().zRemRange(VerificationCacheKeys.timeline("ZERO_WASTE"), 0, -101);
+  }
+
+  @Test
+  void add_ALL_카테고리는_전체_타임라인과_다른_키에_추가한다() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willAnswer(
+            invocation -> {
+              RedisCallback<?> callback = invocation.getArgument(0);
+              callback.doInRedis(connection);
+              return List.of();
+            });
+
+    // when
+    service.add(7L, "ALL", CURSOR_TIME);
+
+    // then
+    assertThat(VerificationCacheKeys.timeline("ALL"))
+        .isNotEqualTo(VerificationCacheKeys.timeline(null));
+    then(connection).should().zAdd(VerificationCacheKeys.timeline(null), scoreOf(CURSOR_TIME), "7");
+    then(connection)
+        .should()
+        .zAdd(VerificationCacheKeys.timeline("ALL"), scoreOf(CURSOR_TIME), "7");
+  }
+
+  @Test
+  void findIds_같은_시각이면_커서보다_작은_ID만_ID_내림차순으로_반환한다() {
+    // given
+    double cursorScore = scoreOf(CURSOR_TIME);
+    givenTimeline(
+        10,
+        new DefaultTypedTuple<>("9", cursorScore), // 이전 페이지에서 이미 보여준 항목
+        new DefaultTypedTuple<>("5", cursorScore),
+        new DefaultTypedTuple<>("12", cursorScore),
+        new DefaultTypedTuple<>("3", cursorScore - 1000),
+        new DefaultTypedTuple<>("2", cursorScore - 2000));
+
+    // when
+    Optional<List<Long>> ids = service.findIds(null, 8L, CURSOR_TIME, 3);
+
+    // then
+    assertThat(ids).contains(List.of(5L, 3L, 2L));
+  }
+
+  @Test
+  void findIds_타임라인이_없으면_empty를_반환한다() {
+    // given
+    givenTimeline(0);
+
+    // when & then
+    assertThat(service.findIds("ZERO_WASTE", null, null, 5)).isEmpty();
+  }
+
+  @Test
+  void findIds_보관_범위를_벗어나면_empty를_반환해_DB로_넘긴다() {
+    // given
+    givenTimeline(100, new DefaultTypedTuple<>("1", 1.0));
+
+    // when & then
+    assertThat(service.findIds(null, null, null, 5)).isEmpty();
+  }
+
+  @Test
+  void findIds_보관_범위_안에서_끝나면_남은_ID만_반환한다() {
+    // given
+    givenTimeline(2, new DefaultTypedTuple<>("2", 2.0), new DefaultTypedTuple<>("1", 1.0));
+
+    // when & then
+    assertThat(service.findIds(null, null, null, 5)).contains(List.of(2L, 1L));
+  }
+
+  @Test
+  void findIds_재구성_표식이_없으면_항목이_있어도_empty를_반환한다() {
+    // given
+    givenTimeline(false, 1, new DefaultTypedTuple<>("7", 7.0));
+
+    // when & then
+    assertThat(service.findIds(null, null, null, 5)).isEmpty();
+  }
+
+  @Test
+  void remove_전체와_카테고리_타임라인에서_뺀다() {
+    // given
+    ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+    // when
+    service.remove("ZERO_WASTE", List.of(3L, 4L));
+
+    // then
+    then(zSetOperations).should().remove(VerificationCacheKeys.timeline(null), "3", "4");
+    then(zSetOperations).should().remove(VerificationCacheKeys.timeline("ZERO_WASTE"), "3", "4");
+  }
+
+  @Test
+  void merge_항목이_없으면_Redis를_호출하지_않는다() {
+    // when
+    service.merge("ZERO_WASTE", List.<VerificationTimelineEntry>of(), false);
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,179 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatDelta;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationFeedQueryRepository;
+import ktb.leafresh.backend.global.util.redis.TrendingScoreRedisLuaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationTrendingServiceTest {
+
+  private static final long HALF_LIFE_SECONDS = 24 * 60 * 60;
+
+  @Mock private TrendingScoreRedisLuaService trendingScoreRedisLuaService;
+
+  @Mock private GroupChallengeVerificationFeedQueryRepository feedQueryRepository;
+
+  private VerificationTrendingService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new VerificationTrendingService(trendingScoreRedisLuaService, feedQueryRepository);
+    ReflectionTestUtils.setField(service, "enabled", true);
+    ReflectionTestUtils.setField(service, "halfLifeHours", 24L);
+    ReflectionTestUtils.setField(service, "viewWeight", 1.0);
+    ReflectionTestUtils.setField(service, "likeWeight", 5.0);
+    ReflectionTestUtils.setField(service, "commentWeight", 8.0);
+    ReflectionTestUtils.setField(service, "topN", 1000);
+  }
+
+  @Test
+  void record_가중합을_전체와_카테고리_ZSET에_함께_더한다() {
+    // given
+    given(feedQueryRepository.findCategoryNamesByIds(List.of(1L)))
+        .willReturn(Map.of(1L, "ZERO_WASTE"));
+
+    // when
+    service.record(List.of(new VerificationStatDelta(1L, 3, 1, 1)));
+
+    // then
+    then(trendingScoreRedisLuaService)
+        .should()
+        .increment(
+            eq(VerificationCacheKeys.trendingEpoch()),
+            eq(VerificationCacheKeys.trendingKeys()),
+            eq(
+                List.of(
+                    VerificationCacheKeys.trending(null),
+                    VerificationCacheKeys.trending("ZERO_WASTE"))),
+            eq(List.of("1", "1")),
+            eq(List.of(16.0, 16.0)),
+            anyLong(),
+            eq(HALF_LIFE_SECONDS));
+  }
+
+  @Test
+  void record_ALL_카테고리도_전체_ZSET과_다른_키에_한번씩만_더한다() {
+    // given
+    given(feedQueryRepository.findCategoryNamesByIds(List.of(1L))).willReturn(Map.of(1L, "ALL"));
+
+    // when
+    service.record(List.of(new VerificationStatDelta(1L, 1, 0, 0)));
+
+    // then
+    assertThat(VerificationCacheKeys.trending("ALL"))
+        .isNotEqualTo(VerificationCacheKeys.trending(null));
+    then(trendingScoreRedisLuaService)
+        .should()
+        .increment(
+            any(),
+            any(),
+            eq(
+                List.of(
+                    VerificationCacheKeys.trending(null), VerificationCacheKeys.trending("ALL"))),
+            eq(List.of("1", "1")),
+            eq(List.of(1.0, 1.0)),
+            anyLong(),
+            anyLong());
+  }
+
+  @Test
+  void record_카테고리는_한번_조회한_뒤_메모리에서_재사용한다() {
+    // given
+    given(feedQueryRepository.findCategoryNamesByIds(List.of(1L)))
+        .willReturn(Map.of(1L, "ZERO_WASTE"));
+
+    // when
+    service.record(List.of(new VerificationStatDelta(1L, 1, 0, 0)));
+    service.record(List.of(new VerificationStatDelta(1L, 1, 0, 0)));
+
+    // then
+    then(feedQueryRepository).should(times(1)).findCategoryNamesByIds(anyCollection());
+    then(trendingScoreRedisLuaService)
+        .should(times(2))
+        .increment(any(), any(), anyList(), anyList(), anyList(), anyLong(), anyLong());
+  }
+
+  @Test
+  void record_가중합이_0인_증감분은_건너뛴다() {
+    // given
+    given(feedQueryRepository.findCategoryNamesByIds(List.of(1L))).willReturn(Map.of());
+
+    // when
+    service.record(List.of(new VerificationStatDelta(1L, 0, 0, 0)));
+
+    // then
+    then(trendingScoreRedisLuaService)
+        .should()
+        .increment(any(), any(), eq(List.of()), eq(List.of()), eq(List.of()), anyLong(), anyLong());
+  }
+
+  @Test
+  void record_비활성화되어_있으면_아무것도_하지_않는다() {
+    // given
+    ReflectionTestUtils.setField(service, "enabled", false);
+
+    // when
+    service.record(List.of(new VerificationStatDelta(1L, 1, 1, 1)));
+
+    // then
+    then(trendingScoreRedisLuaService).shouldHaveNoInteractions();
+    then(feedQueryRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void findTrendingIds_커서_다음_순위의_ID를_반환한다() {
+    // given
+    given(
+            trendingScoreRedisLuaService.pageAfter(
+                VerificationCacheKeys.trending("ZERO_WASTE"), "7", 3))
+        .willReturn(List.of("5", "3"));
+
+    // when
+    List<Long> ids = service.findTrendingIds("ZERO_WASTE", 7L, 3);
+
+    // then
+    assertThat(ids).containsExactly(5L, 3L);
+  }
+
+  @Test
+  void trim_상위_N개만_남기도록_rebase를_호출한다() {
+    // given
+    given(
+            trendingScoreRedisLuaService.rebaseAndTrim(
+                eq(VerificationCacheKeys.trendingEpoch()),
+                eq(VerificationCacheKeys.trendingKeys()),
+                anyLong(),
+                eq(HALF_LIFE_SECONDS),
+                eq(1000)))
+        .willReturn(12L);
+
+    // when
+    long removed = service.trim();
+
+    // then
+    assertThat(removed).isEqualTo(12L);
+  }
+
+  @Test
+  void remove_등록된_모든_인기_ZSET에서_뺀다() {
+    // when
+    service.remove(List.of(3L, 4L));
+
+    // then
+    then(trendingScoreRedisLuaService)
+        .should()
+        .remove(VerificationCacheKeys.trendingKeys(), List.of("3", "4"));
+  }
+}
@@ -0,0 +1,114 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationViewCounterTest {
+
+  private static final Long VERIFICATION_ID = 1L;
+  private static final String VIEWERS_KEY = VerificationCacheKeys.viewers(VERIFICATION_ID);
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private VerificationStatCounterBuffer verificationStatCounterBuffer;
+
+  @Mock private HyperLogLogOperations<String, String> hyperLogLogOperations;
+
+  private VerificationViewCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    counter = new VerificationViewCounter(stringRedisTemplate, verificationStatCounterBuffer);
+    ReflectionTestUtils.setField(counter, "uniqueViewEnabled", true);
+    ReflectionTestUtils.setField(counter, "viewerTtlDays", 30L);
+  }
+
+  @Test
+  void recordView_고유조회자_모드가_꺼져있으면_매번_조회수를_올린다() {
+    // given
+    ReflectionTestUtils.setField(counter, "uniqueViewEnabled", false);
+
+    // when
+    counter.recordView(VERIFICATION_ID, 5L, null);
+    counter.recordView(VERIFICATION_ID, 5L, null);
+
+    // then
+    then(verificationStatCounterBuffer).should(times(2)).increaseViewCount(VERIFICATION_ID);
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void recordView_처음_보는_조회자면_조회수를_올리고_TTL을_갱신한다() {
+    // given
+    given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+    given(hyperLogLogOperations.add(VIEWERS_KEY, "m:5")).willReturn(1L);
+
+    // when
+    counter.recordView(VERIFICATION_ID, 5L, "127.0.0.1|agent");
+
+    // then
+    then(verificationStatCounterBuffer).should().increaseViewCount(VERIFICATION_ID);
+    then(stringRedisTemplate).should().expire(VIEWERS_KEY, Duration.ofDays(30));
+  }
+
+  @Test
+  void recordView_이미_집계된_조회자면_조회수를_올리지_않는다() {
+    // given
+    given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+    given(hyperLogLogOperations.add(VIEWERS_KEY, "m:5")).willReturn(0L);
+
+    // when
+    counter.recordView(VERIFICATION_ID, 5L, null);
+
+    // then
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void recordView_비회원은_클라이언트_키_해시로_구분한다() {
+    // given
+    given(stringRedisTemplate.opsForHyperLogLog()).willReturn(hyperLogLogOperations);
+    ArgumentCaptor<String[]> viewer = ArgumentCaptor.forClass(String[].class);
+    given(hyperLogLogOperations.add(eq(VIEWERS_KEY), viewer.capture())).willReturn(1L);
+
+    // when
+    counter.recordView(VERIFICATION_ID, null, "127.0.0.1|agent");
+
+    // then
+    assertThat(viewer.getValue()).singleElement().asString().startsWith("a:").hasSize(18);
+    assertThat(viewer.getValue()[0]).doesNotContain("127.0.0.1");
+  }
+
+  @Test
+  void recordView_회원도_클라이언트_키도_없으면_집계하지_않는다() {
+    // when
+    counter.recordView(VERIFICATION_ID, null, " ");
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
+  }
+
+  @Test
+  void recordView_Redis_오류는_조회를_막지_않는다() {
+    // given
+    given(stringRedisTemplate.opsForHyperLogLog()).willThrow(new IllegalStateException("down"));
+
+    // when & then
+    assertThatCode(() -> counter.recordView(VERIFICATION_ID, 5L, null)).doesNotThrowAnyException();
+    then(verificationStatCounterBuffer).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,200 @@
+package ktb.leafresh.backend.domain.verification.infrastructure.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallenge;
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeCategory;
+import ktb.leafresh.backend.domain.challenge.group.domain.entity.GroupChallengeParticipantRecord;
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.TreeLevel;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.TreeLevelName;
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationFeedRow;
+import ktb.leafresh.backend.domain.verification.domain.entity.GroupChallengeVerification;
+import ktb.leafresh.backend.global.config.QuerydslConfig;
+import ktb.leafresh.backend.support.fixture.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QuerydslConfig.class)
+@ActiveProfiles("test")
+@DisplayName("GroupChallengeVerificationFeedQueryRepositoryImpl 통합 테스트")
+class GroupChallengeVerificationFeedQueryRepositoryImplTest {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+
+  @Autowired private EntityManager em;
+
+  @Autowired private GroupChallengeVerificationRepository verificationRepository;
+
+  private GroupChallengeVerificationFeedQueryRepositoryImpl feedQueryRepository;
+  private Statistics statistics;
+
+  private GroupChallenge zeroWasteChallenge;
+
+  @BeforeEach
+  void setUp() {
+    feedQueryRepository =
+        new GroupChallengeVerificationFeedQueryRepositoryImpl(new JPAQueryFactory(em));
+    statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+    TreeLevel treeLevel =
+        TreeLevel.builder()
+            .name(TreeLevelName.SPROUT)
+            .minLeafPoint(0)
+            .imageUrl("https://dummy.image/tree/sprout.png")
+            .description("새싹 레벨")
+            .build();
+    em.persist(treeLevel);
+
+    Member member = MemberFixture.of("feed@example.com", "피드유저");
+    ReflectionTestUtils.setField(member, "treeLevel", treeLevel);
+    em.persist(member);
+
+    GroupChallengeCategory zeroWaste = GroupChallengeCategoryFixture.of("ZERO_WASTE");
+    GroupChallengeCategory vegan = GroupChallengeCategoryFixture.of("VEGAN");
+    em.persist(zeroWaste);
+    em.persist(vegan);
+
+    zeroWasteChallenge = GroupChallengeFixture.of(member, zeroWaste);
+    GroupChallenge veganChallenge = GroupChallengeFixture.of(member, vegan);
+    em.persist(zeroWasteChallenge);
+    em.persist(veganChallenge);
+
+    GroupChallengeParticipantRecord zeroWasteRecord =
+        GroupChallengeParticipantRecordFixture.of(zeroWasteChallenge, member);
+    GroupChallengeParticipantRecord veganRecord =
+        GroupChallengeParticipantRecordFixture.of(veganChallenge, member);
+    em.persist(zeroWasteRecord);
+    em.persist(veganRecord);
+
+    for (int i = 0; i < 12; i++) {
+      persistVerification(i % 2 == 0 ? zeroWasteRecord : veganRecord, i);
+    }
+    em.flush();
+
+    // 카테고리 컬럼 추가 이전 데이터처럼 비워 둔 뒤 백필
+    verificationRepository.backfillCategory();
+    em.clear();
+  }
+
+  private void persistVerification(GroupChallengeParticipantRecord record, int minutes) {
+    GroupChallengeVerification verification = GroupChallengeVerificationFixture.of(record);
+    ReflectionTestUtils.setField(verification, "createdAt", BASE_TIME.plusMinutes(minutes));
+    em.persist(verification);
+  }
+
+  private long countStatements(Runnable query) {
+    statistics.clear();
+    query.run();
+    return statistics.getPrepareStatementCount();
+  }
+
+  @Test
+  @DisplayName("피드 한 페이지는 페이지 크기와 관계없이 쿼리 한 번으로 조회한다")
+  void findAllByFilter_issuesSingleStatementRegardlessOfPageSize() {
+    // when
+    long small = countStatements(() -> feedQueryRepository.findAllByFilter(null, null, null, 3));
+    long large = countStatements(() -> feedQueryRepository.findAllByFilter(null, null, null, 11));
+    long byIds =
+        countStatements(() -> feedQueryRepository.findAllByIds(List.of(1L, 2L, 3L, 4L, 5L)));
+
+    // then
+    assertThat(small).isEqualTo(1);
+    assertThat(large).isEqualTo(1);
+    assertThat(byIds).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("백필된 인증 카테고리로 거르고 카드 컬럼을 최신순으로 채운다")
+  void findAllByFilter_filtersByDenormalizedCategory() {
+    // when
+    List<VerificationFeedRow> rows =
+        feedQueryRepository.findAllByFilter("ZERO_WASTE", null, null, 4);
+
+    // then
+    assertThat(rows).hasSize(4);
+    assertThat(rows).extracting(VerificationFeedRow::category).containsOnly("ZERO_WASTE");
+    assertThat(rows)
+        .extracting(VerificationFeedRow::createdAt)
+        .isSortedAccordingTo((a, b) -> b.compareTo(a));
+
+    VerificationFeedRow first = rows.get(0);
+    assertThat(first.challengeId()).isEqualTo(zeroWasteChallenge.getId());
+    assertThat(first.nickname()).isEqualTo("피드유저");
+    assertThat(first.imageUrl()).isEqualTo("https://dummy.image/verify.jpg");
+  }
+
+  @Test
+  @DisplayName("커서 다음 페이지를 이어서 조회한다")
+  void findAllByFilter_withCursor_returnsNextPage() {
+    // given
+    List<VerificationFeedRow> firstPage = feedQueryRepository.findAllByFilter(null, null, null, 5);
+    VerificationFeedRow last = firstPage.get(firstPage.size() - 1);
+
+    // when
+    List<VerificationFeedRow> secondPage =
+        feedQueryRepository.findAllByFilter(null, last.id(), last.createdAt().toString(), 5);
+
+    // then
+    assertThat(secondPage).hasSize(5);
+    assertThat(secondPage)
+        .extracting(VerificationFeedRow::id)
+        .doesNotContainAnyElementsOf(firstPage.stream().map(VerificationFeedRow::id).toList());
+  }
+
+  @Test
+  @DisplayName("카테고리가 아직 백필되지 않은 인증도 전체 피드에서 빠지지 않는다")
+  void findAllByFilter_includesVerificationWithoutCategory() {
+    // given
+    Long latestId = feedQueryRepository.findAllByFilter(null, null, null, 1).get(0).id();
+    em.createQuery("UPDATE GroupChallengeVerification v SET v.category = null WHERE v.id = :id")
+        .setParameter("id", latestId)
+        .executeUpdate();
+    em.clear();
+
+    // when
+    List<VerificationFeedRow> rows = feedQueryRepository.findAllByFilter(null, null, null, 12);
+
+    // then
+    assertThat(rows).hasSize(12);
+    assertThat(rows.get(0).id()).isEqualTo(latestId);
+    assertThat(rows.get(0).category()).isNull();
+  }
+
+  @Test
+  @DisplayName("카테고리 이름은 한 번만 ID 로 바꾸고 이후에는 피드 쿼리 한 번으로 조회한다")
+  void findAllByFilter_resolvesCategoryIdOnce() {
+    // when
+    long first = countStatements(() -> feedQueryRepository.findAllByFilter("VEGAN", null, null, 3));
+    long second =
+        countStatements(() -> feedQueryRepository.findAllByFilter("VEGAN", null, null, 3));
+
+    // then
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("없는 카테고리는 피드 쿼리 없이 빈 목록을 반환한다")
+  void findAllByFilter_withUnknownCategory_returnsEmpty() {
+    // when
+    List<VerificationFeedRow> rows = feedQueryRepository.findAllByFilter("UNKNOWN", null, null, 3);
+
+    // then
+    assertThat(rows).isEmpty();
+  }
+}
@@ -0,0 +1,261 @@
+package ktb.leafresh.backend.domain.verification.load;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.storage.Storage;
+import ktb.leafresh.backend.domain.challenge.personal.domain.entity.PersonalChallenge;
+import ktb.leafresh.backend.domain.challenge.personal.infrastructure.repository.PersonalChallengeRepository;
+import ktb.leafresh.backend.domain.feedback.infrastructure.subscriber.GcpAiFeedbackResultDlqSubscriber;
+import ktb.leafresh.backend.domain.feedback.infrastructure.subscriber.GcpAiFeedbackResultSubscriber;
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxDispatcher;
+import ktb.leafresh.backend.domain.member.application.service.MemberActivityOutboxService;
+import ktb.leafresh.backend.domain.member.domain.entity.Member;
+import ktb.leafresh.backend.domain.member.domain.entity.TreeLevel;
+import ktb.leafresh.backend.domain.member.domain.entity.enums.MemberActivityOutboxStatus;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityOutboxRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberRepository;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.TreeLevelRepository;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.GcpPurchaseDlqMessageSubscriber;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.GcpPurchaseMessageSubscriber;
+import ktb.leafresh.backend.domain.verification.application.service.VerificationResultProcessor;
+import ktb.leafresh.backend.domain.verification.domain.entity.PersonalChallengeVerification;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.PersonalChallengeVerificationRepository;
+import ktb.leafresh.backend.domain.verification.infrastructure.subscriber.GcpVerificationResultDlqMessageSubscriber;
+import ktb.leafresh.backend.domain.verification.infrastructure.subscriber.GcpVerificationResultSubscriber;
+import ktb.leafresh.backend.domain.verification.presentation.dto.request.VerificationResultRequestDto;
+import ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus;
+import ktb.leafresh.backend.global.common.entity.enums.ChallengeType;
+import ktb.leafresh.backend.support.fixture.MemberFixture;
+import ktb.leafresh.backend.support.fixture.PersonalChallengeFixture;
+import ktb.leafresh.backend.support.fixture.TreeLevelFixture;
+import ktb.leafresh.backend.support.load.LoadDriver;
+import ktb.leafresh.backend.support.load.LoadTestReport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 결과 처리 부하 테스트.
+ *
+ * <p>회원 N명이 각각 여러 건의 개인 인증 결과를 동시에 받는 상황을 재현해, 나뭇잎/뱃지를 같은 트랜잭션에서 바로 지급하는 경로(inline)와 아웃박스에
+ * 기록한 뒤 회원별로 모아 지급하는 경로(outbox)를 비교한다. 회차마다 결과 처리 처리량, p50/p99 지연, 아웃박스 소진 시간과 회원당 평가 횟수를 로그로 남기고
+ * 지급된 나뭇잎 합계가 기대값과 맞는지 확인한다.
+ *
+ * <p>기본 {@code test} 태스크에서는 제외되며 {@code ./gradlew loadTest -Dload.members=500
+ * -Dload.per-member=10} 처럼 실행한다.
+ */
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+    properties = {
+      "spring.profiles.active=loadtest",
+      // 소진 시간을 직접 재기 위해 스케줄러 폴링은 사실상 끈다
+      "member.activity-outbox.poll-interval-millis=3600000"
+    })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VerificationResultLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(VerificationResultLoadTest.class);
+
+  private static final int MEMBERS = Integer.getInteger("load.members", 200);
+  private static final int PER_MEMBER = Integer.getInteger("load.per-member", 10);
+  private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 50);
+
+  @Container
+  static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+  // 블룸 필터 클라이언트가 RedisBloom 모듈을 요구하므로 redis-stack 이미지를 사용
+  @Container
+  static final GenericContainer<?> REDIS =
+      new GenericContainer<>(DockerImageName.parse("redis/redis-stack-server:7.2.0-v10"))
+          .withExposedPorts(6379);
+
+  @DynamicPropertySource
+  static void containerProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+    registry.add("spring.data.redis.host", REDIS::getHost);
+    registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    registry.add(
+        "redis.redisson.address",
+        () -> "redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+    registry.add("redis.bloom.host", REDIS::getHost);
+    registry.add("redis.bloom.port", () -> REDIS.getMappedPort(6379));
+  }
+
+  // 외부 연동 (GCS, Pub/Sub)
+  @MockitoBean private Storage storage;
+
+  @MockitoBean(name = "purchasePubSubPublisher")
+  private Publisher purchasePubSubPublisher;
+
+  @MockitoBean(name = "imageVerificationPubSubPublisher")
+  private Publisher imageVerificationPubSubPublisher;
+
+  @MockitoBean(name = "feedbackPubSubPublisher")
+  private Publisher feedbackPubSubPublisher;
+
+  @MockitoBean private GcpPurchaseMessageSubscriber gcpPurchaseMessageSubscriber;
+
+  @MockitoBean private GcpPurchaseDlqMessageSubscriber gcpPurchaseDlqMessageSubscriber;
+
+  @MockitoBean private GcpVerificationResultSubscriber gcpVerificationResultSubscriber;
+
+  @MockitoBean
+  private GcpVerificationResultDlqMessageSubscriber gcpVerificationResultDlqMessageSubscriber;
+
+  @MockitoBean private GcpAiFeedbackResultSubscriber gcpAiFeedbackResultSubscriber;
+
+  @MockitoBean private GcpAiFeedbackResultDlqSubscriber gcpAiFeedbackResultDlqSubscriber;
+
+  @Autowired private VerificationResultProcessor verificationResultProcessor;
+  @Autowired private MemberActivityOutboxService memberActivityOutboxService;
+  @Autowired private MemberActivityOutboxDispatcher memberActivityOutboxDispatcher;
+  @Autowired private MemberActivityOutboxRepository memberActivityOutboxRepository;
+  @Autowired private TreeLevelRepository treeLevelRepository;
+  @Autowired private MemberRepository memberRepository;
+  @Autowired private PersonalChallengeRepository personalChallengeRepository;
+  @Autowired private PersonalChallengeVerificationRepository verificationRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private TreeLevel treeLevel;
+  private PersonalChallenge challenge;
+
+  @BeforeAll
+  void createChallenge() {
+    treeLevel = treeLevelRepository.save(TreeLevelFixture.defaultLevel());
+    challenge = personalChallengeRepository.save(PersonalChallengeFixture.of("부하 텀블러 챌린지"));
+  }
+
+  @ParameterizedTest(name = "outbox={0}")
+  @ValueSource(booleans = {false, true})
+  void 회원별_인증결과_동시수신(boolean outbox) throws Exception {
+    // given
+    ReflectionTestUtils.setField(memberActivityOutboxService, "enabled", outbox);
+    List<Member> members = createMembers(outbox ? "outbox" : "inline");
+    List<PersonalChallengeVerification> verifications = createVerifications(members);
+
+    // when
+    // 같은 회원의 결과가 동시에 몰리도록 회원 순서로 번갈아 보낸다
+    LoadTestReport report =
+        LoadDriver.run(
+            "verification-result/" + (outbox ? "outbox" : "inline"),
+            verifications.size(),
+            CONCURRENCY,
+            i -> process(verifications.get(i)));
+
+    long drainBegin = System.nanoTime();
+    int dispatched = 0;
+    int rounds = 0;
+    int processed;
+    while ((processed = memberActivityOutboxDispatcher.dispatch()) > 0) {
+      dispatched += processed;
+      rounds++;
+    }
+    long drainMillis = (System.nanoTime() - drainBegin) / 1_000_000;
+
+    // then
+    long expected = (long) challenge.getLeafReward() * PER_MEMBER * MEMBERS;
+    long granted = grantedLeafPoints(members);
+    long pending =
+        memberActivityOutboxRepository.countByStatus(MemberActivityOutboxStatus.PENDING);
+    log.info(report.summary());
+    log.info(
+        "  drained={} rows in {}ms ({} rounds), rows/member={},"
+            + " leafPoints expected={} granted={} lost={}, pending={}",
+        dispatched,
+        drainMillis,
+        rounds,
+        String.format("%.1f", (double) dispatched / MEMBERS),
+        expected,
+        granted,
+        expected - granted,
+        pending);
+
+    assertThat(report.total()).isEqualTo(MEMBERS * PER_MEMBER);
+    if (outbox) {
+      assertThat(report.count(200)).isEqualTo(report.total());
+      assertThat(pending).isZero();
+      assertThat(granted).isEqualTo(expected);
+    }
+  }
+
+  private int process(PersonalChallengeVerification verification) {
+    verificationResultProcessor.process(
+        verification.getId(),
+        new VerificationResultRequestDto(
+            ChallengeType.PERSONAL,
+            verification.getMember().getId(),
+            challenge.getId(),
+            verification.getId(),
+            verification.getJoinedAt().toLocalDate().toString(),
+            "true"));
+    return 200;
+  }
+
+  private List<Member> createMembers(String prefix) {
+    List<Member> members = new ArrayList<>(MEMBERS);
+    for (int i = 0; i < MEMBERS; i++) {
+      Member member = MemberFixture.of(prefix + i + "@leafresh.com", prefix + i);
+      member.updateTreeLevel(treeLevel);
+      members.add(member);
+    }
+    return memberRepository.saveAll(members);
+  }
+
+  private List<PersonalChallengeVerification> createVerifications(List<Member> members) {
+    List<PersonalChallengeVerification> verifications = new ArrayList<>();
+    LocalDateTime submittedAt = LocalDateTime.now();
+    for (int n = 0; n < PER_MEMBER; n++) {
+      for (Member member : members) {
+        verifications.add(
+            PersonalChallengeVerification.builder()
+                .member(member)
+                .personalChallenge(challenge)
+                .joinedAt(submittedAt.minusDays(n))
+                .imageUrl("https://dummy.image/load.jpg")
+                .content("부하 인증")
+                .status(ChallengeStatus.PENDING_APPROVAL)
+                .rewarded(false)
+                .build());
+      }
+    }
+    return verificationRepository.saveAll(verifications);
+  }
+
+  private long grantedLeafPoints(List<Member> members) {
+    List<Long> ids = members.stream().map(Member::getId).toList();
+    String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+    Long granted =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(current_leaf_points), 0) FROM members WHERE id IN ("
+                + placeholders
+                + ")",
+            Long.class,
+            ids.toArray());
+    return granted != null ? granted : 0;
+  }
+}
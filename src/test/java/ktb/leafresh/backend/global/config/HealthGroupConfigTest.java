@@ -0,0 +1,43 @@
+package ktb.leafresh.backend.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HealthGroupConfigTest {
+
+  @Mock private HealthEndpointGroups groups;
+
+  @Mock private HealthEndpointGroup primary;
+
+  @Mock private HealthEndpointGroup readiness;
+
+  @Test
+  void postProcess_readiness_전용_지표는_기본_그룹에서만_제외한다() {
+    // given
+    given(groups.getPrimary()).willReturn(primary);
+    given(groups.getNames()).willReturn(Set.of("readiness"));
+    given(groups.get("readiness")).willReturn(readiness);
+    given(primary.isMember("db")).willReturn(true);
+
+    // when
+    HealthEndpointGroups processed =
+        new HealthGroupConfig()
+            .readinessOnlyHealthGroupsPostProcessor()
+            .postProcessHealthEndpointGroups(groups);
+
+    // then
+    assertThat(processed.getPrimary().isMember("verificationStatCacheInitializer")).isFalse();
+    assertThat(processed.getPrimary().isMember("db")).isTrue();
+    assertThat(processed.get("readiness")).isSameAs(readiness);
+  }
+}
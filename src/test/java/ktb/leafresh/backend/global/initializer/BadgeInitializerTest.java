@@ -1,5 +1,6 @@
 package ktb.leafresh.backend.global.initializer;
 
+import ktb.leafresh.backend.domain.member.application.service.BadgeCatalog;
 import ktb.leafresh.backend.domain.member.domain.entity.Badge;
 import ktb.leafresh.backend.domain.member.domain.entity.enums.BadgeType;
 import ktb.leafresh.backend.domain.member.infrastructure.repository.BadgeRepository;
@@ -21,6 +22,8 @@ class BadgeInitializerTest {
 
   @Mock private BadgeRepository badgeRepository;
 
+  @Mock private BadgeCatalog badgeCatalog;
+
   @InjectMocks private BadgeInitializer badgeInitializer;
 
   @Test
@@ -43,6 +46,7 @@ class BadgeInitializerTest {
                         && badge.getType() == BadgeType.GROUP
                         && badge.getCondition() != null
                         && badge.getImageUrl() != null));
+    then(badgeCatalog).should().refresh();
   }
 
   @Test
@@ -0,0 +1,62 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.verification.application.dto.CommentParentLink;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentThreadRootInitializer 테스트")
+class CommentThreadRootInitializerTest {
+
+  @Mock private CommentRepository commentRepository;
+
+  @InjectMocks private CommentThreadRootInitializer initializer;
+
+  @Test
+  @DisplayName("대댓글의 대댓글까지 최상위 댓글 단위로 묶어 갱신한다")
+  void run_groupsRepliesByRoot() {
+    // given
+    given(commentRepository.existsByParentCommentIsNotNullAndRootCommentIdIsNull())
+        .willReturn(true);
+    given(commentRepository.findAllParentLinks())
+        .willReturn(
+            List.of(
+                new CommentParentLink(2L, 1L),
+                new CommentParentLink(3L, 2L),
+                new CommentParentLink(5L, 4L)));
+
+    // when
+    initializer.run();
+
+    // then
+    then(commentRepository)
+        .should()
+        .updateRootCommentId(eq(1L), argThat(ids -> ids.containsAll(List.of(2L, 3L))));
+    then(commentRepository).should().updateRootCommentId(4L, List.of(5L));
+  }
+
+  @Test
+  @DisplayName("비어 있는 대댓글이 없으면 부모 관계를 읽지 않는다")
+  void run_whenNothingMissing_thenSkip() {
+    // given
+    given(commentRepository.existsByParentCommentIsNotNullAndRootCommentIdIsNull())
+        .willReturn(false);
+
+    // when
+    initializer.run();
+
+    // then
+    then(commentRepository).should(never()).findAllParentLinks();
+    assertThat(mockingDetails(commentRepository).getInvocations()).hasSize(1);
+  }
+}
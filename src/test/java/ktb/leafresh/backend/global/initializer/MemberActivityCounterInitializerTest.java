@@ -0,0 +1,176 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.member.domain.entity.MemberActivityCounter;
+import ktb.leafresh.backend.domain.member.domain.service.badge.ActivityCounterKeys;
+import ktb.leafresh.backend.domain.member.infrastructure.repository.MemberActivityCounterRepository;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationAggregate;
+import ktb.leafresh.backend.domain.verification.application.dto.MemberVerificationTime;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.PersonalChallengeVerificationRepository;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static ktb.leafresh.backend.global.common.entity.enums.ChallengeStatus.SUCCESS;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityCounterInitializer 테스트")
+class MemberActivityCounterInitializerTest {
+
+  @Mock private MemberActivityCounterRepository counterRepository;
+  @Mock private GroupChallengeVerificationRepository groupVerificationRepository;
+  @Mock private PersonalChallengeVerificationRepository personalVerificationRepository;
+  @Mock private LockProvider lockProvider;
+  @Mock private SimpleLock lock;
+
+  @InjectMocks private MemberActivityCounterInitializer initializer;
+
+  @Captor private ArgumentCaptor<List<MemberActivityCounter>> countersCaptor;
+
+  @Test
+  @DisplayName("기존 성공 인증을 회원별 카운터로 집계해 한 번에 저장한다")
+  void run_backfillsCountersFromAggregates() {
+    // given
+    LocalDate today = LocalDate.now();
+    given(lockProvider.lock(any())).willReturn(Optional.of(lock));
+    given(counterRepository.count()).willReturn(0L);
+    given(groupVerificationRepository.aggregateByMemberAndCategory(SUCCESS))
+        .willReturn(
+            List.of(
+                new MemberVerificationAggregate(1L, "PLOGGING", 4),
+                new MemberVerificationAggregate(1L, "ETC", 1)));
+    given(groupVerificationRepository.aggregateDistinctChallengesByMemberAndCategory(SUCCESS))
+        .willReturn(List.of(new MemberVerificationAggregate(1L, "PLOGGING", 2)));
+    given(groupVerificationRepository.aggregateByMemberAndChallenge(SUCCESS))
+        .willReturn(List.of(new MemberVerificationAggregate(1L, "10", 4)));
+    given(groupVerificationRepository.aggregateEventByMemberAndTitle(SUCCESS))
+        .willReturn(List.of(new MemberVerificationAggregate(1L, "지구의 날", 3)));
+    given(personalVerificationRepository.aggregateByMemberAndTitle(SUCCESS))
+        .willReturn(List.of(new MemberVerificationAggregate(1L, "텀블러 사용", 3)));
+    given(personalVerificationRepository.findSuccessTimesSince(eq(SUCCESS), any()))
+        .willReturn(
+            List.of(
+                new MemberVerificationTime(1L, today.minusDays(3).atTime(9, 0)),
+                new MemberVerificationTime(1L, today.minusDays(1).atTime(9, 0)),
+                new MemberVerificationTime(1L, today.atTime(9, 0)),
+                new MemberVerificationTime(1L, today.atTime(21, 0))));
+
+    // when
+    initializer.run();
+
+    // then
+    then(counterRepository).should().saveAll(countersCaptor.capture());
+    Map<String, Long> values =
+        countersCaptor.getValue().stream()
+            .collect(
+                Collectors.toMap(
+                    MemberActivityCounter::getCounterKey, MemberActivityCounter::getValue));
+    assertThat(values)
+        .containsEntry(ActivityCounterKeys.totalSuccess(), 8L)
+        .containsEntry(ActivityCounterKeys.categorySuccess("PLOGGING"), 4L)
+        .containsEntry(ActivityCounterKeys.categoriesCleared(), 1L)
+        .containsEntry(ActivityCounterKeys.categoryChallenges("PLOGGING"), 2L)
+        .containsEntry(ActivityCounterKeys.challengeSuccess(10L), 4L)
+        .containsEntry(ActivityCounterKeys.eventSuccess("지구의 날"), 3L)
+        .containsEntry(ActivityCounterKeys.personalTitleSuccess("텀블러 사용"), 3L)
+        .containsEntry(ActivityCounterKeys.personalTitlesCleared(), 1L)
+        .containsEntry(ActivityCounterKeys.personalStreak(), 2L);
+  }
+
+  @Test
+  @DisplayName("카운터가 이미 있으면 백필하지 않는다")
+  void run_whenCountersExist_thenSkip() {
+    // given
+    given(lockProvider.lock(any())).willReturn(Optional.of(lock));
+    given(counterRepository.count()).willReturn(5L);
+
+    // when
+    initializer.run();
+
+    // then
+    then(groupVerificationRepository).shouldHaveNoInteractions();
+    then(personalVerificationRepository).shouldHaveNoInteractions();
+    then(counterRepository).should(never()).saveAll(any());
+    then(lock).should().unlock();
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 락을 잡고 있으면 백필하지 않는다")
+  void run_whenLockHeldElsewhere_thenSkip() {
+    // given
+    given(lockProvider.lock(any())).willReturn(Optional.empty());
+
+    // when
+    initializer.run();
+
+    // then
+    then(counterRepository).shouldHaveNoInteractions();
+    then(groupVerificationRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("이미 있는 카운터와 겹친 청크는 한 건씩 저장하며 중복만 건너뛴다")
+  void run_whenChunkHasDuplicate_thenSavesOthersOneByOne() {
+    // given
+    given(lockProvider.lock(any())).willReturn(Optional.of(lock));
+    given(counterRepository.count()).willReturn(0L);
+    given(groupVerificationRepository.aggregateByMemberAndCategory(SUCCESS)).willReturn(List.of());
+    given(groupVerificationRepository.aggregateDistinctChallengesByMemberAndCategory(SUCCESS))
+        .willReturn(List.of());
+    given(groupVerificationRepository.aggregateByMemberAndChallenge(SUCCESS))
+        .willReturn(List.of());
+    given(groupVerificationRepository.aggregateEventByMemberAndTitle(SUCCESS))
+        .willReturn(List.of());
+    given(personalVerificationRepository.aggregateByMemberAndTitle(SUCCESS))
+        .willReturn(List.of(new MemberVerificationAggregate(1L, "텀블러 사용", 3)));
+    given(personalVerificationRepository.findSuccessTimesSince(eq(SUCCESS), any()))
+        .willReturn(List.of());
+    willThrow(new DataIntegrityViolationException("duplicate"))
+        .given(counterRepository)
+        .saveAll(any());
+    given(counterRepository.save(any(MemberActivityCounter.class)))
+        .willAnswer(
+            invocation -> {
+              MemberActivityCounter counter = invocation.getArgument(0);
+              if (counter.getCounterKey().equals(ActivityCounterKeys.totalSuccess())) {
+                throw new DataIntegrityViolationException("duplicate");
+              }
+              return counter;
+            });
+
+    // when
+    initializer.run();
+
+    // then
+    then(counterRepository).should(times(3)).save(any(MemberActivityCounter.class));
+    then(lock).should().unlock();
+  }
+
+  @Test
+  @DisplayName("백필이 실패해도 기동을 멈추지 않고 락을 푼다")
+  void run_whenBackfillFails_thenDoesNotThrow() {
+    // given
+    given(lockProvider.lock(any())).willReturn(Optional.of(lock));
+    given(counterRepository.count()).willThrow(new IllegalStateException("db down"));
+
+    // when & then
+    assertThatCode(() -> initializer.run()).doesNotThrowAnyException();
+    then(lock).should().unlock();
+  }
+}
@@ -0,0 +1,33 @@
+package ktb.leafresh.backend.global.initializer;
+
+import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VerificationCategoryInitializer 테스트")
+class VerificationCategoryInitializerTest {
+
+  @Mock private GroupChallengeVerificationRepository verificationRepository;
+
+  @InjectMocks private VerificationCategoryInitializer initializer;
+
+  @Test
+  @DisplayName("기동 시 피드 카테고리가 비어 있는 인증을 백필한다")
+  void run_backfillsMissingCategories() {
+    // given
+    given(verificationRepository.backfillCategory()).willReturn(3);
+
+    // when
+    initializer.run();
+
+    // then
+    then(verificationRepository).should().backfillCategory();
+  }
+}
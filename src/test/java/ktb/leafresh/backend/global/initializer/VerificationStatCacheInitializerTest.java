@@ -1,18 +1,23 @@
 package ktb.leafresh.backend.global.initializer;
 
+import ktb.leafresh.backend.domain.verification.application.dto.VerificationStatSnapshot;
 import ktb.leafresh.backend.domain.verification.infrastructure.cache.VerificationStatCacheService;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.CommentRepository;
 import ktb.leafresh.backend.domain.verification.infrastructure.repository.GroupChallengeVerificationRepository;
-import ktb.leafresh.backend.domain.verification.infrastructure.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,109 +26,106 @@ class VerificationStatCacheInitializerTest {
 
   @Mock private GroupChallengeVerificationRepository verificationRepository;
 
-  @Mock private LikeRepository likeRepository;
-
-  @Mock private CommentRepository commentRepository;
-
   @Mock private VerificationStatCacheService verificationStatCacheService;
 
-  @Mock private StringRedisTemplate stringRedisTemplate;
-
   @InjectMocks private VerificationStatCacheInitializer initializer;
 
-  @Test
-  @DisplayName("Redis에 캐시가 없는 경우 - 인증 ID별 캐시 초기화가 수행된다")
-  void initializeStats_whenNoRedisKeys_thenInitialize() {
-    // given
-    Object[] viewRow = new Object[] {1L, 10};
-    Object[] likeRow = new Object[] {1L, 5};
-    Object[] commentRow = new Object[] {1L, 2};
-
-    given(verificationRepository.findAllViewCountByVerificationId())
-        .willReturn(List.<Object[]>of(viewRow));
-
-    given(likeRepository.findAllLikeCountByVerificationId()).willReturn(List.<Object[]>of(likeRow));
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(initializer, "enabled", true);
+    ReflectionTestUtils.setField(initializer, "recentDays", 7);
+    ReflectionTestUtils.setField(initializer, "pageSize", 2);
+    ReflectionTestUtils.setField(initializer, "maxEntries", 100);
+  }
 
-    given(commentRepository.findAllCommentCountByVerificationId())
-        .willReturn(List.<Object[]>of(commentRow));
+  private VerificationStatSnapshot snapshot(long id) {
+    return new VerificationStatSnapshot(id, 10, 5, 2);
+  }
 
-    given(stringRedisTemplate.hasKey("verification:stat:1")).willReturn(false);
+  @Test
+  @DisplayName("최근 인증을 키셋 페이지 단위로 읽어 페이지마다 한 번에 캐시한다")
+  void warmUp_readsKeysetPages_andCachesEachPage() {
+    // given
+    List<VerificationStatSnapshot> first = List.of(snapshot(9L), snapshot(7L));
+    List<VerificationStatSnapshot> second = List.of(snapshot(4L));
+    given(
+            verificationRepository.findRecentStatsBefore(
+                eq(Long.MAX_VALUE), any(LocalDateTime.class), any(Pageable.class)))
+        .willReturn(first);
+    given(verificationRepository.findRecentStatsBefore(eq(7L), any(), any())).willReturn(second);
 
     // when
-    initializer.initializeVerificationStats();
+    int warmed = initializer.warmUp();
 
     // then
-    then(verificationStatCacheService).should().initializeVerificationStats(1L, 10, 5, 2);
+    assertThat(warmed).isEqualTo(3);
+    then(verificationStatCacheService).should().cacheIfAbsent(first);
+    then(verificationStatCacheService).should().cacheIfAbsent(second);
+    then(verificationRepository).should(times(2)).findRecentStatsBefore(anyLong(), any(), any());
   }
 
   @Test
-  @DisplayName("Redis에 캐시가 이미 존재하는 경우 - 초기화를 수행하지 않는다")
-  void initializeStats_whenRedisKeyExists_thenSkipInitialization() {
+  @DisplayName("최대 워밍업 건수에 도달하면 더 읽지 않는다")
+  void warmUp_stopsAtMaxEntries() {
     // given
-    Object[] viewRow = new Object[] {1L, 10};
-
-    given(verificationRepository.findAllViewCountByVerificationId())
-        .willReturn(List.<Object[]>of(viewRow));
-    given(likeRepository.findAllLikeCountByVerificationId()).willReturn(List.of());
-    given(commentRepository.findAllCommentCountByVerificationId()).willReturn(List.of());
-
-    given(stringRedisTemplate.hasKey("verification:stat:1")).willReturn(true);
+    ReflectionTestUtils.setField(initializer, "maxEntries", 3);
+    given(verificationRepository.findRecentStatsBefore(eq(Long.MAX_VALUE), any(), any()))
+        .willReturn(List.of(snapshot(9L), snapshot(8L)));
+    given(verificationRepository.findRecentStatsBefore(eq(8L), any(), eq(PageRequest.of(0, 1))))
+        .willReturn(List.of(snapshot(7L)));
 
     // when
-    initializer.initializeVerificationStats();
+    int warmed = initializer.warmUp();
 
     // then
-    then(verificationStatCacheService)
-        .should(never())
-        .initializeVerificationStats(anyLong(), anyInt(), anyInt(), anyInt());
+    assertThat(warmed).isEqualTo(3);
+    then(verificationRepository).should(times(2)).findRecentStatsBefore(anyLong(), any(), any());
   }
 
   @Test
-  @DisplayName("뷰/좋아요/댓글이 일부 없는 경우에도 기본값 0으로 캐시가 초기화된다")
-  void initializeStats_withMissingMetrics_thenUseDefaultValues() {
+  @DisplayName("워밍업이 끝나기 전에는 OUT_OF_SERVICE, 끝나면 UP 을 보고한다")
+  void health_reportsOutOfServiceUntilWarmedUp() {
     // given
-    Object[] viewRow = new Object[] {1L, null}; // null 값 존재
-    // like, comment는 아예 없음
-
-    given(verificationRepository.findAllViewCountByVerificationId())
-        .willReturn(List.<Object[]>of(viewRow));
-    given(likeRepository.findAllLikeCountByVerificationId()).willReturn(List.of());
-    given(commentRepository.findAllCommentCountByVerificationId()).willReturn(List.of());
-
-    given(stringRedisTemplate.hasKey("verification:stat:1")).willReturn(false);
+    given(verificationRepository.findRecentStatsBefore(anyLong(), any(), any()))
+        .willReturn(List.of());
+    assertThat(initializer.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
 
     // when
-    initializer.initializeVerificationStats();
+    initializer.warmUp();
 
     // then
-    then(verificationStatCacheService)
-        .should()
-        .initializeVerificationStats(1L, 0, 0, 0); // null → 0 처리 검증
+    assertThat(initializer.health().getStatus()).isEqualTo(Status.UP);
   }
 
   @Test
-  @DisplayName("캐시 초기화 도중 예외가 발생해도 다른 ID의 초기화는 계속 진행된다")
-  void initializeStats_withException_thenContinueOthers() {
+  @DisplayName("워밍업 중 예외가 발생해도 readiness 게이트는 열린다")
+  void warmUp_withException_thenOpensGate() {
     // given
-    Object[] viewRow1 = new Object[] {1L, 10};
-    Object[] viewRow2 = new Object[] {2L, 20};
+    given(verificationRepository.findRecentStatsBefore(anyLong(), any(), any()))
+        .willReturn(List.of(snapshot(9L), snapshot(8L)));
+    willThrow(new RuntimeException("Redis Error"))
+        .given(verificationStatCacheService)
+        .cacheIfAbsent(anyList());
 
-    given(verificationRepository.findAllViewCountByVerificationId())
-        .willReturn(List.of(viewRow1, viewRow2));
-    given(likeRepository.findAllLikeCountByVerificationId()).willReturn(List.of());
-    given(commentRepository.findAllCommentCountByVerificationId()).willReturn(List.of());
+    // when
+    int warmed = initializer.warmUp();
 
-    given(stringRedisTemplate.hasKey("verification:stat:1")).willReturn(false);
-    given(stringRedisTemplate.hasKey("verification:stat:2")).willReturn(false);
+    // then
+    assertThat(warmed).isZero();
+    assertThat(initializer.health().getStatus()).isEqualTo(Status.UP);
+  }
 
-    willThrow(new RuntimeException("DB Error"))
-        .given(verificationStatCacheService)
-        .initializeVerificationStats(eq(1L), anyInt(), anyInt(), anyInt());
+  @Test
+  @DisplayName("워밍업이 꺼져 있으면 DB 를 읽지 않고 바로 UP 을 보고한다")
+  void startWarmup_whenDisabled_thenSkip() {
+    // given
+    ReflectionTestUtils.setField(initializer, "enabled", false);
 
     // when
-    initializer.initializeVerificationStats();
+    initializer.startWarmup();
 
     // then
-    then(verificationStatCacheService).should().initializeVerificationStats(2L, 20, 0, 0);
+    then(verificationRepository).shouldHaveNoInteractions();
+    assertThat(initializer.health().getStatus()).isEqualTo(Status.UP);
   }
 }
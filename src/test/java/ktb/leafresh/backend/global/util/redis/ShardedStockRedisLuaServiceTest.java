@@ -0,0 +1,126 @@
+package ktb.leafresh.backend.global.util.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStockRedisLuaServiceTest {
+
+  @Mock private StringRedisTemplate stringRedisTemplate;
+
+  @Mock private ValueOperations<String, String> valueOps;
+
+  @InjectMocks private ShardedStockRedisLuaService service;
+
+  private final List<String> shardKeys = List.of("s0", "s1", "s2");
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenScript(String key, String quantity, Long result) {
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(key)), eq(quantity)))
+        .willReturn(result);
+  }
+
+  @Test
+  void decreaseStock_withEnoughStockOnHomeShard_doesNotTouchSiblings() {
+    // given
+    givenScript("s1", "2", 3L);
+
+    // when
+    Long result = service.decreaseStock(shardKeys, 1, 2);
+
+    // then
+    assertThat(result).isEqualTo(3L);
+    then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(), any());
+  }
+
+  @Test
+  void decreaseStock_withShortHomeShard_borrowsFromSiblingsAndReturnsTotal() {
+    // given
+    // 홈 샤드: 전량 차감 실패 후 남은 1개만 가져옴
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("s1")), eq("3")))
+        .willReturn(ShardedStockRedisLuaService.OUT_OF_STOCK, 1L);
+    givenScript("s2", "2", 2L);
+    given(valueOps.multiGet(shardKeys)).willReturn(Arrays.asList("4", "0", "1"));
+
+    // when
+    Long result = service.decreaseStock(shardKeys, 1, 3);
+
+    // then
+    assertThat(result).isEqualTo(5L);
+    then(valueOps).should(never()).increment(anyString(), anyLong());
+  }
+
+  @Test
+  void decreaseStock_whenFirstBorrowFallsShort_retriesOnce() {
+    // given
+    // 첫 차용에서는 다른 요청이 빌려간 재고가 아직 돌아오지 않아 모자람
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("s0")), eq("3")))
+        .willReturn(ShardedStockRedisLuaService.OUT_OF_STOCK, 1L, 1L);
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("s1")), eq("2")))
+        .willReturn(0L, 2L);
+    givenScript("s2", "2", 0L);
+    given(valueOps.multiGet(shardKeys)).willReturn(Arrays.asList("0", "1", "0"));
+
+    // when
+    Long result = service.decreaseStock(shardKeys, 0, 3);
+
+    // then
+    assertThat(result).isEqualTo(1L);
+    then(valueOps).should().increment("s0", 1L);
+    then(valueOps).should(never()).increment(eq("s1"), anyLong());
+  }
+
+  @Test
+  void decreaseStock_whenTotalIsInsufficient_givesBackBorrowedStockOnEachAttempt() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("s0")), eq("5")))
+        .willReturn(ShardedStockRedisLuaService.OUT_OF_STOCK, 1L);
+    givenScript("s1", "4", 2L);
+    givenScript("s2", "2", 0L);
+
+    // when
+    Long result = service.decreaseStock(shardKeys, 0, 5);
+
+    // then
+    assertThat(result).isEqualTo(ShardedStockRedisLuaService.OUT_OF_STOCK);
+    then(valueOps).should(times(2)).increment("s0", 1L);
+    then(valueOps).should(times(2)).increment("s1", 2L);
+    then(valueOps).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  void sumStock_withPartiallyCachedShards_sumsCachedValues() {
+    // given
+    given(valueOps.multiGet(shardKeys)).willReturn(Arrays.asList("3", null, "4"));
+
+    // when & then
+    assertThat(service.sumStock(shardKeys)).isEqualTo(7L);
+  }
+
+  @Test
+  void sumStock_withNoCachedShard_returnsNull() {
+    // given
+    given(valueOps.multiGet(shardKeys)).willReturn(Arrays.asList(null, null, null));
+
+    // when & then
+    assertThat(service.sumStock(shardKeys)).isNull();
+  }
+}
@@ -0,0 +1,66 @@
+package ktb.leafresh.backend.support.load;
+
+import ktb.leafresh.backend.domain.store.order.application.dto.PurchaseCommand;
+import ktb.leafresh.backend.domain.store.order.application.service.ProductPurchaseProcessingService;
+import ktb.leafresh.backend.domain.store.order.infrastructure.publisher.PurchaseMessagePublisher;
+import ktb.leafresh.backend.domain.store.order.infrastructure.subscriber.PurchaseWorkerPool;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트용 주문 큐 대체. 발행된 명령을 실제 Consumer 와 같은 회원 단위 워커 레인({@link PurchaseWorkerPool})에서 바로 처리하므로
+ * 메시지 브로커 없이 주문 생성부터 확정까지 한 프로세스 안에서 측정할 수 있다.
+ */
+public class InMemoryPurchaseMessagePublisher implements PurchaseMessagePublisher {
+
+  private final PurchaseWorkerPool workerPool;
+  private final ProductPurchaseProcessingService processingService;
+
+  private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger published = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+
+  public InMemoryPurchaseMessagePublisher(
+      PurchaseWorkerPool workerPool, ProductPurchaseProcessingService processingService) {
+    this.workerPool = workerPool;
+    this.processingService = processingService;
+  }
+
+  @Override
+  public void publish(PurchaseCommand command) {
+    published.incrementAndGet();
+    CompletableFuture<Void> future =
+        workerPool.submit(command.memberId(), () -> processingService.process(command));
+    inFlight.add(future);
+    future.whenComplete(
+        (ignored, ex) -> {
+          if (ex != null) failed.incrementAndGet();
+          inFlight.remove(future);
+        });
+  }
+
+  /** 발행된 명령이 모두 처리될 때까지 대기 */
+  public void awaitDrained(Duration timeout) throws Exception {
+    CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+        .exceptionally(ex -> null)
+        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public int publishedCount() {
+    return published.get();
+  }
+
+  public int failedCount() {
+    return failed.get();
+  }
+
+  public void reset() {
+    published.set(0);
+    failed.set(0);
+  }
+}
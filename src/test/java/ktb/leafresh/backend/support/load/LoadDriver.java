@@ -0,0 +1,55 @@
+package ktb.leafresh.backend.support.load;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/** 요청 N건을 동시에 출발시키고 응답 코드와 지연 시간을 기록하는 부하 발생기 */
+public final class LoadDriver {
+
+  private LoadDriver() {}
+
+  /**
+   * @param request 요청 순번을 받아 HTTP 상태 코드를 돌려주는 함수 (예외는 599 로 기록)
+   */
+  public static LoadTestReport run(
+      String name, int requests, int concurrency, IntUnaryOperator request)
+      throws InterruptedException {
+    LoadTestReport report = new LoadTestReport(name);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(requests);
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+    for (int i = 0; i < requests; i++) {
+      int index = i;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+              long begin = System.nanoTime();
+              int status;
+              try {
+                status = request.applyAsInt(index);
+              } catch (Exception e) {
+                status = 599;
+              }
+              report.record(status, System.nanoTime() - begin);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    report.finish(System.nanoTime() - begin);
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    return report;
+  }
+}
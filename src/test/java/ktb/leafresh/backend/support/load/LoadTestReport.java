@@ -0,0 +1,66 @@
+package ktb.leafresh.backend.support.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 부하 테스트 한 회차의 응답 코드별 건수, 처리량, 지연 시간 분포 */
+public class LoadTestReport {
+
+  private final String name;
+  private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+  private final Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
+  private long elapsedNanos;
+
+  public LoadTestReport(String name) {
+    this.name = name;
+  }
+
+  public void record(int status, long latencyNanos) {
+    latencies.add(latencyNanos);
+    statusCounts.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+  }
+
+  void finish(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public int count(int status) {
+    AtomicInteger count = statusCounts.get(status);
+    return count == null ? 0 : count.get();
+  }
+
+  public int total() {
+    return latencies.size();
+  }
+
+  public double throughputPerSecond() {
+    return elapsedNanos == 0 ? 0 : total() / (elapsedNanos / 1_000_000_000.0);
+  }
+
+  /** p 는 0~1 (nearest-rank) */
+  public double percentileMillis(double p) {
+    List<Long> sorted = new ArrayList<>(latencies);
+    if (sorted.isEmpty()) return 0;
+    Collections.sort(sorted);
+    int index = (int) Math.ceil(p * sorted.size()) - 1;
+    return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+  }
+
+  public String summary() {
+    return String.format(
+        "[%s] requests=%d, elapsed=%.2fs, throughput=%.1f req/s, p50=%.1fms, p99=%.1fms, status=%s",
+        name,
+        total(),
+        elapsedNanos / 1_000_000_000.0,
+        throughputPerSecond(),
+        percentileMillis(0.5),
+        percentileMillis(0.99),
+        new TreeMap<>(statusCounts));
+  }
+}